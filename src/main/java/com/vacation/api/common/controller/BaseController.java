@@ -100,8 +100,13 @@ public abstract class BaseController {
         HttpStatus status = HttpStatus.BAD_REQUEST;
         if (e.getApiErrorCode() == ApiErrorCode.ACCESS_DENIED) {
             status = HttpStatus.FORBIDDEN;
-        } else if (e.getApiErrorCode() == ApiErrorCode.USER_NOT_FOUND) {
+        } else if (e.getApiErrorCode() == ApiErrorCode.USER_NOT_FOUND
+                || e.getApiErrorCode() == ApiErrorCode.DOCUMENT_NOT_FOUND
+                || e.getApiErrorCode() == ApiErrorCode.DOCUMENT_JOB_NOT_FOUND) {
             status = HttpStatus.NOT_FOUND;
+        } else if (e.getApiErrorCode() == ApiErrorCode.DOCUMENT_JOB_QUEUE_FULL
+                || e.getApiErrorCode() == ApiErrorCode.RENDER_CAPACITY_EXCEEDED) {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
         } else if (e.getApiErrorCode() == ApiErrorCode.INVALID_LOGIN) {
             status = HttpStatus.UNAUTHORIZED;
         }
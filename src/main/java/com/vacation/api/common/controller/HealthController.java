@@ -2,6 +2,8 @@ package com.vacation.api.common.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -28,6 +30,7 @@ import java.util.Map;
 public class HealthController {
 
     private final DataSource dataSource;
+    private final ApplicationAvailability applicationAvailability;
 
     /**
      * Health Check 엔드포인트
@@ -39,6 +42,13 @@ public class HealthController {
         Map<String, Object> health = new HashMap<>();
         health.put("status", "UP");
         health.put("timestamp", LocalDateTime.now().toString());
+
+        // 기동 워밍업이 끝나기 전에는 트래픽을 받지 않음
+        if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            health.put("status", "DOWN");
+            health.put("readiness", applicationAvailability.getReadinessState().name());
+            return ResponseEntity.status(503).body(health);
+        }
         
         // 데이터베이스 연결 확인
         try (Connection connection = dataSource.getConnection()) {
@@ -0,0 +1,247 @@
+package com.vacation.api.common.service;
+
+import com.vacation.api.domain.sample.request.RentalSupportSampleRequest;
+import com.vacation.api.domain.sample.request.VacationSampleRequest;
+import com.vacation.api.domain.sample.service.PdfGenerationService;
+import com.vacation.api.enums.PaymentType;
+import com.vacation.api.enums.SignatureFont;
+import com.vacation.api.enums.SignaturePlaceholder;
+import com.vacation.api.enums.VacationType;
+import com.vacation.api.util.FileGenerateUtil;
+import com.vacation.api.util.JwtUtil;
+import com.vacation.api.util.SignatureImageUtil;
+import com.vacation.api.vo.ExpenseClaimVO;
+import com.vacation.api.vo.RentalSupportApplicationVO;
+import com.vacation.api.vo.RentalSupportProposalVO;
+import com.vacation.api.vo.VacationDocumentVO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 워밍업 Service
+ * 기동 후 첫 문서 다운로드가 템플릿/POI/폰트 래스터라이저/Flying Saucer 초기화와 JIT 비용을 떠안지 않도록
+ * 합성 데이터로 문서 유형별 1건씩 생성하고, 서명 폰트를 렌더링하고, JWT 발급/검증을 한 번 수행한다.
+ * ApplicationRunner로 실행되므로 끝날 때까지 readiness는 ACCEPTING_TRAFFIC이 되지 않는다.
+ * 단계별 실패는 기동을 막지 않고 경고만 남긴다. (테스트에서는 file.warm-up.enabled=false로 생략)
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpService implements ApplicationRunner {
+
+    private static final String SAMPLE_NAME = "홍길동";
+    private static final String SAMPLE_DEPARTMENT = "워밍업본부/워밍업팀";
+
+    private final PdfGenerationService pdfGenerationService;
+    private final SignatureImageUtil signatureImageUtil;
+    private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startTime = System.nanoTime();
+        int failedSteps = 0;
+
+        failedSteps += runStep("document", this::warmUpDocuments);
+        failedSteps += runStep("pdf", this::warmUpPdf);
+        failedSteps += runStep("signature_font", this::warmUpSignatureFonts);
+        failedSteps += runStep("jwt", this::warmUpJwt);
+
+        long elapsed = System.nanoTime() - startTime;
+        recordDuration("total", elapsed);
+        log.info("기동 워밍업 완료: elapsed={}ms, failedSteps={}", TimeUnit.NANOSECONDS.toMillis(elapsed), failedSteps);
+    }
+
+    /**
+     * 워밍업 단계 실행 (실패 시 경고만 남김)
+     *
+     * @return 실패 시 1, 성공 시 0
+     */
+    private int runStep(String step, WarmUpStep warmUpStep) {
+        long startTime = System.nanoTime();
+        try {
+            warmUpStep.run();
+            return 0;
+        } catch (Exception e) {
+            log.warn("기동 워밍업 단계 실패: step={}", step, e);
+            return 1;
+        } finally {
+            long elapsed = System.nanoTime() - startTime;
+            recordDuration(step, elapsed);
+            log.debug("기동 워밍업 단계 완료: step={}, elapsed={}ms", step, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private void recordDuration(String step, long elapsedNanos) {
+        Timer.builder("startup.warm_up.duration")
+                .description("Startup warm-up time")
+                .tag("step", step)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 문서 유형별 합성 문서 생성 (DOCX 2종, XLSX 2종)
+     */
+    private void warmUpDocuments() {
+        LocalDate today = LocalDate.now();
+        OutputStream discard = OutputStream.nullOutputStream();
+
+        FileGenerateUtil.writeVacationApplicationDoc(VacationDocumentVO.builder()
+                .requestDate(today)
+                .department(SAMPLE_DEPARTMENT)
+                .applicant(SAMPLE_NAME)
+                .startDate(today)
+                .endDate(today)
+                .vacationType(VacationType.YEONCHA)
+                .reason("워밍업")
+                .totalVacationDays(15.0)
+                .remainingVacationDays(15.0)
+                .requestedVacationDays(1.0)
+                .usedVacationDays(0.0)
+                .build(), null, discard);
+
+        FileGenerateUtil.writeRentalSupportProposalDoc(RentalSupportProposalVO.builder()
+                .requestDate(today)
+                .department(SAMPLE_DEPARTMENT)
+                .applicant(SAMPLE_NAME)
+                .currentAddress("서울시")
+                .rentalAddress("서울시")
+                .contractStartDate(today)
+                .contractEndDate(today.plusYears(1))
+                .contractMonthlyRent(500000L)
+                .billingAmount(250000L)
+                .billingStartDate(today)
+                .reason("워밍업")
+                .build(), null, discard);
+
+        FileGenerateUtil.writeRentalSupportApplicationExcel(RentalSupportApplicationVO.builder()
+                .requestDate(today)
+                .month(today.getMonthValue())
+                .department(SAMPLE_DEPARTMENT)
+                .applicant(SAMPLE_NAME)
+                .contractStartDate(today)
+                .contractEndDate(today.plusYears(1))
+                .contractMonthlyRent(500000L)
+                .paymentType(PaymentType.PREPAID)
+                .billingStartDate(today)
+                .billingPeriodStartDate(today.withDayOfMonth(1))
+                .billingPeriodEndDate(today.withDayOfMonth(today.lengthOfMonth()))
+                .paymentDate(today)
+                .paymentAmount(500000L)
+                .billingAmount(250000L)
+                .build(), null, discard);
+
+        FileGenerateUtil.writeExpenseClaimExcel(ExpenseClaimVO.builder()
+                .requestDate(today)
+                .month(today.getMonthValue())
+                .department(SAMPLE_DEPARTMENT)
+                .applicant(SAMPLE_NAME)
+                .expenseItems(List.of(ExpenseClaimVO.ExpenseItemVO.builder()
+                        .date(today)
+                        .usageDetail("워밍업")
+                        .vendor("워밍업")
+                        .paymentMethod("법인카드")
+                        .project("워밍업")
+                        .amount(10000L)
+                        .note("")
+                        .build()))
+                .build(), null, discard);
+    }
+
+    /**
+     * HTML -> PDF 합성 문서 생성 (Thymeleaf 템플릿 캐시, Flying Saucer 렌더러 풀, PDF 폰트)
+     */
+    private void warmUpPdf() {
+        LocalDate today = LocalDate.now();
+
+        VacationSampleRequest vacationRequest = new VacationSampleRequest();
+        vacationRequest.setRequestDate(today);
+        vacationRequest.setDepartment(SAMPLE_DEPARTMENT);
+        vacationRequest.setApplicant(SAMPLE_NAME);
+        vacationRequest.setStartDate(today);
+        vacationRequest.setEndDate(today);
+        vacationRequest.setVacationType(VacationType.YEONCHA);
+        vacationRequest.setReason("워밍업");
+        vacationRequest.setTotalVacationDays(15.0);
+        vacationRequest.setRemainingVacationDays(15.0);
+        vacationRequest.setRequestedVacationDays(1.0);
+        pdfGenerationService.generateVacationApplicationPdf(vacationRequest);
+
+        RentalSupportSampleRequest rentalRequest = new RentalSupportSampleRequest();
+        rentalRequest.setRequestDate(today);
+        rentalRequest.setMonth(today.getMonthValue());
+        rentalRequest.setDepartment(SAMPLE_DEPARTMENT);
+        rentalRequest.setApplicant(SAMPLE_NAME);
+        rentalRequest.setContractStartDate(today);
+        rentalRequest.setContractEndDate(today.plusYears(1));
+        rentalRequest.setContractMonthlyRent(500000L);
+        rentalRequest.setPaymentType(PaymentType.PREPAID);
+        rentalRequest.setBillingStartDate(today);
+        rentalRequest.setBillingPeriodStartDate(today.withDayOfMonth(1));
+        rentalRequest.setBillingPeriodEndDate(today.withDayOfMonth(today.lengthOfMonth()));
+        rentalRequest.setPaymentDate(today);
+        rentalRequest.setPaymentAmount(500000L);
+        rentalRequest.setBillingAmount(250000L);
+        pdfGenerationService.generateRentalSupportApplicationPdf(rentalRequest);
+
+        pdfGenerationService.writeExpenseClaimPdf(ExpenseClaimVO.builder()
+                .requestDate(today)
+                .month(today.getMonthValue())
+                .department(SAMPLE_DEPARTMENT)
+                .applicant(SAMPLE_NAME)
+                .expenseItems(List.of(ExpenseClaimVO.ExpenseItemVO.builder()
+                        .date(today)
+                        .usageDetail("워밍업")
+                        .amount(10000L)
+                        .build()))
+                .build(), null, OutputStream.nullOutputStream());
+    }
+
+    /**
+     * 서명 폰트별 서명/날짜 이미지 렌더링 (폰트 로드 및 Java2D 래스터라이저 초기화)
+     */
+    private void warmUpSignatureFonts() throws Exception {
+        String date = LocalDate.now().toString().replace("-", ".");
+        for (SignatureFont font : SignatureFont.values()) {
+            for (SignaturePlaceholder.SignatureSize size : SignaturePlaceholder.SignatureSize.values()) {
+                signatureImageUtil.generateSignatureImage(SAMPLE_NAME, font.getFileName(), size);
+            }
+            signatureImageUtil.generateDateImage(date, font.getFileName());
+        }
+    }
+
+    /**
+     * JWT 발급/검증 (서명 키 생성 및 JJWT/Jackson 초기화)
+     */
+    private void warmUpJwt() {
+        String token = jwtUtil.generateAccessToken(0L, "warm-up@vacation-api");
+        if (!jwtUtil.validateToken(token) || !Long.valueOf(0L).equals(jwtUtil.getUserIdFromToken(token))) {
+            throw new IllegalStateException("워밍업 토큰 검증 실패");
+        }
+    }
+
+    /**
+     * 워밍업 단계
+     */
+    @FunctionalInterface
+    private interface WarmUpStep {
+        void run() throws Exception;
+    }
+}
@@ -14,7 +14,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.vacation.api.domain.alarm.response.AlarmResponse;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 알람 Service
@@ -79,6 +82,90 @@ public class AlarmService {
         }
     }
 
+    /**
+     * 신청서 일괄 생성 시 팀장(팀장이 없으면 본부장)에게 알람 일괄 생성
+     * 신청자/결재자를 각각 한 번의 쿼리로 조회하고 알람을 한 번에 저장한다.
+     *
+     * @param applicationType 신청 타입
+     * @param applicationSeqByApplicantId 신청자 ID별 신청 시퀀스
+     */
+    @Transactional
+    public void createApplicationCreatedAlarms(String applicationType, Map<Long, Long> applicationSeqByApplicantId) {
+        if (applicationSeqByApplicantId.isEmpty()) {
+            return;
+        }
+        log.info("신청서 작성 알람 일괄 생성: applicationType={}, count={}", applicationType, applicationSeqByApplicantId.size());
+
+        List<User> applicants = userRepository.findAllWithTeamManagementByUserIdIn(applicationSeqByApplicantId.keySet());
+
+        // 팀장은 본부/팀, 본부장은 본부 기준으로 그룹핑
+        List<User> approvers = userRepository.findAllWithTeamManagementByAuthValIn(
+                List.of(AuthVal.TEAM_LEADER.getCode(), AuthVal.DIVISION_HEAD.getCode()));
+        Map<String, List<User>> teamLeadersByTeam = approvers.stream()
+                .filter(u -> AuthVal.TEAM_LEADER.getCode().equals(u.getAuthVal()) && u.getDivision() != null)
+                .collect(Collectors.groupingBy(u -> u.getDivision() + "/" + u.getTeam()));
+        Map<String, List<User>> divisionHeadsByDivision = approvers.stream()
+                .filter(u -> AuthVal.DIVISION_HEAD.getCode().equals(u.getAuthVal()) && u.getDivision() != null)
+                .collect(Collectors.groupingBy(User::getDivision));
+
+        String applicationTypeName = getApplicationTypeName(applicationType);
+        List<UserAlarm> alarms = new ArrayList<>();
+        for (User applicant : applicants) {
+            List<User> receivers = teamLeadersByTeam.getOrDefault(
+                    applicant.getDivision() + "/" + applicant.getTeam(), List.of());
+            // 팀장이 없으면 본부장에게 알람
+            if (receivers.isEmpty()) {
+                receivers = divisionHeadsByDivision.getOrDefault(applicant.getDivision(), List.of());
+            }
+            Long applicationSeq = applicationSeqByApplicantId.get(applicant.getUserId());
+            for (User receiver : receivers) {
+                alarms.add(UserAlarm.builder()
+                        .userId(receiver.getUserId())
+                        .alarmType(ApprovalStatus.INITIAL.getCode())
+                        .applicationType(applicationType)
+                        .applicationSeq(applicationSeq)
+                        .message(String.format("%s님이 %s 신청을 제출했습니다.", applicant.getName(), applicationTypeName))
+                        .redirectUrl(RedirectUrl.APPROVAL_LIST.getCode())
+                        .isRead(false)
+                        .build());
+            }
+        }
+
+        userAlarmRepository.saveAll(alarms);
+        log.info("신청서 작성 알람 일괄 생성 완료: applicationType={}, alarmCount={}", applicationType, alarms.size());
+    }
+
+    /**
+     * 신청서 임시 저장 일괄 생성 시 신청자에게 알람 일괄 생성 (확인 후 제출 안내)
+     *
+     * @param applicationType 신청 타입
+     * @param applicationSeqByApplicantId 신청자 ID별 신청 시퀀스
+     */
+    @Transactional
+    public void createDraftCreatedAlarms(String applicationType, Map<Long, Long> applicationSeqByApplicantId) {
+        if (applicationSeqByApplicantId.isEmpty()) {
+            return;
+        }
+        log.info("신청서 임시 저장 알람 일괄 생성: applicationType={}, count={}", applicationType, applicationSeqByApplicantId.size());
+
+        String message = String.format("%s 신청서가 임시 저장되었습니다. 내용을 확인한 후 제출해 주세요.",
+                getApplicationTypeName(applicationType));
+        List<UserAlarm> alarms = applicationSeqByApplicantId.entrySet().stream()
+                .map(entry -> UserAlarm.builder()
+                        .userId(entry.getKey())
+                        .alarmType(ApprovalStatus.DRAFT.getCode())
+                        .applicationType(applicationType)
+                        .applicationSeq(entry.getValue())
+                        .message(message)
+                        .redirectUrl(RedirectUrl.MY_APPLICATIONS.getCode())
+                        .isRead(false)
+                        .build())
+                .toList();
+
+        userAlarmRepository.saveAll(alarms);
+        log.info("신청서 임시 저장 알람 일괄 생성 완료: applicationType={}, alarmCount={}", applicationType, alarms.size());
+    }
+
     /**
      * 팀장 승인 시 신청자 및 본부장에게 알람 생성
      */
@@ -0,0 +1,34 @@
+package com.vacation.api.domain.approval.event;
+
+import com.vacation.api.enums.ApplicationType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최종 승인 이벤트
+ * 본부장 승인(C) 또는 마스터 승인(D)으로 서명이 모두 채워졌을 때 발행된다.
+ * 리스너는 트랜잭션 커밋 이후에 실행되어야 한다 (@TransactionalEventListener).
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public class ApprovalCompletedEvent {
+
+    /**
+     * 신청 타입
+     */
+    private final ApplicationType applicationType;
+
+    /**
+     * 신청 시퀀스
+     */
+    private final Long seq;
+
+    /**
+     * 신청자 ID
+     */
+    private final Long applicantId;
+}
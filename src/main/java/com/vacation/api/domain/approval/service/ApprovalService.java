@@ -2,6 +2,7 @@ package com.vacation.api.domain.approval.service;
 
 import com.vacation.api.domain.alarm.service.AlarmService;
 import com.vacation.api.domain.approval.entity.ApprovalRejection;
+import com.vacation.api.domain.approval.event.ApprovalCompletedEvent;
 import com.vacation.api.domain.approval.repository.ApprovalRejectionRepository;
 import com.vacation.api.domain.approval.response.PendingApprovalResponse;
 import com.vacation.api.domain.expense.entity.ExpenseClaim;
@@ -22,6 +23,7 @@ import com.vacation.api.exception.ApiErrorCode;
 import com.vacation.api.exception.ApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,6 +52,7 @@ public class ApprovalService {
     private final UserRepository userRepository;
     private final UserService userService;
     private final AlarmService alarmService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 휴가 신청 승인 (팀장)
@@ -250,6 +253,9 @@ public class ApprovalService {
         
         vacationHistoryRepository.save(vacationHistory);
 
+        // 최종 승인 이벤트 발행 (커밋 후 문서 미리 생성)
+        eventPublisher.publishEvent(new ApprovalCompletedEvent(ApplicationType.VACATION, seq, vacationHistory.getUserId()));
+
         // 알람 생성: 신청자에게
         alarmService.createDivisionHeadApprovedAlarm(
                 vacationHistory.getUserId(), ApplicationType.VACATION.getCode(), seq);
@@ -507,6 +513,9 @@ public class ApprovalService {
         
         expenseClaimRepository.save(expenseClaim);
 
+        // 최종 승인 이벤트 발행 (커밋 후 문서 미리 생성)
+        eventPublisher.publishEvent(new ApprovalCompletedEvent(ApplicationType.EXPENSE, seq, expenseClaim.getUserId()));
+
         // 알람 생성: 신청자에게
         alarmService.createDivisionHeadApprovedAlarm(
                 expenseClaim.getUserId(), ApplicationType.EXPENSE.getCode(), seq);
@@ -753,6 +762,9 @@ public class ApprovalService {
         
         rentalSupportRepository.save(rentalSupport);
 
+        // 최종 승인 이벤트 발행 (커밋 후 문서 미리 생성)
+        eventPublisher.publishEvent(new ApprovalCompletedEvent(ApplicationType.RENTAL, seq, rentalSupport.getUserId()));
+
         // 알람 생성: 신청자에게
         alarmService.createDivisionHeadApprovedAlarm(
                 rentalSupport.getUserId(), ApplicationType.RENTAL.getCode(), seq);
@@ -999,6 +1011,9 @@ public class ApprovalService {
         
         rentalProposalRepository.save(rentalProposal);
 
+        // 최종 승인 이벤트 발행 (커밋 후 문서 미리 생성)
+        eventPublisher.publishEvent(new ApprovalCompletedEvent(ApplicationType.RENTAL_PROPOSAL, seq, rentalProposal.getUserId()));
+
         // 알람 생성: 신청자에게
         alarmService.createDivisionHeadApprovedAlarm(
                 rentalProposal.getUserId(), ApplicationType.RENTAL_PROPOSAL.getCode(), seq);
@@ -1517,6 +1532,9 @@ public class ApprovalService {
         vacationHistory.setMaApprovalDate(LocalDate.now());
         vacationHistoryRepository.save(vacationHistory);
 
+        // 최종 승인 이벤트 발행 (커밋 후 문서 미리 생성)
+        eventPublisher.publishEvent(new ApprovalCompletedEvent(ApplicationType.VACATION, seq, vacationHistory.getUserId()));
+
         // 알람 생성: 신청자에게
         alarmService.createDivisionHeadApprovedAlarm(
                 vacationHistory.getUserId(), ApplicationType.VACATION.getCode(), seq);
@@ -1562,6 +1580,9 @@ public class ApprovalService {
         expenseClaim.setMaApprovalDate(LocalDate.now());
         expenseClaimRepository.save(expenseClaim);
 
+        // 최종 승인 이벤트 발행 (커밋 후 문서 미리 생성)
+        eventPublisher.publishEvent(new ApprovalCompletedEvent(ApplicationType.EXPENSE, seq, expenseClaim.getUserId()));
+
         // 알람 생성: 신청자에게
         alarmService.createDivisionHeadApprovedAlarm(
                 expenseClaim.getUserId(), ApplicationType.EXPENSE.getCode(), seq);
@@ -1607,6 +1628,9 @@ public class ApprovalService {
         rentalSupport.setMaApprovalDate(LocalDate.now());
         rentalSupportRepository.save(rentalSupport);
 
+        // 최종 승인 이벤트 발행 (커밋 후 문서 미리 생성)
+        eventPublisher.publishEvent(new ApprovalCompletedEvent(ApplicationType.RENTAL, seq, rentalSupport.getUserId()));
+
         // 알람 생성: 신청자에게
         alarmService.createDivisionHeadApprovedAlarm(
                 rentalSupport.getUserId(), ApplicationType.RENTAL.getCode(), seq);
@@ -1652,6 +1676,9 @@ public class ApprovalService {
         rentalProposal.setMaApprovalDate(LocalDate.now());
         rentalProposalRepository.save(rentalProposal);
 
+        // 최종 승인 이벤트 발행 (커밋 후 문서 미리 생성)
+        eventPublisher.publishEvent(new ApprovalCompletedEvent(ApplicationType.RENTAL_PROPOSAL, seq, rentalProposal.getUserId()));
+
         // 알람 생성: 신청자에게
         alarmService.createDivisionHeadApprovedAlarm(
                 rentalProposal.getUserId(), ApplicationType.RENTAL_PROPOSAL.getCode(), seq);
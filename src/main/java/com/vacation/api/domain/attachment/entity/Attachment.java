@@ -16,7 +16,11 @@ import java.time.LocalDateTime;
  * @since 2026-01-15
  */
 @Entity
-@Table(name = "tbl_attachment")
+@Table(name = "tbl_attachment",
+       indexes = {
+               @Index(name = "idx_attachment_expense_sub_seq", columnList = "expense_sub_seq"),
+               @Index(name = "idx_attachment_content_hash", columnList = "content_hash")
+       })
 @Data
 @Builder
 @NoArgsConstructor
@@ -56,11 +60,35 @@ public class Attachment {
     private String filePath;
 
     /**
-     * 파일 크기 (bytes)
+     * 파일 크기 (bytes, 이미지 정규화 후에는 처리된 파일 크기)
      */
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
 
+    /**
+     * 내용 해시 (SHA-256, tbl_stored_file.content_hash, 내용 주소 저장 이전 파일은 null)
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * 원본 내용 해시 (이미지 정규화 후 원본을 보관하는 경우에만, tbl_stored_file.content_hash)
+     */
+    @Column(name = "original_content_hash", length = 64)
+    private String originalContentHash;
+
+    /**
+     * 원본 파일 크기 (bytes, 이미지 정규화로 내용이 바뀐 경우)
+     */
+    @Column(name = "original_file_size")
+    private Long originalFileSize;
+
+    /**
+     * 이미지 정규화 완료 시각 (정규화 대상이 아니거나 아직 처리 전이면 null)
+     */
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
     /**
      * 파일 순서 (개인비용용, 여러개일 때 순서)
      */
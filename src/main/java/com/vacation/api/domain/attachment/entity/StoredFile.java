@@ -0,0 +1,69 @@
+package com.vacation.api.domain.attachment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 파일 엔티티 (내용 주소 기반)
+ * 첨부파일 내용의 SHA-256 해시를 키로 디스크 파일 하나를 관리하며,
+ * 이 파일을 참조하는 첨부파일(Attachment) 수를 참조 수로 보관한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "tbl_stored_file")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredFile {
+
+    /**
+     * 내용 해시 (SHA-256, 16진수 소문자, PK)
+     */
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * 파일 경로
+     */
+    @Column(name = "file_path", nullable = false, length = 1000)
+    private String filePath;
+
+    /**
+     * 파일 크기 (bytes)
+     */
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    /**
+     * 참조 수 (이 파일을 가리키는 첨부파일 수)
+     */
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    /**
+     * 생성일
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * 엔티티 저장 전 실행 (생성일 설정)
+     */
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.vacation.api.domain.attachment.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지 첨부파일 업로드 이벤트
+ * 업로드 트랜잭션 커밋 후 이미지 정규화(EXIF 제거, 축소, 재인코딩)를 시작하는 데 사용한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public class AttachmentUploadedEvent {
+
+    /**
+     * 첨부파일 시퀀스
+     */
+    private final Long attachmentSeq;
+
+    /**
+     * 업로드 시점의 내용 해시 (정규화 전에 교체되었는지 확인용)
+     */
+    private final String contentHash;
+}
@@ -4,6 +4,7 @@ import com.vacation.api.domain.attachment.entity.Attachment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +52,14 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
      */
     List<Attachment> findByExpenseSubSeqOrderByFileOrderAsc(Long expenseSubSeq);
 
+    /**
+     * 개인비용 항목 시퀀스 목록으로 첨부파일 일괄 조회
+     *
+     * @param expenseSubSeqs 개인비용 항목 시퀀스 목록
+     * @return 첨부파일 목록 (파일 순서로 정렬)
+     */
+    List<Attachment> findByExpenseSubSeqInOrderByFileOrderAsc(Collection<Long> expenseSubSeqs);
+
     /**
      * 개인비용 항목 시퀀스로 첨부파일 삭제
      *
@@ -0,0 +1,33 @@
+package com.vacation.api.domain.attachment.repository;
+
+import com.vacation.api.domain.attachment.entity.StoredFile;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 저장 파일 Repository
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    /**
+     * 내용 해시로 저장 파일 조회 (참조 수 변경용 비관적 잠금)
+     * 같은 내용의 업로드/삭제가 동시에 참조 수를 바꾸지 않도록 트랜잭션 종료까지 행을 잠근다.
+     *
+     * @param contentHash 내용 해시
+     * @return 저장 파일
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredFile s WHERE s.contentHash = :contentHash")
+    Optional<StoredFile> findByContentHashForUpdate(@Param("contentHash") String contentHash);
+}
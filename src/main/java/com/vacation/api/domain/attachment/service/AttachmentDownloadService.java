@@ -0,0 +1,220 @@
+package com.vacation.api.domain.attachment.service;
+
+import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.enums.UploadFileType;
+import com.vacation.api.exception.ApiErrorCode;
+import com.vacation.api.exception.ApiException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부파일 다운로드 응답 Service
+ * 권한 확인이 끝난 첨부파일에 대해 조건부 요청(If-None-Match/If-Modified-Since)은 304로,
+ * 이어받기 요청(Range/If-Range)은 요청 구간만 206으로 응답한다.
+ * 리버스 프록시 전달이 켜져 있으면 본문 대신 X-Accel-Redirect 헤더만 보내 파일 전송을 프록시에 맡긴다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentDownloadService {
+
+    private static final String X_ACCEL_REDIRECT = "X-Accel-Redirect";
+
+    private final FileService fileService;
+
+    @Value("${file.attachment-download.max-age-seconds:86400}")
+    private long maxAgeSeconds;
+
+    @Value("${file.attachment-download.accel-redirect.enabled:false}")
+    private boolean accelRedirectEnabled;
+
+    @Value("${file.attachment-download.accel-redirect.prefix:/internal-upload/}")
+    private String accelRedirectPrefix;
+
+    /**
+     * 첨부파일 다운로드 응답 생성
+     *
+     * @param request HTTP 요청 (조건부/Range 헤더 확인용)
+     * @param attachment 권한 확인이 끝난 첨부파일
+     * @return 200(전체), 206(구간), 304(변경 없음), 416(구간 오류) 응답
+     * @throws ApiException 파일을 찾을 수 없는 경우
+     * @throws IOException 파일 정보 조회 실패 시
+     */
+    public ResponseEntity<StreamingResponseBody> createResponse(HttpServletRequest request, Attachment attachment)
+            throws IOException {
+        Path filePath = Paths.get(attachment.getFilePath());
+        if (!Files.isReadable(filePath)) {
+            log.error("첨부파일을 찾을 수 없음: seq={}, filePath={}", attachment.getSeq(), attachment.getFilePath());
+            throw new ApiException(ApiErrorCode.UNKNOWN_ERROR, "파일을 찾을 수 없습니다.");
+        }
+
+        long size = Files.size(filePath);
+        long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+        String eTag = toETag(attachment, size, lastModified);
+        HttpHeaders headers = createHeaders(attachment, eTag, lastModified);
+
+        // 변경 없음 (If-None-Match 우선, 없으면 If-Modified-Since)
+        if (new ServletWebRequest(request).checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        // 리버스 프록시 전달 (Range/If-Range 처리와 전송은 프록시가 수행, 업로드 경로 밖 파일은 직접 전송)
+        String accelRedirectPath = accelRedirectEnabled ? toAccelRedirectPath(filePath) : null;
+        if (accelRedirectPath != null) {
+            headers.set(X_ACCEL_REDIRECT, accelRedirectPath);
+            return ResponseEntity.ok().headers(headers).build();
+        }
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && isIfRangeSatisfied(request, eTag, lastModified)) {
+            List<HttpRange> ranges = parseRanges(rangeHeader);
+            // 여러 구간 요청은 전체 응답으로 대신함 (RFC 9110 허용)
+            if (ranges.size() == 1) {
+                long start = ranges.get(0).getRangeStart(size);
+                long end = ranges.get(0).getRangeEnd(size);
+                if (start >= size || start > end) {
+                    headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+                }
+
+                long length = end - start + 1;
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+                headers.setContentLength(length);
+                log.info("첨부파일 구간 전송: seq={}, range={}-{}/{}", attachment.getSeq(), start, end, size);
+                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .headers(headers)
+                        .body(outputStream -> transfer(filePath, start, length, outputStream));
+            }
+        }
+
+        headers.setContentLength(size);
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(outputStream -> transfer(filePath, 0, size, outputStream));
+    }
+
+    private HttpHeaders createHeaders(Attachment attachment, String eTag, long lastModified) {
+        String encodedFileName = URLEncoder.encode(attachment.getFileName(), StandardCharsets.UTF_8)
+                .replace("+", "%20");
+        UploadFileType fileType = UploadFileType.fromFileName(attachment.getFileName());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(fileType != null
+                ? MediaType.parseMediaType(fileType.getContentType()) : MediaType.APPLICATION_OCTET_STREAM);
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag(eTag);
+        headers.setLastModified(lastModified);
+        // 같은 주소의 첨부파일이 교체될 수 있으므로 보관 후에는 ETag로 재검증
+        headers.setCacheControl(CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePrivate().mustRevalidate());
+        return headers;
+    }
+
+    /**
+     * 강한 ETag 생성 (내용 해시가 있으면 해시, 이전 첨부파일은 크기와 수정 시각)
+     */
+    private String toETag(Attachment attachment, long size, long lastModified) {
+        if (attachment.getContentHash() != null) {
+            return "\"" + attachment.getContentHash() + "\"";
+        }
+        return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(size) + "\"";
+    }
+
+    /**
+     * If-Range 조건 확인 (없으면 충족, ETag는 강한 비교, 날짜는 최종 수정 시각과 초 단위 일치)
+     */
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 Range는 무시하고 전체 응답
+            log.debug("Range 헤더 무시: {}", rangeHeader);
+            return List.of();
+        }
+    }
+
+    /**
+     * 리버스 프록시 내부 경로 생성 (업로드 경로 기준 상대 경로에 접두사를 붙임)
+     * 업로드 경로 밖의 파일은 프록시 내부 경로로 표현할 수 없으므로 null을 반환한다.
+     */
+    private String toAccelRedirectPath(Path filePath) {
+        Path relativePath;
+        try {
+            relativePath = fileService.getUploadRoot().toAbsolutePath().normalize()
+                    .relativize(filePath.toAbsolutePath().normalize());
+        } catch (IllegalArgumentException e) {
+            // 루트가 다른 경로 (예: 다른 드라이브)
+            relativePath = null;
+        }
+        if (relativePath == null || relativePath.isAbsolute() || relativePath.startsWith("..")) {
+            log.warn("업로드 경로 밖의 첨부파일, 직접 전송: filePath={}", filePath);
+            return null;
+        }
+        String prefix = accelRedirectPrefix.endsWith("/") ? accelRedirectPrefix : accelRedirectPrefix + "/";
+        return prefix + relativePath.toString().replace('\\', '/');
+    }
+
+    /**
+     * 파일 구간을 출력 스트림으로 전송 (FileChannel.transferTo, 출력 스트림은 닫지 않음)
+     */
+    private void transfer(Path filePath, long start, long length, OutputStream outputStream)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = start;
+            long end = start + length;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    // 응답 헤더 작성 후 파일이 줄어든 경우 (무한 반복 방지)
+                    throw new EOFException("첨부파일이 예상보다 짧습니다: " + filePath + ", position=" + position);
+                }
+                position += transferred;
+            }
+        }
+    }
+}
@@ -1,29 +1,63 @@
 package com.vacation.api.domain.attachment.service;
 
 import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.domain.attachment.entity.StoredFile;
+import com.vacation.api.domain.attachment.event.AttachmentUploadedEvent;
 import com.vacation.api.domain.attachment.repository.AttachmentRepository;
+import com.vacation.api.domain.attachment.repository.StoredFileRepository;
+import com.vacation.api.enums.UploadFileType;
 import com.vacation.api.exception.ApiErrorCode;
 import com.vacation.api.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * 파일 서비스
+ * 첨부파일은 내용의 SHA-256 해시를 이름으로 저장하고(내용 주소 저장), 같은 내용은 디스크에 한 번만 둔다.
+ * 저장 파일(StoredFile)은 참조하는 첨부파일 수를 세어 마지막 참조가 삭제될 때 커밋 후 디스크에서 지운다.
  *
  * @author vacation-api
  * @version 1.0
@@ -34,7 +68,32 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FileService {
 
+    /**
+     * 내용 주소 저장 디렉토리 (업로드 경로 하위)
+     */
+    private static final String CONTENT_STORE_DIR = "sha256";
+
+    /**
+     * 스트리밍 업로드 시 본문 길이 여유분 (multipart 경계, 파트 헤더)
+     */
+    private static final long MULTIPART_OVERHEAD_BYTES = 64 * 1024;
+
+    /**
+     * 스트리밍 업로드 시 허용 파트 수 (파일 + 폼 필드)
+     */
+    private static final long MULTIPART_MAX_PARTS = 10;
+
+    /**
+     * 스트리밍 업로드 시 파트 헤더 최대 크기 (한글 파일명 포함 Content-Disposition 여유분)
+     */
+    private static final int MULTIPART_MAX_PART_HEADER_BYTES = 2048;
+
+    private static final int UPLOAD_BUFFER_SIZE = 64 * 1024;
+
     private final AttachmentRepository attachmentRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${file.upload.path.prod:/upload}")
     private String prodUploadPath;
@@ -48,6 +107,27 @@ public class FileService {
     @Value("${spring.profiles.active:dev}")
     private String activeProfile;
 
+    @Value("${file.upload.max-size:10485760}")
+    private long maxUploadSize;
+
+    private Counter writtenCounter;
+    private Counter deduplicatedCounter;
+
+    /**
+     * 메트릭 초기화
+     */
+    @PostConstruct
+    public void init() {
+        writtenCounter = Counter.builder("attachment.store.total")
+                .description("Attachment uploads by storage result")
+                .tag("result", "written")
+                .register(meterRegistry);
+        deduplicatedCounter = Counter.builder("attachment.store.total")
+                .description("Attachment uploads by storage result")
+                .tag("result", "deduplicated")
+                .register(meterRegistry);
+    }
+
     /**
      * 파일 업로드 경로 가져오기
      *
@@ -64,53 +144,32 @@ public class FileService {
     }
 
     /**
-     * 파일 저장 경로 생성
+     * 업로드 루트 경로 가져오기 (프로파일/OS별 업로드 경로)
      *
-     * @param applicationType 신청 타입
-     * @param userId 사용자 ID
-     * @param applicationSeq 신청 시퀀스
-     * @param originalFileName 원본 파일명
-     * @return 파일 저장 경로
+     * @return 업로드 루트 경로
      */
-    private Path generateFilePath(String applicationType, Long userId, Long applicationSeq, String originalFileName) {
-        LocalDate now = LocalDate.now();
-        String datePath = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-        
-        // 파일 확장자 추출
-        String extension = "";
-        int lastDotIndex = originalFileName.lastIndexOf('.');
-        if (lastDotIndex > 0) {
-            extension = originalFileName.substring(lastDotIndex);
-        }
-        
-        // 파일명: 사용자id_문서seq.{ext}
-        String fileName = userId + "_" + applicationSeq + extension;
-        
-        // 전체 경로: /upload/yyyy/mm/dd/{applicationType}/사용자id_문서seq.{ext}
-        String fullPath = getUploadBasePath() + "/" + datePath + "/" + applicationType.toLowerCase() + "/" + fileName;
-        
-        return Paths.get(fullPath);
+    public Path getUploadRoot() {
+        return Paths.get(getUploadBasePath());
     }
 
     /**
-     * 파일 확장자 검증
+     * 내용 주소 저장 디렉토리 가져오기
      *
-     * @param fileName 파일명
-     * @param allowedExtensions 허용된 확장자 목록
-     * @return 검증 통과 여부
+     * @return 저장 디렉토리 (/upload/sha256)
      */
-    private boolean isValidExtension(String fileName, String[] allowedExtensions) {
-        if (fileName == null || fileName.isEmpty()) {
-            return false;
-        }
-        
-        String lowerFileName = fileName.toLowerCase();
-        for (String ext : allowedExtensions) {
-            if (lowerFileName.endsWith("." + ext.toLowerCase())) {
-                return true;
-            }
-        }
-        return false;
+    private Path getContentStorePath() {
+        return Paths.get(getUploadBasePath(), CONTENT_STORE_DIR);
+    }
+
+    /**
+     * 내용 해시로 저장 파일 경로 생성
+     * 한 디렉토리에 파일이 몰리지 않도록 해시 앞 두 글자로 나눈다.
+     *
+     * @param contentHash 내용 해시
+     * @return 저장 파일 경로 (/upload/sha256/ab/abcdef...)
+     */
+    private Path generateContentPath(String contentHash) {
+        return getContentStorePath().resolve(contentHash.substring(0, 2)).resolve(contentHash);
     }
 
     /**
@@ -124,48 +183,32 @@ public class FileService {
      */
     @Transactional
     public Attachment uploadFile(MultipartFile file, String applicationType, Long applicationSeq, Long userId) {
-        if (file == null || file.isEmpty()) {
-            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일이 없습니다.");
-        }
-
-        // 파일 크기 검증 (10MB)
-        long maxSize = 10 * 1024 * 1024; // 10MB
-        if (file.getSize() > maxSize) {
-            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일 크기는 10MB를 초과할 수 없습니다.");
-        }
-
-        // 파일 확장자 검증
-        String[] allowedExtensions = {"png", "jpg", "jpeg", "pdf"};
-        if (!isValidExtension(file.getOriginalFilename(), allowedExtensions)) {
-            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "PNG, JPG, PDF 파일만 업로드 가능합니다.");
-        }
-
-        try {
-            // 파일 저장 경로 생성
-            Path filePath = generateFilePath(applicationType, userId, applicationSeq, file.getOriginalFilename());
-            
-            // 디렉토리 생성
-            Files.createDirectories(filePath.getParent());
+        validateMultipartFile(file);
 
-            // 파일 저장
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        try (StagedContent staged = stageContent(file.getInputStream(), file.getOriginalFilename())) {
+            // 내용 주소 저장 (같은 내용이 이미 있으면 디스크 기록 없이 참조 수만 증가)
+            StoredFile storedFile = storeContent(staged);
 
-            // 기존 첨부파일 삭제 (단일 파일이므로)
+            // 기존 첨부파일 삭제 (단일 파일이므로, 참조 해제 후 삭제)
+            releaseContents(attachmentRepository.findByApplicationTypeAndApplicationSeqOrderByFileOrderAsc(
+                    applicationType, applicationSeq));
             attachmentRepository.deleteByApplicationTypeAndApplicationSeq(applicationType, applicationSeq);
 
             // 첨부파일 정보 저장
             Attachment attachment = Attachment.builder()
                     .applicationType(applicationType)
                     .applicationSeq(applicationSeq)
-                    .fileName(file.getOriginalFilename())
-                    .filePath(filePath.toString())
-                    .fileSize(file.getSize())
+                    .fileName(staged.getFileName())
+                    .filePath(storedFile.getFilePath())
+                    .fileSize(storedFile.getFileSize())
+                    .contentHash(storedFile.getContentHash())
                     .fileOrder(1) // 단일 파일이므로 1
                     .build();
 
             Attachment saved = attachmentRepository.save(attachment);
             log.info("파일 업로드 완료: seq={}, applicationType={}, applicationSeq={}, fileName={}", 
-                    saved.getSeq(), applicationType, applicationSeq, file.getOriginalFilename());
+                    saved.getSeq(), applicationType, applicationSeq, staged.getFileName());
+            publishUploadedEvent(saved, staged);
 
             return saved;
         } catch (IOException e) {
@@ -186,33 +229,36 @@ public class FileService {
      */
     @Transactional
     public Attachment uploadExpenseItemFile(MultipartFile file, String applicationType, Long applicationSeq, Long expenseSubSeq, Long userId) {
-        if (file == null || file.isEmpty()) {
-            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일이 없습니다.");
-        }
+        validateMultipartFile(file);
 
-        // 파일 크기 검증 (10MB)
-        long maxSize = 10 * 1024 * 1024; // 10MB
-        if (file.getSize() > maxSize) {
-            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일 크기는 10MB를 초과할 수 없습니다.");
-        }
-
-        // 파일 확장자 검증
-        String[] allowedExtensions = {"png", "jpg", "jpeg", "pdf"};
-        if (!isValidExtension(file.getOriginalFilename(), allowedExtensions)) {
-            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "PNG, JPG, PDF 파일만 업로드 가능합니다.");
+        try (StagedContent staged = stageContent(file.getInputStream(), file.getOriginalFilename())) {
+            return uploadExpenseItemFile(staged, applicationType, applicationSeq, expenseSubSeq, userId);
+        } catch (IOException e) {
+            log.error("개인비용 항목 파일 업로드 실패: applicationType={}, applicationSeq={}, expenseSubSeq={}", 
+                    applicationType, applicationSeq, expenseSubSeq, e);
+            throw new ApiException(ApiErrorCode.UNKNOWN_ERROR, "파일 업로드에 실패했습니다.");
         }
+    }
 
+    /**
+     * 파일 업로드 (개인비용 항목별, 스트리밍으로 미리 기록된 내용)
+     * 내용은 트랜잭션 밖에서 {@link #stageMultipartFile}로 기록되어 있으므로, 여기서는 저장 파일 참조와 첨부파일 정보만 갱신한다.
+     *
+     * @param staged 임시 기록된 업로드 내용
+     * @param applicationType 신청 타입 (EXPENSE)
+     * @param applicationSeq 신청 시퀀스 (expense_claim.seq)
+     * @param expenseSubSeq 개인비용 항목 시퀀스 (expense_sub.seq)
+     * @param userId 사용자 ID
+     * @return 저장된 첨부파일 정보
+     */
+    @Transactional
+    public Attachment uploadExpenseItemFile(StagedContent staged, String applicationType, Long applicationSeq, Long expenseSubSeq, Long userId) {
         try {
-            // 파일 저장 경로 생성 (expenseSubSeq 포함)
-            Path filePath = generateExpenseItemFilePath(applicationType, userId, applicationSeq, expenseSubSeq, file.getOriginalFilename());
-            
-            // 디렉토리 생성
-            Files.createDirectories(filePath.getParent());
-
-            // 파일 저장
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            // 내용 주소 저장 (같은 영수증을 여러 청구에 올려도 디스크에는 한 번만 저장)
+            StoredFile storedFile = storeContent(staged);
 
-            // 기존 첨부파일 삭제 (해당 항목의 기존 파일)
+            // 기존 첨부파일 삭제 (해당 항목의 기존 파일, 참조 해제 후 삭제)
+            releaseContents(attachmentRepository.findByExpenseSubSeqOrderByFileOrderAsc(expenseSubSeq));
             attachmentRepository.deleteByExpenseSubSeq(expenseSubSeq);
 
             // 첨부파일 정보 저장
@@ -220,15 +266,17 @@ public class FileService {
                     .applicationType(applicationType)
                     .applicationSeq(applicationSeq)
                     .expenseSubSeq(expenseSubSeq)
-                    .fileName(file.getOriginalFilename())
-                    .filePath(filePath.toString())
-                    .fileSize(file.getSize())
+                    .fileName(staged.getFileName())
+                    .filePath(storedFile.getFilePath())
+                    .fileSize(storedFile.getFileSize())
+                    .contentHash(storedFile.getContentHash())
                     .fileOrder(1) // 항목당 단일 파일이므로 1
                     .build();
 
             Attachment saved = attachmentRepository.save(attachment);
             log.info("개인비용 항목 파일 업로드 완료: seq={}, applicationType={}, applicationSeq={}, expenseSubSeq={}, fileName={}", 
-                    saved.getSeq(), applicationType, applicationSeq, expenseSubSeq, file.getOriginalFilename());
+                    saved.getSeq(), applicationType, applicationSeq, expenseSubSeq, staged.getFileName());
+            publishUploadedEvent(saved, staged);
 
             return saved;
         } catch (IOException e) {
@@ -239,33 +287,203 @@ public class FileService {
     }
 
     /**
-     * 개인비용 항목별 파일 저장 경로 생성
+     * multipart 요청 본문에서 파일 파트를 직접 읽어 임시 기록 (스트리밍 업로드)
+     * 서블릿 컨테이너의 파트 임시 저장(스풀)을 거치지 않고 요청 스트림을 한 번만 읽으며,
+     * 크기 제한과 형식 검증은 읽는 도중에 수행하여 잘못된 업로드는 끝까지 받지 않고 거절한다.
+     * 트랜잭션 밖에서 호출하여 업로드를 받는 동안 DB 커넥션을 잡지 않도록 한다.
      *
-     * @param applicationType 신청 타입
-     * @param userId 사용자 ID
-     * @param applicationSeq 신청 시퀀스
-     * @param expenseSubSeq 개인비용 항목 시퀀스
-     * @param originalFileName 원본 파일명
-     * @return 파일 저장 경로
+     * @param request HTTP 요청 (multipart/form-data, 파트가 파싱되지 않은 상태)
+     * @param fieldName 파일 파트 이름
+     * @return 임시 기록된 업로드 내용 (호출 측에서 close)
+     * @throws ApiException multipart 요청이 아니거나, 파일 파트가 없거나, 크기/형식이 허용되지 않는 경우
      */
-    private Path generateExpenseItemFilePath(String applicationType, Long userId, Long applicationSeq, Long expenseSubSeq, String originalFileName) {
-        LocalDate now = LocalDate.now();
-        String datePath = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-        
-        // 파일 확장자 추출
-        String extension = "";
-        int lastDotIndex = originalFileName.lastIndexOf('.');
-        if (lastDotIndex > 0) {
-            extension = originalFileName.substring(lastDotIndex);
+    public StagedContent stageMultipartFile(HttpServletRequest request, String fieldName) {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "multipart 요청이 아닙니다.");
+        }
+        // 본문 길이가 알려져 있으면 읽기 전에 거절 (multipart 경계/헤더 여유분 포함)
+        if (request.getContentLengthLong() > maxUploadSize + MULTIPART_OVERHEAD_BYTES) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일 크기는 10MB를 초과할 수 없습니다.");
+        }
+
+        try {
+            FileItemInputIterator iterator = newMultipartParser().getItemIterator(request);
+            while (iterator.hasNext()) {
+                FileItemInput item = iterator.next();
+                if (item.isFormField() || !fieldName.equals(item.getFieldName())) {
+                    continue;
+                }
+                try (InputStream in = item.getInputStream()) {
+                    return stageContent(in, item.getName());
+                }
+            }
+        } catch (FileUploadSizeException e) {
+            log.warn("multipart 요청 제한 초과: {}", e.getMessage());
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일 크기는 10MB를 초과할 수 없습니다.");
+        } catch (IOException e) {
+            log.warn("multipart 스트림 읽기 실패: {}", e.getMessage());
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "업로드 요청을 읽을 수 없습니다.");
+        }
+        throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일이 없습니다.");
+    }
+
+    /**
+     * 스트리밍 업로드 파서 생성
+     * 본문 길이를 모르는(chunked) 요청도 읽는 도중 제한되도록 전체/파일 크기, 파트 수, 파트 헤더 크기를 명시한다.
+     *
+     * @return multipart 파서
+     */
+    private JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> newMultipartParser() {
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setSizeMax(maxUploadSize + MULTIPART_OVERHEAD_BYTES);
+        upload.setFileSizeMax(maxUploadSize);
+        upload.setFileCountMax(MULTIPART_MAX_PARTS);
+        upload.setPartHeaderSizeMax(MULTIPART_MAX_PART_HEADER_BYTES);
+        return upload;
+    }
+
+    /**
+     * 업로드 스트림을 임시 파일에 기록 (내용 주소 저장 전 단계)
+     * FileChannel로 한 번만 기록하면서 SHA-256을 계산하고, 크기 제한과 파일 시그니처(매직 바이트)를 읽는 도중에 검사한다.
+     * 임시 파일은 저장 디렉토리와 같은 파일시스템에 있으므로 저장 시 다시 복사하지 않고 이름만 바꾼다.
+     *
+     * @param in 업로드 스트림 (닫지 않음)
+     * @param fileName 원본 파일명
+     * @return 임시 기록된 업로드 내용 (호출 측에서 close)
+     * @throws ApiException 확장자, 시그니처 또는 크기가 허용되지 않는 경우
+     * @throws IOException 임시 파일 기록 실패 시
+     */
+    public StagedContent stageContent(InputStream in, String fileName) throws IOException {
+        UploadFileType fileType = UploadFileType.fromFileName(fileName);
+        if (fileType == null) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "PNG, JPG, PDF 파일만 업로드 가능합니다.");
+        }
+
+        Path tempDir = getContentStorePath().resolve("tmp");
+        Files.createDirectories(tempDir);
+        Path tempFile = Files.createTempFile(tempDir, "upload-", ".tmp");
+        boolean staged = false;
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            MessageDigest digest = newSha256();
+            byte[] buffer = new byte[UPLOAD_BUFFER_SIZE];
+            byte[] head = new byte[UploadFileType.MAX_SIGNATURE_LENGTH];
+            int headLength = 0;
+            boolean signatureChecked = false;
+            long size = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > maxUploadSize) {
+                    throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일 크기는 10MB를 초과할 수 없습니다.");
+                }
+                if (!signatureChecked) {
+                    int copy = Math.min(read, head.length - headLength);
+                    System.arraycopy(buffer, 0, head, headLength, copy);
+                    headLength += copy;
+                    if (headLength == head.length) {
+                        checkSignature(fileType, head, headLength);
+                        signatureChecked = true;
+                    }
+                }
+                digest.update(buffer, 0, read);
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+            if (size == 0) {
+                throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일이 없습니다.");
+            }
+            if (!signatureChecked) {
+                checkSignature(fileType, head, headLength);
+            }
+
+            StagedContent content = new StagedContent(tempFile, HexFormat.of().formatHex(digest.digest()),
+                    size, fileName, fileType);
+            staged = true;
+            return content;
+        } finally {
+            if (!staged) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * 이미지 첨부파일이면 업로드 이벤트 발행 (커밋 후 이미지 정규화)
+     */
+    private void publishUploadedEvent(Attachment attachment, StagedContent staged) {
+        if (staged.getFileType().isImage()) {
+            eventPublisher.publishEvent(new AttachmentUploadedEvent(attachment.getSeq(), attachment.getContentHash()));
         }
-        
-        // 파일명: 사용자id_문서seq_항목seq.{ext}
-        String fileName = userId + "_" + applicationSeq + "_" + expenseSubSeq + extension;
-        
-        // 전체 경로: /upload/yyyy/mm/dd/{applicationType}/사용자id_문서seq_항목seq.{ext}
-        String fullPath = getUploadBasePath() + "/" + datePath + "/" + applicationType.toLowerCase() + "/" + fileName;
-        
-        return Paths.get(fullPath);
+    }
+
+    private void validateMultipartFile(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일이 없습니다.");
+        }
+        // 이미 받은 파일은 읽기 전에 크기로 거절
+        if (file.getSize() > maxUploadSize) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "파일 크기는 10MB를 초과할 수 없습니다.");
+        }
+    }
+
+    private void checkSignature(UploadFileType fileType, byte[] head, int headLength) {
+        if (!fileType.matches(head, headLength)) {
+            log.warn("파일 내용이 확장자와 다름: expected={}", fileType);
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "PNG, JPG, PDF 파일만 업로드 가능합니다.");
+        }
+    }
+
+    /**
+     * 정규화된 이미지로 첨부파일 내용 교체
+     * 업로드 이후 첨부파일이 삭제되었거나 다른 파일로 교체되었으면 아무것도 하지 않는다.
+     * 원본을 보관하지 않으면 원본 저장 파일의 참조를 해제한다 (다른 첨부파일이 참조하지 않으면 커밋 후 삭제).
+     *
+     * @param attachmentSeq 첨부파일 시퀀스
+     * @param expectedContentHash 정규화한 원본의 내용 해시
+     * @param normalized 임시 기록된 정규화 결과 (null이면 내용은 그대로 두고 처리 완료만 기록)
+     * @param keepOriginal 원본 보관 여부
+     * @return 교체 여부
+     * @throws IOException 파일 이동 실패 시
+     */
+    @Transactional
+    public boolean applyNormalizedImage(Long attachmentSeq, String expectedContentHash, StagedContent normalized,
+                                        boolean keepOriginal) throws IOException {
+        Attachment attachment = attachmentRepository.findById(attachmentSeq).orElse(null);
+        if (attachment == null || !expectedContentHash.equals(attachment.getContentHash())) {
+            log.info("정규화 전에 첨부파일이 삭제/교체됨: seq={}", attachmentSeq);
+            return false;
+        }
+
+        attachment.setProcessedAt(LocalDateTime.now());
+        if (normalized == null || expectedContentHash.equals(normalized.getContentHash())) {
+            return false;
+        }
+
+        StoredFile storedFile = storeContent(normalized);
+        if (keepOriginal) {
+            attachment.setOriginalContentHash(expectedContentHash);
+        } else {
+            releaseContent(expectedContentHash);
+        }
+        attachment.setOriginalFileSize(attachment.getFileSize());
+        attachment.setContentHash(storedFile.getContentHash());
+        attachment.setFilePath(storedFile.getFilePath());
+        attachment.setFileSize(storedFile.getFileSize());
+        log.info("이미지 정규화 적용: seq={}, {} -> {} bytes, keepOriginal={}",
+                attachmentSeq, attachment.getOriginalFileSize(), attachment.getFileSize(), keepOriginal);
+        return true;
+    }
+
+    /**
+     * 첨부파일 단건 조회
+     *
+     * @param seq 첨부파일 시퀀스
+     * @return 첨부파일 (없으면 null)
+     */
+    public Attachment getAttachmentBySeq(Long seq) {
+        return attachmentRepository.findById(seq).orElse(null);
     }
 
     /**
@@ -289,6 +507,20 @@ public class FileService {
         return attachmentRepository.findByExpenseSubSeqOrderByFileOrderAsc(expenseSubSeq);
     }
 
+    /**
+     * 개인비용 항목별 첨부파일 일괄 조회 (항목 수와 관계없이 단일 쿼리)
+     *
+     * @param expenseSubSeqs 개인비용 항목 시퀀스 목록
+     * @return 항목 시퀀스별 첨부파일 목록 (첨부파일이 없는 항목은 포함되지 않음)
+     */
+    public Map<Long, List<Attachment>> getExpenseItemAttachmentMap(Collection<Long> expenseSubSeqs) {
+        if (expenseSubSeqs == null || expenseSubSeqs.isEmpty()) {
+            return Map.of();
+        }
+        return attachmentRepository.findByExpenseSubSeqInOrderByFileOrderAsc(expenseSubSeqs).stream()
+                .collect(Collectors.groupingBy(Attachment::getExpenseSubSeq, LinkedHashMap::new, Collectors.toList()));
+    }
+
     /**
      * 첨부파일 조회 (단일 파일용)
      *
@@ -332,17 +564,9 @@ public class FileService {
     @Transactional
     public void deleteAttachments(String applicationType, Long applicationSeq) {
         List<Attachment> attachments = attachmentRepository.findByApplicationTypeAndApplicationSeqOrderByFileOrderAsc(applicationType, applicationSeq);
-        
-        for (Attachment attachment : attachments) {
-            try {
-                // 파일 삭제
-                Path filePath = Paths.get(attachment.getFilePath());
-                Files.deleteIfExists(filePath);
-                log.info("파일 삭제 완료: filePath={}", attachment.getFilePath());
-            } catch (IOException e) {
-                log.warn("파일 삭제 실패: filePath={}", attachment.getFilePath(), e);
-            }
-        }
+
+        // 참조 해제 (다른 첨부파일이 같은 내용을 참조하지 않을 때만 파일 삭제)
+        releaseContents(attachments);
         
         // DB에서 삭제
         attachmentRepository.deleteByApplicationTypeAndApplicationSeq(applicationType, applicationSeq);
@@ -357,20 +581,203 @@ public class FileService {
     @Transactional
     public void deleteExpenseItemAttachments(Long expenseSubSeq) {
         List<Attachment> attachments = attachmentRepository.findByExpenseSubSeqOrderByFileOrderAsc(expenseSubSeq);
-        
-        for (Attachment attachment : attachments) {
-            try {
-                // 파일 삭제
-                Path filePath = Paths.get(attachment.getFilePath());
-                Files.deleteIfExists(filePath);
-                log.info("개인비용 항목 파일 삭제 완료: filePath={}", attachment.getFilePath());
-            } catch (IOException e) {
-                log.warn("개인비용 항목 파일 삭제 실패: filePath={}", attachment.getFilePath(), e);
-            }
-        }
+
+        // 참조 해제 (다른 첨부파일이 같은 내용을 참조하지 않을 때만 파일 삭제)
+        releaseContents(attachments);
         
         // DB에서 삭제
         attachmentRepository.deleteByExpenseSubSeq(expenseSubSeq);
         log.info("개인비용 항목 첨부파일 삭제 완료: expenseSubSeq={}", expenseSubSeq);
     }
+
+    /**
+     * 개인비용 항목 목록의 첨부파일 일괄 삭제 (항목 삭제 전에 호출)
+     *
+     * @param expenseSubSeqs 개인비용 항목 시퀀스 목록
+     */
+    @Transactional
+    public void deleteExpenseItemAttachments(Collection<Long> expenseSubSeqs) {
+        if (expenseSubSeqs == null || expenseSubSeqs.isEmpty()) {
+            return;
+        }
+        List<Attachment> attachments = attachmentRepository.findByExpenseSubSeqInOrderByFileOrderAsc(expenseSubSeqs);
+        if (attachments.isEmpty()) {
+            return;
+        }
+
+        // 참조 해제 (다른 첨부파일이 같은 내용을 참조하지 않을 때만 파일 삭제)
+        releaseContents(attachments);
+
+        // DB에서 삭제
+        attachmentRepository.deleteAllInBatch(attachments);
+        log.info("개인비용 항목 첨부파일 일괄 삭제 완료: expenseSubSeqs={}, count={}", expenseSubSeqs, attachments.size());
+    }
+
+    /**
+     * 임시 기록된 업로드 내용 저장 (내용 주소 기반)
+     * 같은 해시의 저장 파일이 있으면 임시 파일을 버리고 참조 수만 늘리고, 없으면 임시 파일 이름을 바꿔 저장한다.
+     * 저장 파일 행은 트랜잭션 종료까지 잠기므로 같은 내용의 삭제와 동시에 진행되지 않는다.
+     *
+     * @param staged 임시 기록된 업로드 내용
+     * @return 참조 수가 반영된 저장 파일
+     * @throws IOException 파일 이동 실패 시
+     */
+    private StoredFile storeContent(StagedContent staged) throws IOException {
+        String contentHash = staged.getContentHash();
+
+        StoredFile storedFile = storedFileRepository.findByContentHashForUpdate(contentHash).orElse(null);
+        if (storedFile != null && Files.exists(Paths.get(storedFile.getFilePath()))) {
+            storedFile.setRefCount(storedFile.getRefCount() + 1);
+            deduplicatedCounter.increment();
+            log.info("중복 내용 업로드, 디스크 기록 생략: contentHash={}, refCount={}",
+                    contentHash, storedFile.getRefCount());
+            return storedFile;
+        }
+
+        Path contentPath = generateContentPath(contentHash);
+        Files.createDirectories(contentPath.getParent());
+        Files.move(staged.getTempFile(), contentPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        writtenCounter.increment();
+
+        if (storedFile != null) {
+            // 행은 있으나 파일이 없어진 경우 다시 기록한 파일로 복구
+            log.warn("저장 파일 누락, 다시 기록: contentHash={}", contentHash);
+            storedFile.setFilePath(contentPath.toString());
+            storedFile.setRefCount(storedFile.getRefCount() + 1);
+            return storedFile;
+        }
+
+        try {
+            return storedFileRepository.saveAndFlush(StoredFile.builder()
+                    .contentHash(contentHash)
+                    .filePath(contentPath.toString())
+                    .fileSize(staged.getSize())
+                    .refCount(1)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 새 내용이 동시에 업로드된 경우 (파일은 같은 내용이므로 그대로 둠)
+            log.warn("같은 내용이 동시에 업로드됨: contentHash={}", contentHash);
+            throw new ApiException(ApiErrorCode.UNKNOWN_ERROR, "파일 업로드가 충돌했습니다. 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 첨부파일의 저장 파일 참조 해제
+     * 정규화 후 원본을 보관한 첨부파일은 원본 참조도 함께 해제한다.
+     * 내용 주소 저장 이전 첨부파일(해시 없음)은 경로의 파일을 바로 삭제한다.
+     *
+     * @param attachments 삭제할 첨부파일 목록
+     */
+    private void releaseContents(List<Attachment> attachments) {
+        for (Attachment attachment : attachments) {
+            if (attachment.getContentHash() == null) {
+                deleteFileQuietly(Paths.get(attachment.getFilePath()));
+                continue;
+            }
+            releaseContent(attachment.getContentHash());
+            if (attachment.getOriginalContentHash() != null) {
+                releaseContent(attachment.getOriginalContentHash());
+            }
+        }
+    }
+
+    /**
+     * 저장 파일 참조 하나 해제
+     * 마지막 참조이면 저장 파일 행을 삭제하고, 파일은 트랜잭션 결과에 따라 삭제하거나 되돌린다.
+     *
+     * @param contentHash 내용 해시
+     */
+    private void releaseContent(String contentHash) {
+        StoredFile storedFile = storedFileRepository.findByContentHashForUpdate(contentHash).orElse(null);
+        if (storedFile == null) {
+            return;
+        }
+
+        int refCount = storedFile.getRefCount() - 1;
+        if (refCount > 0) {
+            storedFile.setRefCount(refCount);
+            log.info("저장 파일 참조 해제: contentHash={}, refCount={}", contentHash, refCount);
+            return;
+        }
+
+        storedFileRepository.delete(storedFile);
+        deleteFileAfterCommit(Paths.get(storedFile.getFilePath()));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 파일 삭제
+     * 잠금을 가진 상태에서 파일을 임시 이름으로 옮겨 두므로, 커밋 직후 같은 내용이 다시 업로드되어도
+     * 새로 기록된 파일을 지우지 않는다. 롤백되면 원래 이름으로 되돌린다.
+     *
+     * @param filePath 삭제할 파일 경로
+     */
+    private void deleteFileAfterCommit(Path filePath) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteFileQuietly(filePath);
+            return;
+        }
+
+        Path trashPath = filePath.resolveSibling(filePath.getFileName() + "." + UUID.randomUUID() + ".deleted");
+        try {
+            Files.move(filePath, trashPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("저장 파일 이동 실패: filePath={}", filePath, e);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    deleteFileQuietly(trashPath);
+                    return;
+                }
+                try {
+                    if (!Files.exists(filePath)) {
+                        Files.move(trashPath, filePath, StandardCopyOption.ATOMIC_MOVE);
+                    } else {
+                        Files.deleteIfExists(trashPath);
+                    }
+                } catch (IOException e) {
+                    log.warn("저장 파일 복구 실패: filePath={}", filePath, e);
+                }
+            }
+        });
+    }
+
+    private void deleteFileQuietly(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+            log.info("파일 삭제 완료: filePath={}", filePath);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: filePath={}", filePath, e);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 임시 기록된 업로드 내용 (임시 파일, 내용 해시, 크기, 원본 파일명, 판별된 형식)
+     * 저장되면 임시 파일은 저장 파일로 이동되고, 저장되지 않은 채 닫히면 임시 파일을 삭제한다.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class StagedContent implements Closeable {
+        private final Path tempFile;
+        private final String contentHash;
+        private final long size;
+        private final String fileName;
+        private final UploadFileType fileType;
+
+        @Override
+        public void close() throws IOException {
+            Files.deleteIfExists(tempFile);
+        }
+    }
 }
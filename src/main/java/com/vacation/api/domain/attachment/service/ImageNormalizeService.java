@@ -0,0 +1,188 @@
+package com.vacation.api.domain.attachment.service;
+
+import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.domain.attachment.event.AttachmentUploadedEvent;
+import com.vacation.api.enums.UploadFileType;
+import com.vacation.api.util.ImageNormalizeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 첨부파일 정규화 Service
+ * 업로드 커밋 후 백그라운드에서 EXIF 제거, 최대 해상도 축소, 재인코딩을 수행하고 첨부파일 내용을 처리된 파일로 교체한다.
+ * 휴대폰 사진 영수증(수 MB)이 저장 공간, 첨부파일 ZIP, 다운로드에서 차지하는 크기를 줄인다.
+ * 정규화는 최적화이므로 대기열 초과나 처리 실패 시 원본을 그대로 사용한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageNormalizeService {
+
+    private final FileService fileService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.image-normalize.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file.image-normalize.max-dimension:2048}")
+    private int maxDimension;
+
+    @Value("${file.image-normalize.max-pixels:50000000}")
+    private long maxPixels;
+
+    @Value("${file.image-normalize.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${file.image-normalize.keep-original:false}")
+    private boolean keepOriginal;
+
+    @Value("${file.image-normalize.pool-size:1}")
+    private int poolSize;
+
+    @Value("${file.image-normalize.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor normalizeExecutor;
+    private Counter processedCounter;
+    private Counter skippedCounter;
+    private Counter failureCounter;
+    private Counter rejectedCounter;
+    private Counter droppedCounter;
+    private DistributionSummary savedBytesSummary;
+
+    /**
+     * 정규화 스레드 풀 생성 및 메트릭 초기화
+     * 사진 디코딩은 이미지당 수십 MB의 힙을 쓰므로 스레드 수를 작게 유지한다.
+     */
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        int threads = Math.max(1, poolSize);
+        normalizeExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "image-normalize-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("attachment.image_normalize.queue.size", normalizeExecutor, executor -> executor.getQueue().size())
+                .description("Uploaded images waiting to be normalized")
+                .register(meterRegistry);
+        processedCounter = createCounter("processed");
+        skippedCounter = createCounter("skipped");
+        failureCounter = createCounter("failure");
+        rejectedCounter = createCounter("rejected");
+        droppedCounter = createCounter("dropped");
+        savedBytesSummary = DistributionSummary.builder("attachment.image_normalize.saved")
+                .description("Bytes saved per normalized image")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private Counter createCounter(String result) {
+        return Counter.builder("attachment.image_normalize.total")
+                .description("Uploaded image normalization attempts")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 정규화 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (normalizeExecutor != null) {
+            normalizeExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 이미지 업로드 커밋 후 정규화 등록 (업로드 응답을 지연시키지 않음)
+     *
+     * @param event 이미지 첨부파일 업로드 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAttachmentUploaded(AttachmentUploadedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            normalizeExecutor.execute(() -> normalize(event));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            log.warn("이미지 정규화 대기열 초과로 생략: attachmentSeq={}, queueSize={}",
+                    event.getAttachmentSeq(), normalizeExecutor.getQueue().size());
+        }
+    }
+
+    /**
+     * 이미지 정규화 (작업 스레드)
+     * 결과가 원본보다 크고 EXIF 제거나 픽셀 변경도 필요 없으면 원본을 유지하고 처리 완료만 기록한다.
+     */
+    private void normalize(AttachmentUploadedEvent event) {
+        Attachment attachment = fileService.getAttachmentBySeq(event.getAttachmentSeq());
+        if (attachment == null || attachment.getProcessedAt() != null
+                || !event.getContentHash().equals(attachment.getContentHash())) {
+            return;
+        }
+        UploadFileType fileType = UploadFileType.fromFileName(attachment.getFileName());
+        if (fileType == null || !fileType.isImage()) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        try {
+            ImageNormalizeUtil.NormalizedImage normalized = ImageNormalizeUtil.normalize(
+                    Paths.get(attachment.getFilePath()), fileType == UploadFileType.JPEG, maxDimension, maxPixels,
+                    jpegQuality);
+            long originalSize = attachment.getFileSize();
+            long normalizedSize = normalized.getBytes().length;
+
+            if (normalizedSize >= originalSize && !normalized.isExifStripped() && !normalized.isPixelsChanged()) {
+                fileService.applyNormalizedImage(attachment.getSeq(), event.getContentHash(), null, keepOriginal);
+                skippedCounter.increment();
+                log.info("이미지 정규화 생략 (이득 없음): attachmentSeq={}, {} bytes", attachment.getSeq(), originalSize);
+                return;
+            }
+
+            try (FileService.StagedContent staged = fileService.stageContent(
+                    new ByteArrayInputStream(normalized.getBytes()), attachment.getFileName())) {
+                if (fileService.applyNormalizedImage(attachment.getSeq(), event.getContentHash(), staged, keepOriginal)) {
+                    processedCounter.increment();
+                    savedBytesSummary.record(Math.max(0, originalSize - normalizedSize));
+                    log.info("이미지 정규화 완료: attachmentSeq={}, {} -> {} bytes, 소요 시간: {}ms",
+                            attachment.getSeq(), originalSize, normalizedSize, System.currentTimeMillis() - startTime);
+                }
+            }
+        } catch (ImageNormalizeUtil.ImageTooLargeException e) {
+            rejectedCounter.increment();
+            log.warn("이미지 정규화 거부 (원본 유지): attachmentSeq={}, {}", attachment.getSeq(), e.getMessage());
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.warn("이미지 정규화 실패 (원본 유지): attachmentSeq={}, {}", attachment.getSeq(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.vacation.api.domain.document.controller;
+
+import com.vacation.api.common.TransactionIDCreator;
+import com.vacation.api.common.controller.BaseController;
+import com.vacation.api.domain.document.service.DocumentArchiveService;
+import com.vacation.api.domain.user.entity.User;
+import com.vacation.api.domain.user.service.UserService;
+import com.vacation.api.enums.AuthVal;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 월별 결재 문서 묶음 다운로드 Controller
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@RestController
+@RequestMapping("/document")
+public class DocumentArchiveController extends BaseController {
+
+    private final DocumentArchiveService documentArchiveService;
+    private final UserService userService;
+
+    public DocumentArchiveController(DocumentArchiveService documentArchiveService, UserService userService,
+                                     TransactionIDCreator transactionIDCreator) {
+        super(transactionIDCreator);
+        this.documentArchiveService = documentArchiveService;
+        this.userService = userService;
+    }
+
+    /**
+     * 본부/월별 최종 승인 문서 묶음 다운로드 (관리자, 본부장 전용)
+     * 관리자는 모든 본부, 본부장은 소속 본부만 조회할 수 있으며 본부장은 division을 생략하면 소속 본부로 조회한다.
+     * 문서와 첨부파일을 하나의 ZIP으로 응답 스트림에 바로 기록한다.
+     *
+     * @param request HTTP 요청
+     * @param yearMonth 대상 년월 (YYYYMM 형식)
+     * @param division 본부 (관리자 필수)
+     * @return ZIP 스트림 (대상 문서가 없으면 204)
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<StreamingResponseBody> downloadDocumentArchive(
+            HttpServletRequest request,
+            @RequestParam Integer yearMonth,
+            @RequestParam(required = false) String division) {
+        log.info("문서 묶음 다운로드 요청: yearMonth={}, division={}", yearMonth, division);
+
+        try {
+            Long userId = (Long) request.getAttribute("userId");
+            User requester = userService.getUserInfo(userId);
+            String authVal = requester.getAuthVal();
+
+            String targetDivision;
+            if (AuthVal.MASTER.getCode().equals(authVal)) {
+                targetDivision = division;
+            } else if (AuthVal.DIVISION_HEAD.getCode().equals(authVal)
+                    && (division == null || division.equals(requester.getDivision()))) {
+                targetDivision = requester.getDivision();
+            } else {
+                log.warn("문서 묶음 다운로드 권한 없음: userId={}, authVal={}, division={}", userId, authVal, division);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+
+            int month = yearMonth % 100;
+            if (yearMonth < 100001 || month < 1 || month > 12 || targetDivision == null || targetDivision.isBlank()) {
+                log.warn("잘못된 문서 묶음 요청: yearMonth={}, division={}", yearMonth, targetDivision);
+                return ResponseEntity.badRequest().build();
+            }
+
+            List<DocumentArchiveService.ArchiveItem> items =
+                    documentArchiveService.findArchiveItems(targetDivision, yearMonth);
+            if (items.isEmpty()) {
+                log.info("문서 묶음 대상 없음: yearMonth={}, division={}", yearMonth, targetDivision);
+                return ResponseEntity.noContent().build();
+            }
+
+            String fileName = "결재문서_" + targetDivision + "_" + yearMonth + ".zip";
+            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                    .replace("+", "%20");
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType("application/zip"));
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
+
+            StreamingResponseBody body = outputStream ->
+                    documentArchiveService.writeArchive(items, userId, outputStream);
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(body);
+        } catch (Exception e) {
+            log.error("문서 묶음 다운로드 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
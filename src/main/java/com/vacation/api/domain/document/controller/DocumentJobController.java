@@ -0,0 +1,148 @@
+package com.vacation.api.domain.document.controller;
+
+import com.vacation.api.common.TransactionIDCreator;
+import com.vacation.api.common.controller.BaseController;
+import com.vacation.api.domain.document.request.DocumentJobRequest;
+import com.vacation.api.domain.document.response.DocumentJobResponse;
+import com.vacation.api.domain.document.service.DocumentJobService;
+import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.enums.DocumentJobStatus;
+import com.vacation.api.exception.ApiErrorCode;
+import com.vacation.api.exception.ApiException;
+import com.vacation.api.response.data.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 신청 문서 비동기 생성 작업 Controller
+ * 문서 생성 요청 시 작업 ID를 즉시 반환하고, 작업 조회 시 완료된 문서를 내려준다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@RestController
+@RequestMapping("/document/download-jobs")
+public class DocumentJobController extends BaseController {
+
+    private final DocumentJobService documentJobService;
+
+    public DocumentJobController(DocumentJobService documentJobService,
+                                 TransactionIDCreator transactionIDCreator) {
+        super(transactionIDCreator);
+        this.documentJobService = documentJobService;
+    }
+
+    /**
+     * 문서 생성 작업 등록
+     *
+     * @param request HTTP 요청
+     * @param documentJobRequest 작업 요청 (신청 타입, 시퀀스)
+     * @return 등록된 작업 (202 Accepted)
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<Object>> createDocumentJob(
+            HttpServletRequest request,
+            @Valid @RequestBody DocumentJobRequest documentJobRequest) {
+        log.info("문서 생성 작업 등록 요청: applicationType={}, seq={}",
+                documentJobRequest.getApplicationType(), documentJobRequest.getSeq());
+
+        try {
+            Long userId = (Long) request.getAttribute("userId");
+            ApplicationType applicationType = toApplicationType(documentJobRequest.getApplicationType());
+
+            DocumentJobService.DocumentJob job =
+                    documentJobService.submit(applicationType, documentJobRequest.getSeq(), userId);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(new ApiResponse<>(getOrCreateTransactionId(), "0", toResponse(job), null));
+        } catch (ApiException e) {
+            return errorResponse("문서 생성 작업 등록에 실패했습니다.", e);
+        } catch (Exception e) {
+            return errorResponse("문서 생성 작업 등록에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 문서 생성 작업 조회
+     * 완료된 작업은 문서 파일을 내려주고, 진행 중인 작업은 202와 작업 상태를 반환한다.
+     *
+     * @param request HTTP 요청
+     * @param jobId 작업 ID
+     * @return 문서 파일 또는 작업 상태
+     */
+    @GetMapping("/{jobId}")
+    @SuppressWarnings("unchecked")
+    public ResponseEntity<Object> getDocumentJob(
+            HttpServletRequest request,
+            @PathVariable String jobId) {
+        log.info("문서 생성 작업 조회 요청: jobId={}", jobId);
+
+        try {
+            Long userId = (Long) request.getAttribute("userId");
+            DocumentJobService.DocumentJob job = documentJobService.getJob(jobId, userId);
+
+            if (job.getStatus() != DocumentJobStatus.DONE) {
+                HttpStatus status = job.getStatus().isFinished() ? HttpStatus.OK : HttpStatus.ACCEPTED;
+                return ResponseEntity.status(status)
+                        .body(new ApiResponse<>(getOrCreateTransactionId(), "0", toResponse(job), null));
+            }
+
+            String encodedFileName = URLEncoder.encode(job.getFileName(), StandardCharsets.UTF_8)
+                    .replace("+", "%20");
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType(job.getContentType()));
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
+            headers.setContentLength(job.getSize());
+
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(new FileSystemResource(job.getPath()));
+        } catch (ApiException e) {
+            return (ResponseEntity<Object>) (ResponseEntity<?>) errorResponse("문서 생성 작업 조회에 실패했습니다.", e);
+        } catch (Exception e) {
+            return (ResponseEntity<Object>) (ResponseEntity<?>) errorResponse("문서 생성 작업 조회에 실패했습니다.", e);
+        }
+    }
+
+    private ApplicationType toApplicationType(String code) {
+        try {
+            return ApplicationType.fromCode(code);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "지원하지 않는 신청 타입입니다: " + code);
+        }
+    }
+
+    private DocumentJobResponse toResponse(DocumentJobService.DocumentJob job) {
+        return DocumentJobResponse.builder()
+                .jobId(job.getJobId())
+                .applicationType(job.getApplicationType().getCode())
+                .seq(job.getSeq())
+                .status(job.getStatus().name())
+                .statusDescription(job.getStatus().getDescription())
+                .fileName(job.getFileName())
+                .fileSize(job.getSize())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.vacation.api.domain.document.controller;
+
+import com.vacation.api.common.TransactionIDCreator;
+import com.vacation.api.common.controller.BaseController;
+import com.vacation.api.domain.document.service.DocumentDownloadService;
+import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.exception.ApiErrorCode;
+import com.vacation.api.exception.ApiException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 신청 문서 미리보기 Controller
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@RestController
+@RequestMapping("/document")
+public class DocumentPreviewController extends BaseController {
+
+    private final DocumentDownloadService documentDownloadService;
+
+    public DocumentPreviewController(DocumentDownloadService documentDownloadService,
+                                     TransactionIDCreator transactionIDCreator) {
+        super(transactionIDCreator);
+        this.documentDownloadService = documentDownloadService;
+    }
+
+    /**
+     * 신청 문서 첫 페이지 미리보기 (PNG 썸네일)
+     * 다운로드와 같은 권한으로 조회하며, 썸네일은 생성 문서 캐시에 보관되어 반복 조회 시 파일 전송만 한다.
+     *
+     * @param request HTTP 요청
+     * @param applicationType 신청 타입 코드 (VACATION, EXPENSE, RENTAL)
+     * @param seq 신청 시퀀스
+     * @return PNG 이미지 (변경이 없으면 304)
+     */
+    @GetMapping("/preview/{applicationType}/{seq}")
+    public ResponseEntity<StreamingResponseBody> previewDocument(
+            HttpServletRequest request,
+            @PathVariable String applicationType,
+            @PathVariable Long seq) {
+        log.info("문서 미리보기 요청: applicationType={}, seq={}", applicationType, seq);
+
+        ApplicationType type;
+        try {
+            type = ApplicationType.fromCode(applicationType);
+        } catch (IllegalArgumentException e) {
+            log.warn("지원하지 않는 신청 타입: {}", applicationType);
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Long requesterId = (Long) request.getAttribute("userId");
+
+            // 권한 확인 및 문서 준비 (렌더링 없이 미리보기 ETag 계산)
+            DocumentDownloadService.PreparedDocument document =
+                    documentDownloadService.prepare(type, seq, requesterId);
+            String eTag = documentDownloadService.getPreviewETag(document);
+            if (new ServletWebRequest(request).checkNotModified(eTag)) {
+                log.info("문서 미리보기 변경 없음: applicationType={}, seq={}", applicationType, seq);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+
+            // 미리보기 생성 (캐시에 없을 때만 PDF 렌더링 후 첫 페이지 썸네일 생성)
+            DocumentDownloadService.DocumentPayload payload = documentDownloadService.renderPreview(document);
+            log.info("문서 미리보기 전송: applicationType={}, seq={}, 크기: {} bytes",
+                    applicationType, seq, payload.getSize());
+
+            return ResponseEntity.ok()
+                    .headers(payload.toHeaders())
+                    .body(payload.getBody());
+        } catch (ApiException e) {
+            log.warn("문서 미리보기 불가: applicationType={}, seq={}, {}", applicationType, seq, e.getMessage());
+            if (e.getApiErrorCode() == ApiErrorCode.ACCESS_DENIED) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            if (e.getApiErrorCode() == ApiErrorCode.DOCUMENT_NOT_FOUND) {
+                return ResponseEntity.notFound().build();
+            }
+            if (e.getApiErrorCode() == ApiErrorCode.RENDER_CAPACITY_EXCEEDED) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("문서 미리보기 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.vacation.api.domain.document.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문서 생성 작업 요청 DTO
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentJobRequest {
+
+    /**
+     * 신청 타입 (VACATION, EXPENSE, RENTAL, RENTAL_PROPOSAL)
+     */
+    @NotBlank(message = "신청 타입은 필수입니다")
+    private String applicationType;
+
+    /**
+     * 신청 시퀀스
+     */
+    @NotNull(message = "신청 시퀀스는 필수입니다")
+    private Long seq;
+}
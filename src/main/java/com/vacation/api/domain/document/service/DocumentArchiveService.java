@@ -0,0 +1,265 @@
+package com.vacation.api.domain.document.service;
+
+import com.vacation.api.domain.expense.repository.ExpenseClaimRepository;
+import com.vacation.api.domain.rental.repository.RentalSupportRepository;
+import com.vacation.api.domain.vacation.repository.VacationHistoryRepository;
+import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.enums.ApprovalStatus;
+import com.vacation.api.util.GeneratedDocumentCache;
+import com.vacation.api.util.RenderBulkhead;
+import com.vacation.api.util.ZipFileUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 월별 결재 문서 묶음(ZIP) Service
+ * 본부/월 기준 최종 승인된 신청 문서를 첨부파일과 함께 하나의 ZIP으로 응답 스트림에 바로 기록한다.
+ * 문서 렌더링은 제한된 스레드 풀에서 백그라운드 렌더링으로 병렬 수행하고, ZIP에는 조회 순서대로 기록한다.
+ * 렌더링 스레드 수는 벌크헤드의 백그라운드 허용 수를 넘지 않으므로 사용자 다운로드 몫의 허가는 남는다.
+ * 미리 렌더링하는 문서 수를 제한하므로 문서가 수백 건이어도 열린 캐시 파일과 메모리 사용량은 일정하다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentArchiveService {
+
+    /**
+     * 묶음 대상 승인 상태 (최종 승인)
+     */
+    private static final List<String> ARCHIVE_APPROVAL_STATUSES = List.of(ApprovalStatus.DONE.getName());
+
+    /**
+     * 렌더링 실패 문서 목록 엔트리명
+     */
+    private static final String FAILURE_ENTRY_NAME = "누락_문서_목록.txt";
+
+    private final VacationHistoryRepository vacationHistoryRepository;
+    private final ExpenseClaimRepository expenseClaimRepository;
+    private final RentalSupportRepository rentalSupportRepository;
+    private final DocumentDownloadService documentDownloadService;
+    private final ZipFileUtil zipFileUtil;
+    private final RenderBulkhead renderBulkhead;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.document-archive.render-threads:4}")
+    private int renderThreads;
+
+    @Value("${file.document-archive.prefetch:8}")
+    private int prefetch;
+
+    private ExecutorService renderExecutor;
+    private Timer archiveTimer;
+    private Counter documentCounter;
+    private Counter failureCounter;
+
+    /**
+     * 문서 렌더링 스레드 풀 생성 및 메트릭 초기화
+     */
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 벌크헤드 백그라운드 허용 수보다 많은 스레드는 허가를 기다리기만 하므로 그 이하로 제한
+        int threads = Math.max(1, Math.min(renderThreads, renderBulkhead.getBackgroundLimit()));
+        renderExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "document-archive-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        archiveTimer = Timer.builder("document_archive.duration")
+                .description("Monthly document archive streaming time")
+                .register(meterRegistry);
+        documentCounter = Counter.builder("document_archive.documents.total")
+                .description("Documents written to monthly archives")
+                .tag("result", "success")
+                .register(meterRegistry);
+        failureCounter = Counter.builder("document_archive.documents.total")
+                .description("Documents written to monthly archives")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 문서 렌더링 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (renderExecutor != null) {
+            renderExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 묶음 대상 문서 목록 조회
+     * 휴가는 시작일, 개인비용/월세지원은 청구 년월 기준이며 신청 타입, 사용자, 시퀀스 순으로 정렬된다.
+     *
+     * @param division 본부
+     * @param yearMonth 대상 년월 (YYYYMM 형식)
+     * @return 묶음 대상 문서 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ArchiveItem> findArchiveItems(String division, int yearMonth) {
+        YearMonth month = YearMonth.of(yearMonth / 100, yearMonth % 100);
+        LocalDate fromDate = month.atDay(1);
+        LocalDate toDate = month.atEndOfMonth();
+
+        List<ArchiveItem> items = new ArrayList<>();
+        vacationHistoryRepository.findArchiveSeqs(division, fromDate, toDate, ARCHIVE_APPROVAL_STATUSES)
+                .forEach(seq -> items.add(new ArchiveItem(ApplicationType.VACATION, seq)));
+        expenseClaimRepository.findArchiveSeqs(division, yearMonth, ARCHIVE_APPROVAL_STATUSES)
+                .forEach(seq -> items.add(new ArchiveItem(ApplicationType.EXPENSE, seq)));
+        rentalSupportRepository.findArchiveSeqs(division, yearMonth, ARCHIVE_APPROVAL_STATUSES)
+                .forEach(seq -> items.add(new ArchiveItem(ApplicationType.RENTAL, seq)));
+        return items;
+    }
+
+    /**
+     * 문서 묶음 ZIP을 출력 스트림에 기록
+     * 각 문서는 "신청타입/시퀀스/" 디렉토리에 문서와 첨부파일을 담는다.
+     * 응답이 이미 시작된 뒤이므로 렌더링에 실패한 문서는 건너뛰고 누락 목록 파일에 기록한다.
+     * 출력 스트림은 닫지 않는다 (호출 측 소유).
+     *
+     * @param items 묶음 대상 문서 목록
+     * @param requesterId 요청자 ID (문서별 다운로드 권한 확인)
+     * @param outputStream 출력 스트림
+     * @throws IOException ZIP 기록 실패 시 (클라이언트 연결 끊김 포함)
+     */
+    public void writeArchive(List<ArchiveItem> items, Long requesterId, OutputStream outputStream)
+            throws IOException {
+        long startTime = System.nanoTime();
+        Iterator<ArchiveItem> pending = items.iterator();
+        Deque<CompletableFuture<RenderedDocument>> window = new ArrayDeque<>();
+        List<String> failures = new ArrayList<>();
+
+        try {
+            zipFileUtil.writeZip(outputStream, zos -> {
+                fillWindow(window, pending, requesterId);
+                while (!window.isEmpty()) {
+                    RenderedDocument rendered = window.poll().join();
+                    // 기록하는 동안 다음 문서 렌더링이 진행되도록 먼저 보충
+                    fillWindow(window, pending, requesterId);
+
+                    ArchiveItem item = rendered.getItem();
+                    if (rendered.getCached() == null) {
+                        failures.add(item.getApplicationType().getDescription() + " " + item.getSeq());
+                        failureCounter.increment();
+                        continue;
+                    }
+                    try (GeneratedDocumentCache.CachedDocument cached = rendered.getCached()) {
+                        documentDownloadService.addToZip(zos, item.getDirectory(), rendered.getDocument(), cached);
+                    }
+                    documentCounter.increment();
+                }
+
+                if (!failures.isEmpty()) {
+                    zipFileUtil.addTextEntry(zos, FAILURE_ENTRY_NAME, String.join("\n", failures) + "\n");
+                }
+            });
+        } finally {
+            // 중단된 경우(연결 끊김 등) 이미 시작된 렌더링은 끝나는 대로 캐시 파일을 닫는다
+            window.forEach(future -> future.thenAccept(RenderedDocument::closeQuietly));
+            archiveTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+
+        log.info("문서 묶음 전송 완료: requesterId={}, 문서: {}/{}건, elapsed={}ms", requesterId,
+                items.size() - failures.size(), items.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * 미리 렌더링하는 문서 수가 prefetch에 도달할 때까지 렌더링 작업 등록
+     */
+    private void fillWindow(Deque<CompletableFuture<RenderedDocument>> window, Iterator<ArchiveItem> pending,
+                            Long requesterId) {
+        int limit = Math.max(1, prefetch);
+        while (window.size() < limit && pending.hasNext()) {
+            ArchiveItem item = pending.next();
+            window.add(CompletableFuture.supplyAsync(
+                    () -> renderBulkhead.runAsBackground(() -> render(item, requesterId)), renderExecutor));
+        }
+    }
+
+    /**
+     * 문서 준비 및 캐시 렌더링 (렌더링 스레드, 실패 시 캐시 문서가 없는 결과 반환)
+     */
+    private RenderedDocument render(ArchiveItem item, Long requesterId) {
+        try {
+            DocumentDownloadService.PreparedDocument document =
+                    documentDownloadService.prepare(item.getApplicationType(), item.getSeq(), requesterId);
+            return new RenderedDocument(item, document, documentDownloadService.renderToCache(document));
+        } catch (Exception e) {
+            log.warn("문서 묶음 렌더링 실패: type={}, seq={}", item.getApplicationType(), item.getSeq(), e);
+            return new RenderedDocument(item, null, null);
+        }
+    }
+
+    /**
+     * 묶음 대상 문서 (신청 타입, 시퀀스)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class ArchiveItem {
+        private final ApplicationType applicationType;
+        private final Long seq;
+
+        /**
+         * ZIP 내 디렉토리 (신청타입/시퀀스/)
+         *
+         * @return 디렉토리 ('/'로 끝남)
+         */
+        public String getDirectory() {
+            return applicationType.getDescription() + "/" + seq + "/";
+        }
+    }
+
+    /**
+     * 렌더링 결과 (실패 시 document, cached가 null)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class RenderedDocument {
+        private final ArchiveItem item;
+        private final DocumentDownloadService.PreparedDocument document;
+        private final GeneratedDocumentCache.CachedDocument cached;
+
+        private void closeQuietly() {
+            if (cached == null) {
+                return;
+            }
+            try {
+                cached.close();
+            } catch (IOException e) {
+                log.debug("문서 묶음 캐시 파일 닫기 실패: type={}, seq={}",
+                        item.getApplicationType(), item.getSeq(), e);
+            }
+        }
+    }
+}
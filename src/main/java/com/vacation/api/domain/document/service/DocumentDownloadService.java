@@ -0,0 +1,714 @@
+package com.vacation.api.domain.document.service;
+
+import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.domain.attachment.service.FileService;
+import com.vacation.api.domain.expense.entity.ExpenseClaim;
+import com.vacation.api.domain.expense.entity.ExpenseSub;
+import com.vacation.api.domain.expense.service.ExpenseClaimService;
+import com.vacation.api.domain.rental.entity.RentalProposal;
+import com.vacation.api.domain.rental.entity.RentalSupport;
+import com.vacation.api.domain.rental.service.RentalService;
+import com.vacation.api.domain.sample.service.PdfGenerationService;
+import com.vacation.api.domain.user.entity.User;
+import com.vacation.api.domain.user.repository.UserRepository;
+import com.vacation.api.domain.user.service.UserService;
+import com.vacation.api.domain.vacation.entity.UserVacationInfo;
+import com.vacation.api.domain.vacation.entity.VacationHistory;
+import com.vacation.api.domain.vacation.service.VacationService;
+import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.enums.ApprovalStatus;
+import com.vacation.api.enums.AuthVal;
+import com.vacation.api.enums.DocumentFormat;
+import com.vacation.api.enums.DocumentTemplate;
+import com.vacation.api.exception.ApiErrorCode;
+import com.vacation.api.exception.ApiException;
+import com.vacation.api.util.CommonUtil;
+import com.vacation.api.util.FileGenerateUtil;
+import com.vacation.api.util.GeneratedDocumentCache;
+import com.vacation.api.util.PdfThumbnailUtil;
+import com.vacation.api.util.ZipFileUtil;
+import com.vacation.api.vo.ExpenseClaimVO;
+import com.vacation.api.vo.RentalSupportApplicationVO;
+import com.vacation.api.vo.RentalSupportProposalVO;
+import com.vacation.api.vo.VacationDocumentVO;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 신청 문서 다운로드 Service
+ * 신청 타입별 권한 확인, 문서 VO/서명 이미지 준비, 캐시 키 계산과
+ * 문서(또는 문서 + 첨부파일 ZIP) 생성을 담당한다.
+ * 동기 다운로드 API와 비동기 문서 생성 작업이 같은 경로를 사용한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentDownloadService {
+
+    private static final String DOCX_CONTENT_TYPE =
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    private static final String XLSX_CONTENT_TYPE =
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final String ZIP_CONTENT_TYPE = "application/zip";
+    private static final String PDF_CONTENT_TYPE = "application/pdf";
+    private static final String PNG_CONTENT_TYPE = "image/png";
+
+    /**
+     * PDF 문서 캐시 변형 이름 (원본 양식 문서와 서로 교체되지 않도록 분리)
+     */
+    private static final String PDF_VARIANT = "pdf";
+
+    /**
+     * 미리보기 캐시 변형 이름 / 렌더링 방식 버전 (썸네일 형식이 바뀌면 올림)
+     */
+    private static final String PREVIEW_VARIANT = "preview";
+    private static final String PREVIEW_VERSION = "2";
+
+    private final VacationService vacationService;
+    private final ExpenseClaimService expenseClaimService;
+    private final RentalService rentalService;
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final FileService fileService;
+    private final ZipFileUtil zipFileUtil;
+    private final FileGenerateUtil fileGenerateUtil;
+    private final GeneratedDocumentCache generatedDocumentCache;
+    private final PdfGenerationService pdfGenerationService;
+
+    @Value("${file.document-preview.width:480}")
+    private int previewWidth;
+
+    /**
+     * 다운로드 문서 준비 (렌더링 전 단계)
+     * 권한 확인 후 문서 입력값과 캐시 키, 파일명을 계산한다.
+     *
+     * @param applicationType 신청 타입
+     * @param seq 신청 시퀀스
+     * @param requesterId 요청자 ID
+     * @return 준비된 문서
+     * @throws ApiException 신청이 없거나(DOCUMENT_NOT_FOUND) 권한이 없는 경우(ACCESS_DENIED)
+     */
+    @Transactional(readOnly = true)
+    public PreparedDocument prepare(ApplicationType applicationType, Long seq, Long requesterId) {
+        return switch (applicationType) {
+            case VACATION -> prepareVacation(seq, requesterId);
+            case EXPENSE -> prepareExpenseClaim(seq, requesterId);
+            case RENTAL -> prepareRentalSupportApplication(seq, requesterId);
+            case RENTAL_PROPOSAL -> prepareRentalProposal(seq, requesterId);
+        };
+    }
+
+    /**
+     * 다운로드 문서 준비 (형식 지정)
+     * PDF는 HTML 템플릿 -> Flying Saucer 경로로 생성하며, 원본 양식 문서와 별도로 캐시된다.
+     *
+     * @param applicationType 신청 타입
+     * @param seq 신청 시퀀스
+     * @param requesterId 요청자 ID
+     * @param format 문서 형식
+     * @return 준비된 문서
+     * @throws ApiException 신청이 없거나(DOCUMENT_NOT_FOUND), 권한이 없거나(ACCESS_DENIED),
+     *                      PDF를 지원하지 않는 문서인 경우(DOCUMENT_FORMAT_NOT_SUPPORTED)
+     */
+    @Transactional(readOnly = true)
+    public PreparedDocument prepare(ApplicationType applicationType, Long seq, Long requesterId,
+                                    DocumentFormat format) {
+        PreparedDocument document = prepare(applicationType, seq, requesterId);
+        if (format != DocumentFormat.PDF) {
+            return document;
+        }
+        if (document.getPdfRenderer() == null) {
+            throw new ApiException(ApiErrorCode.DOCUMENT_FORMAT_NOT_SUPPORTED);
+        }
+        return document.toPdf(generatedDocumentCache);
+    }
+
+    /**
+     * 문서 생성 (캐시에 없을 때만 렌더링)
+     * 렌더링은 호출 시점에 끝나며, 반환된 본문은 캐시 파일(첨부파일이 있으면 ZIP)을 출력 스트림으로 전송만 한다.
+     *
+     * @param document 준비된 문서
+     * @return 다운로드 본문 (호출 측에서 반드시 한 번 기록)
+     * @throws IOException 문서 생성 실패 시
+     */
+    public DocumentPayload render(PreparedDocument document) throws IOException {
+        GeneratedDocumentCache.CachedDocument cached = renderToCache(document);
+
+        if (!document.isZip()) {
+            // 캐시 파일을 그대로 전송 (FileChannel.transferTo)
+            return new DocumentPayload(document.getFileName(), document.getContentType(), document.getETag(), false,
+                    cached.getSize(), cached.getLastModified(), outputStream -> {
+                try (cached) {
+                    cached.transferTo(outputStream);
+                }
+            });
+        }
+
+        // ZIP은 메모리에 만들지 않고 출력 스트림에 바로 기록 (크기를 미리 알 수 없음)
+        return new DocumentPayload(document.getFileName(), document.getContentType(), document.getETag(), false,
+                -1, cached.getLastModified(), outputStream -> {
+            try (cached) {
+                if (document.getExpenseAttachments() != null) {
+                    zipFileUtil.writeZipWithDocumentAndExpenseAttachments(outputStream, cached::transferTo,
+                            document.getDocumentFileName(), document.getExpenseAttachments());
+                } else {
+                    zipFileUtil.writeZipWithDocumentAndAttachments(outputStream, cached::transferTo,
+                            document.getDocumentFileName(), document.getAttachments());
+                }
+            }
+        });
+    }
+
+    /**
+     * 미리보기 ETag (문서 키 + 썸네일 너비 기준, 렌더링 전에 조건부 요청 확인용)
+     *
+     * @param document 준비된 문서
+     * @return 미리보기 ETag
+     */
+    public String getPreviewETag(PreparedDocument document) {
+        return GeneratedDocumentCache.toETag(getPreviewKey(document));
+    }
+
+    /**
+     * 문서 첫 페이지 미리보기 생성 (캐시에 없을 때만 렌더링)
+     * HTML -> PDF 경로로 문서를 렌더링한 뒤 첫 페이지만 PNG 썸네일로 만들어 생성 문서 캐시에 함께 보관한다.
+     *
+     * @param document 준비된 문서
+     * @return 미리보기 본문 (inline PNG)
+     * @throws ApiException 미리보기를 지원하지 않는 문서인 경우(DOCUMENT_PREVIEW_NOT_SUPPORTED)
+     * @throws IOException 미리보기 생성 실패 시
+     */
+    public DocumentPayload renderPreview(PreparedDocument document) throws IOException {
+        if (document.getPdfRenderer() == null) {
+            throw new ApiException(ApiErrorCode.DOCUMENT_PREVIEW_NOT_SUPPORTED);
+        }
+
+        String previewKey = getPreviewKey(document);
+        GeneratedDocumentCache.CachedDocument cached = generatedDocumentCache.getOrCreate(
+                document.getApplicationType(), document.getSeq(), PREVIEW_VARIANT, previewKey, outputStream -> {
+                    ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+                    document.getPdfRenderer().write(pdf);
+                    PdfThumbnailUtil.writeFirstPagePng(pdf.toByteArray(), previewWidth, outputStream);
+                });
+
+        String documentFileName = document.getDocumentFileName();
+        String fileName = documentFileName.substring(0, documentFileName.lastIndexOf('.')) + ".png";
+        return new DocumentPayload(fileName, PNG_CONTENT_TYPE, GeneratedDocumentCache.toETag(previewKey), true,
+                cached.getSize(), cached.getLastModified(), outputStream -> {
+            try (cached) {
+                cached.transferTo(outputStream);
+            }
+        });
+    }
+
+    private String getPreviewKey(PreparedDocument document) {
+        return generatedDocumentCache.keyBuilder(document.getTemplate())
+                .add(document.getDocumentKey())
+                .add(PREVIEW_VARIANT)
+                .add(PREVIEW_VERSION)
+                .add(previewWidth)
+                .build();
+    }
+
+    /**
+     * 문서 생성 후 캐시 파일 열기 (캐시에 없을 때만 렌더링)
+     *
+     * @param document 준비된 문서
+     * @return 캐시된 문서 (호출 측에서 close)
+     * @throws IOException 문서 생성 실패 시
+     */
+    public GeneratedDocumentCache.CachedDocument renderToCache(PreparedDocument document) throws IOException {
+        return generatedDocumentCache.getOrCreate(document.getApplicationType(), document.getSeq(),
+                document.getCacheVariant(), document.getDocumentKey(), document.getRenderer());
+    }
+
+    /**
+     * 열린 ZIP 스트림에 문서와 첨부파일 추가 (월별 문서 묶음용)
+     *
+     * @param zos ZIP 출력 스트림
+     * @param directory 엔트리 디렉토리 ('/'로 끝남)
+     * @param document 준비된 문서
+     * @param cached 캐시된 문서 (닫지 않음)
+     * @throws IOException 엔트리 기록 실패 시
+     */
+    public void addToZip(ZipOutputStream zos, String directory, PreparedDocument document,
+                         GeneratedDocumentCache.CachedDocument cached) throws IOException {
+        if (document.getExpenseAttachments() != null) {
+            zipFileUtil.addDocumentWithExpenseAttachments(zos, directory, cached::transferTo,
+                    document.getDocumentFileName(), document.getExpenseAttachments());
+        } else {
+            zipFileUtil.addDocumentWithAttachments(zos, directory, cached::transferTo,
+                    document.getDocumentFileName(), document.getAttachments());
+        }
+    }
+
+    /**
+     * 문서를 출력 스트림에 기록 (비동기 작업 결과 저장용)
+     *
+     * @param document 준비된 문서
+     * @param outputStream 출력 스트림
+     * @throws IOException 생성/기록 실패 시
+     */
+    public void writeTo(PreparedDocument document, OutputStream outputStream) throws IOException {
+        render(document).getBody().writeTo(outputStream);
+    }
+
+    /**
+     * 휴가 신청서 준비
+     */
+    private PreparedDocument prepareVacation(Long seq, Long requesterId) {
+        VacationHistory vacationHistory = vacationService.getVacationHistoryById(seq);
+        if (vacationHistory == null) {
+            log.warn("존재하지 않는 휴가 신청: seq={}", seq);
+            throw new ApiException(ApiErrorCode.DOCUMENT_NOT_FOUND);
+        }
+
+        Long applicantId = vacationHistory.getUserId();
+        User applicant = checkDownloadPermission(requesterId, applicantId);
+
+        // 신청자 연차 정보 조회 및 VO 생성
+        UserVacationInfo vacationInfo = vacationService.getUserVacationInfo(applicantId);
+        VacationDocumentVO vo = vacationService.createVacationDocumentVO(vacationHistory, applicant, vacationInfo);
+
+        // 서명 이미지 맵 생성 (승인 상태 포함)
+        Map<String, byte[]> signatureImageMap = createSignatureImageMap(
+                vacationHistory.getTjApprovalId(), vacationHistory.getBbApprovalId(),
+                applicant, vacationHistory.getApprovalStatus(), vo.getRequestDate());
+
+        // 캐시 키 (문서에 현재 연도가 표시되므로 연도 포함)
+        String documentKey = generatedDocumentCache.keyBuilder(DocumentTemplate.VACATION_APPLICATION)
+                .add(vo)
+                .addImages(signatureImageMap)
+                .add(LocalDate.now().getYear())
+                .build();
+
+        List<Attachment> attachments = fileService.getAttachments(ApplicationType.VACATION.getCode(), seq);
+
+        return PreparedDocument.builder()
+                .applicationType(ApplicationType.VACATION)
+                .seq(seq)
+                .applicantId(applicantId)
+                .template(DocumentTemplate.VACATION_APPLICATION)
+                .documentKey(documentKey)
+                .documentFileName("휴가(결무)신청서_" + applicant.getName() + "_" + todayString() + ".docx")
+                .documentContentType(DOCX_CONTENT_TYPE)
+                .attachments(attachments)
+                .renderer(outputStream -> FileGenerateUtil.writeVacationApplicationDoc(vo, signatureImageMap, outputStream))
+                .pdfRenderer(outputStream -> pdfGenerationService.writeVacationApplicationPdf(
+                        vo, signatureImageMap, outputStream))
+                .build()
+                .resolve(generatedDocumentCache);
+    }
+
+    /**
+     * 개인 비용 청구서 준비
+     */
+    private PreparedDocument prepareExpenseClaim(Long seq, Long requesterId) {
+        ExpenseClaim expenseClaim = expenseClaimService.getExpenseClaimById(seq);
+        if (expenseClaim == null) {
+            log.warn("존재하지 않는 개인 비용 청구: seq={}", seq);
+            throw new ApiException(ApiErrorCode.DOCUMENT_NOT_FOUND);
+        }
+
+        Long applicantId = expenseClaim.getUserId();
+        User applicant = checkDownloadPermission(requesterId, applicantId);
+
+        // 상세 항목 목록 조회 및 VO 생성
+        List<ExpenseSub> expenseSubList = expenseClaimService.getExpenseSubList(seq);
+        ExpenseClaimVO vo = expenseClaimService.createExpenseClaimVO(expenseClaim, expenseSubList, applicant);
+
+        // 서명 이미지 맵 생성 (승인 상태 포함)
+        Map<String, byte[]> signatureImageMap = createSignatureImageMap(
+                expenseClaim.getTjApprovalId(), expenseClaim.getBbApprovalId(),
+                applicant, expenseClaim.getApprovalStatus(), vo.getRequestDate());
+
+        String documentKey = generatedDocumentCache.keyBuilder(DocumentTemplate.EXPENSE_CLAIM)
+                .add(vo)
+                .addImages(signatureImageMap)
+                .build();
+
+        // 개인비용 항목별 첨부파일 일괄 조회 후 childNo를 키로 재구성 (항목 순서 유지)
+        Map<Long, List<Attachment>> attachmentMap = fileService.getExpenseItemAttachmentMap(
+                expenseSubList.stream().map(ExpenseSub::getSeq).toList());
+        Map<Integer, List<Attachment>> expenseSubAttachments = new TreeMap<>();
+        for (ExpenseSub expenseSub : expenseSubList) {
+            List<Attachment> attachments = attachmentMap.get(expenseSub.getSeq());
+            if (attachments != null && !attachments.isEmpty()) {
+                expenseSubAttachments.put(expenseSub.getChildNo(), attachments);
+            }
+        }
+
+        return PreparedDocument.builder()
+                .applicationType(ApplicationType.EXPENSE)
+                .seq(seq)
+                .applicantId(applicantId)
+                .template(DocumentTemplate.EXPENSE_CLAIM)
+                .documentKey(documentKey)
+                .documentFileName("개인비용신청서_" + applicant.getName() + "_" + todayString() + ".xlsx")
+                .documentContentType(XLSX_CONTENT_TYPE)
+                .expenseAttachments(expenseSubAttachments.isEmpty() ? null : expenseSubAttachments)
+                .renderer(outputStream -> FileGenerateUtil.writeExpenseClaimExcel(vo, signatureImageMap, outputStream))
+                .pdfRenderer(outputStream -> pdfGenerationService.writeExpenseClaimPdf(vo, signatureImageMap, outputStream))
+                .build()
+                .resolve(generatedDocumentCache);
+    }
+
+    /**
+     * 월세 지원 신청서(청구서) 준비
+     */
+    private PreparedDocument prepareRentalSupportApplication(Long seq, Long requesterId) {
+        RentalSupport rentalSupport = rentalService.getRentalSupportApplicationById(seq);
+        if (rentalSupport == null) {
+            log.warn("존재하지 않는 월세 지원 신청: seq={}", seq);
+            throw new ApiException(ApiErrorCode.DOCUMENT_NOT_FOUND);
+        }
+
+        Long applicantId = rentalSupport.getUserId();
+        User applicant = checkDownloadPermission(requesterId, applicantId);
+
+        RentalSupportApplicationVO vo = rentalService.createRentalSupportApplicationVO(rentalSupport, applicant);
+
+        // 서명 이미지 맵 생성 (승인 상태 포함)
+        Map<String, byte[]> signatureImageMap = createSignatureImageMap(
+                rentalSupport.getTjApprovalId(), rentalSupport.getBbApprovalId(),
+                applicant, rentalSupport.getApprovalStatus(), vo.getRequestDate());
+
+        String documentKey = generatedDocumentCache.keyBuilder(DocumentTemplate.RENTAL_SUPPORT_APPLICATION)
+                .add(vo)
+                .addImages(signatureImageMap)
+                .build();
+
+        List<Attachment> attachments = fileService.getAttachments(ApplicationType.RENTAL.getCode(), seq);
+
+        return PreparedDocument.builder()
+                .applicationType(ApplicationType.RENTAL)
+                .seq(seq)
+                .applicantId(applicantId)
+                .template(DocumentTemplate.RENTAL_SUPPORT_APPLICATION)
+                .documentKey(documentKey)
+                .documentFileName("월세지원신청서_" + applicant.getName() + "_" + todayString() + ".xlsx")
+                .documentContentType(XLSX_CONTENT_TYPE)
+                .attachments(attachments)
+                .renderer(outputStream -> FileGenerateUtil.writeRentalSupportApplicationExcel(
+                        vo, signatureImageMap, outputStream))
+                .pdfRenderer(outputStream -> pdfGenerationService.writeRentalSupportApplicationPdf(
+                        vo, signatureImageMap, outputStream))
+                .build()
+                .resolve(generatedDocumentCache);
+    }
+
+    /**
+     * 월세 지원 품의서 준비 (서명 없음)
+     * 품의서 조회 권한은 RentalService에서 확인하며, 권한이 없으면 존재하지 않는 것으로 처리한다.
+     */
+    private PreparedDocument prepareRentalProposal(Long seq, Long requesterId) {
+        RentalProposal rentalProposal = rentalService.getRentalSupport(seq, requesterId);
+        if (rentalProposal == null) {
+            log.warn("존재하지 않거나 조회 권한이 없는 월세 품의: seq={}, requesterId={}", seq, requesterId);
+            throw new ApiException(ApiErrorCode.DOCUMENT_NOT_FOUND);
+        }
+
+        User user = userService.getUserInfo(requesterId);
+        RentalSupportProposalVO vo = rentalService.createRentalSupportProposalVO(rentalProposal, user);
+
+        String documentKey = generatedDocumentCache.keyBuilder(DocumentTemplate.RENTAL_SUPPORT_PROPOSAL)
+                .add(vo)
+                .build();
+
+        List<Attachment> attachments = fileService.getAttachments(ApplicationType.RENTAL_PROPOSAL.getCode(), seq);
+
+        return PreparedDocument.builder()
+                .applicationType(ApplicationType.RENTAL_PROPOSAL)
+                .seq(seq)
+                .applicantId(rentalProposal.getUserId())
+                .template(DocumentTemplate.RENTAL_SUPPORT_PROPOSAL)
+                .documentKey(documentKey)
+                .documentFileName("월세지원품의서_" + user.getName() + "_" + todayString() + ".docx")
+                .documentContentType(DOCX_CONTENT_TYPE)
+                .attachments(attachments)
+                .renderer(outputStream -> FileGenerateUtil.writeRentalSupportProposalDoc(vo, null, outputStream))
+                .build()
+                .resolve(generatedDocumentCache);
+    }
+
+    /**
+     * 다운로드 권한 확인: 본인 신청서이거나 결재 권한이 있는 경우만 다운로드 가능
+     *
+     * @return 신청자 정보
+     */
+    private User checkDownloadPermission(Long requesterId, Long applicantId) {
+        User applicant = userService.getUserInfo(applicantId);
+        if (requesterId.equals(applicantId)) {
+            return applicant;
+        }
+
+        User requester = userService.getUserInfo(requesterId);
+        String authVal = requester.getAuthVal();
+        if (AuthVal.MASTER.getCode().equals(authVal)) {
+            // 관리자는 모든 신청서 다운로드 가능
+            return applicant;
+        }
+        if ((AuthVal.TEAM_LEADER.getCode().equals(authVal) || AuthVal.DIVISION_HEAD.getCode().equals(authVal))
+                && requester.getDivision().equals(applicant.getDivision())) {
+            // 팀장/본부장은 같은 본부의 신청서만 다운로드 가능
+            return applicant;
+        }
+
+        log.warn("다운로드 권한 없음: requesterId={}, applicantId={}, authVal={}", requesterId, applicantId, authVal);
+        throw new ApiException(ApiErrorCode.ACCESS_DENIED);
+    }
+
+    /**
+     * 신청서용 서명 이미지 맵 생성
+     * 상태값에 따라 실제 승인자 ID를 사용하고, 승인자가 없으면 기본 팀장/본부장을 조회한다.
+     */
+    private Map<String, byte[]> createSignatureImageMap(
+            Long tjApprovalId, Long bbApprovalId, User applicant, String approvalStatus, LocalDate requestDate) {
+        if (approvalStatus == null) {
+            approvalStatus = ApprovalStatus.INITIAL.getName();
+        }
+        try {
+            // 신청일을 "yyyy.MM.dd" 형식으로 변환
+            String requestDateStr = CommonUtil.formatDateShort(requestDate);
+            AuthVal applicantAuthVal = AuthVal.fromCode(applicant.getAuthVal());
+
+            Long teamLeaderUserId = null;
+            Long divisionHeadUserId = null;
+            boolean divisionHeadApproved = ApprovalStatus.DIVISION_HEAD_APPROVED.getName().equals(approvalStatus)
+                    || ApprovalStatus.DONE.getName().equals(approvalStatus);
+
+            if (ApprovalStatus.TEAM_LEADER_APPROVED.getName().equals(approvalStatus)) {
+                // B 상태: tj_approval_id 사용
+                teamLeaderUserId = tjApprovalId;
+            } else if (divisionHeadApproved) {
+                // C 또는 D 상태: bb_approval_id 사용 (B 상태도 지났으므로 tj_approval_id도 사용)
+                divisionHeadUserId = bbApprovalId;
+                teamLeaderUserId = tjApprovalId;
+            }
+
+            // 승인자가 없으면 기본 팀장/본부장 조회 (fallback)
+            if (teamLeaderUserId == null) {
+                List<User> teamLeaders = userRepository.findByDivisionAndTeamAndAuthVal(
+                        applicant.getDivision(), applicant.getTeam(), AuthVal.TEAM_LEADER.getCode());
+                teamLeaderUserId = teamLeaders.isEmpty() ? null : teamLeaders.get(0).getUserId();
+            }
+            if (divisionHeadUserId == null && divisionHeadApproved) {
+                List<User> divisionHeads = userRepository.findByDivisionAndAuthVal(
+                        applicant.getDivision(), AuthVal.DIVISION_HEAD.getCode());
+                divisionHeadUserId = divisionHeads.isEmpty() ? null : divisionHeads.get(0).getUserId();
+            }
+
+            return fileGenerateUtil.createSignatureImageMap(
+                    applicant.getUserId(),
+                    teamLeaderUserId,
+                    divisionHeadUserId,
+                    applicantAuthVal,
+                    approvalStatus,
+                    requestDateStr
+            );
+        } catch (Exception e) {
+            log.error("서명 이미지 맵 생성 실패: applicantId={}, approvalStatus={}",
+                    applicant.getUserId(), approvalStatus, e);
+            // 실패 시 빈 맵 반환 (서명 없이 문서 생성)
+            return new HashMap<>();
+        }
+    }
+
+    private static String todayString() {
+        return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    }
+
+    /**
+     * 준비된 다운로드 문서 (렌더링 입력값, 캐시 키, 파일명)
+     */
+    @Getter
+    @Builder
+    public static final class PreparedDocument {
+        private final ApplicationType applicationType;
+        private final Long seq;
+        private final Long applicantId;
+        private final DocumentTemplate template;
+
+        /**
+         * 문서 캐시 키 (문서 내용 기준)
+         */
+        private final String documentKey;
+
+        /**
+         * 응답 ETag (ZIP이면 첨부파일과 ZIP 내 문서 파일명까지 포함)
+         */
+        private String eTag;
+
+        /**
+         * 문서 파일명 (ZIP인 경우 ZIP 내 엔트리명)
+         */
+        private final String documentFileName;
+        private final String documentContentType;
+
+        /**
+         * 첨부파일 목록 (휴가/월세)
+         */
+        private final List<Attachment> attachments;
+
+        /**
+         * 항목별 첨부파일 (개인비용, childNo -> 첨부파일 목록)
+         */
+        private final Map<Integer, List<Attachment>> expenseAttachments;
+
+        /**
+         * 문서 생성기 (캐시 미스 시에만 호출)
+         */
+        private final GeneratedDocumentCache.DocumentWriter renderer;
+
+        /**
+         * PDF 생성기 (HTML 템플릿이 있는 문서만, 없으면 null)
+         */
+        private final GeneratedDocumentCache.DocumentWriter pdfRenderer;
+
+        /**
+         * 캐시 변형 이름 (원본 양식 문서는 null)
+         */
+        private final String cacheVariant;
+
+        /**
+         * 첨부파일이 있으면 ZIP으로 묶어서 응답
+         */
+        public boolean isZip() {
+            return (attachments != null && !attachments.isEmpty()) || expenseAttachments != null;
+        }
+
+        /**
+         * 응답 파일명
+         */
+        public String getFileName() {
+            if (!isZip()) {
+                return documentFileName;
+            }
+            int extensionIndex = documentFileName.lastIndexOf('.');
+            return documentFileName.substring(0, extensionIndex) + ".zip";
+        }
+
+        /**
+         * 응답 Content-Type
+         */
+        public String getContentType() {
+            return isZip() ? ZIP_CONTENT_TYPE : documentContentType;
+        }
+
+        /**
+         * PDF 형식 문서로 변환 (문서 키에 형식 포함, 파일명 확장자 변경, 생성기를 PDF 생성기로 교체)
+         */
+        private PreparedDocument toPdf(GeneratedDocumentCache generatedDocumentCache) {
+            String pdfDocumentKey = generatedDocumentCache.keyBuilder(template)
+                    .add(documentKey)
+                    .add(PDF_VARIANT)
+                    .build();
+            return PreparedDocument.builder()
+                    .applicationType(applicationType)
+                    .seq(seq)
+                    .applicantId(applicantId)
+                    .template(template)
+                    .documentKey(pdfDocumentKey)
+                    .documentFileName(documentFileName.substring(0, documentFileName.lastIndexOf('.')) + ".pdf")
+                    .documentContentType(PDF_CONTENT_TYPE)
+                    .attachments(attachments)
+                    .expenseAttachments(expenseAttachments)
+                    .renderer(pdfRenderer)
+                    .pdfRenderer(pdfRenderer)
+                    .cacheVariant(PDF_VARIANT)
+                    .build()
+                    .resolve(generatedDocumentCache);
+        }
+
+        /**
+         * ETag 계산 (문서만이면 문서 키, ZIP이면 문서 키 + 첨부파일 + ZIP 내 문서 파일명)
+         * ZIP은 요청마다 다시 만들지만 엔트리 시각이 고정이라 같은 키면 바이트가 같으므로 강한 ETag를 사용한다.
+         */
+        private PreparedDocument resolve(GeneratedDocumentCache generatedDocumentCache) {
+            if (!isZip()) {
+                eTag = GeneratedDocumentCache.toETag(documentKey);
+                return this;
+            }
+            GeneratedDocumentCache.KeyBuilder zipKeyBuilder = generatedDocumentCache.keyBuilder(template)
+                    .add(documentKey)
+                    .addAttachments(attachments);
+            if (expenseAttachments != null) {
+                expenseAttachments.forEach((childNo, childAttachments) ->
+                        zipKeyBuilder.add(childNo).addAttachments(childAttachments));
+            }
+            eTag = GeneratedDocumentCache.toETag(zipKeyBuilder.add(documentFileName).build());
+            return this;
+        }
+    }
+
+    /**
+     * 다운로드 본문 (파일명, 형식, 크기, 최종 수정 시각, 스트리밍 본문)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class DocumentPayload {
+        private final String fileName;
+        private final String contentType;
+        private final String eTag;
+
+        /**
+         * 브라우저에서 바로 표시 (미리보기), false이면 첨부 다운로드
+         */
+        private final boolean inline;
+
+        /**
+         * 본문 크기 (ZIP처럼 미리 알 수 없으면 -1)
+         */
+        private final long size;
+        private final long lastModified;
+        private final StreamingResponseBody body;
+
+        /**
+         * 다운로드 응답 헤더 생성
+         *
+         * @return HTTP 헤더
+         */
+        public HttpHeaders toHeaders() {
+            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                    .replace("+", "%20");
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType(contentType));
+            headers.set(HttpHeaders.CONTENT_DISPOSITION,
+                    (inline ? "inline" : "attachment") + "; filename=" + encodedFileName);
+            if (size >= 0) {
+                headers.setContentLength(size);
+            }
+            headers.setETag(eTag);
+            headers.setLastModified(lastModified);
+            headers.setCacheControl(CacheControl.noCache().cachePrivate());
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.vacation.api.domain.document.service;
+
+import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.enums.DocumentJobStatus;
+import com.vacation.api.exception.ApiErrorCode;
+import com.vacation.api.exception.ApiException;
+import com.vacation.api.util.RenderBulkhead;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 신청 문서 비동기 생성 작업 Service
+ * 권한 확인과 문서 준비는 요청 스레드에서 수행하고, 렌더링/ZIP 생성은 제한된 작업 스레드 풀에서 수행한다.
+ * 결과 파일은 작업 디렉토리에 저장되며, 보관 시간이 지나면 스케줄러가 삭제한다.
+ * 대기열이 가득 차면 즉시 거절(DOCUMENT_JOB_QUEUE_FULL)하여 요청 스레드가 렌더링을 기다리지 않도록 한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentJobService {
+
+    private final DocumentDownloadService documentDownloadService;
+    private final RenderBulkhead renderBulkhead;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.document-job.path:${java.io.tmpdir}/vacation-api/document-jobs}")
+    private String jobPath;
+
+    @Value("${file.document-job.pool-size:2}")
+    private int poolSize;
+
+    @Value("${file.document-job.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${file.document-job.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    /**
+     * 작업 ID -> 작업 (메모리 보관, 재기동 시 초기화)
+     */
+    private final Map<String, DocumentJob> jobs = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor jobExecutor;
+    private Timer waitTimer;
+    private Timer successTimer;
+    private Timer failureTimer;
+
+    /**
+     * 작업 스레드 풀 생성, 이전 실행의 결과 파일 정리 및 메트릭 초기화
+     */
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        int threads = Math.max(1, poolSize);
+        jobExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "document-job-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        // 작업 목록은 메모리에만 있으므로 이전 실행에서 남은 결과 파일은 참조될 수 없음
+        deleteJobFiles();
+
+        Gauge.builder("document_job.queue.size", jobExecutor, executor -> executor.getQueue().size())
+                .description("Document jobs waiting in queue")
+                .register(meterRegistry);
+        Gauge.builder("document_job.active", jobExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Document jobs currently rendering")
+                .register(meterRegistry);
+        waitTimer = Timer.builder("document_job.wait")
+                .description("Time document jobs spend in queue")
+                .register(meterRegistry);
+        successTimer = Timer.builder("document_job.duration")
+                .description("Document job rendering time")
+                .tag("result", "success")
+                .register(meterRegistry);
+        failureTimer = Timer.builder("document_job.duration")
+                .description("Document job rendering time")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (jobExecutor != null) {
+            jobExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 문서 생성 작업 등록
+     * 권한이 없거나 신청이 없으면 작업을 만들지 않고 즉시 예외를 던진다.
+     *
+     * @param applicationType 신청 타입
+     * @param seq 신청 시퀀스
+     * @param requesterId 요청자 ID
+     * @return 등록된 작업
+     * @throws ApiException 신청 없음, 권한 없음, 대기열 초과 시
+     */
+    public DocumentJob submit(ApplicationType applicationType, Long seq, Long requesterId) {
+        DocumentDownloadService.PreparedDocument document =
+                documentDownloadService.prepare(applicationType, seq, requesterId);
+
+        DocumentJob job = new DocumentJob(UUID.randomUUID().toString(), requesterId, applicationType, seq,
+                document.getFileName(), document.getContentType());
+        jobs.put(job.getJobId(), job);
+
+        try {
+            jobExecutor.execute(() -> run(job, document));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            log.warn("문서 생성 작업 대기열 초과: type={}, seq={}, queueSize={}",
+                    applicationType, seq, jobExecutor.getQueue().size());
+            throw new ApiException(ApiErrorCode.DOCUMENT_JOB_QUEUE_FULL);
+        }
+
+        log.info("문서 생성 작업 등록: jobId={}, type={}, seq={}, requesterId={}",
+                job.getJobId(), applicationType, seq, requesterId);
+        return job;
+    }
+
+    /**
+     * 문서 생성 작업 조회 (작업을 등록한 사용자만 조회 가능)
+     *
+     * @param jobId 작업 ID
+     * @param requesterId 요청자 ID
+     * @return 작업
+     * @throws ApiException 작업이 없거나 만료되었거나 다른 사용자의 작업인 경우
+     */
+    public DocumentJob getJob(String jobId, Long requesterId) {
+        DocumentJob job = jobs.get(jobId);
+        if (job == null || !job.getOwnerId().equals(requesterId)) {
+            throw new ApiException(ApiErrorCode.DOCUMENT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 보관 시간이 지난 완료/실패 작업과 결과 파일 삭제
+     *
+     * @return 삭제된 작업 수
+     */
+    public int cleanupExpiredJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(ttlMinutes);
+        int removedCount = 0;
+        Iterator<DocumentJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            DocumentJob job = iterator.next();
+            if (!job.getStatus().isFinished() || job.getFinishedAt().isAfter(expiredBefore)) {
+                continue;
+            }
+            iterator.remove();
+            deleteResultFile(job);
+            removedCount++;
+        }
+        return removedCount;
+    }
+
+    /**
+     * 작업 실행 (작업 스레드)
+     * 임시 파일에 쓴 뒤 이동하여 완료된 결과 파일만 노출한다.
+     * 렌더링은 백그라운드로 실행하므로 사용자 요청이 몰려도 거절되지 않고 차례를 기다린다.
+     */
+    private void run(DocumentJob job, DocumentDownloadService.PreparedDocument document) {
+        job.startedAt = LocalDateTime.now();
+        job.status = DocumentJobStatus.RUNNING;
+        waitTimer.record(Duration.between(job.getCreatedAt(), job.getStartedAt()));
+
+        long startTime = System.nanoTime();
+        Path tempFile = null;
+        try {
+            Path jobDir = Paths.get(jobPath);
+            Files.createDirectories(jobDir);
+            tempFile = Files.createTempFile(jobDir, "job_", ".tmp");
+
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                renderBulkhead.runAsBackground(() -> {
+                    documentDownloadService.writeTo(document, outputStream);
+                    return null;
+                });
+            }
+            long size = Files.size(tempFile);
+            Path resultFile = jobDir.resolve(job.getJobId());
+            Files.move(tempFile, resultFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            job.path = resultFile;
+            job.size = size;
+            job.finishedAt = LocalDateTime.now();
+            job.status = DocumentJobStatus.DONE;
+            successTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+            log.info("문서 생성 작업 완료: jobId={}, type={}, seq={}, size={} bytes, elapsed={}ms",
+                    job.getJobId(), job.getApplicationType(), job.getSeq(), size,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        } catch (Exception e) {
+            job.errorMessage = "문서 생성에 실패했습니다.";
+            job.finishedAt = LocalDateTime.now();
+            job.status = DocumentJobStatus.FAILED;
+            failureTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+            log.error("문서 생성 작업 실패: jobId={}, type={}, seq={}",
+                    job.getJobId(), job.getApplicationType(), job.getSeq(), e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    log.debug("문서 생성 작업 임시 파일 삭제 실패: {}", tempFile, e);
+                }
+            }
+        }
+    }
+
+    private void deleteResultFile(DocumentJob job) {
+        if (job.getPath() == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(job.getPath());
+        } catch (IOException e) {
+            log.warn("문서 생성 작업 결과 파일 삭제 실패: jobId={}, path={}", job.getJobId(), job.getPath(), e);
+        }
+    }
+
+    private void deleteJobFiles() {
+        Path jobDir = Paths.get(jobPath);
+        if (!Files.isDirectory(jobDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(jobDir)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("이전 문서 생성 작업 파일 정리 실패: {}", jobDir, e);
+        }
+    }
+
+    /**
+     * 문서 생성 작업 (상태 필드는 작업 스레드에서 갱신되므로 volatile)
+     */
+    @Getter
+    public static final class DocumentJob {
+        private final String jobId;
+        private final Long ownerId;
+        private final ApplicationType applicationType;
+        private final Long seq;
+        private final String fileName;
+        private final String contentType;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        private volatile DocumentJobStatus status = DocumentJobStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile Path path;
+        private volatile Long size;
+        private volatile String errorMessage;
+
+        private DocumentJob(String jobId, Long ownerId, ApplicationType applicationType, Long seq,
+                            String fileName, String contentType) {
+            this.jobId = jobId;
+            this.ownerId = ownerId;
+            this.applicationType = applicationType;
+            this.seq = seq;
+            this.fileName = fileName;
+            this.contentType = contentType;
+        }
+    }
+}
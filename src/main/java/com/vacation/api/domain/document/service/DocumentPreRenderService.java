@@ -0,0 +1,145 @@
+package com.vacation.api.domain.document.service;
+
+import com.vacation.api.domain.approval.event.ApprovalCompletedEvent;
+import com.vacation.api.util.GeneratedDocumentCache;
+import com.vacation.api.util.RenderBulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 최종 승인 문서 미리 생성 Service
+ * 최종 승인 트랜잭션이 커밋된 뒤 서명이 채워진 문서(DOCX/XLSX)를 백그라운드에서 렌더링하여 생성 문서 캐시에 넣어 둔다.
+ * 첫 다운로드(및 첨부파일 ZIP, 월별 묶음)는 캐시 적중으로 파일 전송만 하게 된다.
+ * 미리 생성은 최적화일 뿐이므로 대기열 초과, 벌크헤드 거절, 렌더링 실패는 로그만 남기고 다운로드 시 다시 생성한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentPreRenderService {
+
+    private final DocumentDownloadService documentDownloadService;
+    private final RenderBulkhead renderBulkhead;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.document-prerender.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file.document-prerender.pool-size:1}")
+    private int poolSize;
+
+    @Value("${file.document-prerender.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor preRenderExecutor;
+    private Counter successCounter;
+    private Counter failureCounter;
+    private Counter droppedCounter;
+
+    /**
+     * 미리 생성 스레드 풀 생성 및 메트릭 초기화
+     */
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        int threads = Math.max(1, poolSize);
+        preRenderExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "document-prerender-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("document_prerender.queue.size", preRenderExecutor, executor -> executor.getQueue().size())
+                .description("Approved documents waiting to be pre-rendered")
+                .register(meterRegistry);
+        successCounter = Counter.builder("document_prerender.total")
+                .description("Approved document pre-render attempts")
+                .tag("result", "success")
+                .register(meterRegistry);
+        failureCounter = Counter.builder("document_prerender.total")
+                .description("Approved document pre-render attempts")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("document_prerender.total")
+                .description("Approved document pre-render attempts")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 미리 생성 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (preRenderExecutor != null) {
+            preRenderExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 최종 승인 커밋 후 문서 미리 생성 등록
+     * 커밋 이후에 실행되므로 작업 스레드는 승인 상태와 서명이 반영된 데이터를 읽는다.
+     * 승인 API 응답을 지연시키지 않도록 등록만 하고 바로 반환한다.
+     *
+     * @param event 최종 승인 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onApprovalCompleted(ApprovalCompletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            preRenderExecutor.execute(() -> preRender(event));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            log.warn("문서 미리 생성 대기열 초과로 생략: type={}, seq={}, queueSize={}",
+                    event.getApplicationType(), event.getSeq(), preRenderExecutor.getQueue().size());
+        }
+    }
+
+    /**
+     * 문서 미리 생성 (작업 스레드)
+     * 신청자 권한으로 다운로드와 같은 문서를 준비하므로 캐시 키가 다운로드 시 계산되는 키와 같다.
+     * 서명 이미지와 문서 렌더링은 백그라운드로 실행하여 사용자 다운로드 몫의 벌크헤드 허가를 남긴다.
+     */
+    private void preRender(ApprovalCompletedEvent event) {
+        long startTime = System.currentTimeMillis();
+        try {
+            renderBulkhead.runAsBackground(() -> {
+                DocumentDownloadService.PreparedDocument document = documentDownloadService.prepare(
+                        event.getApplicationType(), event.getSeq(), event.getApplicantId());
+                try (GeneratedDocumentCache.CachedDocument cached = documentDownloadService.renderToCache(document)) {
+                    successCounter.increment();
+                    log.info("문서 미리 생성 완료: type={}, seq={}, 크기: {} bytes, 소요 시간: {}ms",
+                            event.getApplicationType(), event.getSeq(), cached.getSize(),
+                            System.currentTimeMillis() - startTime);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.warn("문서 미리 생성 실패 (다운로드 시 다시 생성): type={}, seq={}, {}",
+                    event.getApplicationType(), event.getSeq(), e.getMessage());
+        }
+    }
+}
@@ -3,42 +3,35 @@ package com.vacation.api.domain.expense.controller;
 import com.vacation.api.common.controller.BaseController;
 import com.vacation.api.response.data.PagedResponse;
 import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.domain.attachment.service.AttachmentDownloadService;
 import com.vacation.api.domain.attachment.service.FileService;
 import com.vacation.api.domain.expense.entity.ExpenseClaim;
 import com.vacation.api.domain.expense.entity.ExpenseSub;
 import com.vacation.api.domain.expense.request.ExpenseClaimRequest;
 import com.vacation.api.domain.expense.response.ExpenseClaimResponse;
+import com.vacation.api.domain.expense.response.ExpenseClaimSummaryResponse;
 import com.vacation.api.domain.expense.response.ExpenseSubResponse;
 import com.vacation.api.domain.expense.service.ExpenseClaimService;
 import com.vacation.api.domain.user.entity.User;
 import com.vacation.api.domain.user.service.UserService;
 import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.enums.DocumentFormat;
 import com.vacation.api.response.data.ApiResponse;
 import com.vacation.api.common.TransactionIDCreator;
-import com.vacation.api.util.FileGenerateUtil;
 import com.vacation.api.util.ResponseMapper;
-import com.vacation.api.util.ZipFileUtil;
-import com.vacation.api.util.CommonUtil;
-import com.vacation.api.enums.AuthVal;
-import com.vacation.api.enums.ApprovalStatus;
-import com.vacation.api.domain.user.repository.UserRepository;
+import com.vacation.api.domain.document.service.DocumentDownloadService;
+import com.vacation.api.exception.ApiErrorCode;
 import com.vacation.api.exception.ApiException;
-import com.vacation.api.vo.ExpenseClaimVO;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -59,23 +52,21 @@ public class ExpenseClaimController extends BaseController {
     private final UserService userService;
     private final ResponseMapper responseMapper;
     private final FileService fileService;
-    private final ZipFileUtil zipFileUtil;
-    private final FileGenerateUtil fileGenerateUtil;
-    private final UserRepository userRepository;
+    private final DocumentDownloadService documentDownloadService;
+    private final AttachmentDownloadService attachmentDownloadService;
 
     public ExpenseClaimController(ExpenseClaimService expenseClaimService, UserService userService,
                                  ResponseMapper responseMapper, TransactionIDCreator transactionIDCreator,
-                                 FileService fileService, ZipFileUtil zipFileUtil,
-                                 FileGenerateUtil fileGenerateUtil,
-                                 UserRepository userRepository) {
+                                 FileService fileService,
+                                 DocumentDownloadService documentDownloadService,
+                                 AttachmentDownloadService attachmentDownloadService) {
         super(transactionIDCreator);
         this.expenseClaimService = expenseClaimService;
         this.userService = userService;
         this.responseMapper = responseMapper;
         this.fileService = fileService;
-        this.zipFileUtil = zipFileUtil;
-        this.fileGenerateUtil = fileGenerateUtil;
-        this.userRepository = userRepository;
+        this.documentDownloadService = documentDownloadService;
+        this.attachmentDownloadService = attachmentDownloadService;
     }
 
     /**
@@ -84,14 +75,16 @@ public class ExpenseClaimController extends BaseController {
      * @param request HTTP 요청
      * @param page 페이지 번호 (0부터 시작, 기본값: 0)
      * @param size 페이지 크기 (기본값: 5)
+     * @param include 추가 포함 항목 (summary: 항목 수/최종 일자/첨부 여부 요약 포함)
      * @return 개인 비용 청구 목록
      */
     @GetMapping
     public ResponseEntity<ApiResponse<Object>> getExpenseClaimList(
             HttpServletRequest request,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "5") int size) {
-        log.info("개인 비용 청구 목록 조회 요청: page={}, size={}", page, size);
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(required = false) String include) {
+        log.info("개인 비용 청구 목록 조회 요청: page={}, size={}, include={}", page, size, include);
 
         try {
             Long userId = (Long) request.getAttribute("userId");
@@ -108,6 +101,13 @@ public class ExpenseClaimController extends BaseController {
                     userService::getUserInfo
             );
             
+            // 요약 포함 요청 시 페이지 내 seq 목록을 단일 집계 쿼리로 조회
+            if ("summary".equalsIgnoreCase(include)) {
+                Map<Long, ExpenseClaimSummaryResponse> summaryMap = expenseClaimService.getExpenseClaimSummaryMap(
+                        expenseClaimList.stream().map(ExpenseClaim::getSeq).toList());
+                responseList.forEach(response -> response.setSummary(summaryMap.get(response.getSeq())));
+            }
+            
             // totalCount 포함 응답 생성
             PagedResponse<ExpenseClaimResponse> responseData = PagedResponse.<ExpenseClaimResponse>builder()
                     .list(responseList)
@@ -146,11 +146,14 @@ public class ExpenseClaimController extends BaseController {
             // 상세 항목 목록 조회
             List<ExpenseSub> expenseSubList = expenseClaimService.getExpenseSubList(seq);
             
+            // 항목별 첨부파일 일괄 조회 (단일 쿼리)
+            Map<Long, List<Attachment>> attachmentMap = fileService.getExpenseItemAttachmentMap(
+                    expenseSubList.stream().map(ExpenseSub::getSeq).toList());
+            
             // 각 항목에 첨부파일 정보 추가하여 Response VO로 변환
             List<ExpenseSubResponse> expenseSubListWithAttachments = expenseSubList.stream()
                     .map(sub -> {
-                        // 첨부파일 정보 조회
-                        List<Attachment> attachments = fileService.getExpenseItemAttachments(sub.getSeq());
+                        List<Attachment> attachments = attachmentMap.get(sub.getSeq());
                         Attachment attachment = (attachments != null && !attachments.isEmpty()) 
                                 ? attachments.get(0) : null;
                         
@@ -256,128 +259,54 @@ public class ExpenseClaimController extends BaseController {
      *
      * @param request HTTP 요청
      * @param seq 시퀀스
-     * @return XLSX 문서
+     * @param format 문서 형식 (pdf이면 PDF, 생략 시 원본 양식)
+     * @return XLSX 또는 PDF 문서 스트림 (첨부파일이 있으면 ZIP)
      */
     @GetMapping("/{seq}/download")
-    public ResponseEntity<byte[]> downloadExpenseClaim(
+    public ResponseEntity<StreamingResponseBody> downloadExpenseClaim(
             HttpServletRequest request,
-            @PathVariable Long seq) {
-        log.info("개인 비용 청구서 다운로드 요청: seq={}", seq);
+            @PathVariable Long seq,
+            @RequestParam(required = false) String format) {
+        log.info("개인 비용 청구서 다운로드 요청: seq={}, format={}", seq, format);
+
+        DocumentFormat documentFormat;
+        try {
+            documentFormat = DocumentFormat.fromValue(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("지원하지 않는 문서 형식: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
 
         try {
             Long requesterId = (Long) request.getAttribute("userId");
-            User requester = userService.getUserInfo(requesterId);
-            
-            // 개인 비용 청구 조회 (seq만으로 조회)
-            ExpenseClaim expenseClaim = expenseClaimService.getExpenseClaimById(seq);
-            if (expenseClaim == null) {
-                log.warn("존재하지 않는 개인 비용 청구: seq={}", seq);
-                return ResponseEntity.notFound().build();
-            }
-            
-            // 권한 체크: 본인 신청서이거나 결재 권한이 있는 경우만 다운로드 가능
-            Long applicantId = expenseClaim.getUserId();
-            boolean canDownload = false;
-            
-            if (requesterId.equals(applicantId)) {
-                // 본인 신청서
-                canDownload = true;
-            } else {
-                // 결재 권한 체크
-                String authVal = requester.getAuthVal();
-                if (AuthVal.MASTER.getCode().equals(authVal)) {
-                    // 관리자는 모든 신청서 다운로드 가능
-                    canDownload = true;
-                } else if (AuthVal.TEAM_LEADER.getCode().equals(authVal) || AuthVal.DIVISION_HEAD.getCode().equals(authVal)) {
-                    // 팀장/본부장은 같은 본부의 신청서만 다운로드 가능
-                    User applicant = userService.getUserInfo(applicantId);
-                    if (applicant != null && requester.getDivision().equals(applicant.getDivision())) {
-                        canDownload = true;
-                    }
-                }
+
+            // 권한 확인 및 문서 준비 (VO, 서명 이미지, 캐시 키, ETag)
+            DocumentDownloadService.PreparedDocument document =
+                    documentDownloadService.prepare(ApplicationType.EXPENSE, seq, requesterId, documentFormat);
+            if (new ServletWebRequest(request).checkNotModified(document.getETag())) {
+                log.info("개인 비용 청구서 변경 없음: seq={}", seq);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.getETag()).build();
             }
-            
-            if (!canDownload) {
-                log.warn("다운로드 권한 없음: requesterId={}, applicantId={}, authVal={}", 
-                        requesterId, applicantId, requester.getAuthVal());
+
+            // 문서 생성 (캐시에 없을 때만 렌더링, 첨부파일이 있으면 ZIP으로 묶기)
+            DocumentDownloadService.DocumentPayload payload = documentDownloadService.render(document);
+            log.info("개인 비용 청구서 전송: fileName={}, 크기: {} bytes", document.getFileName(), payload.getSize());
+
+            return ResponseEntity.ok()
+                    .headers(payload.toHeaders())
+                    .body(payload.getBody());
+        } catch (ApiException e) {
+            log.warn("개인 비용 청구서 다운로드 불가: seq={}, {}", seq, e.getMessage());
+            if (e.getApiErrorCode() == ApiErrorCode.ACCESS_DENIED) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
-            
-            // 상세 항목 목록 조회
-            List<ExpenseSub> expenseSubList = expenseClaimService.getExpenseSubList(seq);
-            
-            // 신청자 정보 조회
-            User applicant = userService.getUserInfo(applicantId);
-            
-            // VO 생성
-            ExpenseClaimVO vo = expenseClaimService.createExpenseClaimVO(
-                    expenseClaim, expenseSubList, applicant);
-            
-            // 서명 이미지 맵 생성 (승인 상태 포함)
-            String approvalStatus = expenseClaim.getApprovalStatus();
-            if (approvalStatus == null) {
-                approvalStatus = ApprovalStatus.INITIAL.getName();
-            }
-            Map<String, byte[]> signatureImageMap = createSignatureImageMapForExpense(
-                    expenseClaim, applicant, approvalStatus, vo.getRequestDate());
-            
-            // XLSX 생성 (서명 이미지 맵 전달)
-            byte[] excelBytes = FileGenerateUtil.generateExpenseClaimExcel(vo, signatureImageMap);
-            
-            // 파일명 생성 (오늘 날짜 사용)
-            String dateStr = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String documentFileName = "개인비용신청서_" + applicant.getName() + "_" + dateStr + ".xlsx";
-            
-            // 개인비용 항목별 첨부파일 조회 (childNo를 키로 사용)
-            java.util.Map<Integer, List<Attachment>> expenseSubAttachments = 
-                    new java.util.HashMap<>();
-            boolean hasAttachments = false;
-            
-            for (ExpenseSub expenseSub : expenseSubList) {
-                List<Attachment> attachments = 
-                        fileService.getExpenseItemAttachments(expenseSub.getSeq());
-                if (attachments != null && !attachments.isEmpty()) {
-                    expenseSubAttachments.put(expenseSub.getChildNo(), attachments);
-                    hasAttachments = true;
-                }
+            if (e.getApiErrorCode() == ApiErrorCode.DOCUMENT_FORMAT_NOT_SUPPORTED) {
+                return ResponseEntity.badRequest().build();
             }
-            
-            // 첨부파일이 있으면 ZIP으로 묶기
-            if (hasAttachments) {
-                byte[] zipBytes = zipFileUtil.createZipWithDocumentAndExpenseAttachments(
-                        excelBytes, documentFileName, expenseSubAttachments);
-                
-                String zipFileName = documentFileName.replace(".xlsx", ".zip");
-                String encodedFileName = URLEncoder.encode(zipFileName, StandardCharsets.UTF_8)
-                        .replace("+", "%20");
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType("application/zip"));
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-                headers.setContentLength(zipBytes.length);
-                
-                int totalAttachments = expenseSubAttachments.values().stream().mapToInt(List::size).sum();
-                log.info("개인 비용 청구서 ZIP 생성 완료. 크기: {} bytes, 첨부파일: {}개", zipBytes.length, totalAttachments);
-                
-                return ResponseEntity.ok()
-                        .headers(headers)
-                        .body(zipBytes);
-            } else {
-                // 첨부파일이 없으면 기존처럼 문서만 반환
-                String encodedFileName = URLEncoder.encode(documentFileName, StandardCharsets.UTF_8)
-                        .replace("+", "%20");
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-                headers.setContentLength(excelBytes.length);
-                
-                log.info("개인 비용 청구서 Excel 생성 완료. 크기: {} bytes", excelBytes.length);
-                
-                return ResponseEntity.ok()
-                        .headers(headers)
-                        .body(excelBytes);
+            if (e.getApiErrorCode() == ApiErrorCode.RENDER_CAPACITY_EXCEEDED) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
             }
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("개인 비용 청구서 다운로드 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -386,19 +315,18 @@ public class ExpenseClaimController extends BaseController {
 
     /**
      * 개인비용 항목별 첨부파일 업로드
+     * multipart 본문의 "file" 파트를 컨테이너 임시 저장 없이 스트리밍으로 읽으며, 권한 확인 후에 본문을 읽기 시작한다.
      *
      * @param request HTTP 요청
      * @param seq 개인비용 신청 시퀀스
      * @param expenseSubSeq 개인비용 항목 시퀀스
-     * @param file 업로드할 파일
      * @return 업로드된 첨부파일 정보
      */
     @PostMapping(value = "/{seq}/item/{expenseSubSeq}/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Object>> uploadExpenseItemFile(
             HttpServletRequest request,
             @PathVariable Long seq,
-            @PathVariable Long expenseSubSeq,
-            @RequestPart("file") MultipartFile file) {
+            @PathVariable Long expenseSubSeq) {
         log.info("개인비용 항목별 첨부파일 업로드 요청: seq={}, expenseSubSeq={}", seq, expenseSubSeq);
 
         try {
@@ -421,9 +349,12 @@ public class ExpenseClaimController extends BaseController {
                 return errorResponse("400", "유효하지 않은 개인비용 항목입니다.");
             }
             
-            // 파일 업로드
-            Attachment attachment = fileService.uploadExpenseItemFile(file, ApplicationType.EXPENSE.getCode(), seq, expenseSubSeq, userId);
-            return createdResponse(attachment);
+            // 파일 업로드 ("file" 파트를 요청 스트림에서 직접 읽어 기록한 뒤 저장)
+            try (FileService.StagedContent staged = fileService.stageMultipartFile(request, "file")) {
+                Attachment attachment = fileService.uploadExpenseItemFile(
+                        staged, ApplicationType.EXPENSE.getCode(), seq, expenseSubSeq, userId);
+                return createdResponse(attachment);
+            }
         } catch (ApiException e) {
             return errorResponse("첨부파일 업로드에 실패했습니다.", e);
         } catch (Exception e) {
@@ -440,7 +371,7 @@ public class ExpenseClaimController extends BaseController {
      * @return 첨부파일
      */
     @GetMapping("/{seq}/item/{expenseSubSeq}/file")
-    public ResponseEntity<Resource> downloadExpenseItemFile(
+    public ResponseEntity<StreamingResponseBody> downloadExpenseItemFile(
             HttpServletRequest request,
             @PathVariable Long seq,
             @PathVariable Long expenseSubSeq) {
@@ -475,21 +406,8 @@ public class ExpenseClaimController extends BaseController {
             
             Attachment attachment = attachments.get(0);
             
-            // 파일 다운로드
-            Resource resource = fileService.downloadFile(attachment);
-            
-            // 파일명 인코딩
-            String encodedFileName = URLEncoder.encode(attachment.getFileName(), StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(resource);
+            // 파일 다운로드 (조건부 요청 304, Range 이어받기 206)
+            return attachmentDownloadService.createResponse(request, attachment);
         } catch (Exception e) {
             log.error("개인비용 항목별 첨부파일 다운로드 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -541,69 +459,5 @@ public class ExpenseClaimController extends BaseController {
             return errorResponse("첨부파일 삭제에 실패했습니다.", e);
         }
     }
-
-    /**
-     * 개인 비용 청구서용 서명 이미지 맵 생성
-     *
-     * @param applicant 신청자 정보
-     * @param approvalStatus 승인 상태 (A, AM, B, RB, C, RC)
-     * @param requestDate 신청일
-     * @return 서명 이미지 맵
-     */
-    private Map<String, byte[]> createSignatureImageMapForExpense(
-            ExpenseClaim expenseClaim, User applicant, String approvalStatus, LocalDate requestDate) {
-        try {
-            // 신청일을 "yyyy.MM.dd" 형식으로 변환
-            String requestDateStr = CommonUtil.formatDateShort(requestDate);
-            
-            // 신청자 권한
-            AuthVal applicantAuthVal = AuthVal.fromCode(applicant.getAuthVal());
-            
-            // 상태값에 따라 실제 승인자 ID 사용
-            Long teamLeaderUserId = null;
-            Long divisionHeadUserId = null;
-            
-            if (ApprovalStatus.TEAM_LEADER_APPROVED.getName().equals(approvalStatus)) {
-                // B 상태: tj_approval_id 사용
-                teamLeaderUserId = expenseClaim.getTjApprovalId();
-            } else if (ApprovalStatus.DIVISION_HEAD_APPROVED.getName().equals(approvalStatus) ||
-                       ApprovalStatus.DONE.getName().equals(approvalStatus)) {
-                // C 또는 D 상태: bb_approval_id 사용
-                divisionHeadUserId = expenseClaim.getBbApprovalId();
-                // B 상태도 지났으므로 tj_approval_id도 사용
-                teamLeaderUserId = expenseClaim.getTjApprovalId();
-            }
-            
-            // 승인자가 없으면 기본 팀장/본부장 조회 (fallback)
-            if (teamLeaderUserId == null) {
-                List<User> teamLeaders = userRepository.findByDivisionAndTeamAndAuthVal(
-                        applicant.getDivision(), applicant.getTeam(), AuthVal.TEAM_LEADER.getCode());
-                teamLeaderUserId = teamLeaders.isEmpty() ? null : teamLeaders.get(0).getUserId();
-            }
-            
-            if (divisionHeadUserId == null && 
-                (ApprovalStatus.DIVISION_HEAD_APPROVED.getName().equals(approvalStatus) ||
-                 ApprovalStatus.DONE.getName().equals(approvalStatus))) {
-                List<User> divisionHeads = userRepository.findByDivisionAndAuthVal(
-                        applicant.getDivision(), AuthVal.DIVISION_HEAD.getCode());
-                divisionHeadUserId = divisionHeads.isEmpty() ? null : divisionHeads.get(0).getUserId();
-            }
-            
-            // 서명 이미지 맵 생성 (승인 상태 포함)
-            return fileGenerateUtil.createSignatureImageMap(
-                    applicant.getUserId(),
-                    teamLeaderUserId,
-                    divisionHeadUserId,
-                    applicantAuthVal,
-                    approvalStatus,
-                    requestDateStr
-            );
-        } catch (Exception e) {
-            log.error("서명 이미지 맵 생성 실패: applicantId={}, approvalStatus={}", 
-                    applicant.getUserId(), approvalStatus, e);
-            // 실패 시 빈 맵 반환 (서명 없이 문서 생성)
-            return new java.util.HashMap<>();
-        }
-    }
 }
 
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
  * @since 2026-01-08
  */
 @Entity
-@Table(name = "tbl_expense_sub")
+@Table(name = "tbl_expense_sub",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"parent_seq", "child_no"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -26,9 +27,12 @@ public class ExpenseSub {
 
     /**
      * 시퀀스 (PK)
+     * IDENTITY 전략은 INSERT 배치가 불가능하므로 pooled 시퀀스(allocationSize 단위 선할당)를 사용
+     * (시퀀스 미지원 DB(MySQL)에서는 Hibernate가 seq_expense_sub 테이블로 에뮬레이션)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_sub_seq_generator")
+    @SequenceGenerator(name = "expense_sub_seq_generator", sequenceName = "seq_expense_sub", allocationSize = 50)
     @Column(name = "seq")
     private Long seq;
 
@@ -1,13 +1,18 @@
 package com.vacation.api.domain.expense.repository;
 
 import com.vacation.api.domain.expense.entity.ExpenseClaim;
+import com.vacation.api.vo.PayrollExportRowVO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 개인 비용 청구 정보 Repository
@@ -89,5 +94,36 @@ public interface ExpenseClaimRepository extends JpaRepository<ExpenseClaim, Long
      * @return 존재 여부
      */
     boolean existsByUserIdAndBillingYyMonth(Long userId, Integer billingYyMonth);
-}
 
+    /**
+     * 청구 년월의 승인된 개인 비용 청구 급여 정산 행 스트리밍 조회 (사용자 ID 순)
+     * 전방향 커서로 fetch size 단위만 읽으므로 호출 측은 트랜잭션 안에서 Stream을 닫아야 한다.
+     *
+     * @param billingYyMonth 청구 년월 (YYYYMM 형식)
+     * @param approvalStatuses 승인 상태 목록
+     * @return 급여 정산 행 Stream
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.vacation.api.vo.PayrollExportRowVO('EXPENSE', e.seq, e.userId, u.name, t.division, t.team, " +
+           "e.billingYyMonth, e.requestDate, e.totalAmount, e.approvalStatus) " +
+           "FROM ExpenseClaim e JOIN User u ON u.userId = e.userId LEFT JOIN u.teamManagement t " +
+           "WHERE e.billingYyMonth = :billingYyMonth AND e.approvalStatus IN :approvalStatuses " +
+           "ORDER BY e.userId, e.seq")
+    Stream<PayrollExportRowVO> streamPayrollExportRows(@Param("billingYyMonth") Integer billingYyMonth,
+                                                       @Param("approvalStatuses") List<String> approvalStatuses);
+
+    /**
+     * 본부/청구 년월 기준 개인비용 청구 시퀀스 목록 조회 (월별 문서 묶음 다운로드용)
+     *
+     * @param division 본부
+     * @param billingYyMonth 청구 년월 (YYYYMM 형식)
+     * @param approvalStatuses 승인 상태 목록
+     * @return 개인비용 청구 시퀀스 목록 (사용자, 시퀀스 순)
+     */
+    @Query("SELECT e.seq FROM ExpenseClaim e JOIN User u ON u.userId = e.userId LEFT JOIN u.teamManagement t " +
+           "WHERE t.division = :division AND e.billingYyMonth = :billingYyMonth " +
+           "AND e.approvalStatus IN :approvalStatuses ORDER BY e.userId, e.seq")
+    List<Long> findArchiveSeqs(@Param("division") String division,
+                               @Param("billingYyMonth") Integer billingYyMonth,
+                               @Param("approvalStatuses") List<String> approvalStatuses);
+}
@@ -1,9 +1,13 @@
 package com.vacation.api.domain.expense.repository;
 
 import com.vacation.api.domain.expense.entity.ExpenseSub;
+import com.vacation.api.vo.ExpenseClaimSummaryVO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -30,5 +34,18 @@ public interface ExpenseSubRepository extends JpaRepository<ExpenseSub, Long> {
      * @param parentSeq 부모 시퀀스
      */
     void deleteByParentSeq(Long parentSeq);
+
+    /**
+     * 부모 시퀀스 목록별 상세 항목 요약 집계 (항목 수, 최종 일자, 첨부파일 수)
+     * 목록 화면의 페이지 단위 seq 목록을 단일 GROUP BY 쿼리로 집계
+     *
+     * @param parentSeqs 부모 시퀀스 목록
+     * @return 부모 시퀀스별 요약 목록 (상세 항목이 없는 청구는 포함되지 않음)
+     */
+    @Query("SELECT new com.vacation.api.vo.ExpenseClaimSummaryVO(" +
+           "s.parentSeq, COUNT(DISTINCT s.seq), MAX(s.date), COUNT(a.seq)) " +
+           "FROM ExpenseSub s LEFT JOIN Attachment a ON a.expenseSubSeq = s.seq " +
+           "WHERE s.parentSeq IN :parentSeqs GROUP BY s.parentSeq")
+    List<ExpenseClaimSummaryVO> summarizeByParentSeqIn(@Param("parentSeqs") Collection<Long> parentSeqs);
 }
 
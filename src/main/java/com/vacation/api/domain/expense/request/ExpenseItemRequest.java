@@ -20,6 +20,11 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class ExpenseItemRequest {
 
+    /**
+     * 기존 항목 시퀀스 (수정 시 기존 항목이면 필수, 새 항목이면 null)
+     */
+    private Long seq;
+
     /**
      * 일자
      */
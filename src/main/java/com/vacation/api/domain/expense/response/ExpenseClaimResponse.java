@@ -1,5 +1,6 @@
 package com.vacation.api.domain.expense.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -31,4 +32,6 @@ public class ExpenseClaimResponse {
     private String approvalStatus;
     private LocalDateTime createdAt;
     private List<ExpenseSubResponse> expenseSubList;
+    @JsonInclude(JsonInclude.Include.NON_NULL) // include=summary 요청 시에만 포함
+    private ExpenseClaimSummaryResponse summary;
 }
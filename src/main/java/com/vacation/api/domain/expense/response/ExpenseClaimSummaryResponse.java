@@ -0,0 +1,42 @@
+package com.vacation.api.domain.expense.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 개인 비용 청구 목록용 상세 항목 요약 DTO
+ * (ExpenseClaimSummaryVO 집계 결과 매핑)
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseClaimSummaryResponse {
+    private Long expenseClaimSeq;
+    private Long itemCount;
+    private LocalDate maxDate;
+    private Long attachmentCount;
+    private boolean hasAttachment;
+
+    /**
+     * 집계 결과 매핑용 생성자 (첨부파일 여부 계산 포함)
+     *
+     * @param expenseClaimSeq 개인 비용 청구 시퀀스
+     * @param itemCount 상세 항목 수
+     * @param maxDate 상세 항목 최종 일자
+     * @param attachmentCount 첨부파일 수
+     */
+    public ExpenseClaimSummaryResponse(Long expenseClaimSeq, Long itemCount, LocalDate maxDate, Long attachmentCount) {
+        this.expenseClaimSeq = expenseClaimSeq;
+        this.itemCount = itemCount;
+        this.maxDate = maxDate;
+        this.attachmentCount = attachmentCount;
+        this.hasAttachment = attachmentCount != null && attachmentCount > 0;
+    }
+}
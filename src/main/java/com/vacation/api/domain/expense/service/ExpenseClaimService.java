@@ -1,6 +1,7 @@
 package com.vacation.api.domain.expense.service;
 
 import com.vacation.api.domain.alarm.service.AlarmService;
+import com.vacation.api.domain.attachment.service.FileService;
 import com.vacation.api.enums.ApplicationType;
 import com.vacation.api.enums.ApprovalStatus;
 import com.vacation.api.enums.AuthVal;
@@ -9,18 +10,27 @@ import com.vacation.api.domain.expense.entity.ExpenseSub;
 import com.vacation.api.domain.expense.repository.ExpenseClaimRepository;
 import com.vacation.api.domain.expense.repository.ExpenseSubRepository;
 import com.vacation.api.domain.expense.request.ExpenseClaimRequest;
+import com.vacation.api.domain.expense.request.ExpenseItemRequest;
+import com.vacation.api.domain.expense.response.ExpenseClaimSummaryResponse;
 import com.vacation.api.domain.user.entity.User;
 import com.vacation.api.domain.user.repository.UserRepository;
 import com.vacation.api.exception.ApiErrorCode;
 import com.vacation.api.exception.ApiException;
 import com.vacation.api.util.ApprovalStatusResolver;
+import com.vacation.api.util.GeneratedDocumentCache;
 import com.vacation.api.vo.ExpenseClaimVO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
@@ -40,6 +50,8 @@ public class ExpenseClaimService {
     private final AlarmService alarmService;
     private final UserRepository userRepository;
     private final ApprovalStatusResolver approvalStatusResolver;
+    private final GeneratedDocumentCache generatedDocumentCache;
+    private final FileService fileService;
 
     /**
      * 개인 비용 청구 목록 조회 (페이징)
@@ -139,6 +151,23 @@ public class ExpenseClaimService {
         return expenseSubRepository.findByParentSeqOrderByChildNoAsc(parentSeq);
     }
 
+    /**
+     * 개인 비용 청구 목록용 상세 항목 요약 조회 (단일 집계 쿼리)
+     *
+     * @param seqs 개인 비용 청구 시퀀스 목록
+     * @return 시퀀스별 요약 정보
+     */
+    public Map<Long, ExpenseClaimSummaryResponse> getExpenseClaimSummaryMap(List<Long> seqs) {
+        if (seqs == null || seqs.isEmpty()) {
+            return Map.of();
+        }
+        log.info("개인 비용 청구 요약 조회: seqs={}", seqs);
+        return expenseSubRepository.summarizeByParentSeqIn(seqs).stream()
+                .map(vo -> new ExpenseClaimSummaryResponse(
+                        vo.getParentSeq(), vo.getItemCount(), vo.getMaxDate(), vo.getAttachmentCount()))
+                .collect(Collectors.toMap(ExpenseClaimSummaryResponse::getExpenseClaimSeq, Function.identity()));
+    }
+
     /**
      * 개인 비용 청구 생성
      *
@@ -250,34 +279,102 @@ public class ExpenseClaimService {
         // 수정 시 무조건 AM 상태로 변경
         expenseClaim.setApprovalStatus(ApprovalStatus.MODIFIED.getName()); // 수정됨
 
-        // 기존 자식 항목 삭제
-        expenseSubRepository.deleteByParentSeq(seq);
-
-        // 새로운 자식 항목 생성
-        List<ExpenseSub> expenseSubs = IntStream.range(0, request.getExpenseItems().size())
-                .mapToObj(i -> {
-                    var item = request.getExpenseItems().get(i);
-                    return ExpenseSub.builder()
-                            .parentSeq(seq)
-                            .childNo(i + 1)
-                            .date(item.getDate())
-                            .usageDetail(item.getUsageDetail())
-                            .vendor(item.getVendor())
-                            .paymentMethod(item.getPaymentMethod())
-                            .project(item.getProject())
-                            .amount(item.getAmount())
-                            .note(item.getNote())
-                            .build();
-                })
-                .toList();
+        // 자식 항목 diff 반영 (항목 seq 기준: 변경된 행만 UPDATE, 새 항목만 INSERT, 빠진 항목만 DELETE)
+        syncExpenseSubs(seq, request.getExpenseItems());
 
-        expenseSubRepository.saveAll(expenseSubs);
         ExpenseClaim updated = expenseClaimRepository.save(expenseClaim);
 
         log.info("개인 비용 청구 수정 완료: seq={}, userId={}, totalAmount={}", seq, userId, totalAmount);
         return updated;
     }
 
+    /**
+     * 개인 비용 청구 상세 항목을 요청 목록과 비교하여 변경분만 반영
+     * 기존 행은 요청 항목의 seq로 매칭하여 값만 갱신하므로 중간 항목을 삭제해도
+     * 각 항목의 첨부파일(expense_sub_seq 연결)이 그대로 유지되고, 실제로 값이 바뀐 행만 dirty checking으로 UPDATE된다.
+     * 요청에 없는 기존 행은 첨부파일과 함께 삭제하고, seq가 없는 항목은 새로 생성한 뒤 childNo를 요청 순서대로 다시 매긴다.
+     *
+     * @param parentSeq 부모 시퀀스
+     * @param items 요청 비용 항목 목록 (순서가 곧 childNo)
+     * @throws ApiException 이 청구에 속하지 않거나 중복된 항목 seq가 포함된 경우
+     */
+    private void syncExpenseSubs(Long parentSeq, List<ExpenseItemRequest> items) {
+        Map<Long, ExpenseSub> existingBySeq = expenseSubRepository.findByParentSeqOrderByChildNoAsc(parentSeq).stream()
+                .collect(Collectors.toMap(ExpenseSub::getSeq, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+        // 1. 요청 항목과 기존 행 매칭 (seq 기준)
+        List<ExpenseSub> matched = new ArrayList<>(items.size());
+        for (ExpenseItemRequest item : items) {
+            if (item.getSeq() == null) {
+                matched.add(null);
+                continue;
+            }
+            ExpenseSub existing = existingBySeq.remove(item.getSeq());
+            if (existing == null) {
+                log.warn("청구에 속하지 않거나 중복된 비용 항목: parentSeq={}, expenseSubSeq={}", parentSeq, item.getSeq());
+                throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "존재하지 않는 비용 항목입니다.");
+            }
+            matched.add(existing);
+        }
+
+        // 2. 요청에서 빠진 항목 일괄 삭제 (항목 첨부파일을 먼저 삭제하여 저장 파일 참조 해제)
+        //    다른 행을 수정하기 전에 삭제하여 일괄 삭제 쿼리 전 flush에 childNo 변경이 섞이지 않도록 한다.
+        Collection<ExpenseSub> removed = existingBySeq.values();
+        if (!removed.isEmpty()) {
+            fileService.deleteExpenseItemAttachments(removed.stream().map(ExpenseSub::getSeq).toList());
+            expenseSubRepository.deleteAllInBatch(removed);
+        }
+
+        // 3. 순번이 바뀌는 행은 (parent_seq, child_no) 유니크 충돌을 피하도록 임시 음수 순번으로 먼저 반영
+        boolean renumbered = false;
+        for (int i = 0; i < matched.size(); i++) {
+            ExpenseSub existing = matched.get(i);
+            if (existing != null && existing.getChildNo() != i + 1) {
+                existing.setChildNo(-(i + 1));
+                renumbered = true;
+            }
+        }
+        if (renumbered) {
+            expenseSubRepository.flush();
+        }
+
+        // 4. 값 갱신 및 새 항목 생성 (childNo = 요청 순서)
+        List<ExpenseSub> inserts = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            int childNo = i + 1;
+            ExpenseItemRequest item = items.get(i);
+            ExpenseSub existing = matched.get(i);
+            if (existing == null) {
+                inserts.add(ExpenseSub.builder()
+                        .parentSeq(parentSeq)
+                        .childNo(childNo)
+                        .date(item.getDate())
+                        .usageDetail(item.getUsageDetail())
+                        .vendor(item.getVendor())
+                        .paymentMethod(item.getPaymentMethod())
+                        .project(item.getProject())
+                        .amount(item.getAmount())
+                        .note(item.getNote())
+                        .build());
+            } else {
+                existing.setChildNo(childNo);
+                existing.setDate(item.getDate());
+                existing.setUsageDetail(item.getUsageDetail());
+                existing.setVendor(item.getVendor());
+                existing.setPaymentMethod(item.getPaymentMethod());
+                existing.setProject(item.getProject());
+                existing.setAmount(item.getAmount());
+                existing.setNote(item.getNote());
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            expenseSubRepository.saveAll(inserts);
+        }
+        log.info("개인 비용 청구 상세 항목 반영: parentSeq={}, inserted={}, deleted={}, renumbered={}",
+                parentSeq, inserts.size(), removed.size(), renumbered);
+    }
+
     /**
      * 개인 비용 청구 삭제
      *
@@ -294,11 +391,15 @@ public class ExpenseClaimService {
                     return new ApiException(ApiErrorCode.INVALID_LOGIN);
                 });
 
-        // 자식 항목 삭제
+        // 자식 항목 첨부파일 삭제 후 자식 항목 삭제
+        fileService.deleteExpenseItemAttachments(expenseSubRepository.findByParentSeqOrderByChildNoAsc(seq).stream()
+                .map(ExpenseSub::getSeq)
+                .toList());
         expenseSubRepository.deleteByParentSeq(seq);
 
         // 부모 항목 삭제
         expenseClaimRepository.delete(expenseClaim);
+        generatedDocumentCache.evict(ApplicationType.EXPENSE, seq);
 
         log.info("개인 비용 청구 삭제 완료: seq={}, userId={}", seq, userId);
     }
@@ -0,0 +1,111 @@
+package com.vacation.api.domain.payroll.controller;
+
+import com.vacation.api.common.TransactionIDCreator;
+import com.vacation.api.common.controller.BaseController;
+import com.vacation.api.domain.payroll.service.PayrollExportService;
+import com.vacation.api.domain.user.entity.User;
+import com.vacation.api.domain.user.service.UserService;
+import com.vacation.api.enums.AuthVal;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 급여 정산 내보내기 Controller
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@RestController
+@RequestMapping("/payroll")
+public class PayrollExportController extends BaseController {
+
+    private static final String FORMAT_CSV = "csv";
+    private static final String FORMAT_XLSX = "xlsx";
+
+    private final PayrollExportService payrollExportService;
+    private final UserService userService;
+
+    public PayrollExportController(PayrollExportService payrollExportService, UserService userService,
+                                   TransactionIDCreator transactionIDCreator) {
+        super(transactionIDCreator);
+        this.payrollExportService = payrollExportService;
+        this.userService = userService;
+    }
+
+    /**
+     * 월별 급여 정산 내역 내보내기 (관리자 전용)
+     * 승인된 개인비용/월세지원 내역을 응답 스트림으로 바로 출력한다.
+     *
+     * @param request HTTP 요청
+     * @param billingYyMonth 청구 년월 (YYYYMM 형식)
+     * @param format 출력 형식 (csv, xlsx / 기본값 xlsx)
+     * @return 정산 파일 스트림
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPayroll(
+            HttpServletRequest request,
+            @RequestParam Integer billingYyMonth,
+            @RequestParam(required = false, defaultValue = FORMAT_XLSX) String format) {
+        log.info("급여 정산 내보내기 요청: billingYyMonth={}, format={}", billingYyMonth, format);
+
+        try {
+            Long userId = (Long) request.getAttribute("userId");
+            User requester = userService.getUserInfo(userId);
+
+            if (!AuthVal.MASTER.getCode().equals(requester.getAuthVal())) {
+                log.warn("급여 정산 내보내기 권한 없음: userId={}, authVal={}", userId, requester.getAuthVal());
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+
+            int month = billingYyMonth % 100;
+            if (billingYyMonth < 100001 || month < 1 || month > 12) {
+                log.warn("잘못된 청구 년월: billingYyMonth={}", billingYyMonth);
+                return ResponseEntity.badRequest().build();
+            }
+
+            String normalizedFormat = format.toLowerCase();
+            StreamingResponseBody body;
+            MediaType contentType;
+            if (FORMAT_CSV.equals(normalizedFormat)) {
+                body = outputStream -> payrollExportService.exportCsv(billingYyMonth, outputStream);
+                contentType = new MediaType("text", "csv", StandardCharsets.UTF_8);
+            } else if (FORMAT_XLSX.equals(normalizedFormat)) {
+                body = outputStream -> payrollExportService.exportXlsx(billingYyMonth, outputStream);
+                contentType = MediaType.parseMediaType(
+                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+            } else {
+                log.warn("지원하지 않는 출력 형식: format={}", format);
+                return ResponseEntity.badRequest().build();
+            }
+
+            String fileName = "급여정산_" + billingYyMonth + "." + normalizedFormat;
+            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                    .replace("+", "%20");
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(contentType);
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
+
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(body);
+        } catch (Exception e) {
+            log.error("급여 정산 내보내기 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
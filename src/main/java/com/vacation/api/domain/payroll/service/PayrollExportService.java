@@ -0,0 +1,212 @@
+package com.vacation.api.domain.payroll.service;
+
+import com.vacation.api.domain.expense.repository.ExpenseClaimRepository;
+import com.vacation.api.domain.rental.repository.RentalSupportRepository;
+import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.enums.ApprovalStatus;
+import com.vacation.api.vo.PayrollExportRowVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.vacation.api.util.CommonUtil.formatDateShort;
+
+/**
+ * 급여 정산 내보내기 Service
+ * 청구 년월 기준 승인된 개인비용/월세지원 내역을 CSV 또는 XLSX로 스트리밍 출력
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayrollExportService {
+
+    /**
+     * 급여 정산 대상 승인 상태 (본부장 승인, 최종 승인)
+     */
+    private static final List<String> EXPORT_APPROVAL_STATUSES = List.of(
+            ApprovalStatus.DIVISION_HEAD_APPROVED.getName(),
+            ApprovalStatus.DONE.getName());
+
+    private static final String[] HEADERS = {
+            "구분", "문서번호", "사용자ID", "이름", "본부", "팀", "청구년월", "신청일", "청구금액", "승인상태"
+    };
+
+    /**
+     * SXSSF 메모리 유지 행 수 (초과분은 임시 파일로 flush)
+     */
+    private static final int SXSSF_WINDOW_SIZE = 100;
+
+    private final ExpenseClaimRepository expenseClaimRepository;
+    private final RentalSupportRepository rentalSupportRepository;
+
+    /**
+     * CSV 내보내기 (UTF-8 BOM 포함, Excel 호환)
+     *
+     * @param billingYyMonth 청구 년월 (YYYYMM 형식)
+     * @param outputStream 출력 스트림
+     * @return 출력 행 수
+     */
+    @Transactional(readOnly = true)
+    public int exportCsv(int billingYyMonth, OutputStream outputStream) throws IOException {
+        log.info("급여 정산 CSV 내보내기: billingYyMonth={}", billingYyMonth);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        writeCsvLine(writer, HEADERS);
+
+        int count = forEachRow(billingYyMonth, row -> {
+            try {
+                writeCsvLine(writer, toColumns(row));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+
+        log.info("급여 정산 CSV 내보내기 완료: billingYyMonth={}, rows={}", billingYyMonth, count);
+        return count;
+    }
+
+    /**
+     * XLSX 내보내기 (SXSSF 스트리밍 워크북 사용)
+     *
+     * @param billingYyMonth 청구 년월 (YYYYMM 형식)
+     * @param outputStream 출력 스트림
+     * @return 출력 행 수
+     */
+    @Transactional(readOnly = true)
+    public int exportXlsx(int billingYyMonth, OutputStream outputStream) throws IOException {
+        log.info("급여 정산 XLSX 내보내기: billingYyMonth={}", billingYyMonth);
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(SXSSF_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet(String.valueOf(billingYyMonth));
+
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            headerStyle.setFont(headerFont);
+
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(HEADERS[i]);
+                cell.setCellStyle(headerStyle);
+            }
+
+            int[] rowIndex = {1};
+            int count = forEachRow(billingYyMonth, row -> {
+                Row excelRow = sheet.createRow(rowIndex[0]++);
+                String[] columns = toColumns(row);
+                for (int i = 0; i < columns.length; i++) {
+                    // 금액은 숫자 셀로 기록 (합계 수식 사용 가능하도록)
+                    if (i == 8 && row.getAmount() != null) {
+                        excelRow.createCell(i).setCellValue(row.getAmount());
+                    } else {
+                        excelRow.createCell(i).setCellValue(columns[i]);
+                    }
+                }
+            });
+
+            workbook.write(outputStream);
+            outputStream.flush();
+
+            log.info("급여 정산 XLSX 내보내기 완료: billingYyMonth={}, rows={}", billingYyMonth, count);
+            return count;
+        } finally {
+            // SXSSF 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 개인비용 → 월세지원 순으로 급여 정산 행을 하나씩 전달
+     * 각 Stream은 전방향 커서이므로 행 수와 관계없이 메모리 사용량이 일정하다.
+     *
+     * @param billingYyMonth 청구 년월
+     * @param consumer 행 처리 함수
+     * @return 처리 행 수
+     */
+    private int forEachRow(int billingYyMonth, Consumer<PayrollExportRowVO> consumer) {
+        int[] count = {0};
+        Consumer<PayrollExportRowVO> counting = row -> {
+            consumer.accept(row);
+            count[0]++;
+        };
+        try (Stream<PayrollExportRowVO> rows = expenseClaimRepository.streamPayrollExportRows(
+                billingYyMonth, EXPORT_APPROVAL_STATUSES)) {
+            rows.forEach(counting);
+        }
+        try (Stream<PayrollExportRowVO> rows = rentalSupportRepository.streamPayrollExportRows(
+                billingYyMonth, EXPORT_APPROVAL_STATUSES)) {
+            rows.forEach(counting);
+        }
+        return count[0];
+    }
+
+    /**
+     * 행 VO를 출력 컬럼 문자열 배열로 변환
+     */
+    private String[] toColumns(PayrollExportRowVO row) {
+        return new String[] {
+                ApplicationType.fromCode(row.getApplicationType()).getDescription(),
+                String.valueOf(row.getSeq()),
+                String.valueOf(row.getUserId()),
+                nullToEmpty(row.getName()),
+                nullToEmpty(row.getDivision()),
+                nullToEmpty(row.getTeam()),
+                String.valueOf(row.getBillingYyMonth()),
+                row.getRequestDate() != null ? formatDateShort(row.getRequestDate()) : "",
+                row.getAmount() != null ? String.valueOf(row.getAmount()) : "",
+                ApprovalStatus.fromName(row.getApprovalStatus()).getDescription()
+        };
+    }
+
+    /**
+     * CSV 한 줄 쓰기 (RFC 4180 이스케이프)
+     */
+    private void writeCsvLine(Writer writer, String[] columns) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = columns[i];
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
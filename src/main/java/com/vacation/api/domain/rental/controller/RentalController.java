@@ -3,6 +3,7 @@ package com.vacation.api.domain.rental.controller;
 import com.vacation.api.common.controller.BaseController;
 import com.vacation.api.response.data.PagedResponse;
 import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.domain.attachment.service.AttachmentDownloadService;
 import com.vacation.api.domain.attachment.service.FileService;
 import com.vacation.api.domain.rental.entity.RentalProposal;
 import com.vacation.api.domain.rental.entity.RentalSupport;
@@ -14,35 +15,25 @@ import com.vacation.api.domain.rental.service.RentalService;
 import com.vacation.api.domain.user.entity.User;
 import com.vacation.api.domain.user.service.UserService;
 import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.enums.DocumentFormat;
 import com.vacation.api.response.data.ApiResponse;
 import com.vacation.api.common.TransactionIDCreator;
-import com.vacation.api.util.FileGenerateUtil;
 import com.vacation.api.util.ResponseMapper;
-import com.vacation.api.util.ZipFileUtil;
-import com.vacation.api.util.CommonUtil;
-import com.vacation.api.enums.AuthVal;
-import com.vacation.api.enums.ApprovalStatus;
-import com.vacation.api.domain.user.repository.UserRepository;
+import com.vacation.api.domain.document.service.DocumentDownloadService;
+import com.vacation.api.exception.ApiErrorCode;
 import com.vacation.api.exception.ApiException;
-import com.vacation.api.vo.RentalSupportApplicationVO;
-import com.vacation.api.vo.RentalSupportProposalVO;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 월세 지원 정보 Controller
@@ -60,24 +51,21 @@ public class RentalController extends BaseController {
     private final UserService userService;
     private final ResponseMapper responseMapper;
     private final FileService fileService;
-    private final ZipFileUtil zipFileUtil;
-    private final FileGenerateUtil fileGenerateUtil;
-    private final UserRepository userRepository;
+    private final DocumentDownloadService documentDownloadService;
+    private final AttachmentDownloadService attachmentDownloadService;
 
     public RentalController(RentalService rentalService, UserService userService, 
                            ResponseMapper responseMapper, FileService fileService,
                            TransactionIDCreator transactionIDCreator,
-                           ZipFileUtil zipFileUtil,
-                           FileGenerateUtil fileGenerateUtil,
-                           UserRepository userRepository) {
+                           DocumentDownloadService documentDownloadService,
+                           AttachmentDownloadService attachmentDownloadService) {
         super(transactionIDCreator);
         this.rentalService = rentalService;
         this.userService = userService;
         this.responseMapper = responseMapper;
         this.fileService = fileService;
-        this.zipFileUtil = zipFileUtil;
-        this.fileGenerateUtil = fileGenerateUtil;
-        this.userRepository = userRepository;
+        this.documentDownloadService = documentDownloadService;
+        this.attachmentDownloadService = attachmentDownloadService;
     }
 
     /**
@@ -430,6 +418,30 @@ public class RentalController extends BaseController {
         }
     }
 
+    /**
+     * 임시 저장된 월세 지원 신청 제출
+     *
+     * @param request HTTP 요청
+     * @param seq 시퀀스
+     * @return 제출된 월세 지원 신청 정보
+     */
+    @PostMapping("/application/{seq}/submit")
+    public ResponseEntity<ApiResponse<Object>> submitRentalSupportApplication(
+            HttpServletRequest request,
+            @PathVariable Long seq) {
+        log.info("월세 지원 신청 제출 요청: seq={}", seq);
+
+        try {
+            Long userId = (Long) request.getAttribute("userId");
+            RentalSupport rentalSupport = rentalService.submitRentalSupportApplication(seq, userId);
+            return successResponse(rentalSupport);
+        } catch (ApiException e) {
+            return errorResponse("월세 지원 신청 제출에 실패했습니다.", e);
+        } catch (Exception e) {
+            return errorResponse("월세 지원 신청 제출에 실패했습니다.", e);
+        }
+    }
+
     /**
      * 월세 지원 신청 삭제
      *
@@ -459,114 +471,54 @@ public class RentalController extends BaseController {
      *
      * @param request HTTP 요청
      * @param seq 시퀀스
-     * @return XLSX 문서
+     * @param format 문서 형식 (pdf이면 PDF, 생략 시 원본 양식)
+     * @return XLSX 또는 PDF 문서 스트림 (첨부파일이 있으면 ZIP)
      */
     @GetMapping("/application/{seq}/download")
-    public ResponseEntity<byte[]> downloadRentalSupportApplication(
+    public ResponseEntity<StreamingResponseBody> downloadRentalSupportApplication(
             HttpServletRequest request,
-            @PathVariable Long seq) {
-        log.info("월세 지원 신청서 다운로드 요청: seq={}", seq);
+            @PathVariable Long seq,
+            @RequestParam(required = false) String format) {
+        log.info("월세 지원 신청서 다운로드 요청: seq={}, format={}", seq, format);
+
+        DocumentFormat documentFormat;
+        try {
+            documentFormat = DocumentFormat.fromValue(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("지원하지 않는 문서 형식: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
 
         try {
             Long requesterId = (Long) request.getAttribute("userId");
-            User requester = userService.getUserInfo(requesterId);
-            
-            // 월세 지원 신청 조회 (seq만으로 조회)
-            RentalSupport rentalSupport = rentalService.getRentalSupportApplicationById(seq);
-            if (rentalSupport == null) {
-                log.warn("존재하지 않는 월세 지원 신청: seq={}", seq);
-                return ResponseEntity.notFound().build();
-            }
-            
-            // 권한 체크: 본인 신청서이거나 결재 권한이 있는 경우만 다운로드 가능
-            Long applicantId = rentalSupport.getUserId();
-            boolean canDownload = false;
-            
-            if (requesterId.equals(applicantId)) {
-                // 본인 신청서
-                canDownload = true;
-            } else {
-                // 결재 권한 체크
-                String authVal = requester.getAuthVal();
-                if (AuthVal.MASTER.getCode().equals(authVal)) {
-                    // 관리자는 모든 신청서 다운로드 가능
-                    canDownload = true;
-                } else if (AuthVal.TEAM_LEADER.getCode().equals(authVal) || AuthVal.DIVISION_HEAD.getCode().equals(authVal)) {
-                    // 팀장/본부장은 같은 본부의 신청서만 다운로드 가능
-                    User applicant = userService.getUserInfo(applicantId);
-                    if (applicant != null && requester.getDivision().equals(applicant.getDivision())) {
-                        canDownload = true;
-                    }
-                }
+
+            // 권한 확인 및 문서 준비 (VO, 서명 이미지, 캐시 키, ETag)
+            DocumentDownloadService.PreparedDocument document =
+                    documentDownloadService.prepare(ApplicationType.RENTAL, seq, requesterId, documentFormat);
+            if (new ServletWebRequest(request).checkNotModified(document.getETag())) {
+                log.info("월세 지원 신청서 변경 없음: seq={}", seq);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.getETag()).build();
             }
-            
-            if (!canDownload) {
-                log.warn("다운로드 권한 없음: requesterId={}, applicantId={}, authVal={}", 
-                        requesterId, applicantId, requester.getAuthVal());
+
+            // 문서 생성 (캐시에 없을 때만 렌더링, 첨부파일이 있으면 ZIP으로 묶기)
+            DocumentDownloadService.DocumentPayload payload = documentDownloadService.render(document);
+            log.info("월세 지원 신청서 전송: fileName={}, 크기: {} bytes", document.getFileName(), payload.getSize());
+
+            return ResponseEntity.ok()
+                    .headers(payload.toHeaders())
+                    .body(payload.getBody());
+        } catch (ApiException e) {
+            log.warn("월세 지원 신청서 다운로드 불가: seq={}, {}", seq, e.getMessage());
+            if (e.getApiErrorCode() == ApiErrorCode.ACCESS_DENIED) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
-            
-            // 신청자 정보 조회
-            User applicant = userService.getUserInfo(applicantId);
-            
-            // VO 생성
-            RentalSupportApplicationVO vo = rentalService.createRentalSupportApplicationVO(
-                    rentalSupport, applicant);
-            
-            // 서명 이미지 맵 생성 (승인 상태 포함)
-            String approvalStatus = rentalSupport.getApprovalStatus();
-            if (approvalStatus == null) {
-                approvalStatus = ApprovalStatus.INITIAL.getName();
+            if (e.getApiErrorCode() == ApiErrorCode.DOCUMENT_FORMAT_NOT_SUPPORTED) {
+                return ResponseEntity.badRequest().build();
             }
-            Map<String, byte[]> signatureImageMap = createSignatureImageMapForRental(
-                    rentalSupport, applicant, approvalStatus, vo.getRequestDate());
-            
-            // XLSX 생성 (서명 이미지 맵 전달)
-            byte[] excelBytes = FileGenerateUtil.generateRentalSupportApplicationExcel(vo, signatureImageMap);
-            
-            // 파일명 생성 (오늘 날짜 사용)
-            String dateStr = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String documentFileName = "월세지원신청서_" + applicant.getName() + "_" + dateStr + ".xlsx";
-            
-            // 첨부파일 조회
-            List<Attachment> attachments = 
-                    fileService.getAttachments(ApplicationType.RENTAL.getCode(), seq);
-            
-            // 첨부파일이 있으면 ZIP으로 묶기
-            if (attachments != null && !attachments.isEmpty()) {
-                byte[] zipBytes = zipFileUtil.createZipWithDocumentAndAttachments(
-                        excelBytes, documentFileName, attachments);
-                
-                String zipFileName = documentFileName.replace(".xlsx", ".zip");
-                String encodedFileName = URLEncoder.encode(zipFileName, StandardCharsets.UTF_8)
-                        .replace("+", "%20");
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType("application/zip"));
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-                headers.setContentLength(zipBytes.length);
-                
-                log.info("월세 지원 신청서 ZIP 생성 완료. 크기: {} bytes, 첨부파일: {}개", zipBytes.length, attachments.size());
-                
-                return ResponseEntity.ok()
-                        .headers(headers)
-                        .body(zipBytes);
-            } else {
-                // 첨부파일이 없으면 기존처럼 문서만 반환
-                String encodedFileName = URLEncoder.encode(documentFileName, StandardCharsets.UTF_8)
-                        .replace("+", "%20");
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-                headers.setContentLength(excelBytes.length);
-                
-                log.info("월세 지원 신청서 Excel 생성 완료. 크기: {} bytes", excelBytes.length);
-                
-                return ResponseEntity.ok()
-                        .headers(headers)
-                        .body(excelBytes);
+            if (e.getApiErrorCode() == ApiErrorCode.RENDER_CAPACITY_EXCEEDED) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
             }
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("월세 지원 신청서 다운로드 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -578,76 +530,41 @@ public class RentalController extends BaseController {
      *
      * @param request HTTP 요청
      * @param seq 시퀀스
-     * @return DOCX 문서
+     * @return DOCX 문서 스트림 (첨부파일이 있으면 ZIP)
      */
     @GetMapping("/{seq}/download-proposal")
-    public ResponseEntity<byte[]> downloadRentalProposal(
+    public ResponseEntity<StreamingResponseBody> downloadRentalProposal(
             HttpServletRequest request,
             @PathVariable Long seq) {
         log.info("월세 지원 품의서 다운로드 요청: seq={}", seq);
 
         try {
-            Long userId = (Long) request.getAttribute("userId");
-            
-            // 월세 품의 정보 조회
-            RentalProposal rentalProposal = rentalService.getRentalSupport(seq, userId);
-            if (rentalProposal == null) {
-                return ResponseEntity.notFound().build();
+            Long requesterId = (Long) request.getAttribute("userId");
+
+            // 권한 확인 및 문서 준비 (VO, 서명 이미지, 캐시 키, ETag)
+            DocumentDownloadService.PreparedDocument document =
+                    documentDownloadService.prepare(ApplicationType.RENTAL_PROPOSAL, seq, requesterId);
+            if (new ServletWebRequest(request).checkNotModified(document.getETag())) {
+                log.info("월세 지원 품의서 변경 없음: seq={}", seq);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.getETag()).build();
             }
-            
-            // 사용자 정보 조회
-            User user = userService.getUserInfo(userId);
-            
-            // VO 생성
-            RentalSupportProposalVO vo = rentalService.createRentalSupportProposalVO(
-                    rentalProposal, user);
-            
-            // DOCX 생성 (서명은 null로 전달하여 빈 문자열로 처리)
-            byte[] docBytes = FileGenerateUtil.generateRentalSupportProposalDoc(vo, null);
-            
-            // 파일명 생성
-            String dateStr = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String documentFileName = "월세지원품의서_" + user.getName() + "_" + dateStr + ".docx";
-            
-            // 첨부파일 조회
-            List<Attachment> attachments = 
-                    fileService.getAttachments(ApplicationType.RENTAL_PROPOSAL.getCode(), seq);
-            
-            // 첨부파일이 있으면 ZIP으로 묶기
-            if (attachments != null && !attachments.isEmpty()) {
-                byte[] zipBytes = zipFileUtil.createZipWithDocumentAndAttachments(
-                        docBytes, documentFileName, attachments);
-                
-                String zipFileName = documentFileName.replace(".docx", ".zip");
-                String encodedFileName = URLEncoder.encode(zipFileName, StandardCharsets.UTF_8)
-                        .replace("+", "%20");
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType("application/zip"));
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-                headers.setContentLength(zipBytes.length);
-                
-                log.info("월세 지원 품의서 ZIP 생성 완료. 크기: {} bytes, 첨부파일: {}개", zipBytes.length, attachments.size());
-                
-                return ResponseEntity.ok()
-                        .headers(headers)
-                        .body(zipBytes);
-            } else {
-                // 첨부파일이 없으면 기존처럼 문서만 반환
-                String encodedFileName = URLEncoder.encode(documentFileName, StandardCharsets.UTF_8)
-                        .replace("+", "%20");
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-                headers.setContentLength(docBytes.length);
-                
-                log.info("월세 지원 품의서 DOCX 생성 완료. 크기: {} bytes", docBytes.length);
-                
-                return ResponseEntity.ok()
-                        .headers(headers)
-                        .body(docBytes);
+
+            // 문서 생성 (캐시에 없을 때만 렌더링, 첨부파일이 있으면 ZIP으로 묶기)
+            DocumentDownloadService.DocumentPayload payload = documentDownloadService.render(document);
+            log.info("월세 지원 품의서 전송: fileName={}, 크기: {} bytes", document.getFileName(), payload.getSize());
+
+            return ResponseEntity.ok()
+                    .headers(payload.toHeaders())
+                    .body(payload.getBody());
+        } catch (ApiException e) {
+            log.warn("월세 지원 품의서 다운로드 불가: seq={}, {}", seq, e.getMessage());
+            if (e.getApiErrorCode() == ApiErrorCode.ACCESS_DENIED) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            if (e.getApiErrorCode() == ApiErrorCode.RENDER_CAPACITY_EXCEEDED) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
             }
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("월세 지원 품의서 다운로드 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -662,7 +579,7 @@ public class RentalController extends BaseController {
      * @return 첨부파일
      */
     @GetMapping("/{seq}/attachment")
-    public ResponseEntity<Resource> downloadRentalApprovalAttachment(
+    public ResponseEntity<StreamingResponseBody> downloadRentalApprovalAttachment(
             HttpServletRequest request,
             @PathVariable Long seq) {
         log.info("월세 지원 품의서 첨부파일 다운로드 요청: seq={}", seq);
@@ -684,21 +601,8 @@ public class RentalController extends BaseController {
                 return ResponseEntity.notFound().build();
             }
             
-            // 파일 다운로드
-            Resource resource = fileService.downloadFile(attachment);
-            
-            // 파일명 인코딩
-            String encodedFileName = URLEncoder.encode(attachment.getFileName(), StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(resource);
+            // 파일 다운로드 (조건부 요청 304, Range 이어받기 206)
+            return attachmentDownloadService.createResponse(request, attachment);
         } catch (Exception e) {
             log.error("월세 지원 품의서 첨부파일 다운로드 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -713,7 +617,7 @@ public class RentalController extends BaseController {
      * @return 첨부파일
      */
     @GetMapping("/application/{seq}/attachment")
-    public ResponseEntity<Resource> downloadRentalSupportAttachment(
+    public ResponseEntity<StreamingResponseBody> downloadRentalSupportAttachment(
             HttpServletRequest request,
             @PathVariable Long seq) {
         log.info("월세 지원 신청 첨부파일 다운로드 요청: seq={}", seq);
@@ -737,89 +641,12 @@ public class RentalController extends BaseController {
             
             Attachment attachment = attachments.get(0);
             
-            // 파일 다운로드
-            Resource resource = fileService.downloadFile(attachment);
-            
-            // 파일명 인코딩
-            String encodedFileName = URLEncoder.encode(attachment.getFileName(), StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(resource);
+            // 파일 다운로드 (조건부 요청 304, Range 이어받기 206)
+            return attachmentDownloadService.createResponse(request, attachment);
         } catch (Exception e) {
             log.error("월세 지원 신청 첨부파일 다운로드 실패", e);
             return ResponseEntity.internalServerError().build();
         }
     }
-
-    /**
-     * 월세 지원 신청서용 서명 이미지 맵 생성
-     *
-     * @param applicant 신청자 정보
-     * @param approvalStatus 승인 상태 (A, AM, B, RB, C, RC)
-     * @param requestDate 신청일
-     * @return 서명 이미지 맵
-     */
-    private Map<String, byte[]> createSignatureImageMapForRental(
-            RentalSupport rentalSupport, User applicant, String approvalStatus, LocalDate requestDate) {
-        try {
-            // 신청일을 "yyyy.MM.dd" 형식으로 변환
-            String requestDateStr = CommonUtil.formatDateShort(requestDate);
-            
-            // 신청자 권한
-            AuthVal applicantAuthVal = AuthVal.fromCode(applicant.getAuthVal());
-            
-            // 상태값에 따라 실제 승인자 ID 사용
-            Long teamLeaderUserId = null;
-            Long divisionHeadUserId = null;
-            
-            if (ApprovalStatus.TEAM_LEADER_APPROVED.getName().equals(approvalStatus)) {
-                // B 상태: tj_approval_id 사용
-                teamLeaderUserId = rentalSupport.getTjApprovalId();
-            } else if (ApprovalStatus.DIVISION_HEAD_APPROVED.getName().equals(approvalStatus) ||
-                       ApprovalStatus.DONE.getName().equals(approvalStatus)) {
-                // C 또는 D 상태: bb_approval_id 사용
-                divisionHeadUserId = rentalSupport.getBbApprovalId();
-                // B 상태도 지났으므로 tj_approval_id도 사용
-                teamLeaderUserId = rentalSupport.getTjApprovalId();
-            }
-            
-            // 승인자가 없으면 기본 팀장/본부장 조회 (fallback)
-            if (teamLeaderUserId == null) {
-                List<User> teamLeaders = userRepository.findByDivisionAndTeamAndAuthVal(
-                        applicant.getDivision(), applicant.getTeam(), AuthVal.TEAM_LEADER.getCode());
-                teamLeaderUserId = teamLeaders.isEmpty() ? null : teamLeaders.get(0).getUserId();
-            }
-            
-            if (divisionHeadUserId == null && 
-                (ApprovalStatus.DIVISION_HEAD_APPROVED.getName().equals(approvalStatus) ||
-                 ApprovalStatus.DONE.getName().equals(approvalStatus))) {
-                List<User> divisionHeads = userRepository.findByDivisionAndAuthVal(
-                        applicant.getDivision(), AuthVal.DIVISION_HEAD.getCode());
-                divisionHeadUserId = divisionHeads.isEmpty() ? null : divisionHeads.get(0).getUserId();
-            }
-            
-            // 서명 이미지 맵 생성 (승인 상태 포함)
-            return fileGenerateUtil.createSignatureImageMap(
-                    applicant.getUserId(),
-                    teamLeaderUserId,
-                    divisionHeadUserId,
-                    applicantAuthVal,
-                    approvalStatus,
-                    requestDateStr
-            );
-        } catch (Exception e) {
-            log.error("서명 이미지 맵 생성 실패: applicantId={}, approvalStatus={}", 
-                    applicant.getUserId(), approvalStatus, e);
-            // 실패 시 빈 맵 반환 (서명 없이 문서 생성)
-            return new java.util.HashMap<>();
-        }
-    }
 }
 
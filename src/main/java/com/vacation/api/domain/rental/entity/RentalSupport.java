@@ -29,9 +29,12 @@ public class RentalSupport {
 
     /**
      * 시퀀스 (PK)
+     * 월별 자동 생성 배치의 INSERT 배치를 위해 pooled 시퀀스(allocationSize 단위 선할당)를 사용
+     * (시퀀스 미지원 DB(MySQL)에서는 Hibernate가 seq_rental_support 테이블로 에뮬레이션)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rental_support_seq_generator")
+    @SequenceGenerator(name = "rental_support_seq_generator", sequenceName = "seq_rental_support", allocationSize = 50)
     @Column(name = "seq")
     private Long seq;
 
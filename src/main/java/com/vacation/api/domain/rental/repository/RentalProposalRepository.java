@@ -2,8 +2,11 @@ package com.vacation.api.domain.rental.repository;
 
 import com.vacation.api.domain.rental.entity.RentalProposal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,4 +68,18 @@ public interface RentalProposalRepository extends JpaRepository<RentalProposal,
      * @return 개수
      */
     long countByUserId(Long userId);
+
+    /**
+     * 월세 청구 대상 품의서 조회 (승인 완료, 청구 개시 이후, 계약 기간 내)
+     *
+     * @param approvalStatuses 승인 상태 목록
+     * @param requestDate 신청일자 (청구 개시일 기준)
+     * @param periodFrom 계약 종료일 하한 (청구 기간 시작 기준)
+     * @return 월세 품의서 목록
+     */
+    @Query("SELECT p FROM RentalProposal p WHERE p.approvalStatus IN :approvalStatuses " +
+           "AND p.billingStartDate <= :requestDate AND p.contractEndDate >= :periodFrom ORDER BY p.userId")
+    List<RentalProposal> findBillableProposals(@Param("approvalStatuses") List<String> approvalStatuses,
+                                               @Param("requestDate") LocalDate requestDate,
+                                               @Param("periodFrom") LocalDate periodFrom);
 }
@@ -1,13 +1,19 @@
 package com.vacation.api.domain.rental.repository;
 
 import com.vacation.api.domain.rental.entity.RentalSupport;
+import com.vacation.api.vo.PayrollExportRowVO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 월세 지원 신청 정보 Repository
@@ -100,5 +106,57 @@ public interface RentalSupportRepository extends JpaRepository<RentalSupport, Lo
      * @return 존재 여부
      */
     boolean existsByUserIdAndBillingYyMonthAndSeqNot(Long userId, Integer billingYyMonth, Long seq);
-}
 
+    /**
+     * 청구 년월에 이미 월세 지원 신청이 있는 사용자 ID 목록 조회 (월별 자동 생성 중복 방지용)
+     *
+     * @param billingYyMonth 청구 년월 (YYYYMM 형식)
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT r.userId FROM RentalSupport r WHERE r.billingYyMonth = :billingYyMonth AND r.userId IN :userIds")
+    List<Long> findUserIdsByBillingYyMonthAndUserIdIn(@Param("billingYyMonth") Integer billingYyMonth,
+                                                      @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 사용자별 가장 최근 청구 년월의 월세 지원 신청 조회 (선불/후불, 납입 금액 승계용)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 월세 지원 신청 목록 (사용자당 최대 1건)
+     */
+    @Query("SELECT r FROM RentalSupport r WHERE r.userId IN :userIds AND r.billingYyMonth = " +
+           "(SELECT MAX(r2.billingYyMonth) FROM RentalSupport r2 WHERE r2.userId = r.userId)")
+    List<RentalSupport> findLatestByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 청구 년월의 승인된 월세 지원 신청 급여 정산 행 스트리밍 조회 (사용자 ID 순)
+     * 전방향 커서로 fetch size 단위만 읽으므로 호출 측은 트랜잭션 안에서 Stream을 닫아야 한다.
+     *
+     * @param billingYyMonth 청구 년월 (YYYYMM 형식)
+     * @param approvalStatuses 승인 상태 목록
+     * @return 급여 정산 행 Stream
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.vacation.api.vo.PayrollExportRowVO('RENTAL', r.seq, r.userId, u.name, t.division, t.team, " +
+           "r.billingYyMonth, r.requestDate, r.billingAmount, r.approvalStatus) " +
+           "FROM RentalSupport r JOIN User u ON u.userId = r.userId LEFT JOIN u.teamManagement t " +
+           "WHERE r.billingYyMonth = :billingYyMonth AND r.approvalStatus IN :approvalStatuses " +
+           "ORDER BY r.userId, r.seq")
+    Stream<PayrollExportRowVO> streamPayrollExportRows(@Param("billingYyMonth") Integer billingYyMonth,
+                                                       @Param("approvalStatuses") List<String> approvalStatuses);
+
+    /**
+     * 본부/청구 년월 기준 월세 지원 신청 시퀀스 목록 조회 (월별 문서 묶음 다운로드용)
+     *
+     * @param division 본부
+     * @param billingYyMonth 청구 년월 (YYYYMM 형식)
+     * @param approvalStatuses 승인 상태 목록
+     * @return 월세 지원 신청 시퀀스 목록 (사용자, 시퀀스 순)
+     */
+    @Query("SELECT r.seq FROM RentalSupport r JOIN User u ON u.userId = r.userId LEFT JOIN u.teamManagement t " +
+           "WHERE t.division = :division AND r.billingYyMonth = :billingYyMonth " +
+           "AND r.approvalStatus IN :approvalStatuses ORDER BY r.userId, r.seq")
+    List<Long> findArchiveSeqs(@Param("division") String division,
+                               @Param("billingYyMonth") Integer billingYyMonth,
+                               @Param("approvalStatuses") List<String> approvalStatuses);
+}
@@ -16,6 +16,7 @@ import com.vacation.api.enums.PaymentType;
 import com.vacation.api.exception.ApiErrorCode;
 import com.vacation.api.exception.ApiException;
 import com.vacation.api.util.ApprovalStatusResolver;
+import com.vacation.api.util.GeneratedDocumentCache;
 import com.vacation.api.vo.RentalSupportApplicationVO;
 import com.vacation.api.vo.RentalSupportProposalVO;
 import lombok.RequiredArgsConstructor;
@@ -24,8 +25,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 월세 지원 신청 정보 Service
@@ -44,6 +54,7 @@ public class RentalService {
     private final RentalSupportRepository rentalSupportRepository;
     private final AlarmService alarmService;
     private final ApprovalStatusResolver approvalStatusResolver;
+    private final GeneratedDocumentCache generatedDocumentCache;
 
     /**
      * 월세 지원 정보 목록 조회
@@ -199,6 +210,7 @@ public class RentalService {
                 });
         
         rentalProposalRepository.delete(rentalProposal);
+        generatedDocumentCache.evict(ApplicationType.RENTAL_PROPOSAL, seq);
         log.info("월세 품의 정보 삭제 완료: seq={}, userId={}", seq, userId);
     }
 
@@ -306,14 +318,9 @@ public class RentalService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(ApiErrorCode.USER_NOT_FOUND));
         
-        // 청구 기간 및 납입일 계산 (requestDate의 연도 기준)
-        LocalDate requestDate = request.getRequestDate();
-        int requestYear = requestDate.getYear();
-        int requestMonth = requestDate.getMonthValue(); // 신청일자의 월 (1-12)
-        
         // 청구 년월 계산 (YYYYMM 형식)
         int billingYyMonth = com.vacation.api.util.BillingUtil.calculateBillingYyMonth(
-                requestDate, 
+                request.getRequestDate(), 
                 request.getMonth()
         );
         
@@ -326,37 +333,6 @@ public class RentalService {
         // 권한에 따른 초기 approvalStatus 설정
         String initialApprovalStatus = approvalStatusResolver.resolveInitialApprovalStatus(user.getAuthVal());
         
-        int contractDay = request.getContractStartDate().getDayOfMonth();
-        int billingMonth = request.getMonth();
-        
-        // 청구월이 신청일자의 월보다 크면 전년도 기준 (예: 신청일자 1월, 청구월 12월 → 전년도 12월)
-        int baseYear = requestYear;
-        if (billingMonth > requestMonth) {
-            baseYear = requestYear - 1;
-        }
-        
-        // 청구월세 시작일: (청구월 - 1)월의 계약일자
-        int startYear = baseYear;
-        int startMonth = billingMonth - 1;
-        if (startMonth == 0) {
-            startMonth = 12;
-            startYear = baseYear - 1;
-        }
-        LocalDate billingPeriodStartDate = LocalDate.of(startYear, startMonth, contractDay);
-        
-        // 청구월세 종료일: 시작일 + 한달 - 1일
-        LocalDate billingPeriodEndDate = billingPeriodStartDate.plusMonths(1).minusDays(1);
-        
-        // 월세 납입일 계산
-        LocalDate paymentDate;
-        if (request.getPaymentType() == PaymentType.POSTPAID) {
-            // 후불: 청구월세 종료일 + 1일
-            paymentDate = billingPeriodEndDate.plusDays(1);
-        } else {
-            // 선불: 청구월세 시작일 - 1일
-            paymentDate = billingPeriodStartDate.minusDays(1);
-        }
-        
         RentalSupport rentalSupport = RentalSupport.builder()
                 .userId(userId)
                 .requestDate(request.getRequestDate())
@@ -366,14 +342,14 @@ public class RentalService {
                 .contractMonthlyRent(request.getContractMonthlyRent())
                 .paymentType(request.getPaymentType())
                 .billingStartDate(request.getBillingStartDate())
-                .billingPeriodStartDate(billingPeriodStartDate)
-                .billingPeriodEndDate(billingPeriodEndDate)
-                .paymentDate(paymentDate)
                 .paymentAmount(request.getPaymentAmount())
                 .billingAmount(request.getBillingAmount())
                 .approvalStatus(initialApprovalStatus) // 권한에 따라 초기 상태 설정 (tj: B, bb: C, 일반: A)
                 .build();
         
+        // 청구 기간 및 납입일 계산
+        applyBillingPeriod(rentalSupport, request.getMonth());
+        
         RentalSupport saved = rentalSupportRepository.save(rentalSupport);
         
         // 알람 생성: 팀장에게
@@ -402,14 +378,9 @@ public class RentalService {
                     return new ApiException(ApiErrorCode.INVALID_LOGIN);
                 });
         
-        // 청구 기간 및 납입일 계산 (requestDate의 연도 기준)
-        LocalDate requestDate = request.getRequestDate();
-        int requestYear = requestDate.getYear();
-        int requestMonth = requestDate.getMonthValue(); // 신청일자의 월 (1-12)
-        
         // 청구 년월 계산 (YYYYMM 형식)
         int billingYyMonth = com.vacation.api.util.BillingUtil.calculateBillingYyMonth(
-                requestDate, 
+                request.getRequestDate(), 
                 request.getMonth()
         );
         
@@ -421,37 +392,6 @@ public class RentalService {
             }
         }
         
-        int contractDay = request.getContractStartDate().getDayOfMonth();
-        int billingMonth = request.getMonth();
-        
-        // 청구월이 신청일자의 월보다 크면 전년도 기준 (예: 신청일자 1월, 청구월 12월 → 전년도 12월)
-        int baseYear = requestYear;
-        if (billingMonth > requestMonth) {
-            baseYear = requestYear - 1;
-        }
-        
-        // 청구월세 시작일: (청구월 - 1)월의 계약일자
-        int startYear = baseYear;
-        int startMonth = billingMonth - 1;
-        if (startMonth == 0) {
-            startMonth = 12;
-            startYear = baseYear - 1;
-        }
-        LocalDate billingPeriodStartDate = LocalDate.of(startYear, startMonth, contractDay);
-        
-        // 청구월세 종료일: 시작일 + 한달 - 1일
-        LocalDate billingPeriodEndDate = billingPeriodStartDate.plusMonths(1).minusDays(1);
-        
-        // 월세 납입일 계산
-        LocalDate paymentDate;
-        if (request.getPaymentType() == PaymentType.POSTPAID) {
-            // 후불: 청구월세 종료일 + 1일
-            paymentDate = billingPeriodEndDate.plusDays(1);
-        } else {
-            // 선불: 청구월세 시작일 - 1일
-            paymentDate = billingPeriodStartDate.minusDays(1);
-        }
-        
         rentalSupport.setRequestDate(request.getRequestDate());
         rentalSupport.setBillingYyMonth(billingYyMonth);
         rentalSupport.setContractStartDate(request.getContractStartDate());
@@ -459,13 +399,13 @@ public class RentalService {
         rentalSupport.setContractMonthlyRent(request.getContractMonthlyRent());
         rentalSupport.setPaymentType(request.getPaymentType());
         rentalSupport.setBillingStartDate(request.getBillingStartDate());
-        rentalSupport.setBillingPeriodStartDate(billingPeriodStartDate);
-        rentalSupport.setBillingPeriodEndDate(billingPeriodEndDate);
-        rentalSupport.setPaymentDate(paymentDate);
+        applyBillingPeriod(rentalSupport, request.getMonth());
         rentalSupport.setPaymentAmount(request.getPaymentAmount());
         rentalSupport.setBillingAmount(request.getBillingAmount());
-        // 수정 시 무조건 AM 상태로 변경
-        rentalSupport.setApprovalStatus(ApprovalStatus.MODIFIED.getName());
+        // 수정 시 AM 상태로 변경 (제출 전 임시 저장 신청은 임시 저장 상태 유지)
+        if (!ApprovalStatus.DRAFT.getName().equals(rentalSupport.getApprovalStatus())) {
+            rentalSupport.setApprovalStatus(ApprovalStatus.MODIFIED.getName());
+        }
         
         RentalSupport updated = rentalSupportRepository.save(rentalSupport);
         log.info("월세 지원 신청 수정 완료: seq={}, userId={}", seq, userId);
@@ -473,6 +413,43 @@ public class RentalService {
         return updated;
     }
 
+    /**
+     * 임시 저장된 월세 지원 신청 제출
+     * 신청자가 일괄 생성된 신청 내용을 확인한 후 제출하면 권한에 따른 초기 상태로 결재가 시작된다.
+     *
+     * @param seq 시퀀스
+     * @param userId 사용자 ID
+     * @return 제출된 월세 지원 신청 정보
+     */
+    @Transactional
+    public RentalSupport submitRentalSupportApplication(Long seq, Long userId) {
+        log.info("월세 지원 신청 제출: seq={}, userId={}", seq, userId);
+
+        RentalSupport rentalSupport = rentalSupportRepository.findBySeqAndUserId(seq, userId)
+                .orElseThrow(() -> {
+                    log.warn("존재하지 않는 월세 지원 신청: seq={}, userId={}", seq, userId);
+                    return new ApiException(ApiErrorCode.INVALID_LOGIN);
+                });
+
+        if (!ApprovalStatus.DRAFT.getName().equals(rentalSupport.getApprovalStatus())) {
+            log.warn("제출 불가능한 상태: seq={}, status={}", seq, rentalSupport.getApprovalStatus());
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "임시 저장된 신청만 제출할 수 있습니다.");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException(ApiErrorCode.USER_NOT_FOUND));
+
+        // 권한에 따른 초기 approvalStatus 설정
+        rentalSupport.setApprovalStatus(approvalStatusResolver.resolveInitialApprovalStatus(user.getAuthVal()));
+        RentalSupport submitted = rentalSupportRepository.save(rentalSupport);
+
+        // 알람 생성: 팀장에게
+        alarmService.createApplicationCreatedAlarm(userId, ApplicationType.RENTAL.getCode(), seq);
+
+        log.info("월세 지원 신청 제출 완료: seq={}, userId={}, approvalStatus={}", seq, userId, submitted.getApprovalStatus());
+        return submitted;
+    }
+
     /**
      * 월세 지원 신청 삭제
      *
@@ -490,9 +467,135 @@ public class RentalService {
                 });
         
         rentalSupportRepository.delete(rentalSupport);
+        generatedDocumentCache.evict(ApplicationType.RENTAL, seq);
         log.info("월세 지원 신청 삭제 완료: seq={}, userId={}", seq, userId);
     }
 
+    /**
+     * 승인된 월세 품의서 기준 월세 지원 신청 월별 일괄 생성
+     * 청구 년월에 이미 신청이 있는 사용자는 건너뛰므로 재실행해도 중복 생성되지 않는다.
+     * 동일 사용자의 청구 대상 품의서가 여러 건이면 계약 시작일이 가장 늦은 품의서 1건만 반영한다.
+     * 선불/후불 구분과 납입 금액은 직전 신청을 승계하고, 직전 신청이 없으면 선불/계약 월세로 채운다.
+     * 생성된 신청은 임시 저장 상태로 결재 대기 목록에 포함되지 않으며, 신청자가 내용을 확인/수정한 후
+     * {@link #submitRentalSupportApplication(Long, Long)}로 제출해야 결재가 시작된다.
+     *
+     * @param requestDate 신청일자 (청구월 = 신청일자의 월)
+     * @return 생성된 월세 지원 신청 건수
+     */
+    @Transactional
+    public int createMonthlyRentalSupportApplications(LocalDate requestDate) {
+        int billingMonth = requestDate.getMonthValue();
+        int billingYyMonth = com.vacation.api.util.BillingUtil.calculateBillingYyMonth(requestDate, billingMonth);
+        log.info("월세 지원 신청 월별 일괄 생성: requestDate={}, billingYyMonth={}", requestDate, billingYyMonth);
+
+        // 청구 기간(전월 계약일 ~ 당월 계약일 전일)에 계약이 유효한 승인 품의서
+        LocalDate periodFrom = requestDate.minusMonths(1).withDayOfMonth(1);
+        List<RentalProposal> proposals = rentalProposalRepository.findBillableProposals(
+                List.of(ApprovalStatus.DIVISION_HEAD_APPROVED.getName(), ApprovalStatus.DONE.getName()),
+                requestDate, periodFrom);
+        if (proposals.isEmpty()) {
+            log.info("월세 지원 신청 생성 대상 품의서 없음: billingYyMonth={}", billingYyMonth);
+            return 0;
+        }
+
+        // 사용자별 1건만 청구: 품의서가 여러 건이면 계약 시작일이 가장 늦은(동일하면 seq가 큰) 품의서 기준
+        Map<Long, RentalProposal> proposalMap = proposals.stream()
+                .collect(Collectors.toMap(RentalProposal::getUserId, Function.identity(),
+                        BinaryOperator.maxBy(Comparator.comparing(RentalProposal::getContractStartDate)
+                                .thenComparing(RentalProposal::getSeq)),
+                        LinkedHashMap::new));
+
+        List<Long> userIds = new ArrayList<>(proposalMap.keySet());
+        Set<Long> existingUserIds = new HashSet<>(
+                rentalSupportRepository.findUserIdsByBillingYyMonthAndUserIdIn(billingYyMonth, userIds));
+        Map<Long, User> userMap = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        Map<Long, RentalSupport> latestMap = rentalSupportRepository.findLatestByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(RentalSupport::getUserId, Function.identity(), (a, b) -> a));
+
+        List<RentalSupport> rentalSupports = new ArrayList<>();
+        for (RentalProposal proposal : proposalMap.values()) {
+            Long userId = proposal.getUserId();
+            User user = userMap.get(userId);
+            if (existingUserIds.contains(userId) || user == null) {
+                continue;
+            }
+
+            RentalSupport latest = latestMap.get(userId);
+            RentalSupport rentalSupport = RentalSupport.builder()
+                    .userId(userId)
+                    .requestDate(requestDate)
+                    .billingYyMonth(billingYyMonth)
+                    .contractStartDate(proposal.getContractStartDate())
+                    .contractEndDate(proposal.getContractEndDate())
+                    .contractMonthlyRent(proposal.getContractMonthlyRent())
+                    .paymentType(latest != null ? latest.getPaymentType() : PaymentType.PREPAID)
+                    .billingStartDate(proposal.getBillingStartDate())
+                    .paymentAmount(latest != null ? latest.getPaymentAmount() : proposal.getContractMonthlyRent())
+                    .billingAmount(proposal.getBillingAmount())
+                    .approvalStatus(ApprovalStatus.DRAFT.getName())
+                    .build();
+            applyBillingPeriod(rentalSupport, billingMonth);
+            rentalSupports.add(rentalSupport);
+        }
+
+        if (rentalSupports.isEmpty()) {
+            log.info("월세 지원 신청 신규 생성 대상 없음: billingYyMonth={}, proposals={}", billingYyMonth, proposalMap.size());
+            return 0;
+        }
+
+        List<RentalSupport> savedList = rentalSupportRepository.saveAll(rentalSupports);
+
+        // 알람 일괄 생성: 신청자에게 (확인 후 제출 안내)
+        alarmService.createDraftCreatedAlarms(ApplicationType.RENTAL.getCode(), savedList.stream()
+                .collect(Collectors.toMap(RentalSupport::getUserId, RentalSupport::getSeq)));
+
+        log.info("월세 지원 신청 월별 일괄 생성 완료: billingYyMonth={}, created={}, skipped={}",
+                billingYyMonth, savedList.size(), proposalMap.size() - savedList.size());
+        return savedList.size();
+    }
+
+    /**
+     * 청구 기간 및 납입일 계산 후 설정 (신청일자의 연도 기준)
+     * 신청일자, 계약 시작일, 선불/후불 구분이 설정된 상태에서 호출해야 한다.
+     *
+     * @param rentalSupport 월세 지원 신청 정보
+     * @param billingMonth 청구월 (1-12)
+     */
+    private void applyBillingPeriod(RentalSupport rentalSupport, int billingMonth) {
+        LocalDate requestDate = rentalSupport.getRequestDate();
+        int requestYear = requestDate.getYear();
+        int requestMonth = requestDate.getMonthValue(); // 신청일자의 월 (1-12)
+        int contractDay = rentalSupport.getContractStartDate().getDayOfMonth();
+        
+        // 청구월이 신청일자의 월보다 크면 전년도 기준 (예: 신청일자 1월, 청구월 12월 → 전년도 12월)
+        int baseYear = requestYear;
+        if (billingMonth > requestMonth) {
+            baseYear = requestYear - 1;
+        }
+        
+        // 청구월세 시작일: (청구월 - 1)월의 계약일자 (해당 월에 없는 일자는 말일로 보정)
+        YearMonth startYearMonth = YearMonth.of(baseYear, billingMonth).minusMonths(1);
+        LocalDate billingPeriodStartDate = startYearMonth.atDay(Math.min(contractDay, startYearMonth.lengthOfMonth()));
+        
+        // 청구월세 종료일: 시작일 + 한달 - 1일
+        LocalDate billingPeriodEndDate = billingPeriodStartDate.plusMonths(1).minusDays(1);
+        
+        // 월세 납입일 계산
+        LocalDate paymentDate;
+        if (rentalSupport.getPaymentType() == PaymentType.POSTPAID) {
+            // 후불: 청구월세 종료일 + 1일
+            paymentDate = billingPeriodEndDate.plusDays(1);
+        } else {
+            // 선불: 청구월세 시작일 - 1일
+            paymentDate = billingPeriodStartDate.minusDays(1);
+        }
+        
+        rentalSupport.setBillingPeriodStartDate(billingPeriodStartDate);
+        rentalSupport.setBillingPeriodEndDate(billingPeriodEndDate);
+        rentalSupport.setPaymentDate(paymentDate);
+    }
+
     /**
      * 월세 지원 청구서 문서 생성용 VO 생성
      *
@@ -23,6 +23,7 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * 월세지원 청구와 관련된 요청을 처리하는 controller
+ * 예외는 GlobalExceptionHandler에서 처리한다 (렌더링 용량 초과는 503, 그 외 ApiException은 오류 코드별 상태).
  *
  * @author vacation-api
  * @version 1.0
@@ -50,25 +51,20 @@ public class SampleController {
     public ResponseEntity<byte[]> sampleRequest(@Valid @RequestBody VacationSampleRequest request) {
         logger.info("연차 신청 샘플 요청 수신: {}", request);
 
-        try {
-            // PDF 생성
-            byte[] pdfBytes = sampleService.generateVacationApplicationPdf(request);
-
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "vacation-application.pdf");
-            headers.setContentLength(pdfBytes.length);
-
-            logger.info("PDF 생성 완료. 크기: {} bytes", pdfBytes.length);
-
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(pdfBytes);
-        } catch (Exception e) {
-            logger.error("PDF 생성 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        // PDF 생성
+        byte[] pdfBytes = sampleService.generateVacationApplicationPdf(request);
+
+        // HTTP 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData("attachment", "vacation-application.pdf");
+        headers.setContentLength(pdfBytes.length);
+
+        logger.info("PDF 생성 완료. 크기: {} bytes", pdfBytes.length);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(pdfBytes);
     }
 
     /**
@@ -81,31 +77,26 @@ public class SampleController {
     public ResponseEntity<byte[]> sampleRequestV2(@Valid @RequestBody VacationSampleRequest request) {
         logger.info("연차 신청 샘플 요청 수신 (DOCX): {}", request);
 
-        try {
-            // DOCX 파일 생성
-            byte[] docBytes = sampleService.generateVacationApplicationDoc(request);
-
-            String dateStr = request.getRequestDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            //String fileName = "vacation_application_" + dateStr + ".docx";
-            String fileName = "휴가(결무)신청서_"+ request.getApplicant() +"_" + dateStr + ".docx";
-            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-            headers.setContentLength(docBytes.length);
-
-            logger.info("DOCX 생성 완료. 크기: {} bytes", docBytes.length);
-
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(docBytes);
-        } catch (Exception e) {
-            logger.error("DOCX 생성 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        // DOCX 파일 생성
+        byte[] docBytes = sampleService.generateVacationApplicationDoc(request);
+
+        String dateStr = request.getRequestDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        //String fileName = "vacation_application_" + dateStr + ".docx";
+        String fileName = "휴가(결무)신청서_"+ request.getApplicant() +"_" + dateStr + ".docx";
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                .replace("+", "%20");
+
+        // HTTP 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
+        headers.setContentLength(docBytes.length);
+
+        logger.info("DOCX 생성 완료. 크기: {} bytes", docBytes.length);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(docBytes);
     }
 
     /**
@@ -118,25 +109,20 @@ public class SampleController {
     public ResponseEntity<byte[]> rentalSupportRequest(@Valid @RequestBody RentalSupportSampleRequest request) {
         logger.info("월세지원 청구 요청 수신: {}", request);
         
-        try {
-            // PDF 생성
-            byte[] pdfBytes = sampleService.generateRentalSupportApplicationPdf(request);
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "rental-support-application.pdf");
-            headers.setContentLength(pdfBytes.length);
-            
-            logger.info("PDF 생성 완료. 크기: {} bytes", pdfBytes.length);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(pdfBytes);
-        } catch (Exception e) {
-            logger.error("PDF 생성 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        // PDF 생성
+        byte[] pdfBytes = sampleService.generateRentalSupportApplicationPdf(request);
+        
+        // HTTP 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData("attachment", "rental-support-application.pdf");
+        headers.setContentLength(pdfBytes.length);
+        
+        logger.info("PDF 생성 완료. 크기: {} bytes", pdfBytes.length);
+        
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(pdfBytes);
     }
     /**
      * 월세지원 청구서 API - Excel 문서 반환
@@ -148,31 +134,26 @@ public class SampleController {
     public ResponseEntity<byte[]> rentalSupportRequestV2(@Valid @RequestBody RentalSupportSampleRequest request) {
         logger.info("월세지원 청구 요청 수신: {}", request);
 
-        try {
-            // Excel 생성
-            byte[] excelBytes = sampleService.generateRentalSupportApplicationExcel(request);
-
-            String dateStr = request.getRequestDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            //String fileName = "rental_support_application_" + dateStr + ".xlsx";
-            String fileName = "월세지원청구서_"+ request.getApplicant() +"_" + dateStr + ".xlsx";
-            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-            headers.setContentLength(excelBytes.length);
-
-            logger.info("Excel 생성 완료. 크기: {} bytes", excelBytes.length);
-
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(excelBytes);
-        } catch (Exception e) {
-            logger.error("Excel 생성 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        // Excel 생성
+        byte[] excelBytes = sampleService.generateRentalSupportApplicationExcel(request);
+
+        String dateStr = request.getRequestDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        //String fileName = "rental_support_application_" + dateStr + ".xlsx";
+        String fileName = "월세지원청구서_"+ request.getApplicant() +"_" + dateStr + ".xlsx";
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                .replace("+", "%20");
+
+        // HTTP 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
+        headers.setContentLength(excelBytes.length);
+
+        logger.info("Excel 생성 완료. 크기: {} bytes", excelBytes.length);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(excelBytes);
     }
 
     /**
@@ -185,31 +166,26 @@ public class SampleController {
     public ResponseEntity<byte[]> rentalSupportProposalRequest(@Valid @RequestBody RentalSupportPropSampleRequest request) {
         logger.info("월세지원 품의서 요청 수신: {}", request);
 
-        try {
-            // DOCX 파일 생성
-            byte[] docBytes = sampleService.generateRentalSupportProposalDoc(request);
-
-            String dateStr = request.getRequestDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            //String fileName = "rental_support_proposal_" + dateStr + ".docx";
-            String fileName = "월세지원품의서_"+ request.getApplicant() +"_" + dateStr + ".docx";
-            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-            headers.setContentLength(docBytes.length);
-
-            logger.info("품의서 DOCX 생성 완료. 크기: {} bytes", docBytes.length);
-
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(docBytes);
-        } catch (Exception e) {
-            logger.error("품의서 DOCX 생성 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        // DOCX 파일 생성
+        byte[] docBytes = sampleService.generateRentalSupportProposalDoc(request);
+
+        String dateStr = request.getRequestDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        //String fileName = "rental_support_proposal_" + dateStr + ".docx";
+        String fileName = "월세지원품의서_"+ request.getApplicant() +"_" + dateStr + ".docx";
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                .replace("+", "%20");
+
+        // HTTP 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
+        headers.setContentLength(docBytes.length);
+
+        logger.info("품의서 DOCX 생성 완료. 크기: {} bytes", docBytes.length);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(docBytes);
     }
 
     /**
@@ -222,31 +198,26 @@ public class SampleController {
     public ResponseEntity<byte[]> expenseClaimRequest(@Valid @RequestBody ExpenseClaimSampleRequest request) {
         logger.info("업무관련 개인 비용 청구서 요청 수신: {}", request);
 
-        try {
-            // Excel 생성
-            byte[] excelBytes = sampleService.generateExpenseClaimExcel(request);
-
-            String dateStr = request.getRequestDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            //String fileName = "expense_claim_" + dateStr + ".xlsx";
-            String fileName = "개인비용신청서_"+ request.getApplicant() +"_" + dateStr + ".xlsx";
-            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-            headers.setContentLength(excelBytes.length);
-
-            logger.info("비용 청구서 Excel 생성 완료. 크기: {} bytes", excelBytes.length);
-
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(excelBytes);
-        } catch (Exception e) {
-            logger.error("비용 청구서 Excel 생성 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        // Excel 생성
+        byte[] excelBytes = sampleService.generateExpenseClaimExcel(request);
+
+        String dateStr = request.getRequestDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        //String fileName = "expense_claim_" + dateStr + ".xlsx";
+        String fileName = "개인비용신청서_"+ request.getApplicant() +"_" + dateStr + ".xlsx";
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                .replace("+", "%20");
+
+        // HTTP 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
+        headers.setContentLength(excelBytes.length);
+
+        logger.info("비용 청구서 Excel 생성 완료. 크기: {} bytes", excelBytes.length);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(excelBytes);
     }
 }
 
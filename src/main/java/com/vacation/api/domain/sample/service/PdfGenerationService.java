@@ -1,26 +1,39 @@
 package com.vacation.api.domain.sample.service;
 
-import com.lowagie.text.pdf.BaseFont;
 import com.vacation.api.domain.sample.request.RentalSupportSampleRequest;
 import com.vacation.api.domain.sample.request.VacationSampleRequest;
 import com.vacation.api.util.CommonUtil;
+import com.vacation.api.enums.SignaturePlaceholder;
+import com.vacation.api.exception.ApiException;
+import com.vacation.api.util.PdfRendererPool;
+import com.vacation.api.util.RenderBulkhead;
+import com.vacation.api.vo.ExpenseClaimVO;
+import com.vacation.api.vo.RentalSupportApplicationVO;
+import com.vacation.api.vo.VacationDocumentVO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
-import org.xhtmlrenderer.pdf.ITextRenderer;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static com.vacation.api.util.CommonUtil.*;
 
 /**
  * PDF 생성 서비스
+ * Thymeleaf HTML 템플릿(캐시된 파싱 결과)을 렌더링한 뒤 풀링된 Flying Saucer 렌더러로 PDF를 만든다.
  *
  * @author vacation-api
  * @version 1.0
@@ -31,29 +44,74 @@ import static com.vacation.api.util.CommonUtil.*;
 public class PdfGenerationService {
 
     private final TemplateEngine templateEngine;
+    private final PdfRendererPool pdfRendererPool;
+    private final RenderBulkhead renderBulkhead;
 
-    public PdfGenerationService(TemplateEngine templateEngine) {
+    /**
+     * 회사 로고 Base64 데이터 URI (최초 로드 후 재사용)
+     */
+    private volatile String companyLogoBase64;
+
+    public PdfGenerationService(TemplateEngine templateEngine, PdfRendererPool pdfRendererPool,
+                                RenderBulkhead renderBulkhead) {
         this.templateEngine = templateEngine;
+        this.pdfRendererPool = pdfRendererPool;
+        this.renderBulkhead = renderBulkhead;
     }
 
     /**
-     * 연차 신청서 PDF 생성
+     * 연차 신청서 PDF 생성 (샘플 요청)
      *
      * @param request 연차 신청 요청 데이터
      * @return PDF 바이트 배열
      */
     public byte[] generateVacationApplicationPdf(VacationSampleRequest request) {
+        return generateVacationApplicationPdf(VacationDocumentVO.builder()
+                .requestDate(request.getRequestDate())
+                .department(request.getDepartment())
+                .applicant(request.getApplicant())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .vacationType(request.getVacationType())
+                .reason(request.getReason())
+                .totalVacationDays(request.getTotalVacationDays())
+                .remainingVacationDays(request.getRemainingVacationDays())
+                .requestedVacationDays(request.getRequestedVacationDays())
+                .build());
+    }
+
+    /**
+     * 연차 신청서 PDF 생성
+     *
+     * @param vo 연차 신청서 문서 생성용 VO
+     * @return PDF 바이트 배열
+     */
+    public byte[] generateVacationApplicationPdf(VacationDocumentVO vo) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeVacationApplicationPdf(vo, null, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 연차 신청서 PDF 생성 (출력 스트림에 직접 기록)
+     *
+     * @param vo 연차 신청서 문서 생성용 VO
+     * @param signatureImageMap 서명 이미지 맵 (null이면 서명 없음)
+     * @param outputStream 출력 스트림 (닫지 않음)
+     */
+    public void writeVacationApplicationPdf(VacationDocumentVO vo, Map<String, byte[]> signatureImageMap,
+                                            OutputStream outputStream) {
         try {
             // 문서 번호 생성 (예: KP-20251226-01)
-            String documentNumber = CommonUtil.generateDocumentNumber(request.getRequestDate());
+            String documentNumber = CommonUtil.generateDocumentNumber(vo.getRequestDate());
 
             // 기간 문자열 생성
-            String period = CommonUtil.formatPeriod(request.getStartDate(), request.getEndDate());
+            String period = CommonUtil.formatPeriod(vo.getStartDate(), vo.getEndDate());
 
             // 최종 잔여 연차일수 계산
             Double finalRemainingDays = CommonUtil.calculateFinalRemainingDays(
-                    request.getRemainingVacationDays(),
-                    request.getRequestedVacationDays()
+                    vo.getRemainingVacationDays(),
+                    vo.getRequestedVacationDays()
             );
 
             // 현재 연도 가져오기
@@ -62,37 +120,27 @@ public class PdfGenerationService {
             // Thymeleaf 컨텍스트 설정
             Context context = new Context();
             context.setVariable("documentNumber", documentNumber);
-            context.setVariable("requestDate", CommonUtil.formatDate(request.getRequestDate()));
-            context.setVariable("department", request.getDepartment());
-            context.setVariable("applicant", request.getApplicant());
+            context.setVariable("requestDate", CommonUtil.formatDate(vo.getRequestDate()));
+            context.setVariable("department", vo.getDepartment());
+            context.setVariable("applicant", vo.getApplicant());
             context.setVariable("period", period);
-            context.setVariable("vacationType", request.getVacationType().getValue());
-            context.setVariable("reason", request.getReason());
-            context.setVariable("totalVacationDays", request.getTotalVacationDays());
-            context.setVariable("previousRemainingDays", request.getRemainingVacationDays());
-            context.setVariable("requestedVacationDays", request.getRequestedVacationDays());
-            context.setVariable("reqDays", CommonUtil.formatVacationDays(request.getRequestedVacationDays()));
+            context.setVariable("vacationType", vo.getVacationType().getValue());
+            context.setVariable("reason", vo.getReason());
+            context.setVariable("totalVacationDays", vo.getTotalVacationDays());
+            context.setVariable("previousRemainingDays", vo.getRemainingVacationDays());
+            context.setVariable("requestedVacationDays", vo.getRequestedVacationDays());
+            context.setVariable("reqDays", CommonUtil.formatVacationDays(vo.getRequestedVacationDays()));
             context.setVariable("finalRemainingDays", finalRemainingDays);
             context.setVariable("currentYear", currentYear);
             // 회사 로고 이미지를 Base64로 인코딩
             String companyLogoBase64 = loadCompanyLogoAsBase64();
             context.setVariable("companyLogoBase64", companyLogoBase64);
+            context.setVariable("signatureImages", toSignatureDataUris(signatureImageMap));
 
-            // HTML 템플릿 렌더링
-            String html = templateEngine.process("vacation-application", context);
-
-            // PDF 생성
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            ITextRenderer renderer = new ITextRenderer();
-            
-            // 한글 폰트 설정
-            setupKoreanFonts(renderer);
-            
-            renderer.setDocumentFromString(html);
-            renderer.layout();
-            renderer.createPDF(outputStream);
-
-            return outputStream.toByteArray();
+            // HTML 템플릿 렌더링 후 PDF 생성
+            renderPdf("vacation-application", context, outputStream);
+        } catch (ApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("PDF 생성 중 오류 발생", e);
             throw new RuntimeException("PDF 생성 실패", e);
@@ -101,153 +149,237 @@ public class PdfGenerationService {
 
 
     /**
-     * 월세지원 청구서 PDF 생성
+     * 월세지원 청구서 PDF 생성 (샘플 요청)
      *
      * @param request 월세지원 청구 요청 데이터
      * @return PDF 바이트 배열
      */
     public byte[] generateRentalSupportApplicationPdf(RentalSupportSampleRequest request) {
+        return generateRentalSupportApplicationPdf(RentalSupportApplicationVO.builder()
+                .requestDate(request.getRequestDate())
+                .month(request.getMonth())
+                .department(request.getDepartment())
+                .applicant(request.getApplicant())
+                .contractStartDate(request.getContractStartDate())
+                .contractEndDate(request.getContractEndDate())
+                .contractMonthlyRent(request.getContractMonthlyRent())
+                .paymentType(request.getPaymentType())
+                .billingStartDate(request.getBillingStartDate())
+                .billingPeriodStartDate(request.getBillingPeriodStartDate())
+                .billingPeriodEndDate(request.getBillingPeriodEndDate())
+                .paymentDate(request.getPaymentDate())
+                .paymentAmount(request.getPaymentAmount())
+                .billingAmount(request.getBillingAmount())
+                .build());
+    }
+
+    /**
+     * 월세지원 청구서 PDF 생성
+     *
+     * @param vo 월세지원 청구서 문서 생성용 VO
+     * @return PDF 바이트 배열
+     */
+    public byte[] generateRentalSupportApplicationPdf(RentalSupportApplicationVO vo) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeRentalSupportApplicationPdf(vo, null, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 월세지원 청구서 PDF 생성 (출력 스트림에 직접 기록)
+     *
+     * @param vo 월세지원 청구서 문서 생성용 VO
+     * @param signatureImageMap 서명 이미지 맵 (null이면 서명 없음)
+     * @param outputStream 출력 스트림 (닫지 않음)
+     */
+    public void writeRentalSupportApplicationPdf(RentalSupportApplicationVO vo, Map<String, byte[]> signatureImageMap,
+                                                 OutputStream outputStream) {
         try {
             // 문서 번호 생성
-            String documentNumber = CommonUtil.generateDocumentNumber(request.getRequestDate());
+            String documentNumber = CommonUtil.generateDocumentNumber(vo.getRequestDate());
 
             // 계약 기간 계산
             long contractYears = ChronoUnit.YEARS.between(
-                    request.getContractStartDate(), 
-                    request.getContractEndDate()
+                    vo.getContractStartDate(), 
+                    vo.getContractEndDate()
             );
             
             // 계약 기간 문자열 생성
-            String contractPeriod = CommonUtil.formatPeriod(request.getContractStartDate(), request.getContractEndDate());
+            String contractPeriod = CommonUtil.formatPeriod(vo.getContractStartDate(), vo.getContractEndDate());
             
             // 청구 기간 일수 계산
             long billingDays = ChronoUnit.DAYS.between(
-                    request.getBillingPeriodStartDate(),
-                    request.getBillingPeriodEndDate()
+                    vo.getBillingPeriodStartDate(),
+                    vo.getBillingPeriodEndDate()
             ) + 1; // 시작일 포함
             String billingDaysFormatted = String.format("(%d/%d일)", billingDays, billingDays);
             // 청구 기간 비율 계산 (항상 100%)
             double billingPercentage = 100.0;
             
             // 현재 월 가져오기
-            int currentMonth = request.getRequestDate().getMonthValue();
+            int currentMonth = vo.getRequestDate().getMonthValue();
             
             // Thymeleaf 컨텍스트 설정
             Context context = new Context();
             context.setVariable("documentNumber", documentNumber);
-            context.setVariable("requestDate", CommonUtil.formatDate(request.getRequestDate()));
-            context.setVariable("department", request.getDepartment());
-            context.setVariable("applicant", request.getApplicant());
+            context.setVariable("requestDate", CommonUtil.formatDate(vo.getRequestDate()));
+            context.setVariable("department", vo.getDepartment());
+            context.setVariable("applicant", vo.getApplicant());
             context.setVariable("contractPeriod", contractPeriod);
             context.setVariable("contractYears", contractYears);
-            context.setVariable("contractMonthlyRent", request.getContractMonthlyRent());
-            context.setVariable("paymentType", request.getPaymentType().getValue());
-            context.setVariable("billingStartDate", CommonUtil.formatDate(request.getBillingStartDate()));
-            context.setVariable("billingPeriodStart", CommonUtil.formatDateShort(request.getBillingPeriodStartDate()));
-            context.setVariable("billingPeriodEnd", CommonUtil.formatDateShort(request.getBillingPeriodEndDate()));
+            context.setVariable("contractMonthlyRent", vo.getContractMonthlyRent());
+            context.setVariable("paymentType", vo.getPaymentType().getValue());
+            context.setVariable("billingStartDate", CommonUtil.formatDate(vo.getBillingStartDate()));
+            context.setVariable("billingPeriodStart", CommonUtil.formatDateShort(vo.getBillingPeriodStartDate()));
+            context.setVariable("billingPeriodEnd", CommonUtil.formatDateShort(vo.getBillingPeriodEndDate()));
             context.setVariable("billingDays", billingDaysFormatted);
             context.setVariable("billingPercentage", String.format("%.2f", billingPercentage));
-            context.setVariable("paymentDate", formatDateShort(request.getPaymentDate()));
-            context.setVariable("paymentAmount", request.getPaymentAmount());
-            context.setVariable("billingAmount", request.getBillingAmount());
+            context.setVariable("paymentDate", formatDateShort(vo.getPaymentDate()));
+            context.setVariable("paymentAmount", vo.getPaymentAmount());
+            context.setVariable("billingAmount", vo.getBillingAmount());
             context.setVariable("month", currentMonth);
             
             // 회사 로고 이미지를 Base64로 인코딩
             String companyLogoBase64 = loadCompanyLogoAsBase64();
             context.setVariable("companyLogoBase64", companyLogoBase64);
+            context.setVariable("signatureImages", toSignatureDataUris(signatureImageMap));
 
-            // HTML 템플릿 렌더링
-            String html = templateEngine.process("rental-support-application", context);
-
-            // PDF 생성
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            ITextRenderer renderer = new ITextRenderer();
-            
-            // 한글 폰트 설정 (기존과 동일)
-            setupKoreanFonts(renderer);
-            
-            renderer.setDocumentFromString(html);
-            renderer.layout();
-            renderer.createPDF(outputStream);
-
-            return outputStream.toByteArray();
+            // HTML 템플릿 렌더링 후 PDF 생성
+            renderPdf("rental-support-application", context, outputStream);
+        } catch (ApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("월세지원 청구서 PDF 생성 중 오류 발생", e);
             throw new RuntimeException("PDF 생성 실패", e);
         }
     }
 
-
     /**
-     * 한글 폰트 설정 (공통 메서드)
+     * 개인 비용 청구서 PDF 생성 (출력 스트림에 직접 기록)
+     *
+     * @param vo 개인 비용 청구서 문서 생성용 VO
+     * @param signatureImageMap 서명 이미지 맵 (null이면 서명 없음)
+     * @param outputStream 출력 스트림 (닫지 않음)
      */
-    private void setupKoreanFonts(ITextRenderer renderer) {
+    public void writeExpenseClaimPdf(ExpenseClaimVO vo, Map<String, byte[]> signatureImageMap,
+                                     OutputStream outputStream) {
         try {
-            String[] fontResourcePaths = {
-                "fonts/NanumGothic.ttf",
-                "fonts/malgun.ttf",
-                "fonts/AppleGothic.ttf",
-                "fonts/BareunBatangPro1.ttf"
-            };
-            
-            boolean fontLoaded = false;
-            for (String fontResourcePath : fontResourcePaths) {
-                try {
-                    ClassPathResource fontResource = new ClassPathResource(fontResourcePath);
-                    if (fontResource.exists()) {
-                        InputStream fontInputStream = fontResource.getInputStream();
-                        
-                        java.io.File tempFontFile = java.io.File.createTempFile("font_", ".ttf");
-                        tempFontFile.deleteOnExit();
-                        
-                        try (java.io.FileOutputStream fos = new java.io.FileOutputStream(tempFontFile)) {
-                            fontInputStream.transferTo(fos);
-                        }
-                        
-                        try {
-                            renderer.getFontResolver().addFont(
-                                tempFontFile.getAbsolutePath(),
-                                BaseFont.IDENTITY_H,
-                                BaseFont.EMBEDDED
-                            );
-                            
-                            log.info("프로젝트 내 한글 폰트 등록 완료: {}", fontResourcePath);
-                            fontLoaded = true;
-                            break;
-                        } catch (Exception fontException) {
-                            log.warn("폰트 등록 실패: {} - {}", fontResourcePath, fontException.getMessage());
-                            tempFontFile.delete();
-                            continue;
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("폰트 리소스 로드 실패: {} - {}", fontResourcePath, e.getMessage());
-                    continue;
+            // 문서 번호 생성
+            String documentNumber = CommonUtil.generateDocumentNumber(vo.getRequestDate());
+
+            // 항목 행 (날짜/금액 포맷 적용) 및 합계 계산
+            List<ExpenseClaimVO.ExpenseItemVO> expenseItems = vo.getExpenseItems() != null
+                    ? vo.getExpenseItems() : List.of();
+            List<Map<String, String>> items = new ArrayList<>(expenseItems.size());
+            long totalAmount = 0L;
+            for (ExpenseClaimVO.ExpenseItemVO item : expenseItems) {
+                Map<String, String> row = new HashMap<>();
+                row.put("date", item.getDate() != null ? formatDateShort(item.getDate()) : "");
+                row.put("usageDetail", item.getUsageDetail());
+                row.put("vendor", item.getVendor());
+                row.put("paymentMethod", item.getPaymentMethod());
+                row.put("project", item.getProject());
+                row.put("amount", item.getAmount() != null ? formatNumber(item.getAmount()) : "");
+                row.put("note", item.getNote());
+                items.add(row);
+                if (item.getAmount() != null) {
+                    totalAmount += item.getAmount();
                 }
             }
-            
-            if (!fontLoaded) {
-                log.warn("프로젝트 내 한글 폰트를 찾을 수 없습니다. resources/fonts/ 폴더에 폰트 파일을 추가해주세요.");
-            }
+
+            // Thymeleaf 컨텍스트 설정
+            Context context = new Context();
+            context.setVariable("documentNumber", documentNumber);
+            context.setVariable("requestDate", CommonUtil.formatDate(vo.getRequestDate()));
+            context.setVariable("department", vo.getDepartment());
+            context.setVariable("applicant", vo.getApplicant());
+            context.setVariable("month", vo.getMonth());
+            context.setVariable("items", items);
+            context.setVariable("totalAmount", formatNumber(totalAmount));
+            context.setVariable("companyLogoBase64", loadCompanyLogoAsBase64());
+            context.setVariable("signatureImages", toSignatureDataUris(signatureImageMap));
+
+            // HTML 템플릿 렌더링 후 PDF 생성
+            renderPdf("expense-claim", context, outputStream);
+        } catch (ApiException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("폰트 설정 중 오류 발생: {}", e.getMessage(), e);
+            log.error("개인 비용 청구서 PDF 생성 중 오류 발생", e);
+            throw new RuntimeException("PDF 생성 실패", e);
+        }
+    }
+
+    /**
+     * Thymeleaf 템플릿을 렌더링하여 PDF로 기록
+     * 템플릿은 최초 처리 시 파싱 결과가 캐시되고(spring.thymeleaf.cache), 렌더러는 풀에서 재사용한다.
+     * 렌더링 벌크헤드 안에서 실행한다 (허가를 받지 못하면 ApiException).
+     */
+    private void renderPdf(String templateName, Context context, OutputStream outputStream) throws Exception {
+        renderBulkhead.execute("pdf", () -> {
+            // HTML 템플릿 렌더링
+            String html = templateEngine.process(templateName, context);
+
+            // PDF 생성 (iText는 PDF 완료 시 출력 스트림을 닫으므로 호출 측 스트림을 보호)
+            pdfRendererPool.render(html, new NonClosingOutputStream(outputStream));
+            return null;
+        });
+    }
+
+    /**
+     * 서명 이미지 맵을 템플릿용 데이터 URI 맵으로 변환 (키: 서명 플레이스홀더 이름, 예: DAM_SIG1)
+     */
+    private static Map<String, String> toSignatureDataUris(Map<String, byte[]> signatureImageMap) {
+        Map<String, String> signatureImages = new HashMap<>();
+        if (signatureImageMap == null) {
+            return signatureImages;
         }
+        signatureImageMap.forEach((placeholder, image) -> {
+            SignaturePlaceholder signaturePlaceholder = SignaturePlaceholder.fromPlaceholder(placeholder);
+            if (signaturePlaceholder != null && image != null && image.length > 0) {
+                signatureImages.put(signaturePlaceholder.name(),
+                        "data:image/png;base64," + Base64.getEncoder().encodeToString(image));
+            }
+        });
+        return signatureImages;
     }
 
     /**
      * 회사 로고 이미지를 Base64로 인코딩하여 반환
+     * 최초 로드 결과를 캐시하여 이후 PDF 생성 시에는 파일을 다시 읽지 않는다.
      */
     private String loadCompanyLogoAsBase64() {
-        try {
-            ClassPathResource resource = new ClassPathResource("logo.png");
-            InputStream inputStream = resource.getInputStream();
+        String cached = companyLogoBase64;
+        if (cached != null) {
+            return cached;
+        }
+        try (InputStream inputStream = new ClassPathResource("logo.png").getInputStream()) {
             byte[] imageBytes = inputStream.readAllBytes();
             String base64Image = Base64.getEncoder().encodeToString(imageBytes);
-            return "data:image/png;base64," + base64Image;
+            companyLogoBase64 = "data:image/png;base64," + base64Image;
+            return companyLogoBase64;
         } catch (Exception e) {
             log.warn("회사 로고 이미지를 로드할 수 없습니다. 기본 이미지를 사용합니다.", e);
             return "https://via.placeholder.com/150x60?text=Company+Logo";
         }
     }
-}
 
+    /**
+     * close() 호출 시 하위 스트림을 닫지 않는 출력 스트림
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.vacation.api.domain.sample.request.RentalSupportSampleRequest;
 import com.vacation.api.domain.sample.request.VacationSampleRequest;
 import com.vacation.api.enums.SignaturePlaceholder;
 import com.vacation.api.util.FileGenerateUtil;
+import com.vacation.api.util.RenderBulkhead;
 import com.vacation.api.vo.VacationDocumentVO;
 import com.vacation.api.vo.RentalSupportApplicationVO;
 import com.vacation.api.vo.RentalSupportProposalVO;
@@ -32,9 +33,11 @@ import java.util.stream.Collectors;
 public class SampleService {
 
     private final PdfGenerationService pdfGenerationService;
+    private final RenderBulkhead renderBulkhead;
 
-    public SampleService(PdfGenerationService pdfGenerationService) {
+    public SampleService(PdfGenerationService pdfGenerationService, RenderBulkhead renderBulkhead) {
         this.pdfGenerationService = pdfGenerationService;
+        this.renderBulkhead = renderBulkhead;
     }
 
     /**
@@ -63,7 +66,7 @@ public class SampleService {
         // Sample에서는 DAM_SIG1, DAM_SIG2만 이미지로 채우고 나머지는 빈 문자열
         Map<String, byte[]> signatureImageMap = createSampleSignatureImageMap();
         
-        return FileGenerateUtil.generateVacationApplicationDoc(vo, signatureImageMap);
+        return renderBulkhead.execute("document", () -> FileGenerateUtil.generateVacationApplicationDoc(vo, signatureImageMap));
     }
 
     /**
@@ -92,7 +95,7 @@ public class SampleService {
         // Sample에서는 DAM_SIG1, DAM_SIG2만 이미지로 채우고 나머지는 빈 문자열
         Map<String, byte[]> signatureImageMap = createSampleSignatureImageMap();
         
-        return FileGenerateUtil.generateRentalSupportApplicationExcel(vo, signatureImageMap);
+        return renderBulkhead.execute("document", () -> FileGenerateUtil.generateRentalSupportApplicationExcel(vo, signatureImageMap));
     }
 
     /**
@@ -110,7 +113,7 @@ public class SampleService {
         // Sample에서는 DAM_SIG1, DAM_SIG2만 이미지로 채우고 나머지는 빈 문자열
         Map<String, byte[]> signatureImageMap = createSampleSignatureImageMap();
         
-        return FileGenerateUtil.generateRentalSupportProposalDoc(vo, signatureImageMap);
+        return renderBulkhead.execute("document", () -> FileGenerateUtil.generateRentalSupportProposalDoc(vo, signatureImageMap));
     }
 
     /**
@@ -128,7 +131,7 @@ public class SampleService {
         // Sample에서는 DAM_SIG1, DAM_SIG2만 이미지로 채우고 나머지는 빈 문자열
         Map<String, byte[]> signatureImageMap = createSampleSignatureImageMap();
         
-        return FileGenerateUtil.generateExpenseClaimExcel(vo, signatureImageMap);
+        return renderBulkhead.execute("document", () -> FileGenerateUtil.generateExpenseClaimExcel(vo, signatureImageMap));
     }
 
     /**
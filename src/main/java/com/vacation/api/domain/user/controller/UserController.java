@@ -427,7 +427,9 @@ public class UserController extends BaseController {
                     .body(imageBytes);
         } catch (ApiException e) {
             log.warn("서명 미리보기 생성 실패: fontType={}, userName={}, error={}", fontType, userName, e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            HttpStatus status = e.getApiErrorCode() == ApiErrorCode.RENDER_CAPACITY_EXCEEDED
+                    ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status)
                     .contentType(MediaType.TEXT_PLAIN)
                     .body(e.getMessage().getBytes(StandardCharsets.UTF_8));
         } catch (IOException e) {
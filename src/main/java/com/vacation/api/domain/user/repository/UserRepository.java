@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -129,6 +130,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.teamManagement WHERE u.userId = :userId")
     Optional<User> findByIdWithTeamManagement(@Param("userId") Long userId);
 
+    /**
+     * 사용자 ID 목록으로 사용자 조회 (팀 정보 fetch join)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 목록
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.teamManagement WHERE u.userId IN :userIds")
+    List<User> findAllWithTeamManagementByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 권한 값으로 사용자 조회 (팀 정보 fetch join)
+     *
+     * @param authVals 권한 값 목록 (ma, bb, tj, tw)
+     * @return 사용자 목록
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.teamManagement WHERE u.authVal IN :authVals")
+    List<User> findAllWithTeamManagementByAuthValIn(@Param("authVals") Collection<String> authVals);
+
     /**
      * 팀 관리 시퀀스로 사용자 수 조회
      *
@@ -4,6 +4,8 @@ import com.vacation.api.domain.user.entity.UserSignature;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,6 +26,14 @@ public interface UserSignatureRepository extends JpaRepository<UserSignature, Lo
      */
     Optional<UserSignature> findByUserSeq(Long userSeq);
 
+    /**
+     * 여러 사용자 시퀀스로 서명 정보 일괄 조회 (문서 서명자 폰트 조회용)
+     *
+     * @param userSeqs 사용자 시퀀스 목록
+     * @return 사용자 서명 정보 목록
+     */
+    List<UserSignature> findByUserSeqIn(Collection<Long> userSeqs);
+
     /**
      * 사용자 시퀀스로 서명 정보 삭제
      *
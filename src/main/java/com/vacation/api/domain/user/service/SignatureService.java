@@ -9,6 +9,7 @@ import com.vacation.api.enums.SignaturePlaceholder;
 import com.vacation.api.exception.ApiErrorCode;
 import com.vacation.api.exception.ApiException;
 import com.vacation.api.util.SignatureFileUtil;
+import com.vacation.api.util.SignatureImageCache;
 import com.vacation.api.util.SignatureImageUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +44,7 @@ public class SignatureService {
     private final UserSignatureRepository userSignatureRepository;
     private final SignatureFileUtil signatureFileUtil;
     private final SignatureImageUtil signatureImageUtil;
+    private final SignatureImageCache signatureImageCache;
 
     /**
      * 서명 생성/업로드
@@ -115,6 +117,9 @@ public class SignatureService {
 
         userSignatureRepository.save(userSignature);
 
+        // 캐시된 서명/날짜 이미지 무효화 (파일 및 폰트 변경 반영)
+        signatureImageCache.invalidateUser(userId);
+
         Map<String, Object> responseData = new HashMap<>();
         responseData.put("message", "서명이 저장되었습니다.");
 
@@ -215,6 +220,9 @@ public class SignatureService {
         // DB 레코드 삭제
         userSignatureRepository.deleteByUserSeq(userId);
 
+        // 캐시된 서명/날짜 이미지 무효화
+        signatureImageCache.invalidateUser(userId);
+
         Map<String, Object> responseData = new HashMap<>();
         if (deleted) {
             responseData.put("message", "서명이 삭제되었습니다.");
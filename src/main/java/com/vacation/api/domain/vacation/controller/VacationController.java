@@ -3,6 +3,7 @@ package com.vacation.api.domain.vacation.controller;
 import com.vacation.api.common.controller.BaseController;
 import com.vacation.api.response.data.PagedResponse;
 import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.domain.attachment.service.AttachmentDownloadService;
 import com.vacation.api.domain.attachment.service.FileService;
 import com.vacation.api.domain.user.entity.User;
 import com.vacation.api.domain.user.service.UserService;
@@ -15,33 +16,26 @@ import com.vacation.api.domain.vacation.response.VacationHistoryResponse;
 import com.vacation.api.domain.vacation.service.VacationService;
 import com.vacation.api.enums.ApplicationType;
 import com.vacation.api.enums.ApprovalStatus;
+import com.vacation.api.enums.DocumentFormat;
+import com.vacation.api.domain.document.service.DocumentDownloadService;
+import com.vacation.api.exception.ApiErrorCode;
 import com.vacation.api.exception.ApiException;
 import com.vacation.api.response.data.ApiResponse;
 import com.vacation.api.common.TransactionIDCreator;
-import com.vacation.api.util.FileGenerateUtil;
 import com.vacation.api.util.ResponseMapper;
-import com.vacation.api.util.ZipFileUtil;
-import com.vacation.api.util.CommonUtil;
-import com.vacation.api.enums.AuthVal;
-import com.vacation.api.domain.user.repository.UserRepository;
-import com.vacation.api.vo.VacationDocumentVO;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 연차 Controller
@@ -59,24 +53,21 @@ public class VacationController extends BaseController {
     private final UserService userService;
     private final ResponseMapper responseMapper;
     private final FileService fileService;
-    private final ZipFileUtil zipFileUtil;
-    private final FileGenerateUtil fileGenerateUtil;
-    private final UserRepository userRepository;
+    private final DocumentDownloadService documentDownloadService;
+    private final AttachmentDownloadService attachmentDownloadService;
 
     public VacationController(VacationService vacationService, UserService userService,
                               ResponseMapper responseMapper, FileService fileService,
                               TransactionIDCreator transactionIDCreator,
-                              ZipFileUtil zipFileUtil,
-                              FileGenerateUtil fileGenerateUtil,
-                              UserRepository userRepository) {
+                              DocumentDownloadService documentDownloadService,
+                              AttachmentDownloadService attachmentDownloadService) {
         super(transactionIDCreator);
         this.vacationService = vacationService;
         this.userService = userService;
         this.responseMapper = responseMapper;
         this.fileService = fileService;
-        this.zipFileUtil = zipFileUtil;
-        this.fileGenerateUtil = fileGenerateUtil;
-        this.userRepository = userRepository;
+        this.documentDownloadService = documentDownloadService;
+        this.attachmentDownloadService = attachmentDownloadService;
     }
 
     /**
@@ -486,117 +477,54 @@ public class VacationController extends BaseController {
      *
      * @param request HTTP 요청
      * @param seq 시퀀스
-     * @return DOCX 문서
+     * @param format 문서 형식 (pdf이면 PDF, 생략 시 원본 양식)
+     * @return DOCX 또는 PDF 문서 스트림 (첨부파일이 있으면 ZIP)
      */
     @GetMapping("/history/{seq}/download")
-    public ResponseEntity<byte[]> downloadVacationDocument(
+    public ResponseEntity<StreamingResponseBody> downloadVacationDocument(
             HttpServletRequest request,
-            @PathVariable Long seq) {
-        log.info("휴가 신청서 다운로드 요청: seq={}", seq);
+            @PathVariable Long seq,
+            @RequestParam(required = false) String format) {
+        log.info("휴가 신청서 다운로드 요청: seq={}, format={}", seq, format);
+
+        DocumentFormat documentFormat;
+        try {
+            documentFormat = DocumentFormat.fromValue(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("지원하지 않는 문서 형식: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
 
         try {
             Long requesterId = (Long) request.getAttribute("userId");
-            User requester = userService.getUserInfo(requesterId);
-            
-            // 휴가 내역 조회 (seq만으로 조회)
-            VacationHistory vacationHistory = vacationService.getVacationHistoryById(seq);
-            if (vacationHistory == null) {
-                log.warn("존재하지 않는 휴가 신청: seq={}", seq);
-                return ResponseEntity.notFound().build();
-            }
-            
-            // 권한 체크: 본인 신청서이거나 결재 권한이 있는 경우만 다운로드 가능
-            Long applicantId = vacationHistory.getUserId();
-            boolean canDownload = false;
-            
-            if (requesterId.equals(applicantId)) {
-                // 본인 신청서
-                canDownload = true;
-            } else {
-                // 결재 권한 체크
-                String authVal = requester.getAuthVal();
-                if (AuthVal.MASTER.getCode().equals(authVal)) {
-                    // 관리자는 모든 신청서 다운로드 가능
-                    canDownload = true;
-                } else if (AuthVal.TEAM_LEADER.getCode().equals(authVal) || AuthVal.DIVISION_HEAD.getCode().equals(authVal)) {
-                    // 팀장/본부장은 같은 본부의 신청서만 다운로드 가능
-                    User applicant = userService.getUserInfo(applicantId);
-                    if (applicant != null && requester.getDivision().equals(applicant.getDivision())) {
-                        canDownload = true;
-                    }
-                }
+
+            // 권한 확인 및 문서 준비 (VO, 서명 이미지, 캐시 키, ETag)
+            DocumentDownloadService.PreparedDocument document =
+                    documentDownloadService.prepare(ApplicationType.VACATION, seq, requesterId, documentFormat);
+            if (new ServletWebRequest(request).checkNotModified(document.getETag())) {
+                log.info("휴가 신청서 변경 없음: seq={}", seq);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.getETag()).build();
             }
-            
-            if (!canDownload) {
-                log.warn("다운로드 권한 없음: requesterId={}, applicantId={}, authVal={}", 
-                        requesterId, applicantId, requester.getAuthVal());
+
+            // 문서 생성 (캐시에 없을 때만 렌더링, 첨부파일이 있으면 ZIP으로 묶기)
+            DocumentDownloadService.DocumentPayload payload = documentDownloadService.render(document);
+            log.info("휴가 신청서 전송: fileName={}, 크기: {} bytes", document.getFileName(), payload.getSize());
+
+            return ResponseEntity.ok()
+                    .headers(payload.toHeaders())
+                    .body(payload.getBody());
+        } catch (ApiException e) {
+            log.warn("휴가 신청서 다운로드 불가: seq={}, {}", seq, e.getMessage());
+            if (e.getApiErrorCode() == ApiErrorCode.ACCESS_DENIED) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
-            
-            // 신청자 정보 조회
-            User applicant = userService.getUserInfo(applicantId);
-            
-            // 신청자 연차 정보 조회
-            UserVacationInfo vacationInfo = vacationService.getUserVacationInfo(applicantId);
-            
-            // VO 생성
-            VacationDocumentVO vo = vacationService.createVacationDocumentVO(
-                    vacationHistory, applicant, vacationInfo);
-            
-            // 서명 이미지 맵 생성 (승인 상태 포함)
-            String approvalStatus = vacationHistory.getApprovalStatus();
-            if (approvalStatus == null) {
-                approvalStatus = com.vacation.api.enums.ApprovalStatus.INITIAL.getName();
+            if (e.getApiErrorCode() == ApiErrorCode.DOCUMENT_FORMAT_NOT_SUPPORTED) {
+                return ResponseEntity.badRequest().build();
             }
-            Map<String, byte[]> signatureImageMap = createSignatureImageMapForVacation(
-                    vacationHistory, applicant, approvalStatus, vo.getRequestDate());
-            
-            // DOCX 생성 (서명 이미지 맵 전달)
-            byte[] docBytes = FileGenerateUtil.generateVacationApplicationDoc(vo, signatureImageMap);
-            
-            // 파일명 생성 (오늘 날짜 사용)
-            String dateStr = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String documentFileName = "휴가(결무)신청서_" + applicant.getName() + "_" + dateStr + ".docx";
-            
-            // 첨부파일 조회
-            List<Attachment> attachments = 
-                    fileService.getAttachments(ApplicationType.VACATION.getCode(), seq);
-            
-            // 첨부파일이 있으면 ZIP으로 묶기
-            if (attachments != null && !attachments.isEmpty()) {
-                byte[] zipBytes = zipFileUtil.createZipWithDocumentAndAttachments(
-                        docBytes, documentFileName, attachments);
-                
-                String zipFileName = documentFileName.replace(".docx", ".zip");
-                String encodedFileName = URLEncoder.encode(zipFileName, StandardCharsets.UTF_8)
-                        .replace("+", "%20");
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType("application/zip"));
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-                headers.setContentLength(zipBytes.length);
-                
-                log.info("휴가 신청서 ZIP 생성 완료. 크기: {} bytes, 첨부파일: {}개", zipBytes.length, attachments.size());
-                
-                return ResponseEntity.ok()
-                        .headers(headers)
-                        .body(zipBytes);
-            } else {
-                // 첨부파일이 없으면 기존처럼 문서만 반환
-                String encodedFileName = URLEncoder.encode(documentFileName, StandardCharsets.UTF_8)
-                        .replace("+", "%20");
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-                headers.setContentLength(docBytes.length);
-                
-                log.info("휴가 신청서 DOCX 생성 완료. 크기: {} bytes", docBytes.length);
-                
-                return ResponseEntity.ok()
-                        .headers(headers)
-                        .body(docBytes);
+            if (e.getApiErrorCode() == ApiErrorCode.RENDER_CAPACITY_EXCEEDED) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
             }
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("휴가 신청서 다운로드 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -611,7 +539,7 @@ public class VacationController extends BaseController {
      * @return 첨부파일
      */
     @GetMapping("/history/{seq}/attachment")
-    public ResponseEntity<Resource> downloadVacationAttachment(
+    public ResponseEntity<StreamingResponseBody> downloadVacationAttachment(
             HttpServletRequest request,
             @PathVariable Long seq) {
         log.info("휴가 신청 첨부파일 다운로드 요청: seq={}", seq);
@@ -633,89 +561,11 @@ public class VacationController extends BaseController {
                 return ResponseEntity.notFound().build();
             }
             
-            // 파일 다운로드
-            Resource resource = fileService.downloadFile(attachment);
-            
-            // 파일명 인코딩
-            String encodedFileName = URLEncoder.encode(attachment.getFileName(), StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + encodedFileName);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(resource);
+            // 파일 다운로드 (조건부 요청 304, Range 이어받기 206)
+            return attachmentDownloadService.createResponse(request, attachment);
         } catch (Exception e) {
             log.error("휴가 신청 첨부파일 다운로드 실패", e);
             return ResponseEntity.internalServerError().build();
         }
     }
-
-    /**
-     * 휴가 신청서용 서명 이미지 맵 생성
-     *
-     * @param vacationHistory 휴가 내역 (승인자 ID 포함)
-     * @param applicant 신청자 정보
-     * @param approvalStatus 승인 상태 (A, AM, B, RB, C, RC, D)
-     * @param requestDate 신청일
-     * @return 서명 이미지 맵
-     */
-    private Map<String, byte[]> createSignatureImageMapForVacation(
-            VacationHistory vacationHistory, User applicant, String approvalStatus, LocalDate requestDate) {
-        try {
-            // 신청일을 "yyyy.MM.dd" 형식으로 변환
-            String requestDateStr = CommonUtil.formatDateShort(requestDate);
-            
-            // 신청자 권한
-            AuthVal applicantAuthVal = AuthVal.fromCode(applicant.getAuthVal());
-            
-            // 상태값에 따라 실제 승인자 ID 사용
-            Long teamLeaderUserId = null;
-            Long divisionHeadUserId = null;
-            
-            if (com.vacation.api.enums.ApprovalStatus.TEAM_LEADER_APPROVED.getName().equals(approvalStatus)) {
-                // B 상태: tj_approval_id 사용
-                teamLeaderUserId = vacationHistory.getTjApprovalId();
-            } else if (com.vacation.api.enums.ApprovalStatus.DIVISION_HEAD_APPROVED.getName().equals(approvalStatus) ||
-                       com.vacation.api.enums.ApprovalStatus.DONE.getName().equals(approvalStatus)) {
-                // C 또는 D 상태: bb_approval_id 사용
-                divisionHeadUserId = vacationHistory.getBbApprovalId();
-                // B 상태도 지났으므로 tj_approval_id도 사용
-                teamLeaderUserId = vacationHistory.getTjApprovalId();
-            }
-            
-            // 승인자가 없으면 기본 팀장/본부장 조회 (fallback)
-            if (teamLeaderUserId == null) {
-                List<User> teamLeaders = userRepository.findByDivisionAndTeamAndAuthVal(
-                        applicant.getDivision(), applicant.getTeam(), AuthVal.TEAM_LEADER.getCode());
-                teamLeaderUserId = teamLeaders.isEmpty() ? null : teamLeaders.get(0).getUserId();
-            }
-            
-            if (divisionHeadUserId == null && 
-                (com.vacation.api.enums.ApprovalStatus.DIVISION_HEAD_APPROVED.getName().equals(approvalStatus) ||
-                 com.vacation.api.enums.ApprovalStatus.DONE.getName().equals(approvalStatus))) {
-                List<User> divisionHeads = userRepository.findByDivisionAndAuthVal(
-                        applicant.getDivision(), AuthVal.DIVISION_HEAD.getCode());
-                divisionHeadUserId = divisionHeads.isEmpty() ? null : divisionHeads.get(0).getUserId();
-            }
-            
-            // 서명 이미지 맵 생성 (승인 상태 포함)
-            return fileGenerateUtil.createSignatureImageMap(
-                    applicant.getUserId(),
-                    teamLeaderUserId,
-                    divisionHeadUserId,
-                    applicantAuthVal,
-                    approvalStatus,
-                    requestDateStr
-            );
-        } catch (Exception e) {
-            log.error("서명 이미지 맵 생성 실패: applicantId={}, approvalStatus={}", 
-                    applicant.getUserId(), approvalStatus, e);
-            // 실패 시 빈 맵 반환 (서명 없이 문서 생성)
-            return new java.util.HashMap<>();
-        }
-    }
 }
@@ -122,6 +122,21 @@ public interface VacationHistoryRepository extends JpaRepository<VacationHistory
      * @return 존재 여부
      */
     boolean existsByUserIdAndStartDate(Long userId, LocalDate startDate);
-    
-}
 
+    /**
+     * 본부/기간 기준 연차 내역 시퀀스 목록 조회 (월별 문서 묶음 다운로드용, 시작일 기준)
+     *
+     * @param division 본부
+     * @param fromDate 조회 시작일
+     * @param toDate 조회 종료일
+     * @param approvalStatuses 승인 상태 목록
+     * @return 연차 내역 시퀀스 목록 (사용자, 시작일, 시퀀스 순)
+     */
+    @Query("SELECT v.seq FROM VacationHistory v JOIN User u ON u.userId = v.userId LEFT JOIN u.teamManagement t " +
+           "WHERE t.division = :division AND v.startDate BETWEEN :fromDate AND :toDate " +
+           "AND v.approvalStatus IN :approvalStatuses ORDER BY v.userId, v.startDate, v.seq")
+    List<Long> findArchiveSeqs(@Param("division") String division,
+                               @Param("fromDate") LocalDate fromDate,
+                               @Param("toDate") LocalDate toDate,
+                               @Param("approvalStatuses") List<String> approvalStatuses);
+}
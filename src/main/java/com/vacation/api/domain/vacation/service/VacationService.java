@@ -17,6 +17,7 @@ import com.vacation.api.enums.ApplicationType;
 import com.vacation.api.enums.ApprovalStatus;
 import com.vacation.api.enums.AuthVal;
 import com.vacation.api.util.ApprovalStatusResolver;
+import com.vacation.api.util.GeneratedDocumentCache;
 import com.vacation.api.vo.VacationDocumentVO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,6 +46,7 @@ public class VacationService {
     private final AlarmService alarmService;
     private final ApprovalRejectionRepository approvalRejectionRepository;
     private final ApprovalStatusResolver approvalStatusResolver;
+    private final GeneratedDocumentCache generatedDocumentCache;
 
     /**
      * 사용자별 연차 정보 조회
@@ -632,6 +634,7 @@ public class VacationService {
         
         // 삭제 실행
         vacationHistoryRepository.delete(vacationHistory);
+        generatedDocumentCache.evict(ApplicationType.VACATION, seq);
 
         // 삭제된 항목 이후에 생성된 모든 신청서들의 remainingVacationDays 재계산
         List<VacationHistory> allHistories = vacationHistoryRepository.findByUserIdOrderBySeqDesc(userId);
@@ -20,7 +20,8 @@ public enum ApprovalStatus {
     TEAM_LEADER_REJECTED("AS_04", "RB", "팀장 반려"),
     DIVISION_HEAD_APPROVED("AS_05", "C", "본부장 승인"),
     DIVISION_HEAD_REJECTED("AS_06", "RC", "본부장 반려"),
-    DONE("AS_07", "D", "최종 승인");
+    DONE("AS_07", "D", "최종 승인"),
+    DRAFT("AS_08", "DR", "임시 저장"); // 일괄 생성 후 신청자 제출 전 (결재 대기 목록에 포함되지 않음)
 
     private final String code;
     private final String name;
@@ -44,7 +45,7 @@ public enum ApprovalStatus {
     /**
      * 이름으로 ApprovalStatus 찾기 (기존 값과의 호환성)
      *
-     * @param name 이름 (A, AM, B, RB, C, RC)
+     * @param name 이름 (A, AM, B, RB, C, RC, D, DR)
      * @return ApprovalStatus
      */
     public static ApprovalStatus fromName(String name) {
@@ -0,0 +1,39 @@
+package com.vacation.api.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신청 문서 다운로드 형식 Enum
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DocumentFormat {
+    ORIGINAL("original", "원본 양식 (DOCX/XLSX)"),
+    PDF("pdf", "PDF (HTML 템플릿)");
+
+    private final String value;
+    private final String description;
+
+    /**
+     * 요청 파라미터 값으로 DocumentFormat 찾기 (대소문자 무시)
+     *
+     * @param value 형식 값 (null 또는 빈 값이면 ORIGINAL)
+     * @return DocumentFormat
+     */
+    public static DocumentFormat fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return ORIGINAL;
+        }
+        for (DocumentFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown document format: " + value);
+    }
+}
@@ -0,0 +1,31 @@
+package com.vacation.api.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 문서 생성 작업 상태 Enum
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DocumentJobStatus {
+    QUEUED("대기"),
+    RUNNING("생성 중"),
+    DONE("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    /**
+     * 종료 상태 여부 (완료 또는 실패)
+     *
+     * @return 종료 상태이면 true
+     */
+    public boolean isFinished() {
+        return this == DONE || this == FAILED;
+    }
+}
@@ -0,0 +1,33 @@
+package com.vacation.api.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 문서 생성 템플릿 Enum
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DocumentTemplate {
+    VACATION_APPLICATION("templates/vacation-application.docx", "연차 신청서", null),
+    RENTAL_SUPPORT_PROPOSAL("templates/rental-support-proposal.docx", "월세지원 품의서", null),
+    RENTAL_SUPPORT_APPLICATION("templates/rental-support-application.xlsx", "월세지원 청구서", null),
+    EXPENSE_CLAIM("templates/expense-claim.xlsx", "개인비용 청구서", DocumentPlaceholder.DATE);
+
+    private final String path;                       // 클래스패스 기준 템플릿 경로
+    private final String description;                // 설명
+    private final DocumentPlaceholder repeatRowMarker; // 반복 행 마커 (XLSX 항목 행, 없으면 null)
+
+    /**
+     * DOCX 템플릿 여부
+     *
+     * @return DOCX이면 true, XLSX이면 false
+     */
+    public boolean isDocx() {
+        return path.endsWith(".docx");
+    }
+}
@@ -0,0 +1,75 @@
+package com.vacation.api.enums;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 업로드 허용 파일 형식 Enum
+ * 확장자와 파일 앞부분의 시그니처(매직 바이트)가 모두 일치해야 허용한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+public enum UploadFileType {
+    PNG("image/png", true, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}, "png"),
+    JPEG("image/jpeg", true, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}, "jpg", "jpeg"),
+    PDF("application/pdf", false, "%PDF-".getBytes(StandardCharsets.US_ASCII), "pdf");
+
+    /**
+     * 판별에 필요한 최대 시그니처 길이
+     */
+    public static final int MAX_SIGNATURE_LENGTH = 8;
+
+    private final String contentType;
+
+    /**
+     * 이미지 여부 (업로드 후 정규화 대상)
+     */
+    private final boolean image;
+    private final byte[] signature;
+    private final String[] extensions;
+
+    UploadFileType(String contentType, boolean image, byte[] signature, String... extensions) {
+        this.contentType = contentType;
+        this.image = image;
+        this.signature = signature;
+        this.extensions = extensions;
+    }
+
+    /**
+     * 파일명 확장자로 UploadFileType 찾기 (대소문자 무시)
+     *
+     * @param fileName 파일명
+     * @return UploadFileType (허용되지 않은 확장자이면 null)
+     */
+    public static UploadFileType fromFileName(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        String lowerFileName = fileName.toLowerCase();
+        for (UploadFileType type : values()) {
+            for (String extension : type.extensions) {
+                if (lowerFileName.endsWith("." + extension)) {
+                    return type;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 파일 앞부분이 이 형식의 시그니처로 시작하는지 확인
+     *
+     * @param head 파일 앞부분
+     * @param length head 중 유효한 길이
+     * @return 일치 여부
+     */
+    public boolean matches(byte[] head, int length) {
+        return length >= signature.length
+                && Arrays.equals(head, 0, signature.length, signature, 0, signature.length);
+    }
+}
@@ -26,6 +26,12 @@ public enum ApiErrorCode {
     DUPLICATE_EXPENSE_MONTH("915", "해당 월에 개인비용 신청이 이미 존재합니다. 기존 신청을 취소한 후 다시 신청해주세요."),
     DUPLICATE_RENTAL_MONTH("916", "해당 월에 월세지원 신청이 이미 존재합니다. 기존 신청을 취소한 후 다시 신청해주세요."),
     DUPLICATE_RENTAL_PROPOSAL("917", "월세 품의서는 한 건만 신청 가능합니다. 기존 신청을 수정하여 변경해주세요."),
+    DOCUMENT_NOT_FOUND("919", "신청 문서를 찾을 수 없습니다."),
+    DOCUMENT_JOB_NOT_FOUND("920", "문서 생성 작업을 찾을 수 없습니다."),
+    DOCUMENT_JOB_QUEUE_FULL("921", "문서 생성 요청이 많아 잠시 후 다시 시도해주세요."),
+    DOCUMENT_PREVIEW_NOT_SUPPORTED("922", "미리보기를 지원하지 않는 문서입니다."),
+    DOCUMENT_FORMAT_NOT_SUPPORTED("923", "요청한 형식을 지원하지 않는 문서입니다."),
+    RENDER_CAPACITY_EXCEEDED("924", "문서 생성 요청이 많아 잠시 후 다시 시도해주세요."),
     UNKNOWN_ERROR("9999", "알 수 없는 오류가 발생했습니다.");
 
     private final String code;
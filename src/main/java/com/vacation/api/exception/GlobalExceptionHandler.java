@@ -115,8 +115,13 @@ public class GlobalExceptionHandler {
             status = HttpStatus.UNAUTHORIZED;
         } else if (e.getApiErrorCode() == ApiErrorCode.ACCESS_DENIED) {
             status = HttpStatus.FORBIDDEN;
-        } else if (e.getApiErrorCode() == ApiErrorCode.USER_NOT_FOUND) {
+        } else if (e.getApiErrorCode() == ApiErrorCode.USER_NOT_FOUND
+                || e.getApiErrorCode() == ApiErrorCode.DOCUMENT_NOT_FOUND
+                || e.getApiErrorCode() == ApiErrorCode.DOCUMENT_JOB_NOT_FOUND) {
             status = HttpStatus.NOT_FOUND;
+        } else if (e.getApiErrorCode() == ApiErrorCode.DOCUMENT_JOB_QUEUE_FULL
+                || e.getApiErrorCode() == ApiErrorCode.RENDER_CAPACITY_EXCEEDED) {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
         }
         return apiError(status, e.getApiErrorCode().getCode(), errorData);
     }
@@ -1,6 +1,8 @@
 package com.vacation.api.scheduler;
 
 import com.vacation.api.domain.alarm.repository.UserAlarmRepository;
+import com.vacation.api.domain.document.service.DocumentJobService;
+import com.vacation.api.domain.rental.service.RentalService;
 import com.vacation.api.domain.vacation.entity.UserVacationInfo;
 import com.vacation.api.domain.vacation.entity.VacationHistory;
 import com.vacation.api.domain.vacation.repository.UserVacationInfoRepository;
@@ -19,6 +21,8 @@ import java.util.List;
  * 공통 스케줄러
  * - 연차 상태 업데이트
  * - 7일 경과된 읽은 알람 삭제
+ * - 월세 지원 신청 월별 자동 생성
+ * - 만료된 문서 생성 작업 정리
  *
  * @author vacation-api
  * @version 1.0
@@ -32,6 +36,8 @@ public class CommonScheduler {
     private final VacationHistoryRepository vacationHistoryRepository;
     private final UserVacationInfoRepository userVacationInfoRepository;
     private final UserAlarmRepository userAlarmRepository;
+    private final RentalService rentalService;
+    private final DocumentJobService documentJobService;
 
     /**
      * 매일 12시에 실행되는 스케줄러
@@ -147,4 +153,38 @@ public class CommonScheduler {
             log.error("7일 경과된 읽은 알람 삭제 실패", e);
         }
     }
+
+    /**
+     * 매월 1일 새벽 6시에 실행되는 스케줄러
+     * 승인된 월세 품의서 기준으로 당월 월세 지원 신청을 임시 저장 상태로 일괄 생성합니다.
+     * (이미 당월 신청이 있는 사용자는 건너뜀, 결재는 신청자가 제출한 후 진행)
+     */
+    @Scheduled(cron = "0 0 6 1 * ?") // 매월 1일 새벽 6시에 실행
+    public void createMonthlyRentalSupportApplications() {
+        log.info("월세 지원 신청 월별 자동 생성 스케줄러 시작");
+        
+        try {
+            int createdCount = rentalService.createMonthlyRentalSupportApplications(LocalDate.now());
+            
+            log.info("월세 지원 신청 월별 자동 생성 완료: 생성 건수={}", createdCount);
+        } catch (Exception e) {
+            log.error("월세 지원 신청 월별 자동 생성 실패", e);
+        }
+    }
+
+    /**
+     * 10분마다 실행되는 스케줄러
+     * 보관 시간이 지난 문서 생성 작업과 결과 파일을 삭제합니다.
+     */
+    @Scheduled(fixedDelay = 600000) // 10분마다 실행
+    public void cleanupExpiredDocumentJobs() {
+        try {
+            int removedCount = documentJobService.cleanupExpiredJobs();
+            if (removedCount > 0) {
+                log.info("만료된 문서 생성 작업 정리 완료: 삭제된 작업 수={}", removedCount);
+            }
+        } catch (Exception e) {
+            log.error("만료된 문서 생성 작업 정리 실패", e);
+        }
+    }
 }
@@ -0,0 +1,224 @@
+package com.vacation.api.util;
+
+import com.vacation.api.enums.DocumentTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 문서 템플릿 레지스트리
+ * 템플릿을 기동 시 한 번만 읽어 압축 해제된(STORED) OOXML 패키지 이미지로 보관하고,
+ * 요청마다 해당 이미지로부터 새 문서 인스턴스를 연다.
+ * (클래스패스 I/O와 zip inflate 비용 없이 값 채우기 비용만 남도록 함)
+ * 플레이스홀더 위치 인덱스와 반복 행 확장 템플릿도 템플릿별로 한 번만 만들어 둔다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class DocumentTemplateRegistry {
+
+    /**
+     * 템플릿별 패키지 이미지 (불변 마스터 사본, 요청 간 공유)
+     */
+    private static final Map<DocumentTemplate, byte[]> TEMPLATE_IMAGES = new ConcurrentHashMap<>();
+
+    /**
+     * 템플릿별 플레이스홀더 위치 인덱스
+     */
+    private static final Map<DocumentTemplate, TemplatePlaceholderIndex> TEMPLATE_INDEXES = new ConcurrentHashMap<>();
+
+    /**
+     * 템플릿별 반복 행 확장 템플릿 (반복 행 마커가 있는 XLSX 템플릿만)
+     */
+    private static final Map<DocumentTemplate, RowExpansionTemplate> ROW_EXPANSION_TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * 템플릿별 버전 (패키지 이미지 SHA-256, 생성 문서 캐시 키에 사용)
+     */
+    private static final Map<DocumentTemplate, String> TEMPLATE_VERSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * 기동 시 전체 템플릿 로드 및 파싱 검증
+     * 템플릿이 없거나 손상된 경우 첫 다운로드 요청이 아닌 기동 시점에 실패하도록 한다.
+     */
+    @PostConstruct
+    public void preload() {
+        for (DocumentTemplate template : DocumentTemplate.values()) {
+            long startTime = System.currentTimeMillis();
+            byte[] image = getImage(template);
+            TemplatePlaceholderIndex index = getIndex(template);
+            if (template.getRepeatRowMarker() != null) {
+                getRowExpansionTemplate(template);
+            }
+            log.info("문서 템플릿 로드 완료: template={}, size={}bytes, placeholderLocations={}, elapsed={}ms",
+                    template, image.length,
+                    index.getParagraphLocations().size() + index.getCellLocations().size(),
+                    System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * DOCX 템플릿으로 새 문서 생성
+     *
+     * @param template 문서 템플릿
+     * @return 요청 전용 XWPFDocument (호출 측에서 close)
+     */
+    public static XWPFDocument openDocument(DocumentTemplate template) throws IOException {
+        return new XWPFDocument(new ByteArrayInputStream(getImage(template)));
+    }
+
+    /**
+     * XLSX 템플릿으로 새 워크북 생성
+     *
+     * @param template 문서 템플릿
+     * @return 요청 전용 XSSFWorkbook (호출 측에서 close)
+     */
+    public static XSSFWorkbook openWorkbook(DocumentTemplate template) throws IOException {
+        return new XSSFWorkbook(new ByteArrayInputStream(getImage(template)));
+    }
+
+    /**
+     * 템플릿 플레이스홀더 위치 인덱스 조회 (미생성 시 생성)
+     *
+     * @param template 문서 템플릿
+     * @return 플레이스홀더 위치 인덱스
+     */
+    public static TemplatePlaceholderIndex getIndex(DocumentTemplate template) {
+        return TEMPLATE_INDEXES.computeIfAbsent(template, DocumentTemplateRegistry::buildIndex);
+    }
+
+    /**
+     * 반복 행 확장 템플릿 조회 (미생성 시 생성)
+     *
+     * @param template 반복 행 마커가 있는 XLSX 템플릿
+     * @return 반복 행 확장 템플릿
+     */
+    public static RowExpansionTemplate getRowExpansionTemplate(DocumentTemplate template) {
+        return ROW_EXPANSION_TEMPLATES.computeIfAbsent(template, DocumentTemplateRegistry::buildRowExpansionTemplate);
+    }
+
+    /**
+     * 템플릿 버전 조회 (템플릿 파일이 바뀌면 값이 달라짐)
+     *
+     * @param template 문서 템플릿
+     * @return 템플릿 패키지 이미지의 SHA-256 (hex)
+     */
+    public static String getTemplateVersion(DocumentTemplate template) {
+        return TEMPLATE_VERSIONS.computeIfAbsent(template, key -> {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(getImage(key)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * 템플릿을 한 번 파싱하여 플레이스홀더 위치 인덱스 생성
+     * 파싱 실패 시 예외가 발생하므로 템플릿 손상 검증도 겸한다.
+     */
+    private static TemplatePlaceholderIndex buildIndex(DocumentTemplate template) {
+        try {
+            if (template.isDocx()) {
+                try (XWPFDocument document = openDocument(template)) {
+                    return TemplatePlaceholderIndex.ofDocument(document);
+                }
+            }
+            try (XSSFWorkbook workbook = openWorkbook(template)) {
+                return TemplatePlaceholderIndex.ofWorkbook(workbook);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("템플릿 파싱 실패: " + template.getPath(), e);
+        }
+    }
+
+    /**
+     * 템플릿을 한 번 파싱하여 반복 행 확장 템플릿 컴파일
+     * 마커 행이 없으면 템플릿이 잘못된 것이므로 기동 시 실패하도록 한다.
+     */
+    private static RowExpansionTemplate buildRowExpansionTemplate(DocumentTemplate template) {
+        String marker = template.getRepeatRowMarker().getPlaceholder();
+        try (XSSFWorkbook workbook = openWorkbook(template)) {
+            RowExpansionTemplate rowExpansionTemplate = RowExpansionTemplate.compile(workbook, marker);
+            if (rowExpansionTemplate.getRegions().isEmpty()) {
+                throw new IllegalStateException("반복 행 마커를 찾을 수 없습니다: template=" + template + ", marker=" + marker);
+            }
+            return rowExpansionTemplate;
+        } catch (IOException e) {
+            throw new IllegalStateException("템플릿 파싱 실패: " + template.getPath(), e);
+        }
+    }
+
+    /**
+     * 템플릿 패키지 이미지 조회 (미로드 시 로드)
+     */
+    private static byte[] getImage(DocumentTemplate template) {
+        return TEMPLATE_IMAGES.computeIfAbsent(template, DocumentTemplateRegistry::loadImage);
+    }
+
+    /**
+     * 클래스패스에서 템플릿을 읽어 STORED 패키지 이미지로 변환
+     */
+    private static byte[] loadImage(DocumentTemplate template) {
+        ClassPathResource templateResource = new ClassPathResource(template.getPath());
+        if (!templateResource.exists()) {
+            throw new RuntimeException("템플릿 파일을 찾을 수 없습니다: " + template.getPath() + ". " +
+                    "resources/templates/ 폴더에 템플릿 파일을 추가해주세요.");
+        }
+
+        try (InputStream inputStream = templateResource.getInputStream()) {
+            return toStoredPackage(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("템플릿 로드 실패: " + template.getPath(), e);
+        }
+    }
+
+    /**
+     * OOXML 패키지(zip)의 모든 파트를 무압축(STORED) 엔트리로 다시 묶음
+     * 요청마다 반복되던 inflate 비용을 기동 시 한 번으로 줄인다.
+     */
+    private static byte[] toStoredPackage(InputStream packageStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipInputStream zipInputStream = new ZipInputStream(packageStream);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                byte[] data = zipInputStream.readAllBytes();
+                CRC32 crc = new CRC32();
+                crc.update(data);
+
+                ZipEntry storedEntry = new ZipEntry(entry.getName());
+                storedEntry.setMethod(ZipEntry.STORED);
+                storedEntry.setSize(data.length);
+                storedEntry.setCompressedSize(data.length);
+                storedEntry.setCrc(crc.getValue());
+
+                zipOutputStream.putNextEntry(storedEntry);
+                zipOutputStream.write(data);
+                zipOutputStream.closeEntry();
+            }
+        }
+        return outputStream.toByteArray();
+    }
+}
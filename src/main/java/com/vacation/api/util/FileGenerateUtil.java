@@ -5,24 +5,27 @@ import com.vacation.api.vo.RentalSupportApplicationVO;
 import com.vacation.api.vo.RentalSupportProposalVO;
 import com.vacation.api.vo.ExpenseClaimVO;
 import com.vacation.api.enums.DocumentPlaceholder;
+import com.vacation.api.enums.DocumentTemplate;
 import com.vacation.api.enums.SignaturePlaceholder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.*;
 import org.apache.poi.xwpf.usermodel.*;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
-import com.vacation.api.domain.user.repository.UserSignatureRepository;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import static com.vacation.api.util.CommonUtil.*;
 
@@ -38,9 +41,7 @@ import static com.vacation.api.util.CommonUtil.*;
 @RequiredArgsConstructor
 public class FileGenerateUtil {
 
-    private final SignatureFileUtil signatureFileUtil;
-    private final SignatureImageUtil signatureImageUtil;
-    private final UserSignatureRepository userSignatureRepository;
+    private final SignatureBundleLoader signatureBundleLoader;
 
     /**
      * 서명 기능 활성화 여부
@@ -49,6 +50,25 @@ public class FileGenerateUtil {
      */
     private static final boolean isSig = true;
 
+    /**
+     * 서명 플레이스홀더 문자열 목록 (템플릿 인덱스 필터용)
+     */
+    private static final List<String> SIGNATURE_PLACEHOLDERS = Arrays.stream(SignaturePlaceholder.values())
+            .map(SignaturePlaceholder::getPlaceholder)
+            .toList();
+
+    /**
+     * 개인비용 항목 행 플레이스홀더 -> 항목 필드 바인딩
+     */
+    private static final Map<String, Function<ExpenseClaimVO.ExpenseItemVO, String>> EXPENSE_ITEM_FIELDS = Map.of(
+            DocumentPlaceholder.DATE.getPlaceholder(), item -> item.getDate() != null ? formatDateShort(item.getDate()) : "",
+            DocumentPlaceholder.USAGE_DETAIL.getPlaceholder(), ExpenseClaimVO.ExpenseItemVO::getUsageDetail,
+            DocumentPlaceholder.VENDOR.getPlaceholder(), ExpenseClaimVO.ExpenseItemVO::getVendor,
+            DocumentPlaceholder.PAYMENT_METHOD.getPlaceholder(), ExpenseClaimVO.ExpenseItemVO::getPaymentMethod,
+            DocumentPlaceholder.PROJECT.getPlaceholder(), ExpenseClaimVO.ExpenseItemVO::getProject,
+            DocumentPlaceholder.AMOUNT.getPlaceholder(), item -> item.getAmount() != null ? formatNumber(item.getAmount()) : "",
+            DocumentPlaceholder.NOTE.getPlaceholder(), ExpenseClaimVO.ExpenseItemVO::getNote);
+
     /**
      * 연차 신청서 Doc 생성
      *
@@ -67,18 +87,22 @@ public class FileGenerateUtil {
      * @return DOCX 바이트 배열
      */
     public static byte[] generateVacationApplicationDoc(VacationDocumentVO vo, Map<String, byte[]> signatureImageMap) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeVacationApplicationDoc(vo, signatureImageMap, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 연차 신청서 Doc 생성 (서명 이미지 맵 포함, 출력 스트림에 직접 기록)
+     *
+     * @param vo 연차 신청서 문서 생성용 VO
+     * @param signatureImageMap 서명 이미지 맵 (플레이스홀더 -> 이미지 바이트 배열, null이면 빈 문자열로 치환)
+     * @param outputStream 출력 스트림 (닫지 않음)
+     */
+    public static void writeVacationApplicationDoc(VacationDocumentVO vo, Map<String, byte[]> signatureImageMap, OutputStream outputStream) {
         try {
-            // 템플릿 파일 로드 (resources/templates/vacation-application.docx)
-            // .docx 형식만 지원합니다. .doc 파일은 .docx로 변환해주세요.
-            ClassPathResource templateResource = new ClassPathResource("templates/vacation-application.docx");
-            
-            if (!templateResource.exists()) {
-                throw new RuntimeException("템플릿 파일을 찾을 수 없습니다: templates/vacation-application.docx. " +
-                        "resources/templates/ 폴더에 .docx 형식의 템플릿 파일을 추가해주세요.");
-            }
-            
-            InputStream templateInputStream = templateResource.getInputStream();
-            XWPFDocument document = new XWPFDocument(templateInputStream);
+            // 템플릿 로드 (기동 시 캐시된 패키지 이미지로부터 생성)
+            XWPFDocument document = DocumentTemplateRegistry.openDocument(DocumentTemplate.VACATION_APPLICATION);
 
             // 문서 번호 생성
             String documentNumber = generateDocumentNumber(vo.getRequestDate());
@@ -118,35 +142,22 @@ public class FileGenerateUtil {
                 }
             }
 
-            // 문단(Paragraph) 치환
-            for (XWPFParagraph paragraph : document.getParagraphs()) {
+            // 플레이스홀더가 있는 문단(본문 + 테이블)만 치환
+            TemplatePlaceholderIndex index = DocumentTemplateRegistry.getIndex(DocumentTemplate.VACATION_APPLICATION);
+            for (XWPFParagraph paragraph : index.resolveParagraphs(document)) {
                 replaceTextInParagraph(paragraph, values);
             }
 
-            // 테이블 안 텍스트도 치환
-            for (XWPFTable table : document.getTables()) {
-                for (XWPFTableRow row : table.getRows()) {
-                    for (XWPFTableCell cell : row.getTableCells()) {
-                        for (XWPFParagraph paragraph : cell.getParagraphs()) {
-                            replaceTextInParagraph(paragraph, values);
-                        }
-                    }
-                }
-            }
-
             // 서명 이미지 치환 (8개 플레이스홀더)
             if (isSig) {
-                replaceSignatureImagesInDocument(document, signatureImageMap);
+                replaceSignatureImagesInDocument(
+                        index.resolveParagraphs(document, SIGNATURE_PLACEHOLDERS), signatureImageMap);
             }
 
-            // ByteArrayOutputStream에 문서 쓰기
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            // 출력 스트림에 문서 쓰기
             document.write(outputStream);
 
             document.close();
-            templateInputStream.close();
-            
-            return outputStream.toByteArray();
         } catch (Exception e) {
             log.error("DOC 생성 중 오류 발생", e);
             throw new RuntimeException("DOC 생성 실패", e);
@@ -181,17 +192,22 @@ public class FileGenerateUtil {
      * @return DOCX 바이트 배열
      */
     public static byte[] generateRentalSupportProposalDoc(RentalSupportProposalVO vo, Map<String, byte[]> signatureImageMap) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeRentalSupportProposalDoc(vo, signatureImageMap, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 월세지원 품의서 Doc 생성 (서명 이미지 맵 포함, 출력 스트림에 직접 기록)
+     *
+     * @param vo 월세지원 품의서 문서 생성용 VO
+     * @param signatureImageMap 서명 이미지 맵 (플레이스홀더 -> 이미지 바이트 배열, null이면 빈 문자열로 치환)
+     * @param outputStream 출력 스트림 (닫지 않음)
+     */
+    public static void writeRentalSupportProposalDoc(RentalSupportProposalVO vo, Map<String, byte[]> signatureImageMap, OutputStream outputStream) {
         try {
-            // 템플릿 파일 로드 (resources/templates/rental-support-proposal.docx)
-            ClassPathResource templateResource = new ClassPathResource("templates/rental-support-proposal.docx");
-            
-            if (!templateResource.exists()) {
-                throw new RuntimeException("템플릿 파일을 찾을 수 없습니다: templates/rental-support-proposal.docx. " +
-                        "resources/templates/ 폴더에 .docx 형식의 템플릿 파일을 추가해주세요.");
-            }
-            
-            InputStream templateInputStream = templateResource.getInputStream();
-            XWPFDocument document = new XWPFDocument(templateInputStream);
+            // 템플릿 로드 (기동 시 캐시된 패키지 이미지로부터 생성)
+            XWPFDocument document = DocumentTemplateRegistry.openDocument(DocumentTemplate.RENTAL_SUPPORT_PROPOSAL);
 
             // 문서 번호 생성
             String documentNumber = generateDocumentNumber(vo.getRequestDate());
@@ -227,35 +243,22 @@ public class FileGenerateUtil {
                 }
             }
 
-            // 문단(Paragraph) 치환
-            for (XWPFParagraph paragraph : document.getParagraphs()) {
+            // 플레이스홀더가 있는 문단(본문 + 테이블)만 치환
+            TemplatePlaceholderIndex index = DocumentTemplateRegistry.getIndex(DocumentTemplate.RENTAL_SUPPORT_PROPOSAL);
+            for (XWPFParagraph paragraph : index.resolveParagraphs(document)) {
                 replaceTextInParagraph(paragraph, values);
             }
 
-            // 테이블 안 텍스트도 치환
-            for (XWPFTable table : document.getTables()) {
-                for (XWPFTableRow row : table.getRows()) {
-                    for (XWPFTableCell cell : row.getTableCells()) {
-                        for (XWPFParagraph paragraph : cell.getParagraphs()) {
-                            replaceTextInParagraph(paragraph, values);
-                        }
-                    }
-                }
-            }
-
             // 서명 이미지 치환 (8개 플레이스홀더)
             if (isSig) {
-                replaceSignatureImagesInDocument(document, signatureImageMap);
+                replaceSignatureImagesInDocument(
+                        index.resolveParagraphs(document, SIGNATURE_PLACEHOLDERS), signatureImageMap);
             }
 
-            // ByteArrayOutputStream에 문서 쓰기
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            // 출력 스트림에 문서 쓰기
             document.write(outputStream);
 
             document.close();
-            templateInputStream.close();
-            
-            return outputStream.toByteArray();
         } catch (Exception e) {
             log.error("품의서 DOC 생성 중 오류 발생", e);
             throw new RuntimeException("품의서 DOC 생성 실패", e);
@@ -270,17 +273,22 @@ public class FileGenerateUtil {
      * @return XLSX 바이트 배열
      */
     public static byte[] generateRentalSupportApplicationExcel(RentalSupportApplicationVO vo, Map<String, byte[]> signatureImageMap) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeRentalSupportApplicationExcel(vo, signatureImageMap, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 월세지원 청구서 Excel 생성 (서명 이미지 맵 포함, 출력 스트림에 직접 기록)
+     *
+     * @param vo 월세지원 청구서 문서 생성용 VO
+     * @param signatureImageMap 서명 이미지 맵 (플레이스홀더 -> 이미지 바이트 배열, null이면 빈 문자열로 치환)
+     * @param outputStream 출력 스트림 (닫지 않음)
+     */
+    public static void writeRentalSupportApplicationExcel(RentalSupportApplicationVO vo, Map<String, byte[]> signatureImageMap, OutputStream outputStream) {
         try {
-            // 템플릿 파일 로드 (resources/templates/rental-support-application.xlsx)
-            ClassPathResource templateResource = new ClassPathResource("templates/rental-support-application.xlsx");
-            
-            if (!templateResource.exists()) {
-                throw new RuntimeException("템플릿 파일을 찾을 수 없습니다: templates/rental-support-application.xlsx. " +
-                        "resources/templates/ 폴더에 .xlsx 형식의 템플릿 파일을 추가해주세요.");
-            }
-            
-            InputStream templateInputStream = templateResource.getInputStream();
-            Workbook workbook = new XSSFWorkbook(templateInputStream);
+            // 템플릿 로드 (기동 시 캐시된 패키지 이미지로부터 생성)
+            Workbook workbook = DocumentTemplateRegistry.openWorkbook(DocumentTemplate.RENTAL_SUPPORT_APPLICATION);
 
             // 문서 번호 생성
             String documentNumber = generateDocumentNumber(vo.getRequestDate());
@@ -333,25 +341,22 @@ public class FileGenerateUtil {
                 }
             }
 
-            // 모든 시트를 순회하며 텍스트 치환 및 이미지 치환
-            for (int sheetIndex = 0; sheetIndex < workbook.getNumberOfSheets(); sheetIndex++) {
-                Sheet sheet = workbook.getSheetAt(sheetIndex);
-                replaceTextInSheet(sheet, values);
+            // 플레이스홀더가 있는 셀만 텍스트 치환
+            TemplatePlaceholderIndex index = DocumentTemplateRegistry.getIndex(DocumentTemplate.RENTAL_SUPPORT_APPLICATION);
+            for (Cell cell : index.resolveCells(workbook)) {
+                replaceTextInCellV2(cell, values);
             }
 
             // 서명 이미지 치환 (8개 플레이스홀더)
             if (isSig) {
-                replaceSignatureImagesInWorkbook(workbook, signatureImageMap);
+                replaceSignatureImagesInWorkbook(
+                        workbook, index.resolveCells(workbook, SIGNATURE_PLACEHOLDERS), signatureImageMap);
             }
 
-            // ByteArrayOutputStream에 Excel 쓰기
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            // 출력 스트림에 Excel 쓰기
             workbook.write(outputStream);
-            
+
             workbook.close();
-            templateInputStream.close();
-            
-            return outputStream.toByteArray();
         } catch (Exception e) {
             log.error("Excel 생성 중 오류 발생", e);
             throw new RuntimeException("Excel 생성 실패", e);
@@ -376,17 +381,22 @@ public class FileGenerateUtil {
      * @return XLSX 바이트 배열
      */
     public static byte[] generateExpenseClaimExcel(ExpenseClaimVO vo, Map<String, byte[]> signatureImageMap) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeExpenseClaimExcel(vo, signatureImageMap, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 업무관련 개인 비용 청구서 Excel 생성 (서명 이미지 맵 포함, 출력 스트림에 직접 기록)
+     *
+     * @param vo 개인 비용 청구서 문서 생성용 VO
+     * @param signatureImageMap 서명 이미지 맵 (플레이스홀더 -> 이미지 바이트 배열, null이면 빈 문자열로 치환)
+     * @param outputStream 출력 스트림 (닫지 않음)
+     */
+    public static void writeExpenseClaimExcel(ExpenseClaimVO vo, Map<String, byte[]> signatureImageMap, OutputStream outputStream) {
         try {
-            // 템플릿 파일 로드 (resources/templates/expense-claim.xlsx)
-            ClassPathResource templateResource = new ClassPathResource("templates/expense-claim.xlsx");
-            
-            if (!templateResource.exists()) {
-                throw new RuntimeException("템플릿 파일을 찾을 수 없습니다: templates/expense-claim.xlsx. " +
-                        "resources/templates/ 폴더에 .xlsx 형식의 템플릿 파일을 추가해주세요.");
-            }
-            
-            InputStream templateInputStream = templateResource.getInputStream();
-            Workbook workbook = new XSSFWorkbook(templateInputStream);
+            // 템플릿 로드 (기동 시 캐시된 패키지 이미지로부터 생성)
+            Workbook workbook = DocumentTemplateRegistry.openWorkbook(DocumentTemplate.EXPENSE_CLAIM);
 
             // 문서 번호 생성
             String documentNumber = generateDocumentNumber(vo.getRequestDate());
@@ -420,194 +430,32 @@ public class FileGenerateUtil {
                 }
             }
 
-            // 모든 시트를 순회하며 텍스트 치환
-            for (int sheetIndex = 0; sheetIndex < workbook.getNumberOfSheets(); sheetIndex++) {
-                Sheet sheet = workbook.getSheetAt(sheetIndex);
-                
-                // 비용 항목 데이터 행 치환 (replaceTextInSheet 전에 호출하여 템플릿 행의 원본 플레이스홀더 사용)
-                replaceExpenseItemsInSheet(sheet, vo.getExpenseItems());
-                
-                // 텍스트 치환 (비용 항목 행 치환 후에 호출)
-                replaceTextInSheet(sheet, values);
+            // 비용 항목 행 확장 (항목이 양식 줄 수보다 많으면 합계/계좌 영역을 밀어내고 행 삽입)
+            TemplatePlaceholderIndex index = DocumentTemplateRegistry.getRowExpansionTemplate(DocumentTemplate.EXPENSE_CLAIM)
+                    .expand(workbook, vo.getExpenseItems(), EXPENSE_ITEM_FIELDS,
+                            DocumentTemplateRegistry.getIndex(DocumentTemplate.EXPENSE_CLAIM));
+
+            // 플레이스홀더가 있는 셀만 텍스트 치환 (행 삽입이 반영된 위치 사용)
+            for (Cell cell : index.resolveCells(workbook)) {
+                replaceTextInCellV2(cell, values);
             }
 
             // 서명 이미지 치환 (8개 플레이스홀더)
             if (isSig) {
-                replaceSignatureImagesInWorkbook(workbook, signatureImageMap);
+                replaceSignatureImagesInWorkbook(
+                        workbook, index.resolveCells(workbook, SIGNATURE_PLACEHOLDERS), signatureImageMap);
             }
 
-            // ByteArrayOutputStream에 Excel 쓰기
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            // 출력 스트림에 Excel 쓰기
             workbook.write(outputStream);
-            
+
             workbook.close();
-            templateInputStream.close();
-            
-            return outputStream.toByteArray();
         } catch (Exception e) {
             log.error("비용 청구서 Excel 생성 중 오류 발생", e);
             throw new RuntimeException("비용 청구서 Excel 생성 실패", e);
         }
     }
 
-    /**
-     * Excel 시트에서 비용 항목 데이터 행 치환
-     * 템플릿에 {{DATE}}, {{USAGE_DETAIL}}, {{VENDOR}}, {{PAYMENT_METHOD}}, {{PROJECT}}, {{AMOUNT}}, {{NOTE}} 플레이스홀더가 있는 행을 찾아서
-     * expenseItems 리스트의 데이터로 치환합니다.
-     */
-    private static void replaceExpenseItemsInSheet(Sheet sheet, List<ExpenseClaimVO.ExpenseItemVO> expenseItems) {
-        if (expenseItems == null || expenseItems.isEmpty()) {
-            return;
-        }
-
-        // 플레이스홀더가 있는 행 찾기
-        int templateRowIndex = -1;
-        for (Row row : sheet) {
-            for (Cell cell : row) {
-                if (cell != null && cell.getCellType() == CellType.STRING) {
-                    String cellValue = cell.getStringCellValue();
-                    if (cellValue != null && cellValue.contains("{{DATE}}")) {
-                        templateRowIndex = row.getRowNum();
-                        break;
-                    }
-                }
-            }
-            if (templateRowIndex != -1) {
-                break;
-            }
-        }
-
-        if (templateRowIndex == -1) {
-            log.warn("비용 항목 템플릿 행을 찾을 수 없습니다. {{DATE}} 플레이스홀더가 있는 행이 필요합니다.");
-            return;
-        }
-
-        // 템플릿 행 복사하여 각 비용 항목에 대해 행 생성
-        Row templateRow = sheet.getRow(templateRowIndex);
-        if (templateRow == null) {
-            return;
-        }
-
-        // 템플릿 행의 원본 플레이스홀더 값들을 먼저 저장 (첫 번째 항목 처리 후 값이 변경되므로)
-        Map<Integer, String> templateCellValues = new HashMap<>();
-        Map<Integer, CellStyle> templateCellStyles = new HashMap<>();
-        for (int cellIndex = 0; cellIndex < templateRow.getLastCellNum(); cellIndex++) {
-            Cell templateCell = templateRow.getCell(cellIndex);
-            if (templateCell != null) {
-                if (templateCell.getCellType() == CellType.STRING) {
-                    templateCellValues.put(cellIndex, templateCell.getStringCellValue());
-                }
-                templateCellStyles.put(cellIndex, templateCell.getCellStyle());
-            }
-        }
-
-        // 모든 항목에 대해 처리
-        for (int i = 0; i < expenseItems.size(); i++) {
-            ExpenseClaimVO.ExpenseItemVO item = expenseItems.get(i);
-            
-            // 첫 번째 항목은 템플릿 행을 직접 사용, 나머지는 새 행 생성
-            Row targetRow;
-            if (i == 0) {
-                targetRow = templateRow;
-            } else {
-                targetRow = sheet.createRow(templateRowIndex + i);
-            }
-            
-            // 셀 값 치환
-            for (int cellIndex = 0; cellIndex < templateRow.getLastCellNum(); cellIndex++) {
-                // 첫 번째 항목이 아닌 경우 셀 생성 및 스타일 복사
-                if (i > 0) {
-                    Cell newCell = targetRow.createCell(cellIndex);
-                    CellStyle cellStyle = templateCellStyles.get(cellIndex);
-                    if (cellStyle != null) {
-                        newCell.setCellStyle(cellStyle);
-                    }
-                }
-
-                Cell targetCell = targetRow.getCell(cellIndex);
-                if (targetCell == null) {
-                    continue;
-                }
-
-                // 저장된 템플릿 셀의 원본 값 사용 (플레이스홀더가 있는 원본 값)
-                String cellValue = templateCellValues.getOrDefault(cellIndex, "");
-
-                // 플레이스홀더 치환
-                String replacedValue = cellValue;
-                if (cellValue != null) {
-                    replacedValue = cellValue
-                            .replace(DocumentPlaceholder.DATE.getPlaceholder(), item.getDate() != null ? formatDateShort(item.getDate()) : "")
-                            .replace(DocumentPlaceholder.USAGE_DETAIL.getPlaceholder(), item.getUsageDetail() != null ? item.getUsageDetail() : "")
-                            .replace(DocumentPlaceholder.VENDOR.getPlaceholder(), item.getVendor() != null ? item.getVendor() : "")
-                            .replace(DocumentPlaceholder.PAYMENT_METHOD.getPlaceholder(), item.getPaymentMethod() != null ? item.getPaymentMethod() : "")
-                            .replace(DocumentPlaceholder.PROJECT.getPlaceholder(), item.getProject() != null ? item.getProject() : "")
-                            .replace(DocumentPlaceholder.AMOUNT.getPlaceholder(), item.getAmount() != null ? formatNumber(item.getAmount()) : "")
-                            .replace(DocumentPlaceholder.NOTE.getPlaceholder(), item.getNote() != null ? item.getNote() : "");
-                }
-
-                targetCell.setCellValue(replacedValue);
-            }
-        }
-    }
-
-    /**
-     * Excel 시트의 모든 셀에서 텍스트 치환
-     */
-    private static void replaceTextInSheet(Sheet sheet, Map<String, String> values) {
-        for (Row row : sheet) {
-            for (Cell cell : row) {
-                replaceTextInCellV2(cell, values);
-            }
-        }
-    }
-
-    /**
-     * Excel 셀의 텍스트 치환
-     */
-    private static void replaceTextInCell(Cell cell, Map<String, String> values) {
-        if (cell == null) {
-            return;
-        }
-
-        CellType cellType = cell.getCellType();
-        
-        // 문자열 셀인 경우
-        if (cellType == CellType.STRING) {
-            String cellValue = cell.getStringCellValue();
-            if (cellValue == null || cellValue.isEmpty()) {
-                return;
-            }
-
-            String replacedValue = cellValue;
-            for (Map.Entry<String, String> entry : values.entrySet()) {
-                if (replacedValue.contains(entry.getKey())) {
-                    replacedValue = replacedValue.replace(entry.getKey(), entry.getValue());
-                }
-            }
-
-            // 값이 변경된 경우에만 셀에 다시 쓰기
-            if (!replacedValue.equals(cellValue)) {
-                cell.setCellValue(replacedValue);
-            }
-        }
-        // 수식 셀인 경우 (수식의 문자열 부분만 치환)
-        else if (cellType == CellType.FORMULA) {
-            String formula = cell.getCellFormula();
-            if (formula != null && !formula.isEmpty()) {
-                String replacedFormula = formula;
-                for (Map.Entry<String, String> entry : values.entrySet()) {
-                    if (replacedFormula.contains(entry.getKey())) {
-                        replacedFormula = replacedFormula.replace(entry.getKey(), entry.getValue());
-                    }
-                }
-                
-                if (!replacedFormula.equals(formula)) {
-                    cell.setCellFormula(replacedFormula);
-                }
-            }
-        }
-    }
-
     /**
      * month 에 red 컬러 적용
      * @param cell
@@ -617,12 +465,9 @@ public class FileGenerateUtil {
         if (cell == null || cell.getCellType() != CellType.STRING) return;
 
         String cellValue = cell.getStringCellValue();
-        String resultValue = cellValue;
 
-        // 1. 전체 치환 수행
-        for (Map.Entry<String, String> entry : values.entrySet()) {
-            resultValue = resultValue.replace(entry.getKey(), entry.getValue());
-        }
+        // 1. 전체 치환 수행 (단일 스캔)
+        String resultValue = PlaceholderMatcher.getDefault().replace(cellValue, values);
 
         if (resultValue.equals(cellValue)) return;
 
@@ -654,96 +499,10 @@ public class FileGenerateUtil {
             String text = run.getText(0);
             if (text == null) continue;
 
-            for (Map.Entry<String, String> entry : values.entrySet()) {
-                if (text.contains(entry.getKey())) {
-                    text = text.replace(entry.getKey(), entry.getValue());
-                }
+            String replacedText = PlaceholderMatcher.getDefault().replace(text, values);
+            if (!replacedText.equals(text)) {
+                run.setText(replacedText, 0);
             }
-            run.setText(text, 0);
-        }
-    }
-
-    /**
-     * 사용자 서명 파일 로드
-     *
-     * @param userId 사용자 ID
-     * @return 서명 이미지 바이트 배열, 파일이 없으면 null
-     */
-    public byte[] loadUserSignature(Long userId) {
-        if (userId == null) {
-            return null;
-        }
-
-        try {
-            if (!signatureFileUtil.signatureFileExists(userId)) {
-                log.debug("서명 파일이 존재하지 않습니다: userId={}", userId);
-                return null;
-            }
-            return signatureFileUtil.loadSignatureFile(userId);
-        } catch (Exception e) {
-            log.error("서명 파일 로드 실패: userId={}", userId, e);
-            return null;
-        }
-    }
-
-    /**
-     * 날짜 이미지 생성
-     * 문서 생성 시마다 동적으로 생성하며 저장하지 않습니다.
-     *
-     * @param date 날짜 문자열 (예: "2025.01.16")
-     * @param userId 사용자 ID (폰트 조회용)
-     * @param signaturePlaceholder 서명 플레이스홀더 (SIG2 크기 사용)
-     * @return 날짜 이미지 바이트 배열, 생성 실패 시 null
-     */
-    public byte[] createDateImage(String date, Long userId, SignaturePlaceholder signaturePlaceholder) {
-        if (date == null || date.trim().isEmpty() || signaturePlaceholder == null) {
-            return null;
-        }
-
-        try {
-            String fontToUse = "nanum-kang-bujang.ttf"; // 기본 폰트
-            
-            // DB에서 사용자의 폰트 정보 조회
-            if (userId != null) {
-                try {
-                    java.util.Optional<com.vacation.api.domain.user.entity.UserSignature> userSignatureOpt = 
-                            userSignatureRepository.findByUserSeq(userId);
-                    if (userSignatureOpt.isPresent()) {
-                        String fontName = userSignatureOpt.get().getFontName();
-                        if (fontName != null && !fontName.equals("none")) {
-                            fontToUse = fontName; // 사용자가 선택한 폰트 사용
-                        }
-                        // "none"이면 기본 폰트 사용 (이미 설정됨)
-                    }
-                } catch (Exception e) {
-                    log.warn("사용자 서명 정보 조회 실패, 기본 폰트 사용: userId={}", userId, e);
-                }
-            }
-            
-            // SIG2 크기로 날짜 이미지 생성
-            return signatureImageUtil.generateDateImage(date, fontToUse);
-        } catch (Exception e) {
-            log.error("날짜 이미지 생성 실패: date={}, userId={}, placeholder={}", date, userId, signaturePlaceholder, e);
-            return null;
-        }
-    }
-
-    /**
-     * 서명 이미지 로드 (레거시 메서드 - 하위 호환성 유지)
-     */
-    private static byte[] loadSignatureImage() {
-        try {
-            ClassPathResource imageResource = new ClassPathResource("templates/천병재.png");
-            if (!imageResource.exists()) {
-                log.warn("서명 이미지를 찾을 수 없습니다: templates/천병재.png");
-                return null;
-            }
-            try (InputStream imageStream = imageResource.getInputStream()) {
-                return imageStream.readAllBytes();
-            }
-        } catch (Exception e) {
-            log.error("서명 이미지 로드 중 오류 발생", e);
-            return null;
         }
     }
 
@@ -809,51 +568,51 @@ public class FileGenerateUtil {
         boolean includeTimSig = shouldIncludeTimSignature(applicantAuthVal, status);
         boolean includeBuSig = shouldIncludeBuSignature(applicantAuthVal, status);
         
-        // 작성자 서명: DAM_SIG1, DAM_SIG2
-        if (includeDamSig) {
-            byte[] applicantSig1 = loadUserSignature(applicantUserId);
-            if (applicantSig1 != null) {
-                signatureImageMap.put(SignaturePlaceholder.DAM_SIG1.getPlaceholder(), applicantSig1);
-            }
-            
-            // dam_sig2는 날짜만 표시 (작성자 폰트 사용)
-            byte[] dateImage = createDateImage(requestDate, applicantUserId, SignaturePlaceholder.DAM_SIG2);
-            if (dateImage != null) {
-                signatureImageMap.put(SignaturePlaceholder.DAM_SIG2.getPlaceholder(), dateImage);
-            }
-        }
-        
-        // 팀장 서명: TIM_SIG1, TIM_SIG2
-        if (includeTimSig && teamLeaderUserId != null) {
-            byte[] teamLeaderSig1 = loadUserSignature(teamLeaderUserId);
-            if (teamLeaderSig1 != null) {
-                signatureImageMap.put(SignaturePlaceholder.TIM_SIG1.getPlaceholder(), teamLeaderSig1);
-            }
-            
-            // tim_sig2는 날짜만 표시 (팀장 폰트 사용)
-            byte[] timDateImage = createDateImage(requestDate, teamLeaderUserId, SignaturePlaceholder.TIM_SIG2);
-            if (timDateImage != null) {
-                signatureImageMap.put(SignaturePlaceholder.TIM_SIG2.getPlaceholder(), timDateImage);
-            }
-        }
-        
-        // 본부장 서명: BU_SIG1, BU_SIG2
-        if (includeBuSig && divisionHeadUserId != null) {
-            byte[] divisionHeadSig1 = loadUserSignature(divisionHeadUserId);
-            if (divisionHeadSig1 != null) {
-                signatureImageMap.put(SignaturePlaceholder.BU_SIG1.getPlaceholder(), divisionHeadSig1);
-            }
-            
-            // bu_sig2는 날짜만 표시 (본부장 폰트 사용)
-            byte[] buDateImage = createDateImage(requestDate, divisionHeadUserId, SignaturePlaceholder.BU_SIG2);
-            if (buDateImage != null) {
-                signatureImageMap.put(SignaturePlaceholder.BU_SIG2.getPlaceholder(), buDateImage);
-            }
-        }
+        // 포함 대상 서명자의 서명/날짜 이미지를 한 번에 로드 (폰트 IN 조회 + 서명자별 병렬 렌더링)
+        Long damUserId = includeDamSig ? applicantUserId : null;
+        Long timUserId = includeTimSig ? teamLeaderUserId : null;
+        Long buUserId = includeBuSig ? divisionHeadUserId : null;
+        Map<Long, SignatureBundleLoader.SignatureBundle> bundles =
+                signatureBundleLoader.load(Arrays.asList(damUserId, timUserId, buUserId), requestDate);
+
+        // 작성자 서명: DAM_SIG1, DAM_SIG2 (dam_sig2는 날짜만 표시, 작성자 폰트 사용)
+        putSignatureBundle(signatureImageMap, bundles.get(damUserId),
+                SignaturePlaceholder.DAM_SIG1, SignaturePlaceholder.DAM_SIG2);
+
+        // 팀장 서명: TIM_SIG1, TIM_SIG2 (tim_sig2는 날짜만 표시, 팀장 폰트 사용)
+        putSignatureBundle(signatureImageMap, bundles.get(timUserId),
+                SignaturePlaceholder.TIM_SIG1, SignaturePlaceholder.TIM_SIG2);
+
+        // 본부장 서명: BU_SIG1, BU_SIG2 (bu_sig2는 날짜만 표시, 본부장 폰트 사용)
+        putSignatureBundle(signatureImageMap, bundles.get(buUserId),
+                SignaturePlaceholder.BU_SIG1, SignaturePlaceholder.BU_SIG2);
         
         return signatureImageMap;
     }
     
+    /**
+     * 서명 번들을 서명 이미지 맵에 추가 (없는 이미지는 건너뜀)
+     *
+     * @param signatureImageMap 서명 이미지 맵
+     * @param bundle 서명 번들 (null 가능)
+     * @param signaturePlaceholder 서명 플레이스홀더 (SIG1)
+     * @param datePlaceholder 날짜 플레이스홀더 (SIG2)
+     */
+    private static void putSignatureBundle(Map<String, byte[]> signatureImageMap,
+                                           SignatureBundleLoader.SignatureBundle bundle,
+                                           SignaturePlaceholder signaturePlaceholder,
+                                           SignaturePlaceholder datePlaceholder) {
+        if (bundle == null) {
+            return;
+        }
+        if (bundle.getSignature() != null) {
+            signatureImageMap.put(signaturePlaceholder.getPlaceholder(), bundle.getSignature());
+        }
+        if (bundle.getDateImage() != null) {
+            signatureImageMap.put(datePlaceholder.getPlaceholder(), bundle.getDateImage());
+        }
+    }
+
     /**
      * 작성자 서명(DAM_SIG) 포함 여부 결정
      * 
@@ -937,40 +696,24 @@ public class FileGenerateUtil {
 
     /**
      * DOCX 문서에서 서명 이미지 치환
+     * 템플릿 인덱스 기준 서명 플레이스홀더가 있는 문단만 대상으로 한다.
+     *
+     * @param paragraphs 서명 플레이스홀더가 있는 문단 목록
+     * @param signatureImageMap 서명 이미지 맵 (이미지가 없으면 빈 문자열로 치환)
      */
-    private static void replaceSignatureImagesInDocument(XWPFDocument document, Map<String, byte[]> signatureImageMap) {
+    private static void replaceSignatureImagesInDocument(List<XWPFParagraph> paragraphs, Map<String, byte[]> signatureImageMap) {
         if (signatureImageMap == null) {
             signatureImageMap = new HashMap<>();
         }
 
-        // 모든 서명 플레이스홀더 목록
-        SignaturePlaceholder[] signaturePlaceholders = SignaturePlaceholder.getAll();
-
-        for (SignaturePlaceholder sigPlaceholder : signaturePlaceholders) {
-            String placeholder = sigPlaceholder.getPlaceholder();
-            byte[] imageBytes = signatureImageMap.get(placeholder);
-            
-            // 문단에서 치환
-            for (XWPFParagraph paragraph : document.getParagraphs()) {
-                if (imageBytes != null) {
-                    replaceTextWithImageInParagraph(paragraph, placeholder, imageBytes, sigPlaceholder);
-                } else {
-                    replaceTextInParagraph(paragraph, Map.of(placeholder, ""));
-                }
-            }
-
-            // 테이블에서 치환
-            for (XWPFTable table : document.getTables()) {
-                for (XWPFTableRow row : table.getRows()) {
-                    for (XWPFTableCell cell : row.getTableCells()) {
-                        for (XWPFParagraph paragraph : cell.getParagraphs()) {
-                            if (imageBytes != null) {
-                                replaceTextWithImageInParagraph(paragraph, placeholder, imageBytes, sigPlaceholder);
-                            } else {
-                                replaceTextInParagraph(paragraph, Map.of(placeholder, ""));
-                            }
-                        }
+        for (XWPFParagraph paragraph : paragraphs) {
+            for (XWPFRun run : paragraph.getRuns()) {
+                for (String placeholder : PlaceholderMatcher.getDefault().collect(run.getText(0))) {
+                    SignaturePlaceholder sigPlaceholder = SignaturePlaceholder.fromPlaceholder(placeholder);
+                    if (sigPlaceholder == null) {
+                        continue;
                     }
+                    replaceTextWithImageInRun(run, placeholder, signatureImageMap.get(placeholder), sigPlaceholder);
                 }
             }
         }
@@ -978,145 +721,120 @@ public class FileGenerateUtil {
 
     /**
      * XLSX 워크북에서 서명 이미지 치환
+     * 템플릿 인덱스 기준 서명 플레이스홀더가 있는 셀만 대상으로 하며,
+     * 이미지는 시트별로 플레이스홀더가 처음 나오는 셀에만 삽입한다.
+     *
+     * @param workbook 워크북
+     * @param cells 서명 플레이스홀더가 있는 셀 목록
+     * @param signatureImageMap 서명 이미지 맵 (이미지가 없으면 빈 문자열로 치환)
      */
-    private static void replaceSignatureImagesInWorkbook(Workbook workbook, Map<String, byte[]> signatureImageMap) {
+    private static void replaceSignatureImagesInWorkbook(Workbook workbook, List<Cell> cells, Map<String, byte[]> signatureImageMap) {
         if (signatureImageMap == null) {
             signatureImageMap = new HashMap<>();
         }
 
-        // 모든 서명 플레이스홀더 목록
-        SignaturePlaceholder[] signaturePlaceholders = SignaturePlaceholder.getAll();
+        // 플레이스홀더별 워크북 이미지 인덱스 (실제 삽입되는 이미지만 한 번씩 추가)
+        Map<String, Integer> pictureIndexMap = new HashMap<>();
+        Set<String> insertedKeys = new HashSet<>();
+
+        for (Cell cell : cells) {
+            if (cell.getCellType() != CellType.STRING) {
+                continue;
+            }
+
+            String cellValue = cell.getStringCellValue();
+            String replacedValue = cellValue;
+            for (String placeholder : PlaceholderMatcher.getDefault().collect(cellValue)) {
+                SignaturePlaceholder sigPlaceholder = SignaturePlaceholder.fromPlaceholder(placeholder);
+                if (sigPlaceholder == null) {
+                    continue;
+                }
+
+                // 텍스트 제거
+                replacedValue = replacedValue.replace(placeholder, "");
 
-        for (int sheetIndex = 0; sheetIndex < workbook.getNumberOfSheets(); sheetIndex++) {
-            Sheet sheet = workbook.getSheetAt(sheetIndex);
-            
-            for (SignaturePlaceholder sigPlaceholder : signaturePlaceholders) {
-                String placeholder = sigPlaceholder.getPlaceholder();
                 byte[] imageBytes = signatureImageMap.get(placeholder);
-                
-                if (imageBytes != null) {
-                    replaceTextWithImageInSheet(sheet, placeholder, imageBytes, sigPlaceholder);
-                } else {
-                    // 빈 문자열로 치환
-                    for (Row row : sheet) {
-                        for (Cell cell : row) {
-                            if (cell != null && cell.getCellType() == CellType.STRING) {
-                                String cellValue = cell.getStringCellValue();
-                                if (cellValue != null && cellValue.contains(placeholder)) {
-                                    cell.setCellValue(cellValue.replace(placeholder, ""));
-                                }
-                            }
-                        }
-                    }
+                if (imageBytes != null && insertedKeys.add(cell.getSheet().getSheetName() + placeholder)) {
+                    int pictureIdx = pictureIndexMap.computeIfAbsent(placeholder,
+                            key -> workbook.addPicture(imageBytes, Workbook.PICTURE_TYPE_PNG));
+                    insertImageAtCell(cell, pictureIdx, sigPlaceholder);
                 }
             }
+
+            if (!replacedValue.equals(cellValue)) {
+                cell.setCellValue(replacedValue);
+            }
         }
     }
 
     /**
-     * DOCX 문단에서 텍스트를 이미지로 치환
+     * DOCX 런에서 텍스트를 이미지로 치환
      * 
-     * @param paragraph 문단
+     * @param run 런
      * @param placeholder 플레이스홀더
-     * @param imageBytes 이미지 바이트 배열
+     * @param imageBytes 이미지 바이트 배열 (null이면 텍스트만 제거)
      * @param sigPlaceholder 서명 플레이스홀더 Enum
      */
-    private static void replaceTextWithImageInParagraph(XWPFParagraph paragraph, String placeholder, byte[] imageBytes, SignaturePlaceholder sigPlaceholder) {
-        for (XWPFRun run : paragraph.getRuns()) {
-            String text = run.getText(0);
-            if (text == null || !text.contains(placeholder)) {
-                continue;
-            }
+    private static void replaceTextWithImageInRun(XWPFRun run, String placeholder, byte[] imageBytes, SignaturePlaceholder sigPlaceholder) {
+        // 플레이스홀더 제거
+        run.setText(run.getText(0).replace(placeholder, ""), 0);
 
-            // 플레이스홀더 제거
-            String newText = text.replace(placeholder, "");
-            run.setText(newText, 0);
-
-            // 이미지 추가
-            try (ByteArrayInputStream imageStream = new ByteArrayInputStream(imageBytes)) {
-                // SignatureSize Enum에서 크기 정보 가져오기
-                SignaturePlaceholder.SignatureSize sigSize = sigPlaceholder.getSize();
-                
-                int widthEMU = sigSize.getDocxWidthEMU();
-                int heightEMU = sigSize.getDocxHeightEMU();
-                
-                run.addPicture(imageStream, XWPFDocument.PICTURE_TYPE_PNG, "signature", widthEMU, heightEMU);
-            } catch (Exception e) {
-                log.error("DOCX에 이미지 추가 중 오류 발생", e);
-            }
+        if (imageBytes == null) {
+            return;
+        }
+
+        // 이미지 추가
+        try (ByteArrayInputStream imageStream = new ByteArrayInputStream(imageBytes)) {
+            // SignatureSize Enum에서 크기 정보 가져오기
+            SignaturePlaceholder.SignatureSize sigSize = sigPlaceholder.getSize();
+            
+            int widthEMU = sigSize.getDocxWidthEMU();
+            int heightEMU = sigSize.getDocxHeightEMU();
+            
+            run.addPicture(imageStream, XWPFDocument.PICTURE_TYPE_PNG, "signature", widthEMU, heightEMU);
+        } catch (Exception e) {
+            log.error("DOCX에 이미지 추가 중 오류 발생", e);
         }
     }
 
     /**
-     * XLSX 시트에서 텍스트를 이미지로 치환
+     * XLSX 셀 위치에 이미지 삽입
      * 
-     * @param sheet 시트
-     * @param placeholder 플레이스홀더
-     * @param imageBytes 이미지 바이트 배열
+     * @param cell 셀
+     * @param pictureIdx 워크북 이미지 인덱스
      * @param sigPlaceholder 서명 플레이스홀더 Enum
      */
-    private static void replaceTextWithImageInSheet(Sheet sheet, String placeholder, byte[] imageBytes, SignaturePlaceholder sigPlaceholder) {
-        if (!(sheet instanceof XSSFSheet)) {
+    private static void insertImageAtCell(Cell cell, int pictureIdx, SignaturePlaceholder sigPlaceholder) {
+        if (!(cell.getSheet() instanceof XSSFSheet xssfSheet)) {
             return;
         }
 
-        XSSFSheet xssfSheet = (XSSFSheet) sheet;
-        XSSFWorkbook workbook = xssfSheet.getWorkbook();
-
         // SignatureSize Enum에서 크기 정보 가져오기
         SignaturePlaceholder.SignatureSize sigSize = sigPlaceholder.getSize();
         
         double widthInches = sigSize.getXlsxWidthInches();
         double heightInches = sigSize.getXlsxHeightInches();
 
-        // 이미지를 workbook에 한 번만 추가
-        int pictureIdx = workbook.addPicture(imageBytes, Workbook.PICTURE_TYPE_PNG);
-
-        // Drawing 객체 가져오기 또는 생성
-        XSSFDrawing drawing = xssfSheet.createDrawingPatriarch();
-        if (drawing == null) {
-            drawing = xssfSheet.getDrawingPatriarch();
-        }
-
-        // 플레이스홀더가 있는 첫 번째 셀에만 이미지 삽입
-        boolean imageInserted = false;
-        for (Row row : xssfSheet) {
-            for (Cell cell : row) {
-                if (cell == null || cell.getCellType() != CellType.STRING) {
-                    continue;
-                }
-
-                String cellValue = cell.getStringCellValue();
-                if (cellValue == null || !cellValue.contains(placeholder)) {
-                    continue;
-                }
+        try {
+            // Drawing 객체 가져오기 또는 생성
+            XSSFDrawing drawing = xssfSheet.createDrawingPatriarch();
+
+            // 이미지 위치 설정 (셀에 맞춤)
+            // dx1, dy1: 시작 위치 (0, 0)
+            // dx2, dy2: 종료 위치 (인치를 EMU로 변환: 1인치 = 914400 EMU)
+            XSSFClientAnchor anchor = new XSSFClientAnchor(
+                0, 0,
+                (int)(widthInches * 914400), (int)(heightInches * 914400),
+                (short) cell.getColumnIndex(),
+                cell.getRowIndex(),
+                (short) (cell.getColumnIndex() + 1),
+                cell.getRowIndex() + 1
+            );
 
-                // 텍스트 제거
-                cell.setCellValue(cellValue.replace(placeholder, ""));
-
-                // 이미지는 첫 번째 매칭된 셀에만 삽입
-                if (!imageInserted) {
-                    try {
-                        // 이미지 위치 설정 (셀에 맞춤)
-                        // dx1, dy1: 시작 위치 (0, 0)
-                        // dx2, dy2: 종료 위치 (인치를 EMU로 변환: 1인치 = 914400 EMU)
-                        XSSFClientAnchor anchor = new XSSFClientAnchor(
-                            0, 0,
-                            (int)(widthInches * 914400), (int)(heightInches * 914400),
-                            (short) cell.getColumnIndex(),
-                            cell.getRowIndex(),
-                            (short) (cell.getColumnIndex() + 1),
-                            cell.getRowIndex() + 1
-                        );
-
-                        // 이미지 삽입
-                        drawing.createPicture(anchor, pictureIdx);
-                        imageInserted = true;
-                    } catch (Exception e) {
-                        log.error("XLSX에 이미지 추가 중 오류 발생", e);
-                    }
-                }
-            }
+            // 이미지 삽입
+            drawing.createPicture(anchor, pictureIdx);
+        } catch (Exception e) {
+            log.error("XLSX에 이미지 추가 중 오류 발생", e);
         }
     }
 
@@ -0,0 +1,413 @@
+package com.vacation.api.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.enums.DocumentTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 생성 문서 디스크 캐시 (내용 주소 기반)
+ * 문서 VO, 서명 이미지, 템플릿 버전으로 만든 SHA-256 키로 생성 결과(DOCX/XLSX)를 저장한다.
+ * 입력이 같으면 키가 같으므로 POI 렌더링 없이 파일을 그대로 전송하고,
+ * 수정/승인 단계 변경으로 입력이 바뀌면 새 키로 생성되며 이전 파일은 교체 시 삭제된다.
+ * 키는 그대로 강한 ETag로 사용한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeneratedDocumentCache {
+
+    /**
+     * 문서 생성 로직 버전 (FileGenerateUtil 출력이 바뀌는 수정 시 올려서 기존 캐시 무효화)
+     */
+    private static final String RENDER_VERSION = "2";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final RenderBulkhead renderBulkhead;
+
+    @Value("${file.document-cache.path:${java.io.tmpdir}/vacation-api/document-cache}")
+    private String cachePath;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    /**
+     * 메트릭 초기화
+     */
+    @PostConstruct
+    public void initMetrics() {
+        hitCounter = Counter.builder("generated_document.cache.total")
+                .description("Generated document cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        missCounter = Counter.builder("generated_document.cache.total")
+                .description("Generated document cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 빌더 생성 (생성 로직 버전 + 템플릿 버전 포함)
+     *
+     * @param template 문서 템플릿
+     * @return 캐시 키 빌더
+     */
+    public KeyBuilder keyBuilder(DocumentTemplate template) {
+        return new KeyBuilder()
+                .add(RENDER_VERSION)
+                .add(template.name())
+                .add(DocumentTemplateRegistry.getTemplateVersion(template));
+    }
+
+    /**
+     * 캐시 키를 강한 ETag 값으로 변환
+     *
+     * @param key 캐시 키
+     * @return ETag (따옴표 포함)
+     */
+    public static String toETag(String key) {
+        return "\"" + key + "\"";
+    }
+
+    /**
+     * 캐시된 문서 열기, 없으면 생성 후 저장
+     * 반환된 문서의 채널은 이미 열려 있으므로 이후 다른 키로 교체되어도 끝까지 읽을 수 있다.
+     *
+     * @param applicationType 신청 타입
+     * @param seq 신청 시퀀스
+     * @param key 캐시 키
+     * @param writer 문서 생성기 (캐시 미스 시에만 호출)
+     * @return 캐시된 문서 (호출 측에서 close)
+     * @throws IOException 캐시 파일 읽기/쓰기 실패 시
+     */
+    public CachedDocument getOrCreate(ApplicationType applicationType, Long seq, String key,
+                                      DocumentWriter writer) throws IOException {
+        return getOrCreate(applicationType, seq, null, key, writer);
+    }
+
+    /**
+     * 파생 결과물(미리보기 등) 캐시 열기, 없으면 생성 후 저장
+     * 원본 문서 디렉토리 아래 변형별 디렉토리에 보관하므로 원본과 서로 교체되지 않고, 신청 삭제 시 함께 삭제된다.
+     *
+     * @param applicationType 신청 타입
+     * @param seq 신청 시퀀스
+     * @param variant 변형 이름 (예: preview, null이면 원본 문서)
+     * @param key 캐시 키
+     * @param writer 생성기 (캐시 미스 시에만 호출)
+     * @return 캐시된 결과물 (호출 측에서 close)
+     * @throws IOException 캐시 파일 읽기/쓰기 실패 시
+     */
+    public CachedDocument getOrCreate(ApplicationType applicationType, Long seq, String variant, String key,
+                                      DocumentWriter writer) throws IOException {
+        Path documentDir = getDocumentDir(applicationType, seq);
+        if (variant != null) {
+            documentDir = documentDir.resolve(variant);
+        }
+        Path target = documentDir.resolve(key);
+
+        CachedDocument cached = open(key, target);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        long startTime = System.currentTimeMillis();
+        Files.createDirectories(documentDir);
+
+        // 임시 파일에 쓴 뒤 이동 (동시 생성 시에도 완성된 파일만 노출)
+        Path tempFile = Files.createTempFile(documentDir, "doc_", ".tmp");
+        try {
+            long renderStartTime = System.nanoTime();
+            // 렌더링은 벌크헤드 안에서만 실행 (허가를 받지 못하면 RENDER_CAPACITY_EXCEEDED)
+            renderBulkhead.execute("document", () -> {
+                try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                    writer.write(outputStream);
+                }
+                return null;
+            });
+            recordRender(applicationType, variant, System.nanoTime() - renderStartTime, Files.size(tempFile));
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        // 같은 문서의 이전 버전 삭제 (내용이 바뀌어 더 이상 참조되지 않는 키)
+        deleteSiblings(documentDir, target);
+
+        log.info("생성 문서 캐시 저장: type={}, seq={}, variant={}, key={}, elapsed={}ms",
+                applicationType, seq, variant, key, System.currentTimeMillis() - startTime);
+
+        cached = open(key, target);
+        if (cached == null) {
+            throw new IOException("생성 문서 캐시 파일을 열 수 없습니다: " + target);
+        }
+        return cached;
+    }
+
+    /**
+     * 문서 캐시 삭제 (신청 삭제 시)
+     *
+     * @param applicationType 신청 타입
+     * @param seq 신청 시퀀스
+     */
+    public void evict(ApplicationType applicationType, Long seq) {
+        Path documentDir = getDocumentDir(applicationType, seq);
+        if (!Files.isDirectory(documentDir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(documentDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.debug("생성 문서 캐시 삭제: type={}, seq={}", applicationType, seq);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("생성 문서 캐시 삭제 실패: type={}, seq={}", applicationType, seq, e);
+        }
+    }
+
+    private Path getDocumentDir(ApplicationType applicationType, Long seq) {
+        return Paths.get(cachePath, applicationType.getLowerCase(), String.valueOf(seq));
+    }
+
+    /**
+     * 캐시 파일 열기 (없으면 null)
+     */
+    private CachedDocument open(String key, Path path) throws IOException {
+        try {
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new CachedDocument(key, channel.size(), lastModified, channel);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 렌더링 시간/결과 크기 기록 (신청 타입, 변형별로 원본 양식(POI)과 PDF 경로를 비교)
+     */
+    private void recordRender(ApplicationType applicationType, String variant, long elapsedNanos, long size) {
+        String variantTag = variant != null ? variant : "original";
+        Timer.builder("generated_document.render.duration")
+                .description("Generated document render time on cache miss")
+                .tag("type", applicationType.getCode())
+                .tag("variant", variantTag)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("generated_document.render.size")
+                .description("Generated document size")
+                .baseUnit("bytes")
+                .tag("type", applicationType.getCode())
+                .tag("variant", variantTag)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    /**
+     * 디렉토리 내 대상 파일 외 캐시 파일 삭제 (생성 중인 임시 파일, 변형 디렉토리 제외)
+     */
+    private void deleteSiblings(Path documentDir, Path target) {
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(documentDir)) {
+            for (Path sibling : siblings) {
+                if (sibling.equals(target) || sibling.getFileName().toString().endsWith(".tmp")
+                        || !Files.isRegularFile(sibling)) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(sibling);
+                } catch (IOException e) {
+                    log.debug("이전 생성 문서 캐시 삭제 실패: {}", sibling, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이전 생성 문서 캐시 정리 실패: {}", documentDir, e);
+        }
+    }
+
+    /**
+     * 문서 생성기 (출력 스트림에 문서 바이트 기록)
+     */
+    @FunctionalInterface
+    public interface DocumentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * 캐시된 문서 (키, 크기, 최종 수정 시각, 열린 파일 채널)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class CachedDocument implements Closeable {
+        private final String key;
+        private final long size;
+        private final long lastModified;
+        private final FileChannel channel;
+
+        /**
+         * 강한 ETag 값
+         *
+         * @return ETag (따옴표 포함)
+         */
+        public String getETag() {
+            return toETag(key);
+        }
+
+        /**
+         * 문서 내용을 출력 스트림으로 전송 (FileChannel.transferTo, 출력 스트림은 닫지 않음)
+         *
+         * @param outputStream 출력 스트림
+         * @throws IOException 전송 실패 시
+         */
+        public void transferTo(OutputStream outputStream) throws IOException {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = 0;
+            while (position < size) {
+                long transferred = channel.transferTo(position, size - position, target);
+                if (transferred <= 0) {
+                    // 캐시 파일이 외부에서 잘린 경우 (무한 반복 방지)
+                    throw new EOFException("캐시 문서가 예상보다 짧습니다: position=" + position + ", size=" + size);
+                }
+                position += transferred;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * 캐시 키 빌더 (입력 순서대로 SHA-256에 누적)
+     */
+    public final class KeyBuilder {
+
+        private final MessageDigest digest;
+
+        private KeyBuilder() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * 값 추가 (문자열은 그대로, 그 외 객체는 JSON 직렬화 결과 사용)
+         *
+         * @param value 값 (null 가능)
+         * @return 빌더
+         */
+        public KeyBuilder add(Object value) {
+            if (value == null) {
+                return addBytes(new byte[0]);
+            }
+            if (value instanceof String stringValue) {
+                return addBytes(stringValue.getBytes(StandardCharsets.UTF_8));
+            }
+            try {
+                return addBytes(objectMapper.writeValueAsBytes(value));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("캐시 키 직렬화 실패: " + value.getClass().getSimpleName(), e);
+            }
+        }
+
+        /**
+         * 서명 이미지 맵 추가 (플레이스홀더 순으로 정렬, 이미지 바이트 포함)
+         * 서명 재등록 시에도 키가 달라진다.
+         *
+         * @param signatureImageMap 서명 이미지 맵 (null 가능)
+         * @return 빌더
+         */
+        public KeyBuilder addImages(Map<String, byte[]> signatureImageMap) {
+            if (signatureImageMap == null) {
+                return add(null);
+            }
+            for (Map.Entry<String, byte[]> entry : new TreeMap<>(signatureImageMap).entrySet()) {
+                add(entry.getKey());
+                addBytes(entry.getValue() != null ? entry.getValue() : new byte[0]);
+            }
+            return this;
+        }
+
+        /**
+         * 첨부파일 목록 추가 (시퀀스, 파일명, 경로, 크기)
+         *
+         * @param attachments 첨부파일 목록 (null 가능)
+         * @return 빌더
+         */
+        public KeyBuilder addAttachments(Collection<Attachment> attachments) {
+            if (attachments == null) {
+                return add(null);
+            }
+            for (Attachment attachment : attachments) {
+                add(attachment.getSeq() + ":" + attachment.getFileName() + ":"
+                        + attachment.getFilePath() + ":" + attachment.getFileSize());
+            }
+            return this;
+        }
+
+        /**
+         * 키 생성
+         *
+         * @return SHA-256 (hex)
+         */
+        public String build() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        private KeyBuilder addBytes(byte[] bytes) {
+            // 길이 접두사로 입력 경계를 구분
+            digest.update(String.valueOf(bytes.length).getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) ':');
+            digest.update(bytes);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.vacation.api.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * 업로드 이미지 정규화 유틸리티
+ * EXIF 방향을 픽셀에 반영한 뒤 최대 해상도로 축소하고, 메타데이터 없이 같은 형식(JPEG/PNG)으로 다시 인코딩한다.
+ * 다시 인코딩한 결과에는 EXIF(촬영 위치, 기기 정보 등)가 남지 않는다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public final class ImageNormalizeUtil {
+
+    /**
+     * EXIF가 없는 경우의 방향 값
+     */
+    public static final int NO_EXIF = 0;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+
+    private ImageNormalizeUtil() {
+    }
+
+    /**
+     * 이미지 정규화
+     *
+     * @param source 원본 이미지 파일
+     * @param jpeg JPEG 여부 (false이면 PNG)
+     * @param maxDimension 긴 변의 최대 픽셀 수
+     * @param maxPixels 디코딩을 허용하는 원본 최대 픽셀 수 (가로 x 세로)
+     * @param jpegQuality JPEG 품질 (0.0 ~ 1.0)
+     * @return 정규화 결과
+     * @throws ImageTooLargeException 원본 픽셀 수가 maxPixels를 넘는 경우 (디코딩하지 않음)
+     * @throws IOException 이미지를 읽거나 인코딩할 수 없는 경우
+     */
+    public static NormalizedImage normalize(Path source, boolean jpeg, int maxDimension, long maxPixels,
+                                            float jpegQuality) throws IOException {
+        int orientation = jpeg ? readExifOrientation(source) : NO_EXIF;
+        DecodedImage decoded = read(source, maxDimension, maxPixels);
+        BufferedImage image = decoded.getImage();
+
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        boolean transposed = orientation >= 5 && orientation <= 8;
+
+        int imageType = !jpeg && image.getColorModel().hasAlpha()
+                ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage normalized = new BufferedImage(transposed ? height : width, transposed ? width : height, imageType);
+        Graphics2D g2d = normalized.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.transform(orientationTransform(orientation, width, height));
+            g2d.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (jpeg) {
+            writeJpeg(normalized, jpegQuality, outputStream);
+        } else if (!ImageIO.write(normalized, "png", outputStream)) {
+            throw new IOException("PNG 인코더를 찾을 수 없습니다.");
+        }
+
+        log.debug("이미지 정규화: {}x{} (디코딩 {}x{}) -> {}x{}, orientation={}", decoded.getSourceWidth(),
+                decoded.getSourceHeight(), image.getWidth(), image.getHeight(),
+                normalized.getWidth(), normalized.getHeight(), orientation);
+        boolean resized = scale < 1.0 || image.getWidth() != decoded.getSourceWidth()
+                || image.getHeight() != decoded.getSourceHeight();
+        return new NormalizedImage(outputStream.toByteArray(), orientation != NO_EXIF,
+                resized || (orientation != NO_EXIF && orientation != 1));
+    }
+
+    /**
+     * 이미지 읽기 (메타데이터 무시)
+     * 헤더의 크기를 먼저 확인해 픽셀 수 상한을 넘으면 디코딩하지 않고,
+     * 긴 변이 최대 해상도를 넘으면 서브샘플링으로 읽어 디코딩 결과가 최대 해상도 이하가 되게 한다.
+     */
+    private static DecodedImage read(Path source, int maxDimension, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                throw new IOException("이미지 파일을 열 수 없습니다.");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("이미지 형식을 읽을 수 없습니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new ImageTooLargeException(width, height, maxPixels);
+                }
+                int longSide = Math.max(width, height);
+                int subsampling = Math.max(1, (longSide + maxDimension - 1) / maxDimension);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return new DecodedImage(reader.read(0, param), width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static void writeJpeg(BufferedImage image, float quality, ByteArrayOutputStream outputStream)
+            throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(output);
+            // 메타데이터를 넘기지 않으므로 EXIF 없이 기록됨
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * EXIF 방향(1~8)을 픽셀 좌표 변환으로 변환 (width, height는 그려지는 크기)
+     */
+    private static AffineTransform orientationTransform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> new AffineTransform();
+        };
+    }
+
+    /**
+     * JPEG APP1(EXIF) 세그먼트에서 방향 태그 읽기
+     *
+     * @param jpeg JPEG 파일
+     * @return 방향 값 (1~8, EXIF는 있으나 태그가 없으면 1, EXIF가 없으면 NO_EXIF)
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public static int readExifOrientation(Path jpeg) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(jpeg)))) {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return NO_EXIF;
+            }
+            while (true) {
+                int marker = in.readUnsignedShort();
+                // 이미지 데이터(SOS) 이후에는 메타데이터 세그먼트가 없음
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+                    return NO_EXIF;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NO_EXIF;
+                }
+                if (marker == 0xFFE1 && length > EXIF_HEADER.length + 8) {
+                    byte[] segment = in.readNBytes(length);
+                    if (Arrays.equals(segment, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length)) {
+                        return parseOrientation(segment, EXIF_HEADER.length);
+                    }
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        } catch (EOFException e) {
+            return NO_EXIF;
+        }
+    }
+
+    /**
+     * TIFF 헤더(바이트 순서) 이후 IFD0에서 방향 태그 찾기
+     */
+    private static int parseOrientation(byte[] segment, int tiffOffset) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(segment)
+                    .order(segment[tiffOffset] == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            int ifdOffset = tiffOffset + buffer.getInt(tiffOffset + 4);
+            int entryCount = buffer.getShort(ifdOffset) & 0xFFFF;
+            for (int i = 0; i < entryCount; i++) {
+                int entryOffset = ifdOffset + 2 + i * 12;
+                if ((buffer.getShort(entryOffset) & 0xFFFF) == ORIENTATION_TAG) {
+                    int orientation = buffer.getShort(entryOffset + 8) & 0xFFFF;
+                    return orientation >= 1 && orientation <= 8 ? orientation : 1;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            log.debug("EXIF IFD 형식 오류, 방향 무시");
+        }
+        return 1;
+    }
+
+    /**
+     * 디코딩 결과 (서브샘플링된 이미지, 원본 크기)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class DecodedImage {
+        private final BufferedImage image;
+        private final int sourceWidth;
+        private final int sourceHeight;
+    }
+
+    /**
+     * 원본 픽셀 수가 상한을 넘어 디코딩하지 않은 경우
+     */
+    public static final class ImageTooLargeException extends IOException {
+
+        public ImageTooLargeException(int width, int height, long maxPixels) {
+            super(String.format("이미지 픽셀 수가 상한을 초과합니다: %dx%d (최대 %d)", width, height, maxPixels));
+        }
+    }
+
+    /**
+     * 정규화 결과 (인코딩된 이미지, EXIF 제거 여부, 픽셀 변경 여부)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class NormalizedImage {
+        private final byte[] bytes;
+
+        /**
+         * 원본에 EXIF가 있었는지 (있었다면 결과에서 제거됨)
+         */
+        private final boolean exifStripped;
+
+        /**
+         * 축소 또는 방향 반영으로 픽셀이 바뀌었는지
+         */
+        private final boolean pixelsChanged;
+    }
+}
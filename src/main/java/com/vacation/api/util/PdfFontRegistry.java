@@ -0,0 +1,116 @@
+package com.vacation.api.util;
+
+import com.lowagie.text.pdf.BaseFont;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * PDF(HTML → PDF) 한글 폰트 레지스트리
+ * 클래스패스의 한글 TTF를 관리 디렉토리에 한 번만 추출하고, 고정 경로로 렌더러에 등록한다.
+ * 경로가 고정되므로 iText BaseFont 캐시가 적용되어 요청마다 폰트 파일을 다시 파싱하지 않는다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class PdfFontRegistry {
+
+    /**
+     * 한글 폰트 후보 (앞에서부터 처음 등록 가능한 폰트 사용)
+     */
+    private static final String[] FONT_RESOURCE_PATHS = {
+            "fonts/NanumGothic.ttf",
+            "fonts/malgun.ttf",
+            "fonts/AppleGothic.ttf",
+            "fonts/BareunBatangPro1.ttf"
+    };
+
+    @Value("${file.pdf.font-cache-dir:${java.io.tmpdir}/vacation-api/pdf-fonts}")
+    private String fontCacheDir;
+
+    /**
+     * 추출된 한글 폰트 경로 (없으면 null)
+     */
+    private volatile String koreanFontPath;
+
+    /**
+     * 기동 시 한글 폰트 추출 및 검증
+     * 폰트가 없는 경우 경고만 남기고, PDF는 기본 폰트로 생성된다.
+     */
+    @PostConstruct
+    public void preload() {
+        Path cacheDir = Paths.get(fontCacheDir);
+        for (String fontResourcePath : FONT_RESOURCE_PATHS) {
+            try {
+                ClassPathResource fontResource = new ClassPathResource(fontResourcePath);
+                if (!fontResource.exists()) {
+                    continue;
+                }
+
+                Path fontPath = extractFont(fontResource, cacheDir);
+                // 등록 가능 여부 검증 (BaseFont 캐시에 적재)
+                BaseFont.createFont(fontPath.toString(), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+
+                koreanFontPath = fontPath.toString();
+                log.info("PDF 한글 폰트 등록 완료: {} -> {}", fontResourcePath, koreanFontPath);
+                return;
+            } catch (Exception e) {
+                log.warn("PDF 폰트 등록 실패: {} - {}", fontResourcePath, e.getMessage());
+            }
+        }
+        log.warn("프로젝트 내 한글 폰트를 찾을 수 없습니다. resources/fonts/ 폴더에 폰트 파일을 추가해주세요.");
+    }
+
+    /**
+     * 렌더러에 한글 폰트 등록
+     *
+     * @param renderer ITextRenderer
+     */
+    public void registerFonts(ITextRenderer renderer) {
+        String fontPath = koreanFontPath;
+        if (fontPath == null) {
+            return;
+        }
+        try {
+            renderer.getFontResolver().addFont(fontPath, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+        } catch (Exception e) {
+            log.error("PDF 한글 폰트 등록 실패: {}", fontPath, e);
+        }
+    }
+
+    /**
+     * 클래스패스 폰트를 캐시 디렉토리로 추출 (동일 크기 파일이 있으면 재사용)
+     * 임시 파일에 쓴 뒤 이동하여 다른 프로세스가 쓰는 중인 파일을 읽지 않도록 한다.
+     */
+    private Path extractFont(ClassPathResource fontResource, Path cacheDir) throws IOException {
+        Files.createDirectories(cacheDir);
+        Path target = cacheDir.resolve(fontResource.getFilename());
+
+        long resourceSize = fontResource.contentLength();
+        if (Files.isRegularFile(target) && Files.size(target) == resourceSize) {
+            return target;
+        }
+
+        Path tempFile = Files.createTempFile(cacheDir, "font_", ".tmp");
+        try (InputStream fontInputStream = fontResource.getInputStream()) {
+            Files.copy(fontInputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return target;
+    }
+}
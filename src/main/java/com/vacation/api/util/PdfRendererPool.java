@@ -0,0 +1,80 @@
+package com.vacation.api.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * HTML -> PDF 렌더러 풀
+ * ITextRenderer는 스레드 안전하지 않지만 문서를 바꿔 가며 재사용할 수 있으므로,
+ * 한글 폰트를 등록해 둔 렌더러를 풀에 보관하여 요청마다 렌더러 생성/폰트 등록 비용을 들이지 않는다.
+ * 풀이 비어 있으면 새로 만들고, 반납 시 풀이 가득 차 있거나 렌더링에 실패한 렌더러는 버린다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PdfRendererPool {
+
+    private final PdfFontRegistry pdfFontRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.pdf.renderer-pool-size:4}")
+    private int poolSize;
+
+    private BlockingQueue<ITextRenderer> idleRenderers;
+
+    /**
+     * 풀 생성 및 유휴 렌더러 수 게이지 등록
+     */
+    @PostConstruct
+    public void init() {
+        idleRenderers = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        Gauge.builder("pdf_renderer.pool.idle", idleRenderers, BlockingQueue::size)
+                .description("Idle pooled PDF renderers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * HTML(XHTML)을 PDF로 렌더링하여 출력 스트림에 기록
+     *
+     * @param html 렌더링할 HTML
+     * @param outputStream 출력 스트림 (iText가 PDF 완료 시 닫으므로 필요하면 호출 측에서 보호)
+     * @throws Exception 레이아웃 또는 PDF 생성 실패 시
+     */
+    public void render(String html, OutputStream outputStream) throws Exception {
+        ITextRenderer renderer = idleRenderers.poll();
+        if (renderer == null) {
+            renderer = createRenderer();
+        }
+
+        renderer.setDocumentFromString(html);
+        renderer.layout();
+        renderer.createPDF(outputStream);
+
+        // 실패한 렌더러는 상태를 알 수 없으므로 성공한 경우에만 반납
+        if (!idleRenderers.offer(renderer)) {
+            log.debug("PDF 렌더러 풀이 가득 차 렌더러를 버림: poolSize={}", poolSize);
+        }
+    }
+
+    private ITextRenderer createRenderer() {
+        ITextRenderer renderer = new ITextRenderer();
+        // 한글 폰트 설정 (렌더러 생성 시 한 번만)
+        pdfFontRegistry.registerFonts(renderer);
+        log.debug("PDF 렌더러 생성");
+        return renderer;
+    }
+}
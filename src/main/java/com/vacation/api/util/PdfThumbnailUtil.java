@@ -0,0 +1,53 @@
+package com.vacation.api.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * PDF 썸네일 생성 유틸리티
+ * PDF 첫 페이지를 지정 너비의 회색조 PNG로 렌더링한다.
+ * 문서 확인용이므로 회색조로 렌더링하여 크기를 수십 KB 수준으로 유지한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public final class PdfThumbnailUtil {
+
+    private PdfThumbnailUtil() {
+    }
+
+    /**
+     * PDF 첫 페이지를 PNG 썸네일로 기록
+     *
+     * @param pdf PDF 바이트 배열
+     * @param width 썸네일 너비 (px, 높이는 페이지 비율에 맞춤)
+     * @param outputStream 출력 스트림 (닫지 않음)
+     * @throws IOException PDF 읽기 또는 PNG 인코딩 실패 시
+     */
+    public static void writeFirstPagePng(byte[] pdf, int width, OutputStream outputStream) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            if (document.getNumberOfPages() == 0) {
+                throw new IOException("PDF에 페이지가 없습니다.");
+            }
+            PDRectangle pageSize = document.getPage(0).getCropBox();
+            float scale = width / pageSize.getWidth();
+
+            BufferedImage image = new PDFRenderer(document).renderImage(0, scale, ImageType.GRAY);
+            if (!ImageIO.write(image, "png", outputStream)) {
+                throw new IOException("PNG 인코더를 찾을 수 없습니다.");
+            }
+            log.debug("PDF 썸네일 생성 완료: {}x{}", image.getWidth(), image.getHeight());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.vacation.api.util;
+
+import com.vacation.api.enums.DocumentPlaceholder;
+import com.vacation.api.enums.SignaturePlaceholder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 플레이스홀더 다중 패턴 매처 (Aho–Corasick)
+ * 모든 플레이스홀더를 하나의 오토마톤으로 컴파일하여 텍스트를 한 번만 훑으면서 매칭한다.
+ * (플레이스홀더 수만큼 contains/replace를 반복하던 방식 대체)
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class PlaceholderMatcher {
+
+    /**
+     * 문서/서명 플레이스홀더 전체로 구성된 기본 매처 (불변, 스레드 안전)
+     */
+    private static final PlaceholderMatcher DEFAULT = new PlaceholderMatcher(defaultPlaceholders());
+
+    /**
+     * 상태별 전이 (goto 함수)
+     */
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+
+    /**
+     * 상태별 실패 링크
+     */
+    private final int[] failures;
+
+    /**
+     * 상태별 매칭 플레이스홀더 (해당 상태에서 끝나는 가장 긴 패턴, 없으면 null)
+     */
+    private final String[] outputs;
+
+    public PlaceholderMatcher(Collection<String> placeholders) {
+        List<String> outputList = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        outputList.add(null);
+
+        // 1. 트라이 구성
+        for (String placeholder : placeholders) {
+            int state = 0;
+            for (int i = 0; i < placeholder.length(); i++) {
+                char c = placeholder.charAt(i);
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(state).put(c, next);
+                    transitions.add(new HashMap<>());
+                    outputList.add(null);
+                }
+                state = next;
+            }
+            outputList.set(state, placeholder);
+        }
+
+        // 2. BFS로 실패 링크 및 출력 전파
+        failures = new int[transitions.size()];
+        outputs = outputList.toArray(new String[0]);
+        ArrayDeque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> entry : transitions.get(state).entrySet()) {
+                int child = entry.getValue();
+                if (state != 0) {
+                    failures[child] = next(failures[state], entry.getKey());
+                }
+                if (outputs[child] == null) {
+                    outputs[child] = outputs[failures[child]];
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 기본 매처 조회
+     *
+     * @return 문서/서명 플레이스홀더 전체 매처
+     */
+    public static PlaceholderMatcher getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 플레이스홀더 포함 여부
+     *
+     * @param text 대상 텍스트
+     * @return 하나라도 포함하면 true
+     */
+    public boolean containsAny(String text) {
+        if (text == null) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (outputs[state] != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 텍스트 내 플레이스홀더 매칭 위치 조회 (왼쪽부터, 겹치지 않게)
+     *
+     * @param text 대상 텍스트
+     * @return 매칭 목록 (없으면 빈 목록)
+     */
+    public List<Match> findAll(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<Match> matches = null;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            String placeholder = outputs[state];
+            if (placeholder != null) {
+                if (matches == null) {
+                    matches = new ArrayList<>();
+                }
+                matches.add(new Match(i + 1 - placeholder.length(), i + 1, placeholder));
+                state = 0;
+            }
+        }
+        return matches != null ? matches : List.of();
+    }
+
+    /**
+     * 텍스트 내 플레이스홀더 목록 조회
+     *
+     * @param text 대상 텍스트
+     * @return 플레이스홀더 집합 (등장 순서)
+     */
+    public Set<String> collect(String text) {
+        Set<String> placeholders = new LinkedHashSet<>();
+        for (Match match : findAll(text)) {
+            placeholders.add(match.getPlaceholder());
+        }
+        return placeholders;
+    }
+
+    /**
+     * 한 번의 스캔으로 플레이스홀더 일괄 치환
+     * values에 없는 플레이스홀더는 그대로 두고, null 값은 빈 문자열로 치환한다.
+     *
+     * @param text 대상 텍스트
+     * @param values 플레이스홀더 -> 치환 값
+     * @return 치환된 텍스트 (변경이 없으면 원본 인스턴스)
+     */
+    public String replace(String text, Map<String, String> values) {
+        List<Match> matches = findAll(text);
+        if (matches.isEmpty()) {
+            return text;
+        }
+
+        StringBuilder builder = null;
+        int position = 0;
+        for (Match match : matches) {
+            if (!values.containsKey(match.getPlaceholder())) {
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(text.length() + 32);
+            }
+            String value = values.get(match.getPlaceholder());
+            builder.append(text, position, match.getStart()).append(value != null ? value : "");
+            position = match.getEnd();
+        }
+
+        if (builder == null) {
+            return text;
+        }
+        return builder.append(text, position, text.length()).toString();
+    }
+
+    /**
+     * 다음 상태 계산 (전이가 없으면 실패 링크를 따라감)
+     */
+    private int next(int state, char c) {
+        while (true) {
+            Integer target = transitions.get(state).get(c);
+            if (target != null) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = failures[state];
+        }
+    }
+
+    private static List<String> defaultPlaceholders() {
+        List<String> placeholders = new ArrayList<>();
+        for (DocumentPlaceholder placeholder : DocumentPlaceholder.values()) {
+            placeholders.add(placeholder.getPlaceholder());
+        }
+        for (SignaturePlaceholder placeholder : SignaturePlaceholder.values()) {
+            placeholders.add(placeholder.getPlaceholder());
+        }
+        return placeholders;
+    }
+
+    /**
+     * 플레이스홀더 매칭 결과 ([start, end) 구간)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Match {
+        private final int start;
+        private final int end;
+        private final String placeholder;
+    }
+}
@@ -0,0 +1,233 @@
+package com.vacation.api.util;
+
+import com.vacation.api.exception.ApiErrorCode;
+import com.vacation.api.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 렌더링 벌크헤드 (동시 렌더링 수 제한)
+ * POI 문서, HTML -> PDF, 서명 이미지(Java2D) 렌더링은 요청당 힙을 크게 쓰므로 동시에 실행되는 수를 제한한다.
+ * 허용 수를 넘으면 제한된 수만큼 대기열에서 최대 대기 시간까지 기다리고,
+ * 대기열이 가득 찼거나 시간 안에 차례가 오지 않으면 즉시 RENDER_CAPACITY_EXCEEDED(503)로 거절한다.
+ * 이미 허가를 가진 스레드의 중첩 렌더링(예: 캐시 생성 중 PDF 렌더링)은 허가를 다시 받지 않는다.
+ * 백그라운드 렌더링(비동기 작업, 승인 후 미리 생성, 월별 묶음)은 runAsBackground로 실행하며,
+ * 거절 없이 차례를 기다리되 interactive-reserved 만큼의 허가는 사용자 요청 몫으로 남겨 둔다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RenderBulkhead {
+
+    /**
+     * 현재 스레드가 허가를 가지고 있는지 여부 (중첩 렌더링 시 교착 방지)
+     */
+    private static final ThreadLocal<Boolean> PERMIT_HELD = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드가 백그라운드 렌더링 중인지 여부
+     */
+    private static final ThreadLocal<Boolean> BACKGROUND = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.render-bulkhead.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Value("${file.render-bulkhead.max-waiting:16}")
+    private int maxWaiting;
+
+    @Value("${file.render-bulkhead.wait-timeout-ms:3000}")
+    private long waitTimeoutMs;
+
+    @Value("${file.render-bulkhead.interactive-reserved:1}")
+    private int interactiveReserved;
+
+    private Semaphore permits;
+    private Semaphore backgroundPermits;
+    @Getter
+    private int backgroundLimit;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger backgroundWaiting = new AtomicInteger();
+    private Counter queueFullCounter;
+    private Counter timeoutCounter;
+
+    /**
+     * 허가 세마포어 생성 및 메트릭 등록
+     */
+    @PostConstruct
+    public void init() {
+        // 대기 순서대로 허가 (공정 모드)
+        permits = new Semaphore(Math.max(1, maxConcurrent), true);
+        // 백그라운드 렌더링은 사용자 요청 몫을 남긴 수까지만 동시에 실행 (최소 1)
+        backgroundLimit = Math.max(1, Math.max(1, maxConcurrent) - Math.max(0, interactiveReserved));
+        backgroundPermits = new Semaphore(backgroundLimit, true);
+
+        Gauge.builder("render_bulkhead.active", active, AtomicInteger::get)
+                .description("Renders currently running inside the bulkhead")
+                .register(meterRegistry);
+        Gauge.builder("render_bulkhead.queued", waiting, AtomicInteger::get)
+                .description("Renders waiting for a bulkhead permit")
+                .register(meterRegistry);
+        Gauge.builder("render_bulkhead.background.queued", backgroundWaiting, AtomicInteger::get)
+                .description("Background renders waiting for a bulkhead permit")
+                .register(meterRegistry);
+        queueFullCounter = Counter.builder("render_bulkhead.rejected.total")
+                .description("Renders rejected by the bulkhead")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        timeoutCounter = Counter.builder("render_bulkhead.rejected.total")
+                .description("Renders rejected by the bulkhead")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+
+        log.info("렌더링 벌크헤드 설정: maxConcurrent={}, maxWaiting={}, waitTimeoutMs={}, backgroundLimit={}",
+                maxConcurrent, maxWaiting, waitTimeoutMs, backgroundLimit);
+    }
+
+    /**
+     * 벌크헤드 안에서 렌더링 실행
+     *
+     * @param kind 렌더링 종류 (로그용, 예: document, pdf, signature)
+     * @param task 렌더링 작업
+     * @param <T> 결과 타입
+     * @param <E> 작업 예외 타입
+     * @return 작업 결과
+     * @throws E 작업 실패 시
+     * @throws ApiException 허가를 받지 못한 경우(RENDER_CAPACITY_EXCEEDED)
+     */
+    public <T, E extends Exception> T execute(String kind, RenderTask<T, E> task) throws E {
+        if (Boolean.TRUE.equals(PERMIT_HELD.get())) {
+            return task.run();
+        }
+
+        boolean background = isBackground();
+        if (background) {
+            acquireBackground(kind);
+        } else {
+            acquire(kind);
+        }
+        active.incrementAndGet();
+        PERMIT_HELD.set(Boolean.TRUE);
+        try {
+            return task.run();
+        } finally {
+            PERMIT_HELD.remove();
+            active.decrementAndGet();
+            permits.release();
+            if (background) {
+                backgroundPermits.release();
+            }
+        }
+    }
+
+    /**
+     * 백그라운드 렌더링으로 작업 실행
+     * 작업 안에서 호출되는 execute는 대기열/대기 시간 제한 없이 허가를 기다리며,
+     * 동시에 실행되는 백그라운드 렌더링은 backgroundLimit 이하로 유지된다.
+     *
+     * @param task 작업 (문서 준비 + 렌더링 등)
+     * @param <T> 결과 타입
+     * @param <E> 작업 예외 타입
+     * @return 작업 결과
+     * @throws E 작업 실패 시
+     */
+    public <T, E extends Exception> T runAsBackground(RenderTask<T, E> task) throws E {
+        if (isBackground()) {
+            return task.run();
+        }
+        BACKGROUND.set(Boolean.TRUE);
+        try {
+            return task.run();
+        } finally {
+            BACKGROUND.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드가 백그라운드 렌더링 중인지 여부 (다른 스레드로 작업을 넘길 때 전파용)
+     *
+     * @return 백그라운드 렌더링 중이면 true
+     */
+    public boolean isBackground() {
+        return Boolean.TRUE.equals(BACKGROUND.get());
+    }
+
+    private void acquire(String kind) {
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            queueFullCounter.increment();
+            log.warn("렌더링 대기열 초과로 거절: kind={}, active={}, maxWaiting={}", kind, active.get(), maxWaiting);
+            throw new ApiException(ApiErrorCode.RENDER_CAPACITY_EXCEEDED);
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        if (!acquired) {
+            timeoutCounter.increment();
+            log.warn("렌더링 대기 시간 초과로 거절: kind={}, waitTimeoutMs={}", kind, waitTimeoutMs);
+            throw new ApiException(ApiErrorCode.RENDER_CAPACITY_EXCEEDED);
+        }
+    }
+
+    /**
+     * 백그라운드 허가 획득 (거절 없이 대기, 인터럽트 시에만 RENDER_CAPACITY_EXCEEDED)
+     */
+    private void acquireBackground(String kind) {
+        backgroundWaiting.incrementAndGet();
+        boolean backgroundAcquired = false;
+        try {
+            backgroundPermits.acquire();
+            backgroundAcquired = true;
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (backgroundAcquired) {
+                backgroundPermits.release();
+            }
+            log.warn("백그라운드 렌더링 대기 중 중단: kind={}", kind);
+            throw new ApiException(ApiErrorCode.RENDER_CAPACITY_EXCEEDED);
+        } finally {
+            backgroundWaiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * 렌더링 작업
+     *
+     * @param <T> 결과 타입
+     * @param <E> 예외 타입
+     */
+    @FunctionalInterface
+    public interface RenderTask<T, E extends Exception> {
+        T run() throws E;
+    }
+}
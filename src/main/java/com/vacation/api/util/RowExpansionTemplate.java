@@ -0,0 +1,276 @@
+package com.vacation.api.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * XLSX 반복 행 확장 템플릿
+ * 템플릿 로드 시 반복 행(마커 플레이스홀더가 있는 행)의 셀을 리터럴/필드 조각으로 한 번만 컴파일해 두고,
+ * 요청마다 항목 수만큼 행을 채운다.
+ * 반복 영역은 반복 행과 그 아래의 빈 서식 행(예: 21줄 양식)이며, 항목이 영역보다 많으면
+ * 영역 마지막 행부터 시트 끝까지(합계, 계좌 정보 등)를 한 번만 아래로 밀고 본문 서식 행을 삽입한다.
+ * 항목 수에 비례하는 시간에 처리되며 반복 영역 아래 내용을 덮어쓰지 않는다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RowExpansionTemplate {
+
+    /**
+     * 시트별 반복 영역 (마커가 있는 시트만)
+     */
+    private final List<RepeatRegion> regions;
+
+    /**
+     * 템플릿 워크북에서 반복 영역 컴파일
+     *
+     * @param workbook 템플릿 워크북
+     * @param marker 반복 행 마커 플레이스홀더 (예: {{DATE}})
+     * @return 반복 행 확장 템플릿 (마커가 없으면 영역 없음)
+     */
+    public static RowExpansionTemplate compile(Workbook workbook, String marker) {
+        List<RepeatRegion> regions = new ArrayList<>();
+        for (int s = 0; s < workbook.getNumberOfSheets(); s++) {
+            Sheet sheet = workbook.getSheetAt(s);
+            Row templateRow = findMarkerRow(sheet, marker);
+            if (templateRow != null) {
+                regions.add(RepeatRegion.compile(s, sheet, templateRow));
+            }
+        }
+        return new RowExpansionTemplate(List.copyOf(regions));
+    }
+
+    /**
+     * 항목 목록으로 반복 영역 채우기
+     *
+     * @param workbook 템플릿으로부터 연 워크북
+     * @param items 항목 목록 (null 또는 비어 있으면 변경 없음)
+     * @param fields 플레이스홀더 -> 항목 필드 값 (null 값은 빈 문자열)
+     * @param index 워크북의 플레이스홀더 위치 인덱스
+     * @param <T> 항목 타입
+     * @return 행 삽입이 반영된 플레이스홀더 위치 인덱스
+     */
+    public <T> TemplatePlaceholderIndex expand(Workbook workbook, List<T> items,
+                                               Map<String, Function<T, String>> fields,
+                                               TemplatePlaceholderIndex index) {
+        if (items == null || items.isEmpty()) {
+            return index;
+        }
+        TemplatePlaceholderIndex result = index;
+        for (RepeatRegion region : regions) {
+            int insertedRows = region.expand(workbook.getSheetAt(region.getSheetIndex()), items, fields);
+            if (insertedRows > 0) {
+                result = result.withInsertedRows(region.getSheetIndex(), region.getLastRowIndex(), insertedRows);
+            }
+        }
+        return result;
+    }
+
+    private static Row findMarkerRow(Sheet sheet, String marker) {
+        for (Row row : sheet) {
+            for (Cell cell : row) {
+                if (cell.getCellType() == CellType.STRING && cell.getStringCellValue().contains(marker)) {
+                    return row;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 시트의 반복 영역 [firstRowIndex, lastRowIndex]
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class RepeatRegion {
+        private final int sheetIndex;
+        private final int firstRowIndex;
+        private final int lastRowIndex;
+
+        /**
+         * 반복 행 셀 슬롯 (값을 채울 열과 컴파일된 조각)
+         */
+        private final List<CellSlot> slots;
+
+        /**
+         * 삽입 행에 적용할 본문 서식 (영역 마지막 행 바로 위 행의 열별 스타일 인덱스, -1이면 셀 없음)
+         */
+        private final short[] bodyStyleIndexes;
+        private final short bodyRowHeight;
+
+        private static RepeatRegion compile(int sheetIndex, Sheet sheet, Row templateRow) {
+            int firstRowIndex = templateRow.getRowNum();
+
+            // 반복 행 아래로 값이 없는 서식 행이 이어지는 구간까지를 반복 영역으로 본다
+            int lastRowIndex = firstRowIndex;
+            while (isBlankRow(sheet.getRow(lastRowIndex + 1))) {
+                lastRowIndex++;
+            }
+
+            List<CellSlot> slots = new ArrayList<>();
+            PlaceholderMatcher matcher = PlaceholderMatcher.getDefault();
+            for (Cell cell : templateRow) {
+                if (cell.getCellType() == CellType.STRING) {
+                    slots.add(CellSlot.compile(cell.getColumnIndex(), cell.getStringCellValue(), matcher));
+                }
+            }
+
+            Row bodyRow = sheet.getRow(Math.max(firstRowIndex, lastRowIndex - 1));
+            short[] bodyStyleIndexes = new short[Math.max(0, bodyRow.getLastCellNum())];
+            for (int c = 0; c < bodyStyleIndexes.length; c++) {
+                Cell cell = bodyRow.getCell(c);
+                bodyStyleIndexes[c] = cell != null ? cell.getCellStyle().getIndex() : -1;
+            }
+
+            return new RepeatRegion(sheetIndex, firstRowIndex, lastRowIndex, List.copyOf(slots),
+                    bodyStyleIndexes, bodyRow.getHeight());
+        }
+
+        /**
+         * 반복 영역 채우기
+         *
+         * @return 삽입된 행 수
+         */
+        private <T> int expand(Sheet sheet, List<T> items, Map<String, Function<T, String>> fields) {
+            // 슬롯별 필드 바인딩은 항목마다가 아니라 한 번만 조회
+            List<BoundSlot<T>> boundSlots = new ArrayList<>(slots.size());
+            for (CellSlot slot : slots) {
+                boundSlots.add(slot.bind(fields));
+            }
+
+            // 영역을 넘는 항목 수만큼 영역 마지막 행(하단 테두리)부터 아래 행을 한 번에 밀어냄
+            int insertedRows = Math.max(0, items.size() - (lastRowIndex - firstRowIndex + 1));
+            if (insertedRows > 0) {
+                sheet.shiftRows(lastRowIndex, sheet.getLastRowNum(), insertedRows, true, false);
+                for (int r = lastRowIndex; r < lastRowIndex + insertedRows; r++) {
+                    createBodyRow(sheet, r);
+                }
+            }
+
+            StringBuilder builder = new StringBuilder(64);
+            for (int i = 0; i < items.size(); i++) {
+                T item = items.get(i);
+                Row row = sheet.getRow(firstRowIndex + i);
+                if (row == null) {
+                    row = createBodyRow(sheet, firstRowIndex + i);
+                }
+                for (BoundSlot<T> slot : boundSlots) {
+                    Cell cell = row.getCell(slot.getColumnIndex());
+                    if (cell == null) {
+                        cell = row.createCell(slot.getColumnIndex());
+                    }
+                    cell.setCellValue(slot.render(item, builder));
+                }
+            }
+            return insertedRows;
+        }
+
+        private Row createBodyRow(Sheet sheet, int rowIndex) {
+            Row row = sheet.createRow(rowIndex);
+            row.setHeight(bodyRowHeight);
+            Workbook workbook = sheet.getWorkbook();
+            for (int c = 0; c < bodyStyleIndexes.length; c++) {
+                if (bodyStyleIndexes[c] >= 0) {
+                    row.createCell(c).setCellStyle(workbook.getCellStyleAt(bodyStyleIndexes[c]));
+                }
+            }
+            return row;
+        }
+
+        private static boolean isBlankRow(Row row) {
+            if (row == null || row.getPhysicalNumberOfCells() == 0) {
+                return false;
+            }
+            for (Cell cell : row) {
+                if (cell.getCellType() != CellType.BLANK) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 반복 행 셀 슬롯 (리터럴과 플레이스홀더가 번갈아 나오는 조각 목록)
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class CellSlot {
+        private final int columnIndex;
+
+        /**
+         * 조각 목록 (짝수 인덱스: 리터럴, 홀수 인덱스: 플레이스홀더)
+         */
+        private final List<String> parts;
+
+        private static CellSlot compile(int columnIndex, String text, PlaceholderMatcher matcher) {
+            List<String> parts = new ArrayList<>();
+            int position = 0;
+            for (PlaceholderMatcher.Match match : matcher.findAll(text)) {
+                parts.add(text.substring(position, match.getStart()));
+                parts.add(match.getPlaceholder());
+                position = match.getEnd();
+            }
+            parts.add(text.substring(position));
+            return new CellSlot(columnIndex, List.copyOf(parts));
+        }
+
+        private <T> BoundSlot<T> bind(Map<String, Function<T, String>> fields) {
+            List<Function<T, String>> partFunctions = new ArrayList<>(parts.size());
+            for (int i = 0; i < parts.size(); i++) {
+                String part = parts.get(i);
+                if (i % 2 == 0) {
+                    partFunctions.add(item -> part);
+                } else {
+                    // 바인딩되지 않은 플레이스홀더는 그대로 둠
+                    partFunctions.add(fields.getOrDefault(part, item -> part));
+                }
+            }
+            return new BoundSlot<>(columnIndex, partFunctions);
+        }
+    }
+
+    /**
+     * 필드 바인딩이 끝난 셀 슬롯
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class BoundSlot<T> {
+        private final int columnIndex;
+        private final List<Function<T, String>> partFunctions;
+
+        private String render(T item, StringBuilder builder) {
+            if (partFunctions.size() == 3) {
+                // 리터럴 없이 플레이스홀더 하나만 있는 셀 (대부분)
+                String prefix = partFunctions.get(0).apply(item);
+                String suffix = partFunctions.get(2).apply(item);
+                if (prefix.isEmpty() && suffix.isEmpty()) {
+                    return nullToEmpty(partFunctions.get(1).apply(item));
+                }
+            }
+            builder.setLength(0);
+            for (Function<T, String> partFunction : partFunctions) {
+                builder.append(nullToEmpty(partFunction.apply(item)));
+            }
+            return builder.toString();
+        }
+
+        private static String nullToEmpty(String value) {
+            return value != null ? value : "";
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.vacation.api.util;
+
+import com.vacation.api.domain.user.entity.UserSignature;
+import com.vacation.api.domain.user.repository.UserSignatureRepository;
+import com.vacation.api.enums.SignatureFont;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문서 서명자 서명 번들 로더
+ * 서명자(작성자/팀장/본부장)의 폰트 정보를 한 번의 IN 쿼리로 조회하고,
+ * 서명 파일 읽기와 날짜 이미지 렌더링을 서명자별로 병렬 수행한다.
+ * 문서당 서명 처리 시간은 서명자 합계가 아닌 가장 느린 서명자 기준이 된다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SignatureBundleLoader {
+
+    /**
+     * 폰트 미선택(캔버스 서명) 또는 서명 정보가 없을 때 사용하는 날짜 폰트
+     */
+    public static final String DEFAULT_FONT = SignatureFont.KANG_BUJANG.getFileName();
+
+    private final SignatureFileUtil signatureFileUtil;
+    private final SignatureImageUtil signatureImageUtil;
+    private final SignatureImageCache signatureImageCache;
+    private final UserSignatureRepository userSignatureRepository;
+    private final RenderBulkhead renderBulkhead;
+
+    @Value("${file.signature.render-threads:4}")
+    private int renderThreads;
+
+    private ExecutorService renderExecutor;
+
+    /**
+     * 서명 렌더링 스레드 풀 생성
+     */
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        renderExecutor = Executors.newFixedThreadPool(Math.max(1, renderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "signature-render-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 서명 렌더링 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (renderExecutor != null) {
+            renderExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 서명자별 서명 번들 로드
+     * 서명 파일이 없거나 로드에 실패한 서명자는 해당 이미지가 null인 번들을 반환한다.
+     *
+     * @param userIds 서명자 사용자 ID 목록 (null, 중복 허용)
+     * @param date 날짜 이미지 문자열 (예: "2025.01.16")
+     * @return 사용자 ID -> 서명 번들
+     */
+    public Map<Long, SignatureBundle> load(Collection<Long> userIds, String date) {
+        Set<Long> signerIds = new LinkedHashSet<>();
+        userIds.stream().filter(Objects::nonNull).forEach(signerIds::add);
+        if (signerIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, String> fontByUserId = findFontNames(signerIds);
+
+        // 백그라운드 렌더링(미리 생성 등)에서 호출된 경우 렌더링 스레드에서도 백그라운드로 실행
+        boolean background = renderBulkhead.isBackground();
+        Map<Long, CompletableFuture<SignatureBundle>> futures = new LinkedHashMap<>();
+        for (Long userId : signerIds) {
+            String fontName = fontByUserId.getOrDefault(userId, DEFAULT_FONT);
+            futures.put(userId, CompletableFuture.supplyAsync(() -> background
+                    ? renderBulkhead.runAsBackground(() -> loadBundle(userId, fontName, date))
+                    : loadBundle(userId, fontName, date), renderExecutor));
+        }
+
+        Map<Long, SignatureBundle> bundles = new HashMap<>();
+        futures.forEach((userId, future) -> bundles.put(userId, future.join()));
+        return bundles;
+    }
+
+    /**
+     * 서명자 폰트 일괄 조회 (조회 실패 시 기본 폰트 사용)
+     */
+    private Map<Long, String> findFontNames(Set<Long> signerIds) {
+        Map<Long, String> fontByUserId = new HashMap<>();
+        try {
+            for (UserSignature userSignature : userSignatureRepository.findByUserSeqIn(signerIds)) {
+                String fontName = userSignature.getFontName();
+                // "none"(캔버스 서명)이면 기본 폰트 사용
+                if (fontName != null && !fontName.equals("none")) {
+                    fontByUserId.put(userSignature.getUserSeq(), fontName);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("사용자 서명 정보 조회 실패, 기본 폰트 사용: userIds={}", signerIds, e);
+        }
+        return fontByUserId;
+    }
+
+    /**
+     * 서명자 한 명의 서명 파일 로드 및 날짜 이미지 생성 (렌더링 스레드에서 실행)
+     */
+    private SignatureBundle loadBundle(Long userId, String fontName, String date) {
+        byte[] signature = null;
+        try {
+            // 서명 업로드/삭제 시 무효화되므로 캐시된 값을 그대로 사용 (로드 실패는 캐시하지 않음)
+            signature = signatureImageCache.get(SignatureImageCache.signatureFileKey(userId), () -> {
+                try {
+                    return signatureFileUtil.readSignatureFileIfExists(userId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (Exception e) {
+            log.error("서명 파일 로드 실패: userId={}", userId, e);
+        }
+
+        byte[] dateImage = null;
+        if (date != null && !date.trim().isEmpty()) {
+            try {
+                // SIG2 크기로 날짜 이미지 생성 (동일 사용자/폰트/날짜는 캐시 사용)
+                dateImage = signatureImageCache.get(SignatureImageCache.dateImageKey(userId, fontName, date), () -> {
+                    try {
+                        return signatureImageUtil.generateDateImage(date, fontName);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (Exception e) {
+                log.error("날짜 이미지 생성 실패: date={}, userId={}, font={}", date, userId, fontName, e);
+            }
+        }
+
+        return new SignatureBundle(signature, dateImage);
+    }
+
+    /**
+     * 서명자 한 명의 서명 이미지 묶음
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class SignatureBundle {
+        /**
+         * 저장된 서명 이미지 (SIG1, 없으면 null)
+         */
+        private final byte[] signature;
+
+        /**
+         * 날짜 이미지 (SIG2, 없으면 null)
+         */
+        private final byte[] dateImage;
+    }
+}
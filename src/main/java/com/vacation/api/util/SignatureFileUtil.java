@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
@@ -173,6 +174,28 @@ public class SignatureFileUtil {
         return imageBytes;
     }
 
+    /**
+     * 서명 파일 로드 (파일이 없으면 null)
+     * 존재 여부 확인과 읽기를 한 번의 파일 열기로 처리합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 서명 이미지 바이트 배열, 파일이 없으면 null
+     * @throws IOException 파일 로드 실패 시 (파일 없음 제외)
+     */
+    public byte[] readSignatureFileIfExists(Long userId) throws IOException {
+        Path filePath = getSignatureFilePath(userId);
+
+        try {
+            byte[] imageBytes = Files.readAllBytes(filePath);
+            log.debug("서명 파일 로드 완료: userId={}, filePath={}, size={} bytes",
+                    userId, filePath, imageBytes.length);
+            return imageBytes;
+        } catch (NoSuchFileException e) {
+            log.debug("서명 파일이 존재하지 않습니다: userId={}, filePath={}", userId, filePath);
+            return null;
+        }
+    }
+
     /**
      * 서명 파일을 Resource로 로드
      *
@@ -0,0 +1,158 @@
+package com.vacation.api.util;
+
+import com.vacation.api.enums.SignatureFont;
+import com.vacation.api.enums.SignaturePlaceholder;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명/날짜 이미지용 폰트 레지스트리
+ * TTF 파일은 프로세스당 한 번만 파싱하고, 크기별 파생 폰트와 FontMetrics를 캐시하여
+ * 이미지 생성 시에는 래스터화 비용만 남도록 한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class SignatureFontRegistry {
+
+    private static final float DEFAULT_FONT_SIZE = 60.0f; // 기본 폰트 크기
+
+    /**
+     * 폰트 파일명별 원본 폰트
+     */
+    private final Map<String, Font> baseFonts = new ConcurrentHashMap<>();
+
+    /**
+     * (폰트 파일명, 렌더링 크기)별 파생 폰트
+     */
+    private final Map<String, DerivedFont> derivedFonts = new ConcurrentHashMap<>();
+
+    /**
+     * 기동 시 전체 서명 폰트 로드 및 파생 폰트 생성
+     * 폰트 파일이 없는 경우 경고만 남기고, 해당 폰트 요청 시 예외가 발생한다.
+     */
+    @PostConstruct
+    public void preload() {
+        long startTime = System.currentTimeMillis();
+        int loadedCount = 0;
+        for (SignatureFont signatureFont : SignatureFont.values()) {
+            try {
+                for (RenderSize renderSize : RenderSize.values()) {
+                    getDerivedFont(signatureFont.getFileName(), renderSize);
+                }
+                loadedCount++;
+            } catch (Exception e) {
+                log.warn("서명 폰트 미리 로드 실패: {}", signatureFont.getFileName(), e);
+            }
+        }
+        log.info("서명 폰트 로드 완료: fonts={}, derived={}, elapsed={}ms",
+                loadedCount, derivedFonts.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 서명 크기에 해당하는 렌더링 크기 조회
+     *
+     * @param signatureSize 서명 크기 (SIG1 또는 SIG2)
+     * @return 렌더링 크기
+     */
+    public static RenderSize of(SignaturePlaceholder.SignatureSize signatureSize) {
+        return signatureSize == SignaturePlaceholder.SignatureSize.SIG1 ? RenderSize.SIG1 : RenderSize.SIG2;
+    }
+
+    /**
+     * 파생 폰트 조회 (미로드 시 로드)
+     *
+     * @param fontFileName 폰트 파일명
+     * @param renderSize 렌더링 크기
+     * @return 파생 폰트 (Font + FontMetrics)
+     * @throws IOException 폰트 파일이 없거나 형식 오류인 경우
+     */
+    public DerivedFont getDerivedFont(String fontFileName, RenderSize renderSize) throws IOException {
+        try {
+            return derivedFonts.computeIfAbsent(fontFileName + ":" + renderSize,
+                    key -> DerivedFont.of(getBaseFont(fontFileName).deriveFont(renderSize.getFontSize())));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 원본 폰트 조회 (미로드 시 로드)
+     */
+    private Font getBaseFont(String fontFileName) {
+        return baseFonts.computeIfAbsent(fontFileName, this::loadFont);
+    }
+
+    /**
+     * TTF 폰트 파일 로드
+     */
+    private Font loadFont(String fontFileName) {
+        ClassPathResource fontResource = new ClassPathResource("fonts/" + fontFileName);
+        if (!fontResource.exists()) {
+            throw new UncheckedIOException(new IOException("폰트 파일을 찾을 수 없습니다: " + fontFileName));
+        }
+
+        try (InputStream fontInputStream = fontResource.getInputStream()) {
+            Font font = Font.createFont(Font.TRUETYPE_FONT, fontInputStream);
+            log.debug("폰트 로드 완료: {}", fontFileName);
+            return font;
+        } catch (FontFormatException e) {
+            throw new UncheckedIOException(new IOException("폰트 형식 오류: " + fontFileName, e));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 렌더링 크기 (기본 폰트 크기 대비 배율)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum RenderSize {
+        SIG1(DEFAULT_FONT_SIZE),
+        SIG2(DEFAULT_FONT_SIZE * 0.6f), // SIG2는 작게
+        DATE(DEFAULT_FONT_SIZE * 0.4f); // 날짜는 작은 크기로 표시
+
+        private final float fontSize;
+    }
+
+    /**
+     * 파생 폰트와 측정용 FontMetrics (불변, 스레드 간 공유)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class DerivedFont {
+        private final Font font;
+        private final FontMetrics fontMetrics;
+
+        static DerivedFont of(Font font) {
+            // 측정용 Graphics는 힌트 없는 기본 렌더 컨텍스트 사용 (기존 측정 방식과 동일)
+            BufferedImage tempImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D tempG2d = tempImage.createGraphics();
+            try {
+                tempG2d.setFont(font);
+                return new DerivedFont(font, tempG2d.getFontMetrics());
+            } finally {
+                tempG2d.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.vacation.api.util;
+
+import com.vacation.api.enums.SignaturePlaceholder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 서명/날짜 이미지 캐시 (바이트 크기 기준 LRU)
+ * 문서 다운로드 시 반복되는 서명 파일 디스크 읽기와 날짜 이미지 렌더링을 생략하기 위해
+ * (사용자 ID, 폰트, 텍스트, 서명 크기) 단위로 PNG 바이트를 보관한다.
+ * 서명 업로드/삭제 시 해당 사용자 항목을 무효화해야 한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SignatureImageCache {
+
+    /**
+     * 이미지 없음(서명 파일 미등록) 표시용 값
+     */
+    private static final byte[] ABSENT = new byte[0];
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.signature.image-cache.max-bytes:33554432}") // 기본 32MB
+    private long maxBytes;
+
+    /**
+     * 접근 순서 LinkedHashMap (가장 오래 사용되지 않은 항목이 앞)
+     */
+    private final LinkedHashMap<ImageKey, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    /**
+     * 사용자별 무효화 세대 (invalidateUser 호출마다 증가)
+     * 락 밖에서 로드하는 동안 무효화가 일어나면 이전 세대로 로드한 값은 저장하지 않는다.
+     */
+    private final Map<Long, Long> userGenerations = new HashMap<>();
+
+    private long currentBytes = 0;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter evictionCounter;
+
+    /**
+     * 메트릭 초기화
+     */
+    @PostConstruct
+    public void initMetrics() {
+        hitCounter = Counter.builder("signature_image.cache.total")
+                .description("Signature image cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        missCounter = Counter.builder("signature_image.cache.total")
+                .description("Signature image cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        evictionCounter = Counter.builder("signature_image.cache.eviction.total")
+                .description("Signature image cache evictions")
+                .register(meterRegistry);
+        Gauge.builder("signature_image.cache.bytes", this, SignatureImageCache::getCurrentBytes)
+                .description("Signature image cache size in bytes")
+                .register(meterRegistry);
+        Gauge.builder("signature_image.cache.entries", this, SignatureImageCache::getEntryCount)
+                .description("Signature image cache entry count")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 생성 후 저장
+     * loader가 null을 반환하면(서명 파일 없음 등) 부재 상태도 캐시한다.
+     *
+     * @param key 캐시 키
+     * @param loader 이미지 로더 (디스크 읽기 또는 렌더링)
+     * @return PNG 바이트 배열 (없으면 null)
+     */
+    public byte[] get(ImageKey key, Supplier<byte[]> loader) {
+        long generation;
+        synchronized (this) {
+            byte[] cached = entries.get(key);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached == ABSENT ? null : cached;
+            }
+            generation = userGenerations.getOrDefault(key.userId, 0L);
+        }
+
+        // 로드/렌더링은 락 밖에서 수행 (동시 미스 시 중복 생성될 수 있으나 결과는 동일)
+        missCounter.increment();
+        byte[] loaded = loader.get();
+        put(key, loaded != null ? loaded : ABSENT, generation);
+        return loaded;
+    }
+
+    /**
+     * 사용자 항목 전체 무효화 (서명 업로드/삭제 시)
+     *
+     * @param userId 사용자 ID
+     */
+    public synchronized void invalidateUser(Long userId) {
+        userGenerations.merge(userId, 1L, Long::sum);
+        int removedCount = 0;
+        Iterator<Map.Entry<ImageKey, byte[]>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<ImageKey, byte[]> entry = iterator.next();
+            if (entry.getKey().userId != null && entry.getKey().userId.equals(userId)) {
+                currentBytes -= entry.getValue().length;
+                iterator.remove();
+                removedCount++;
+            }
+        }
+        log.debug("서명 이미지 캐시 무효화: userId={}, removed={}", userId, removedCount);
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    private synchronized void put(ImageKey key, byte[] value, long generation) {
+        // 로드 중 해당 사용자 항목이 무효화되었으면 이전 서명 기준 값이므로 저장하지 않음
+        if (value.length > maxBytes || userGenerations.getOrDefault(key.userId, 0L) != generation) {
+            return;
+        }
+        byte[] previous = entries.put(key, value);
+        if (previous != null) {
+            currentBytes -= previous.length;
+        }
+        currentBytes += value.length;
+
+        // 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+        Iterator<Map.Entry<ImageKey, byte[]>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<ImageKey, byte[]> eldest = iterator.next();
+            currentBytes -= eldest.getValue().length;
+            iterator.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    /**
+     * 저장된 서명 파일 키
+     *
+     * @param userId 사용자 ID
+     * @return 캐시 키
+     */
+    public static ImageKey signatureFileKey(Long userId) {
+        return new ImageKey(userId, null, null, SignaturePlaceholder.SignatureSize.SIG1);
+    }
+
+    /**
+     * 날짜 이미지 키
+     *
+     * @param userId 사용자 ID
+     * @param fontName 폰트 파일명
+     * @param date 날짜 문자열
+     * @return 캐시 키
+     */
+    public static ImageKey dateImageKey(Long userId, String fontName, String date) {
+        return new ImageKey(userId, fontName, date, SignaturePlaceholder.SignatureSize.SIG2);
+    }
+
+    /**
+     * 캐시 키 (사용자 ID, 폰트, 텍스트, 서명 크기)
+     * 저장된 서명 파일은 폰트/텍스트 없이 사용자 ID만으로 식별한다.
+     */
+    @EqualsAndHashCode
+    @ToString
+    @RequiredArgsConstructor
+    public static final class ImageKey {
+        private final Long userId;
+        private final String fontName;
+        private final String text;
+        private final SignaturePlaceholder.SignatureSize size;
+    }
+}
@@ -1,8 +1,9 @@
 package com.vacation.api.util;
 
 import com.vacation.api.enums.SignaturePlaceholder;
+import com.vacation.api.exception.ApiException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import javax.imageio.ImageIO;
@@ -10,7 +11,6 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 
 /**
  * 서명 이미지 생성 유틸리티 클래스
@@ -21,35 +21,11 @@ import java.io.InputStream;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SignatureImageUtil {
 
-    private static final float DEFAULT_FONT_SIZE = 60.0f; // 기본 폰트 크기
-
-    /**
-     * TTF 폰트 파일 로드
-     *
-     * @param fontFileName 폰트 파일명 (예: "나눔손글씨 강부장님체.ttf")
-     * @return 로드된 Font 객체
-     * @throws IOException 폰트 파일 로드 실패 시
-     * @throws FontFormatException 폰트 형식 오류 시
-     */
-    public Font loadFont(String fontFileName) throws IOException, FontFormatException {
-        try {
-            ClassPathResource fontResource = new ClassPathResource("fonts/" + fontFileName);
-            if (!fontResource.exists()) {
-                throw new IOException("폰트 파일을 찾을 수 없습니다: " + fontFileName);
-            }
-
-            try (InputStream fontInputStream = fontResource.getInputStream()) {
-                Font font = Font.createFont(Font.TRUETYPE_FONT, fontInputStream);
-                log.debug("폰트 로드 완료: {}", fontFileName);
-                return font;
-            }
-        } catch (Exception e) {
-            log.error("폰트 로드 실패: {}", fontFileName, e);
-            throw e;
-        }
-    }
+    private final SignatureFontRegistry signatureFontRegistry;
+    private final RenderBulkhead renderBulkhead;
 
     /**
      * 사용자 이름을 폰트로 렌더링하여 PNG 이미지 생성
@@ -67,76 +43,20 @@ public class SignatureImageUtil {
         }
 
         try {
-            // 폰트 로드
-            Font baseFont = loadFont(fontFileName);
-            
-            // 서명 크기에 따라 폰트 크기 조정
-            float fontSize = signatureSize == SignaturePlaceholder.SignatureSize.SIG1 
-                ? DEFAULT_FONT_SIZE 
-                : DEFAULT_FONT_SIZE * 0.6f; // SIG2는 작게
-            
-            Font font = baseFont.deriveFont(fontSize);
-
-            // 텍스트 크기 측정을 위한 임시 Graphics 객체 생성
-            BufferedImage tempImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D tempG2d = tempImage.createGraphics();
-            tempG2d.setFont(font);
-            FontMetrics fontMetrics = tempG2d.getFontMetrics();
-            
-            // 텍스트 크기 계산
-            int textWidth = fontMetrics.stringWidth(userName);
-            int textHeight = fontMetrics.getHeight();
-            int textAscent = fontMetrics.getAscent();
-            
-            tempG2d.dispose();
-
-            // 이미지 크기 결정 (텍스트 크기 + 최소 여백)
-            int padding = 5; // 여백을 최소화 (20 -> 5)
-            int imageWidth = textWidth + padding * 2; // 최소 크기 제한 제거
-            int imageHeight = textHeight + padding * 2; // 최소 크기 제한 제거
-
-            // 투명 배경 이미지 생성
-            BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g2d = image.createGraphics();
-
-            try {
-                // 렌더링 품질 설정
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-                g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-
-                // 투명 배경 (이미 TYPE_INT_ARGB로 생성했으므로 투명함)
-                g2d.setComposite(AlphaComposite.Clear);
-                g2d.fillRect(0, 0, imageWidth, imageHeight);
-                g2d.setComposite(AlphaComposite.SrcOver);
-
-                // 폰트 및 색상 설정
-                g2d.setFont(font);
-                g2d.setColor(Color.BLACK);
-
-                // 텍스트 그리기 (중앙 정렬)
-                int x = (imageWidth - textWidth) / 2;
-                int y = padding + textAscent; // 상단 여백 최소화
-
-                g2d.drawString(userName, x, y);
-
-            } finally {
-                g2d.dispose();
-            }
-
-            // PNG로 변환
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ImageIO.write(image, "PNG", baos);
-            byte[] imageBytes = baos.toByteArray();
-
-            log.debug("서명 이미지 생성 완료: userName={}, font={}, size={}x{}, bytes={}", 
-                    userName, fontFileName, imageWidth, imageHeight, imageBytes.length);
+            // 서명 크기에 따라 캐시된 파생 폰트 사용
+            SignatureFontRegistry.DerivedFont derivedFont = signatureFontRegistry.getDerivedFont(
+                    fontFileName, SignatureFontRegistry.of(signatureSize));
+
+            // 여백을 최소화 (20 -> 5), 텍스트 중앙 정렬 (사용자 요청 렌더링이므로 벌크헤드 안에서 실행)
+            byte[] imageBytes = renderBulkhead.execute("signature",
+                    () -> renderText(userName, derivedFont, 5, true));
+
+            log.debug("서명 이미지 생성 완료: userName={}, font={}, bytes={}", userName, fontFileName, imageBytes.length);
 
             return imageBytes;
 
-        } catch (FontFormatException e) {
-            log.error("폰트 형식 오류: {}", fontFileName, e);
-            throw new IOException("폰트 형식 오류: " + fontFileName, e);
+        } catch (ApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("서명 이미지 생성 실패: userName={}, font={}", userName, fontFileName, e);
             throw new IOException("서명 이미지 생성 실패", e);
@@ -158,74 +78,70 @@ public class SignatureImageUtil {
         }
 
         try {
-            // 폰트 로드
-            Font baseFont = loadFont(fontFileName);
-            
             // 날짜는 작은 크기로 표시
-            float fontSize = DEFAULT_FONT_SIZE * 0.4f;
-            Font font = baseFont.deriveFont(fontSize);
-
-            // 텍스트 크기 측정
-            BufferedImage tempImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D tempG2d = tempImage.createGraphics();
-            tempG2d.setFont(font);
-            FontMetrics fontMetrics = tempG2d.getFontMetrics();
-            
-            int textWidth = fontMetrics.stringWidth(date);
-            int textHeight = fontMetrics.getHeight();
-            int textAscent = fontMetrics.getAscent();
-            
-            tempG2d.dispose();
-
-            // 이미지 크기 결정 (날짜는 작은 여백)
-            int padding = 3; // 날짜 이미지 여백 최소화 (10 -> 3)
-            int imageWidth = textWidth + padding * 2;
-            int imageHeight = textHeight + padding * 2;
-
-            // 투명 배경 이미지 생성
-            BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g2d = image.createGraphics();
-
-            try {
-                // 렌더링 품질 설정
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-                g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-
-                // 투명 배경
-                g2d.setComposite(AlphaComposite.Clear);
-                g2d.fillRect(0, 0, imageWidth, imageHeight);
-                g2d.setComposite(AlphaComposite.SrcOver);
-
-                // 폰트 및 색상 설정
-                g2d.setFont(font);
-                g2d.setColor(Color.BLACK);
-
-                // 텍스트 그리기
-                int x = padding;
-                int y = padding + textAscent;
-                g2d.drawString(date, x, y);
-
-            } finally {
-                g2d.dispose();
-            }
-
-            // PNG로 변환
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ImageIO.write(image, "PNG", baos);
-            byte[] imageBytes = baos.toByteArray();
-
-            log.debug("날짜 이미지 생성 완료: date={}, font={}, size={}x{}, bytes={}", 
-                    date, fontFileName, imageWidth, imageHeight, imageBytes.length);
+            SignatureFontRegistry.DerivedFont derivedFont = signatureFontRegistry.getDerivedFont(
+                    fontFileName, SignatureFontRegistry.RenderSize.DATE);
+
+            // 날짜 이미지 여백 최소화 (10 -> 3), 왼쪽 정렬
+            byte[] imageBytes = renderText(date, derivedFont, 3, false);
+
+            log.debug("날짜 이미지 생성 완료: date={}, font={}, bytes={}", date, fontFileName, imageBytes.length);
 
             return imageBytes;
 
-        } catch (FontFormatException e) {
-            log.error("폰트 형식 오류: {}", fontFileName, e);
-            throw new IOException("폰트 형식 오류: " + fontFileName, e);
         } catch (Exception e) {
             log.error("날짜 이미지 생성 실패: date={}, font={}", date, fontFileName, e);
             throw new IOException("날짜 이미지 생성 실패", e);
         }
     }
+
+    /**
+     * 텍스트를 투명 배경 PNG로 래스터화
+     *
+     * @param text 텍스트
+     * @param derivedFont 파생 폰트 (FontMetrics 포함)
+     * @param padding 여백 (px)
+     * @param centered 가로 중앙 정렬 여부
+     * @return PNG 이미지 바이트 배열
+     */
+    private byte[] renderText(String text, SignatureFontRegistry.DerivedFont derivedFont, int padding, boolean centered) throws IOException {
+        FontMetrics fontMetrics = derivedFont.getFontMetrics();
+
+        // 텍스트 크기 계산
+        int textWidth = fontMetrics.stringWidth(text);
+        int textHeight = fontMetrics.getHeight();
+        int textAscent = fontMetrics.getAscent();
+
+        // 이미지 크기 결정 (텍스트 크기 + 최소 여백)
+        int imageWidth = textWidth + padding * 2;
+        int imageHeight = textHeight + padding * 2;
+
+        // 투명 배경 이미지 생성 (TYPE_INT_ARGB는 생성 시 투명)
+        BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+
+        try {
+            // 렌더링 품질 설정
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+
+            // 폰트 및 색상 설정
+            g2d.setFont(derivedFont.getFont());
+            g2d.setColor(Color.BLACK);
+
+            // 텍스트 그리기 (상단 여백 최소화)
+            int x = centered ? (imageWidth - textWidth) / 2 : padding;
+            int y = padding + textAscent;
+            g2d.drawString(text, x, y);
+
+        } finally {
+            g2d.dispose();
+        }
+
+        // PNG로 변환
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(image, "PNG", baos);
+        return baos.toByteArray();
+    }
 }
@@ -0,0 +1,247 @@
+package com.vacation.api.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.apache.poi.xwpf.usermodel.XWPFTableCell;
+import org.apache.poi.xwpf.usermodel.XWPFTableRow;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 템플릿 플레이스홀더 위치 인덱스
+ * 템플릿 로드 시 플레이스홀더가 들어있는 문단/셀 위치를 한 번만 수집해 두고,
+ * 요청마다 같은 템플릿에서 연 문서에서는 해당 위치만 찾아 치환한다.
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TemplatePlaceholderIndex {
+
+    /**
+     * DOCX 문단 위치 목록 (문서 순서)
+     */
+    private final List<ParagraphLocation> paragraphLocations;
+
+    /**
+     * XLSX 셀 위치 목록 (시트/행/열 순서)
+     */
+    private final List<CellLocation> cellLocations;
+
+    /**
+     * DOCX 문서 인덱스 생성 (본문 문단 + 표 셀 문단)
+     *
+     * @param document 템플릿 문서
+     * @return 플레이스홀더 위치 인덱스
+     */
+    public static TemplatePlaceholderIndex ofDocument(XWPFDocument document) {
+        PlaceholderMatcher matcher = PlaceholderMatcher.getDefault();
+        List<ParagraphLocation> locations = new ArrayList<>();
+
+        List<XWPFParagraph> paragraphs = document.getParagraphs();
+        for (int p = 0; p < paragraphs.size(); p++) {
+            addParagraphLocation(locations, matcher, paragraphs.get(p), -1, -1, -1, p);
+        }
+
+        List<XWPFTable> tables = document.getTables();
+        for (int t = 0; t < tables.size(); t++) {
+            List<XWPFTableRow> rows = tables.get(t).getRows();
+            for (int r = 0; r < rows.size(); r++) {
+                List<XWPFTableCell> cells = rows.get(r).getTableCells();
+                for (int c = 0; c < cells.size(); c++) {
+                    List<XWPFParagraph> cellParagraphs = cells.get(c).getParagraphs();
+                    for (int p = 0; p < cellParagraphs.size(); p++) {
+                        addParagraphLocation(locations, matcher, cellParagraphs.get(p), t, r, c, p);
+                    }
+                }
+            }
+        }
+
+        return new TemplatePlaceholderIndex(List.copyOf(locations), List.of());
+    }
+
+    /**
+     * XLSX 워크북 인덱스 생성 (문자열 셀)
+     *
+     * @param workbook 템플릿 워크북
+     * @return 플레이스홀더 위치 인덱스
+     */
+    public static TemplatePlaceholderIndex ofWorkbook(Workbook workbook) {
+        PlaceholderMatcher matcher = PlaceholderMatcher.getDefault();
+        List<CellLocation> locations = new ArrayList<>();
+
+        for (int s = 0; s < workbook.getNumberOfSheets(); s++) {
+            for (Row row : workbook.getSheetAt(s)) {
+                for (Cell cell : row) {
+                    if (cell.getCellType() != CellType.STRING) {
+                        continue;
+                    }
+                    Set<String> placeholders = matcher.collect(cell.getStringCellValue());
+                    if (!placeholders.isEmpty()) {
+                        locations.add(new CellLocation(s, cell.getRowIndex(), cell.getColumnIndex(),
+                                Collections.unmodifiableSet(placeholders)));
+                    }
+                }
+            }
+        }
+
+        return new TemplatePlaceholderIndex(List.of(), List.copyOf(locations));
+    }
+
+    /**
+     * 문서에서 인덱스된 문단 조회
+     *
+     * @param document 템플릿으로부터 연 문서
+     * @return 플레이스홀더가 있는 문단 목록
+     */
+    public List<XWPFParagraph> resolveParagraphs(XWPFDocument document) {
+        return resolveParagraphs(document, null);
+    }
+
+    /**
+     * 문서에서 지정 플레이스홀더 중 하나라도 포함한 문단 조회
+     *
+     * @param document 템플릿으로부터 연 문서
+     * @param placeholders 대상 플레이스홀더 (null이면 전체)
+     * @return 문단 목록
+     */
+    public List<XWPFParagraph> resolveParagraphs(XWPFDocument document, Collection<String> placeholders) {
+        List<XWPFParagraph> paragraphs = new ArrayList<>(paragraphLocations.size());
+        for (ParagraphLocation location : paragraphLocations) {
+            if (placeholders == null || !Collections.disjoint(location.getPlaceholders(), placeholders)) {
+                paragraphs.add(location.resolve(document));
+            }
+        }
+        return paragraphs;
+    }
+
+    /**
+     * 워크북에서 인덱스된 셀 조회
+     *
+     * @param workbook 템플릿으로부터 연 워크북
+     * @return 플레이스홀더가 있는 셀 목록
+     */
+    public List<Cell> resolveCells(Workbook workbook) {
+        return resolveCells(workbook, null);
+    }
+
+    /**
+     * 워크북에서 지정 플레이스홀더 중 하나라도 포함한 셀 조회
+     * 템플릿 이후 행이 다시 생성되어 셀이 없어진 위치는 건너뛴다.
+     *
+     * @param workbook 템플릿으로부터 연 워크북
+     * @param placeholders 대상 플레이스홀더 (null이면 전체)
+     * @return 셀 목록
+     */
+    public List<Cell> resolveCells(Workbook workbook, Collection<String> placeholders) {
+        List<Cell> cells = new ArrayList<>(cellLocations.size());
+        for (CellLocation location : cellLocations) {
+            if (placeholders != null && Collections.disjoint(location.getPlaceholders(), placeholders)) {
+                continue;
+            }
+            Cell cell = location.resolve(workbook);
+            if (cell != null) {
+                cells.add(cell);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 행 삽입이 반영된 인덱스 생성 (반복 행 확장으로 아래 행이 밀려난 경우)
+     *
+     * @param sheetIndex 시트 인덱스
+     * @param rowIndex 삽입 위치 (이 행부터 아래 셀 위치가 밀려남)
+     * @param count 삽입된 행 수
+     * @return 셀 위치가 조정된 인덱스
+     */
+    public TemplatePlaceholderIndex withInsertedRows(int sheetIndex, int rowIndex, int count) {
+        List<CellLocation> locations = new ArrayList<>(cellLocations.size());
+        for (CellLocation location : cellLocations) {
+            if (location.getSheetIndex() == sheetIndex && location.getRowIndex() >= rowIndex) {
+                locations.add(new CellLocation(sheetIndex, location.getRowIndex() + count,
+                        location.getColumnIndex(), location.getPlaceholders()));
+            } else {
+                locations.add(location);
+            }
+        }
+        return new TemplatePlaceholderIndex(paragraphLocations, List.copyOf(locations));
+    }
+
+    private static void addParagraphLocation(List<ParagraphLocation> locations, PlaceholderMatcher matcher,
+                                             XWPFParagraph paragraph, int tableIndex, int rowIndex,
+                                             int cellIndex, int paragraphIndex) {
+        Set<String> placeholders = null;
+        for (XWPFRun run : paragraph.getRuns()) {
+            Set<String> found = matcher.collect(run.getText(0));
+            if (!found.isEmpty()) {
+                if (placeholders == null) {
+                    placeholders = found;
+                } else {
+                    placeholders.addAll(found);
+                }
+            }
+        }
+        if (placeholders != null) {
+            locations.add(new ParagraphLocation(tableIndex, rowIndex, cellIndex, paragraphIndex,
+                    Collections.unmodifiableSet(placeholders)));
+        }
+    }
+
+    /**
+     * DOCX 문단 위치 (표 밖 문단은 tableIndex = -1)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class ParagraphLocation {
+        private final int tableIndex;
+        private final int rowIndex;
+        private final int cellIndex;
+        private final int paragraphIndex;
+        private final Set<String> placeholders;
+
+        XWPFParagraph resolve(XWPFDocument document) {
+            if (tableIndex < 0) {
+                return document.getParagraphs().get(paragraphIndex);
+            }
+            return document.getTables().get(tableIndex)
+                    .getRow(rowIndex)
+                    .getTableCells().get(cellIndex)
+                    .getParagraphs().get(paragraphIndex);
+        }
+    }
+
+    /**
+     * XLSX 셀 위치
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class CellLocation {
+        private final int sheetIndex;
+        private final int rowIndex;
+        private final int columnIndex;
+        private final Set<String> placeholders;
+
+        Cell resolve(Workbook workbook) {
+            Sheet sheet = workbook.getSheetAt(sheetIndex);
+            Row row = sheet.getRow(rowIndex);
+            return row != null ? row.getCell(columnIndex) : null;
+        }
+    }
+}
@@ -6,16 +6,27 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 /**
  * ZIP 파일 생성 유틸리티
- * 
+ * ZIP을 메모리에 만들지 않고 출력 스트림(응답 스트림 또는 파일)에 바로 기록한다.
+ * 첨부파일은 FileChannel.transferTo로 복사하므로 다운로드당 힙 사용량은 고정 크기 버퍼 수준이다.
+ * 엔트리 수정 시각은 고정값으로 기록하므로 같은 엔트리명/내용이면 ZIP 바이트가 항상 같다 (강한 ETag 유지).
+ *
  * @author vacation-api
  * @version 1.0
  * @since 2026-01-16
@@ -24,6 +35,11 @@ import java.util.zip.ZipOutputStream;
 @Component
 public class ZipFileUtil {
 
+    /**
+     * ZIP 엔트리 수정 시각 (DOS 시각 최솟값, 생성 시각/서버 시간대와 무관하게 고정)
+     */
+    static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+
     private final FileService fileService;
 
     public ZipFileUtil(FileService fileService) {
@@ -31,176 +47,263 @@ public class ZipFileUtil {
     }
 
     /**
-     * 문서와 첨부파일을 ZIP으로 묶기
-     * 
-     * @param documentBytes 문서 바이트 배열
+     * 문서와 첨부파일을 ZIP으로 묶어 출력 스트림에 기록
+     * 출력 스트림은 닫지 않는다 (호출 측 소유).
+     *
+     * @param outputStream 출력 스트림
+     * @param documentWriter 문서 기록기 (ZIP 엔트리에 문서 바이트 기록)
      * @param documentFileName 문서 파일명
      * @param attachments 첨부파일 목록
-     * @return ZIP 파일 바이트 배열
      * @throws IOException ZIP 생성 실패 시
      */
-    public byte[] createZipWithDocumentAndAttachments(
-            byte[] documentBytes,
+    public void writeZipWithDocumentAndAttachments(
+            OutputStream outputStream,
+            GeneratedDocumentCache.DocumentWriter documentWriter,
             String documentFileName,
             List<Attachment> attachments) throws IOException {
-        
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        
-        try (ZipOutputStream zos = new ZipOutputStream(baos)) {
-            // 문서 추가
-            ZipEntry documentEntry = new ZipEntry(documentFileName);
-            documentEntry.setSize(documentBytes.length);
-            zos.putNextEntry(documentEntry);
-            zos.write(documentBytes);
-            zos.closeEntry();
-            
-            // 첨부파일 추가 (루트에 직접 추가)
-            if (attachments != null && !attachments.isEmpty()) {
-                for (Attachment attachment : attachments) {
-                    try {
-                        Resource resource = fileService.downloadFile(attachment);
-                        if (resource.exists() && resource.isReadable()) {
-                            // 첨부파일을 루트에 직접 추가
-                            String attachmentFileName = attachment.getFileName();
-                            ZipEntry attachmentEntry = new ZipEntry(attachmentFileName);
-                            
-                            // 파일 크기 설정
-                            long fileSize = attachment.getFileSize() != null ? attachment.getFileSize() : 0;
-                            attachmentEntry.setSize(fileSize);
-                            
-                            zos.putNextEntry(attachmentEntry);
-                            
-                            // 파일 내용 복사
-                            try (InputStream is = resource.getInputStream()) {
-                                byte[] buffer = new byte[8192];
-                                int len;
-                                while ((len = is.read(buffer)) > 0) {
-                                    zos.write(buffer, 0, len);
-                                }
-                            }
-                            
-                            zos.closeEntry();
-                            log.debug("첨부파일 추가 완료: {}", attachment.getFileName());
-                        } else {
-                            log.warn("첨부파일을 읽을 수 없음: {}", attachment.getFilePath());
-                        }
-                    } catch (Exception e) {
-                        log.warn("첨부파일 추가 실패: {}", attachment.getFileName(), e);
-                        // 첨부파일 추가 실패해도 계속 진행
-                    }
-                }
-            }
-        }
-        
-        byte[] zipBytes = baos.toByteArray();
-        log.info("ZIP 파일 생성 완료. 크기: {} bytes, 문서: {}, 첨부파일: {}개", 
-                zipBytes.length, documentFileName, 
+
+        int[] addedCount = new int[1];
+        writeZip(outputStream, zos -> addedCount[0] =
+                addDocumentWithAttachments(zos, "", documentWriter, documentFileName, attachments));
+        log.info("ZIP 파일 전송 완료. 문서: {}, 첨부파일: {}/{}개", documentFileName, addedCount[0],
                 attachments != null ? attachments.size() : 0);
-        
-        return zipBytes;
     }
 
     /**
-     * 문서와 개인비용 항목별 첨부파일을 ZIP으로 묶기
+     * 문서와 개인비용 항목별 첨부파일을 ZIP으로 묶어 출력 스트림에 기록
      * 개인비용의 경우 각 항목별로 첨부파일이 있을 수 있음
-     * 
-     * @param documentBytes 문서 바이트 배열
+     * 출력 스트림은 닫지 않는다 (호출 측 소유).
+     *
+     * @param outputStream 출력 스트림
+     * @param documentWriter 문서 기록기 (ZIP 엔트리에 문서 바이트 기록)
      * @param documentFileName 문서 파일명
      * @param expenseSubAttachments 개인비용 항목별 첨부파일 목록 (Map<childNo, List<Attachment>>)
-     * @return ZIP 파일 바이트 배열
      * @throws IOException ZIP 생성 실패 시
      */
-    public byte[] createZipWithDocumentAndExpenseAttachments(
-            byte[] documentBytes,
+    public void writeZipWithDocumentAndExpenseAttachments(
+            OutputStream outputStream,
+            GeneratedDocumentCache.DocumentWriter documentWriter,
             String documentFileName,
-            java.util.Map<Integer, List<Attachment>> expenseSubAttachments) throws IOException {
-        
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        
-        try (ZipOutputStream zos = new ZipOutputStream(baos)) {
-            // 문서 추가
-            ZipEntry documentEntry = new ZipEntry(documentFileName);
-            documentEntry.setSize(documentBytes.length);
-            zos.putNextEntry(documentEntry);
-            zos.write(documentBytes);
-            zos.closeEntry();
-            
-            // 첨부파일 추가 (루트에 직접 추가, 파일명 중복 방지를 위해 항목번호 포함)
-            if (expenseSubAttachments != null && !expenseSubAttachments.isEmpty()) {
-                for (java.util.Map.Entry<Integer, List<Attachment>> entry : expenseSubAttachments.entrySet()) {
-                    Integer childNo = entry.getKey();
-                    List<Attachment> attachments = entry.getValue();
-                    
-                    if (attachments != null && !attachments.isEmpty()) {
-                        for (int i = 0; i < attachments.size(); i++) {
-                            Attachment attachment = attachments.get(i);
-                            try {
-                                Resource resource = fileService.downloadFile(attachment);
-                                if (resource.exists() && resource.isReadable()) {
-                                    // 첨부파일을 루트에 직접 추가 (파일명 중복 방지를 위해 항목번호 포함)
-                                    String originalFileName = attachment.getFileName();
-                                    String attachmentFileName;
-                                    
-                                    // 파일명에 확장자가 있는지 확인
-                                    int lastDotIndex = originalFileName.lastIndexOf('.');
-                                    if (lastDotIndex > 0) {
-                                        String nameWithoutExt = originalFileName.substring(0, lastDotIndex);
-                                        String extension = originalFileName.substring(lastDotIndex);
-                                        // 같은 항목에 여러 파일이 있을 경우를 대비해 인덱스 추가
-                                        if (attachments.size() > 1) {
-                                            attachmentFileName = String.format("%d_%s_%d%s", childNo, nameWithoutExt, i + 1, extension);
-                                        } else {
-                                            attachmentFileName = String.format("%d_%s%s", childNo, nameWithoutExt, extension);
-                                        }
-                                    } else {
-                                        // 같은 항목에 여러 파일이 있을 경우를 대비해 인덱스 추가
-                                        if (attachments.size() > 1) {
-                                            attachmentFileName = String.format("%d_%s_%d", childNo, originalFileName, i + 1);
-                                        } else {
-                                            attachmentFileName = String.format("%d_%s", childNo, originalFileName);
-                                        }
-                                    }
-                                    
-                                    ZipEntry attachmentEntry = new ZipEntry(attachmentFileName);
-                                    
-                                    // 파일 크기 설정
-                                    long fileSize = attachment.getFileSize() != null ? attachment.getFileSize() : 0;
-                                    attachmentEntry.setSize(fileSize);
-                                    
-                                    zos.putNextEntry(attachmentEntry);
-                                    
-                                    // 파일 내용 복사
-                                    try (InputStream is = resource.getInputStream()) {
-                                        byte[] buffer = new byte[8192];
-                                        int len;
-                                        while ((len = is.read(buffer)) > 0) {
-                                            zos.write(buffer, 0, len);
-                                        }
-                                    }
-                                    
-                                    zos.closeEntry();
-                                    log.debug("첨부파일 추가 완료: 항목{}, {}", childNo, attachmentFileName);
-                                } else {
-                                    log.warn("첨부파일을 읽을 수 없음: {}", attachment.getFilePath());
-                                }
-                            } catch (Exception e) {
-                                log.warn("첨부파일 추가 실패: 항목{}, {}", childNo, attachment.getFileName(), e);
-                                // 첨부파일 추가 실패해도 계속 진행
-                            }
-                        }
+            Map<Integer, List<Attachment>> expenseSubAttachments) throws IOException {
+
+        int[] addedCount = new int[1];
+        writeZip(outputStream, zos -> addedCount[0] = addDocumentWithExpenseAttachments(
+                zos, "", documentWriter, documentFileName, expenseSubAttachments));
+        log.info("ZIP 파일 전송 완료. 문서: {}, 첨부파일: {}/{}개", documentFileName, addedCount[0],
+                countAttachments(expenseSubAttachments));
+    }
+
+    /**
+     * ZIP 스트림을 열어 내용을 기록한 뒤 마무리 (여러 문서를 하나의 ZIP으로 묶을 때 사용)
+     * 출력 스트림은 닫지 않는다 (호출 측 소유).
+     *
+     * @param outputStream 출력 스트림
+     * @param content ZIP 내용 기록기
+     * @throws IOException ZIP 생성 실패 시
+     */
+    public void writeZip(OutputStream outputStream, ZipContent content) throws IOException {
+        ZipOutputStream zos = new ZipOutputStream(new NonClosingOutputStream(outputStream));
+        content.write(zos);
+        zos.finish();
+        zos.flush();
+    }
+
+    /**
+     * 열린 ZIP 스트림에 문서와 첨부파일 엔트리 추가
+     *
+     * @param zos ZIP 출력 스트림
+     * @param directory 엔트리 디렉토리 ("" 이면 루트, 그 외에는 '/'로 끝나야 함)
+     * @param documentWriter 문서 기록기
+     * @param documentFileName 문서 파일명
+     * @param attachments 첨부파일 목록 (null 가능)
+     * @return 추가된 첨부파일 수
+     * @throws IOException 엔트리 기록 실패 시
+     */
+    public int addDocumentWithAttachments(
+            ZipOutputStream zos,
+            String directory,
+            GeneratedDocumentCache.DocumentWriter documentWriter,
+            String documentFileName,
+            List<Attachment> attachments) throws IOException {
+
+        addDocumentEntry(zos, directory + documentFileName, documentWriter);
+
+        // 첨부파일 추가 (문서와 같은 디렉토리)
+        int addedCount = 0;
+        if (attachments != null && !attachments.isEmpty()) {
+            for (Attachment attachment : attachments) {
+                if (addAttachmentEntry(zos, directory + attachment.getFileName(), attachment)) {
+                    addedCount++;
+                }
+            }
+        }
+        return addedCount;
+    }
+
+    /**
+     * 열린 ZIP 스트림에 문서와 개인비용 항목별 첨부파일 엔트리 추가
+     *
+     * @param zos ZIP 출력 스트림
+     * @param directory 엔트리 디렉토리 ("" 이면 루트, 그 외에는 '/'로 끝나야 함)
+     * @param documentWriter 문서 기록기
+     * @param documentFileName 문서 파일명
+     * @param expenseSubAttachments 개인비용 항목별 첨부파일 목록 (null 가능)
+     * @return 추가된 첨부파일 수
+     * @throws IOException 엔트리 기록 실패 시
+     */
+    public int addDocumentWithExpenseAttachments(
+            ZipOutputStream zos,
+            String directory,
+            GeneratedDocumentCache.DocumentWriter documentWriter,
+            String documentFileName,
+            Map<Integer, List<Attachment>> expenseSubAttachments) throws IOException {
+
+        addDocumentEntry(zos, directory + documentFileName, documentWriter);
+
+        // 첨부파일 추가 (파일명 중복 방지를 위해 항목번호 포함)
+        int addedCount = 0;
+        if (expenseSubAttachments != null && !expenseSubAttachments.isEmpty()) {
+            for (Map.Entry<Integer, List<Attachment>> entry : expenseSubAttachments.entrySet()) {
+                Integer childNo = entry.getKey();
+                List<Attachment> attachments = entry.getValue();
+                if (attachments == null || attachments.isEmpty()) {
+                    continue;
+                }
+
+                for (int i = 0; i < attachments.size(); i++) {
+                    Attachment attachment = attachments.get(i);
+                    String attachmentFileName = createExpenseAttachmentFileName(
+                            childNo, attachment.getFileName(), i, attachments.size());
+                    if (addAttachmentEntry(zos, directory + attachmentFileName, attachment)) {
+                        addedCount++;
                     }
                 }
             }
         }
-        
-        int totalAttachments = expenseSubAttachments != null 
-                ? expenseSubAttachments.values().stream().mapToInt(List::size).sum() 
-                : 0;
-        
-        byte[] zipBytes = baos.toByteArray();
-        log.info("ZIP 파일 생성 완료. 크기: {} bytes, 문서: {}, 첨부파일: {}개", 
-                zipBytes.length, documentFileName, totalAttachments);
-        
-        return zipBytes;
+        return addedCount;
+    }
+
+    /**
+     * 텍스트 엔트리 추가 (UTF-8)
+     *
+     * @param zos ZIP 출력 스트림
+     * @param entryName 엔트리명
+     * @param content 내용
+     * @throws IOException 엔트리 기록 실패 시
+     */
+    public void addTextEntry(ZipOutputStream zos, String entryName, String content) throws IOException {
+        zos.putNextEntry(newEntry(entryName));
+        zos.write(content.getBytes(StandardCharsets.UTF_8));
+        zos.closeEntry();
+    }
+
+    private static void addDocumentEntry(ZipOutputStream zos, String entryName,
+                                         GeneratedDocumentCache.DocumentWriter documentWriter) throws IOException {
+        zos.putNextEntry(newEntry(entryName));
+        documentWriter.write(new NonClosingOutputStream(zos));
+        zos.closeEntry();
+    }
+
+    private static ZipEntry newEntry(String entryName) {
+        ZipEntry entry = new ZipEntry(entryName);
+        entry.setTimeLocal(ENTRY_TIME);
+        return entry;
+    }
+
+    private static int countAttachments(Map<Integer, List<Attachment>> expenseSubAttachments) {
+        if (expenseSubAttachments == null) {
+            return 0;
+        }
+        return expenseSubAttachments.values().stream()
+                .mapToInt(attachments -> attachments != null ? attachments.size() : 0)
+                .sum();
+    }
+
+    /**
+     * 개인비용 첨부파일 ZIP 엔트리명 생성 (항목번호 포함, 같은 항목에 여러 파일이면 인덱스 추가)
+     */
+    private static String createExpenseAttachmentFileName(
+            Integer childNo, String originalFileName, int index, int attachmentCount) {
+        int lastDotIndex = originalFileName.lastIndexOf('.');
+        String nameWithoutExt = lastDotIndex > 0 ? originalFileName.substring(0, lastDotIndex) : originalFileName;
+        String extension = lastDotIndex > 0 ? originalFileName.substring(lastDotIndex) : "";
+        if (attachmentCount > 1) {
+            return String.format("%d_%s_%d%s", childNo, nameWithoutExt, index + 1, extension);
+        }
+        return String.format("%d_%s%s", childNo, nameWithoutExt, extension);
+    }
+
+    /**
+     * 첨부파일 ZIP 엔트리 추가
+     * 첨부파일 하나를 읽을 수 없어도 나머지는 계속 추가한다.
+     * 단, 엔트리 기록 도중 실패하면 ZIP 스트림이 손상되므로 예외를 전파한다.
+     *
+     * @return 추가 여부
+     */
+    private boolean addAttachmentEntry(ZipOutputStream zos, String entryName, Attachment attachment)
+            throws IOException {
+        ReadableByteChannel channel;
+        try {
+            Resource resource = fileService.downloadFile(attachment);
+            channel = resource.readableChannel();
+        } catch (Exception e) {
+            log.warn("첨부파일을 읽을 수 없음: {}", attachment.getFilePath(), e);
+            return false;
+        }
+
+        try (channel) {
+            zos.putNextEntry(newEntry(entryName));
+            copy(channel, zos);
+            zos.closeEntry();
+        }
+        log.debug("첨부파일 추가 완료: {}", entryName);
+        return true;
+    }
+
+    /**
+     * 채널 내용을 출력 스트림으로 복사 (파일 채널이면 transferTo 사용)
+     */
+    private static void copy(ReadableByteChannel source, OutputStream outputStream) throws IOException {
+        WritableByteChannel target = Channels.newChannel(new NonClosingOutputStream(outputStream));
+        if (source instanceof FileChannel fileChannel) {
+            long position = 0;
+            long size = fileChannel.size();
+            while (position < size) {
+                position += fileChannel.transferTo(position, size - position, target);
+            }
+            return;
+        }
+        try (InputStream inputStream = Channels.newInputStream(source)) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+
+    /**
+     * ZIP 내용 기록기 (열린 ZIP 스트림에 엔트리 추가)
+     */
+    @FunctionalInterface
+    public interface ZipContent {
+        void write(ZipOutputStream zos) throws IOException;
+    }
+
+    /**
+     * close() 호출 시 하위 스트림을 닫지 않는 출력 스트림
+     * (문서 기록기/채널이 ZIP 스트림이나 응답 스트림을 닫지 않도록 보호)
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 }
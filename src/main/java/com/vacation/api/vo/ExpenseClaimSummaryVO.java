@@ -0,0 +1,26 @@
+package com.vacation.api.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 개인 비용 청구 상세 항목 요약 VO
+ * 청구 1건당 1행 (tbl_expense_sub / tbl_attachment 집계, JPQL 생성자 표현식으로 직접 조회)
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseClaimSummaryVO {
+
+    private Long parentSeq;
+    private Long itemCount;
+    private LocalDate maxDate;
+    private Long attachmentCount;
+}
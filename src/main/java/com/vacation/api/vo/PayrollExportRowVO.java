@@ -0,0 +1,32 @@
+package com.vacation.api.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 급여 정산 내보내기 행 VO
+ * 승인된 개인비용/월세지원 신청 1건당 1행 (JPQL 생성자 표현식으로 직접 조회하므로 영속성 컨텍스트에 쌓이지 않음)
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollExportRowVO {
+
+    private String applicationType;
+    private Long seq;
+    private Long userId;
+    private String name;
+    private String division;
+    private String team;
+    private Integer billingYyMonth;
+    private LocalDate requestDate;
+    private Long amount;
+    private String approvalStatus;
+}
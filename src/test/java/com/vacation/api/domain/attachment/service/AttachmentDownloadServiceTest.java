@@ -0,0 +1,238 @@
+package com.vacation.api.domain.attachment.service;
+
+import com.vacation.api.domain.attachment.entity.Attachment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * AttachmentDownloadService 테스트 (조건부/구간 다운로드 응답)
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+class AttachmentDownloadServiceTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    private static final String CONTENT_HASH = "a".repeat(64);
+
+    @Mock
+    private FileService fileService;
+
+    @TempDir
+    Path uploadRoot;
+
+    private AttachmentDownloadService attachmentDownloadService;
+
+    private Path filePath;
+
+    private Attachment attachment;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        attachmentDownloadService = new AttachmentDownloadService(fileService);
+        ReflectionTestUtils.setField(attachmentDownloadService, "maxAgeSeconds", 86400L);
+        ReflectionTestUtils.setField(attachmentDownloadService, "accelRedirectPrefix", "/internal-upload/");
+
+        filePath = uploadRoot.resolve("sha256").resolve("aa").resolve(CONTENT_HASH);
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, CONTENT);
+        attachment = createAttachment(filePath);
+    }
+
+    @Test
+    @DisplayName("Range 없음 - 전체 내용이 200으로 응답되어야 한다")
+    void testCreateResponse_Full() throws IOException {
+        // when
+        ResponseEntity<StreamingResponseBody> response =
+                attachmentDownloadService.createResponse(newRequest(), attachment);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + CONTENT_HASH + "\"");
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(CONTENT.length);
+        assertThat(readBody(response)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("단일 구간 - 요청 구간만 206으로 응답되어야 한다")
+    void testCreateResponse_SingleRange() throws IOException {
+        // given
+        MockHttpServletRequest request = newRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = attachmentDownloadService.createResponse(request, attachment);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(4);
+        assertThat(readBody(response)).isEqualTo(Arrays.copyOfRange(CONTENT, 2, 6));
+    }
+
+    @Test
+    @DisplayName("끝 구간 - 마지막 N바이트가 206으로 응답되어야 한다")
+    void testCreateResponse_SuffixRange() throws IOException {
+        // given
+        MockHttpServletRequest request = newRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = attachmentDownloadService.createResponse(request, attachment);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+        assertThat(readBody(response)).isEqualTo(Arrays.copyOfRange(CONTENT, 7, 10));
+    }
+
+    @Test
+    @DisplayName("범위 밖 구간 - 416과 전체 크기 Content-Range로 응답되어야 한다")
+    void testCreateResponse_RangeNotSatisfiable() throws IOException {
+        // given
+        MockHttpServletRequest request = newRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = attachmentDownloadService.createResponse(request, attachment);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Range 불일치 - 구간을 무시하고 전체 내용이 200으로 응답되어야 한다")
+    void testCreateResponse_IfRangeMismatch() throws IOException {
+        // given
+        MockHttpServletRequest request = newRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"" + "b".repeat(64) + "\"");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = attachmentDownloadService.createResponse(request, attachment);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(readBody(response)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("변경 없음 - ETag가 일치하면 304로 응답되어야 한다")
+    void testCreateResponse_NotModified() throws IOException {
+        // given
+        MockHttpServletRequest request = newRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + CONTENT_HASH + "\"");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = attachmentDownloadService.createResponse(request, attachment);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("프록시 전달 - 업로드 경로 안의 파일은 X-Accel-Redirect 헤더로 응답되어야 한다")
+    void testCreateResponse_AccelRedirect() throws IOException {
+        // given
+        ReflectionTestUtils.setField(attachmentDownloadService, "accelRedirectEnabled", true);
+        when(fileService.getUploadRoot()).thenReturn(uploadRoot);
+
+        // when
+        ResponseEntity<StreamingResponseBody> response =
+                attachmentDownloadService.createResponse(newRequest(), attachment);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("X-Accel-Redirect"))
+                .isEqualTo("/internal-upload/sha256/aa/" + CONTENT_HASH);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("프록시 전달 - 업로드 경로 밖의 파일은 헤더 없이 직접 전송되어야 한다")
+    void testCreateResponse_AccelRedirectOutsideUploadRoot() throws IOException {
+        // given
+        ReflectionTestUtils.setField(attachmentDownloadService, "accelRedirectEnabled", true);
+        when(fileService.getUploadRoot()).thenReturn(uploadRoot.resolve("sha256"));
+        Path outsideFile = uploadRoot.resolve("outside.png");
+        Files.write(outsideFile, CONTENT);
+
+        // when
+        ResponseEntity<StreamingResponseBody> response =
+                attachmentDownloadService.createResponse(newRequest(), createAttachment(outsideFile));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().containsKey("X-Accel-Redirect")).isFalse();
+        assertThat(readBody(response)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("전송 중 파일 축소 - 무한 반복하지 않고 EOFException으로 중단되어야 한다")
+    void testCreateResponse_TruncatedFile() throws IOException {
+        // given
+        ResponseEntity<StreamingResponseBody> response =
+                attachmentDownloadService.createResponse(newRequest(), attachment);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(4);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> readBody(response)).isInstanceOf(EOFException.class);
+    }
+
+    private MockHttpServletRequest newRequest() {
+        return new MockHttpServletRequest("GET", "/vacation/1/attachment/1");
+    }
+
+    private Attachment createAttachment(Path path) {
+        return Attachment.builder()
+                .seq(1L)
+                .applicationType("VACATION")
+                .applicationSeq(1L)
+                .fileName("receipt.png")
+                .filePath(path.toString())
+                .fileSize((long) CONTENT.length)
+                .contentHash(CONTENT_HASH)
+                .fileOrder(1)
+                .build();
+    }
+
+    private byte[] readBody(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+}
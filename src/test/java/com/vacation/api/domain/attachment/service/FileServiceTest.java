@@ -0,0 +1,244 @@
+package com.vacation.api.domain.attachment.service;
+
+import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.domain.attachment.entity.StoredFile;
+import com.vacation.api.domain.attachment.repository.AttachmentRepository;
+import com.vacation.api.domain.attachment.repository.StoredFileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * FileService 테스트 (내용 주소 저장 참조 수 관리)
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+class FileServiceTest {
+
+    private static final byte[] PNG_CONTENT = {
+            (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0x00, 0x00, 0x00, 0x0D, 'I', 'H', 'D', 'R'
+    };
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private StoredFileRepository storedFileRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path uploadRoot;
+
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        fileService = new FileService(attachmentRepository, storedFileRepository, new SimpleMeterRegistry(),
+                eventPublisher);
+        ReflectionTestUtils.setField(fileService, "activeProfile", "prod");
+        ReflectionTestUtils.setField(fileService, "prodUploadPath", uploadRoot.toString());
+        ReflectionTestUtils.setField(fileService, "maxUploadSize", 10L * 1024 * 1024);
+        fileService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("새 내용 업로드 - 저장 파일로 이동하고 참조 수 1인 저장 파일 행이 생성되어야 한다")
+    void testUploadExpenseItemFile_NewContent() throws IOException {
+        // given
+        when(storedFileRepository.saveAndFlush(any(StoredFile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        try (FileService.StagedContent staged = fileService.stageContent(
+                new ByteArrayInputStream(PNG_CONTENT), "receipt.png")) {
+            // when
+            Attachment attachment = fileService.uploadExpenseItemFile(staged, "EXPENSE", 1L, 10L, 100L);
+
+            // then
+            Path contentPath = Path.of(attachment.getFilePath());
+            assertThat(contentPath).startsWith(uploadRoot.resolve("sha256"));
+            assertThat(contentPath.getFileName().toString()).isEqualTo(staged.getContentHash());
+            assertThat(Files.readAllBytes(contentPath)).isEqualTo(PNG_CONTENT);
+            assertThat(staged.getTempFile()).doesNotExist();
+            assertThat(attachment.getContentHash()).isEqualTo(staged.getContentHash());
+            verify(storedFileRepository, times(1)).saveAndFlush(argThat((StoredFile storedFile) -> storedFile.getRefCount() == 1));
+        }
+    }
+
+    @Test
+    @DisplayName("중복 내용 업로드 - 디스크에 다시 기록하지 않고 참조 수만 증가해야 한다")
+    void testUploadExpenseItemFile_DeduplicatedContent() throws IOException {
+        // given
+        try (FileService.StagedContent staged = fileService.stageContent(
+                new ByteArrayInputStream(PNG_CONTENT), "receipt.png")) {
+            StoredFile storedFile = createStoredFile(staged.getContentHash(), 1);
+            when(storedFileRepository.findByContentHashForUpdate(staged.getContentHash()))
+                    .thenReturn(Optional.of(storedFile));
+            when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            Attachment attachment = fileService.uploadExpenseItemFile(staged, "EXPENSE", 2L, 20L, 100L);
+
+            // then
+            assertThat(storedFile.getRefCount()).isEqualTo(2);
+            assertThat(attachment.getFilePath()).isEqualTo(storedFile.getFilePath());
+            assertThat(staged.getTempFile()).exists();
+            verify(storedFileRepository, never()).saveAndFlush(any());
+        }
+    }
+
+    @Test
+    @DisplayName("참조 해제 - 다른 첨부파일이 참조 중이면 파일을 남기고 참조 수만 감소해야 한다")
+    void testDeleteAttachments_SharedContentKept() throws IOException {
+        // given
+        StoredFile storedFile = createStoredFile("b".repeat(64), 2);
+        when(attachmentRepository.findByApplicationTypeAndApplicationSeqOrderByFileOrderAsc("VACATION", 1L))
+                .thenReturn(List.of(createAttachment(storedFile)));
+        when(storedFileRepository.findByContentHashForUpdate(storedFile.getContentHash()))
+                .thenReturn(Optional.of(storedFile));
+
+        // when
+        fileService.deleteAttachments("VACATION", 1L);
+
+        // then
+        assertThat(storedFile.getRefCount()).isEqualTo(1);
+        assertThat(Path.of(storedFile.getFilePath())).exists();
+        verify(storedFileRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("마지막 참조 해제 - 저장 파일 행과 파일이 삭제되어야 한다")
+    void testDeleteAttachments_LastReferenceDeleted() throws IOException {
+        // given
+        StoredFile storedFile = createStoredFile("c".repeat(64), 1);
+        when(attachmentRepository.findByApplicationTypeAndApplicationSeqOrderByFileOrderAsc("VACATION", 1L))
+                .thenReturn(List.of(createAttachment(storedFile)));
+        when(storedFileRepository.findByContentHashForUpdate(storedFile.getContentHash()))
+                .thenReturn(Optional.of(storedFile));
+
+        // when
+        fileService.deleteAttachments("VACATION", 1L);
+
+        // then
+        assertThat(Path.of(storedFile.getFilePath())).doesNotExist();
+        verify(storedFileRepository, times(1)).delete(storedFile);
+        verify(attachmentRepository, times(1)).deleteByApplicationTypeAndApplicationSeq("VACATION", 1L);
+    }
+
+    @Test
+    @DisplayName("마지막 참조 해제 후 커밋 - 커밋 전까지는 임시 이름으로 보관하고 커밋 후 삭제해야 한다")
+    void testDeleteAttachments_LastReferenceDeletedAfterCommit() throws IOException {
+        // given
+        StoredFile storedFile = createStoredFile("d".repeat(64), 1);
+        Path filePath = Path.of(storedFile.getFilePath());
+        when(attachmentRepository.findByApplicationTypeAndApplicationSeqOrderByFileOrderAsc("VACATION", 1L))
+                .thenReturn(List.of(createAttachment(storedFile)));
+        when(storedFileRepository.findByContentHashForUpdate(storedFile.getContentHash()))
+                .thenReturn(Optional.of(storedFile));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        fileService.deleteAttachments("VACATION", 1L);
+
+        // then
+        assertThat(filePath).doesNotExist();
+        assertThat(listSiblings(filePath)).hasSize(1);
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(filePath).doesNotExist();
+        assertThat(listSiblings(filePath)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 참조 해제 후 롤백 - 임시 이름으로 옮긴 파일이 원래 경로로 복구되어야 한다")
+    void testDeleteAttachments_LastReferenceRestoredOnRollback() throws IOException {
+        // given
+        StoredFile storedFile = createStoredFile("e".repeat(64), 1);
+        Path filePath = Path.of(storedFile.getFilePath());
+        when(attachmentRepository.findByApplicationTypeAndApplicationSeqOrderByFileOrderAsc("VACATION", 1L))
+                .thenReturn(List.of(createAttachment(storedFile)));
+        when(storedFileRepository.findByContentHashForUpdate(storedFile.getContentHash()))
+                .thenReturn(Optional.of(storedFile));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        fileService.deleteAttachments("VACATION", 1L);
+        assertThat(filePath).doesNotExist();
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(filePath).exists();
+        assertThat(Files.readAllBytes(filePath)).isEqualTo(PNG_CONTENT);
+        assertThat(listSiblings(filePath)).containsExactly(filePath);
+    }
+
+    private StoredFile createStoredFile(String contentHash, int refCount) throws IOException {
+        Path contentPath = uploadRoot.resolve("sha256").resolve(contentHash.substring(0, 2)).resolve(contentHash);
+        Files.createDirectories(contentPath.getParent());
+        Files.write(contentPath, PNG_CONTENT);
+        return StoredFile.builder()
+                .contentHash(contentHash)
+                .filePath(contentPath.toString())
+                .fileSize((long) PNG_CONTENT.length)
+                .refCount(refCount)
+                .build();
+    }
+
+    private Attachment createAttachment(StoredFile storedFile) {
+        return Attachment.builder()
+                .seq(1L)
+                .applicationType("VACATION")
+                .applicationSeq(1L)
+                .fileName("receipt.png")
+                .filePath(storedFile.getFilePath())
+                .fileSize(storedFile.getFileSize())
+                .contentHash(storedFile.getContentHash())
+                .fileOrder(1)
+                .build();
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private List<Path> listSiblings(Path filePath) throws IOException {
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            return files.toList();
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.vacation.api.domain.expense.service;
 
+import com.vacation.api.domain.attachment.entity.Attachment;
+import com.vacation.api.domain.attachment.entity.StoredFile;
+import com.vacation.api.domain.attachment.repository.AttachmentRepository;
+import com.vacation.api.domain.attachment.repository.StoredFileRepository;
+import com.vacation.api.enums.ApplicationType;
 import com.vacation.api.domain.expense.entity.ExpenseClaim;
 import com.vacation.api.domain.expense.entity.ExpenseSub;
 import com.vacation.api.domain.expense.repository.ExpenseClaimRepository;
@@ -51,6 +56,12 @@ class ExpenseClaimServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
     private User testUser;
 
     @BeforeEach
@@ -165,6 +176,197 @@ class ExpenseClaimServiceTest {
         assertThat(subs.get(0).getUsageDetail()).isEqualTo("식대");
     }
 
+    @Test
+    @DisplayName("비용 청구 수정 성공 - seq로 매칭된 항목은 seq가 유지되고 빠진 항목만 삭제되어야 한다")
+    void testUpdateExpenseClaim_KeepsUnchangedItemSeq() {
+        // given - 항목 3개로 청구 생성
+        ExpenseClaimRequest createRequest = new ExpenseClaimRequest();
+        createRequest.setRequestDate(LocalDate.of(2026, 1, 15));
+        createRequest.setMonth(1);
+
+        List<ExpenseItemRequest> items = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            ExpenseItemRequest item = new ExpenseItemRequest();
+            item.setDate(LocalDate.of(2026, 1, i));
+            item.setUsageDetail("택시비" + i);
+            item.setAmount(1000L * i);
+            items.add(item);
+        }
+        createRequest.setExpenseItems(items);
+
+        ExpenseClaim created = expenseClaimService.createExpenseClaim(testUser.getUserId(), createRequest);
+        List<ExpenseSub> before = expenseSubRepository.findByParentSeqOrderByChildNoAsc(created.getSeq());
+
+        // when - 두 번째 항목만 변경하고 세 번째 항목 제거
+        ExpenseClaimRequest updateRequest = new ExpenseClaimRequest();
+        updateRequest.setRequestDate(LocalDate.of(2026, 1, 15));
+        updateRequest.setMonth(1);
+        items.get(0).setSeq(before.get(0).getSeq());
+        List<ExpenseItemRequest> updateItems = new ArrayList<>(items.subList(0, 2));
+        ExpenseItemRequest changed = new ExpenseItemRequest();
+        changed.setSeq(before.get(1).getSeq());
+        changed.setDate(LocalDate.of(2026, 1, 2));
+        changed.setUsageDetail("식대");
+        changed.setAmount(7000L);
+        updateItems.set(1, changed);
+        updateRequest.setExpenseItems(updateItems);
+
+        ExpenseClaim result = expenseClaimService.updateExpenseClaim(created.getSeq(), testUser.getUserId(), updateRequest);
+
+        // then
+        assertThat(result.getTotalAmount()).isEqualTo(8000L);
+        List<ExpenseSub> after = expenseSubRepository.findByParentSeqOrderByChildNoAsc(created.getSeq());
+        assertThat(after).hasSize(2);
+        assertThat(after.get(0).getSeq()).isEqualTo(before.get(0).getSeq());
+        assertThat(after.get(1).getSeq()).isEqualTo(before.get(1).getSeq());
+        assertThat(after.get(1).getUsageDetail()).isEqualTo("식대");
+        assertThat(after.get(1).getAmount()).isEqualTo(7000L);
+    }
+
+    @Test
+    @DisplayName("비용 청구 수정 - 빠진 항목의 첨부파일이 삭제되고 저장 파일 참조가 해제되어야 한다")
+    void testUpdateExpenseClaim_RemovedItemAttachmentIsReleased() {
+        // given - 항목 2개로 청구 생성, 두 번째 항목에 첨부파일 연결
+        ExpenseClaimRequest createRequest = new ExpenseClaimRequest();
+        createRequest.setRequestDate(LocalDate.of(2026, 1, 15));
+        createRequest.setMonth(1);
+
+        List<ExpenseItemRequest> items = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            ExpenseItemRequest item = new ExpenseItemRequest();
+            item.setDate(LocalDate.of(2026, 1, i));
+            item.setUsageDetail("택시비" + i);
+            item.setAmount(1000L * i);
+            items.add(item);
+        }
+        createRequest.setExpenseItems(items);
+
+        ExpenseClaim created = expenseClaimService.createExpenseClaim(testUser.getUserId(), createRequest);
+        List<ExpenseSub> createdSubs = expenseSubRepository.findByParentSeqOrderByChildNoAsc(created.getSeq());
+        ExpenseSub removedSub = createdSubs.get(1);
+
+        String contentHash = "a".repeat(64);
+        storedFileRepository.save(StoredFile.builder()
+                .contentHash(contentHash)
+                .filePath("/tmp/vacation-api-test/sha256/aa/" + contentHash)
+                .fileSize(100L)
+                .refCount(1)
+                .build());
+        attachmentRepository.save(Attachment.builder()
+                .applicationType(ApplicationType.EXPENSE.getCode())
+                .applicationSeq(created.getSeq())
+                .expenseSubSeq(removedSub.getSeq())
+                .fileName("receipt.png")
+                .filePath("/tmp/vacation-api-test/sha256/aa/" + contentHash)
+                .fileSize(100L)
+                .contentHash(contentHash)
+                .fileOrder(1)
+                .build());
+
+        // when - 두 번째 항목 제거
+        ExpenseClaimRequest updateRequest = new ExpenseClaimRequest();
+        updateRequest.setRequestDate(LocalDate.of(2026, 1, 15));
+        updateRequest.setMonth(1);
+        items.get(0).setSeq(createdSubs.get(0).getSeq());
+        updateRequest.setExpenseItems(new ArrayList<>(items.subList(0, 1)));
+
+        expenseClaimService.updateExpenseClaim(created.getSeq(), testUser.getUserId(), updateRequest);
+
+        // then
+        assertThat(expenseSubRepository.findByParentSeqOrderByChildNoAsc(created.getSeq())).hasSize(1);
+        assertThat(attachmentRepository.findByExpenseSubSeqOrderByFileOrderAsc(removedSub.getSeq())).isEmpty();
+        assertThat(storedFileRepository.findById(contentHash)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비용 청구 수정 - 중간 항목을 삭제해도 남은 항목의 첨부파일이 각 항목에 유지되어야 한다")
+    void testUpdateExpenseClaim_RemoveMiddleItemKeepsAttachmentPairing() {
+        // given - 항목 3개로 청구 생성, 항목마다 첨부파일 연결
+        ExpenseClaimRequest createRequest = new ExpenseClaimRequest();
+        createRequest.setRequestDate(LocalDate.of(2026, 1, 15));
+        createRequest.setMonth(1);
+
+        List<ExpenseItemRequest> items = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            ExpenseItemRequest item = new ExpenseItemRequest();
+            item.setDate(LocalDate.of(2026, 1, i));
+            item.setUsageDetail("택시비" + i);
+            item.setAmount(1000L * i);
+            items.add(item);
+        }
+        createRequest.setExpenseItems(items);
+
+        ExpenseClaim created = expenseClaimService.createExpenseClaim(testUser.getUserId(), createRequest);
+        List<ExpenseSub> before = expenseSubRepository.findByParentSeqOrderByChildNoAsc(created.getSeq());
+        for (int i = 0; i < before.size(); i++) {
+            String contentHash = String.valueOf((char) ('a' + i)).repeat(64);
+            storedFileRepository.save(StoredFile.builder()
+                    .contentHash(contentHash)
+                    .filePath("/tmp/vacation-api-test/sha256/" + contentHash.substring(0, 2) + "/" + contentHash)
+                    .fileSize(100L)
+                    .refCount(1)
+                    .build());
+            attachmentRepository.save(Attachment.builder()
+                    .applicationType(ApplicationType.EXPENSE.getCode())
+                    .applicationSeq(created.getSeq())
+                    .expenseSubSeq(before.get(i).getSeq())
+                    .fileName("receipt" + (i + 1) + ".png")
+                    .filePath("/tmp/vacation-api-test/sha256/" + contentHash.substring(0, 2) + "/" + contentHash)
+                    .fileSize(100L)
+                    .contentHash(contentHash)
+                    .fileOrder(1)
+                    .build());
+        }
+
+        // when - 두 번째 항목 제거 (첫 번째, 세 번째 항목은 seq와 함께 전송)
+        items.get(0).setSeq(before.get(0).getSeq());
+        items.get(2).setSeq(before.get(2).getSeq());
+        ExpenseClaimRequest updateRequest = new ExpenseClaimRequest();
+        updateRequest.setRequestDate(LocalDate.of(2026, 1, 15));
+        updateRequest.setMonth(1);
+        updateRequest.setExpenseItems(new ArrayList<>(List.of(items.get(0), items.get(2))));
+
+        expenseClaimService.updateExpenseClaim(created.getSeq(), testUser.getUserId(), updateRequest);
+
+        // then - 세 번째 항목이 seq를 유지한 채 childNo 2가 되고 자신의 첨부파일을 그대로 가짐
+        List<ExpenseSub> after = expenseSubRepository.findByParentSeqOrderByChildNoAsc(created.getSeq());
+        assertThat(after).hasSize(2);
+        assertThat(after.get(0).getSeq()).isEqualTo(before.get(0).getSeq());
+        assertThat(after.get(1).getSeq()).isEqualTo(before.get(2).getSeq());
+        assertThat(after.get(1).getChildNo()).isEqualTo(2);
+        assertThat(after.get(1).getUsageDetail()).isEqualTo("택시비3");
+
+        assertThat(attachmentRepository.findByExpenseSubSeqOrderByFileOrderAsc(after.get(0).getSeq()))
+                .extracting(Attachment::getFileName).containsExactly("receipt1.png");
+        assertThat(attachmentRepository.findByExpenseSubSeqOrderByFileOrderAsc(after.get(1).getSeq()))
+                .extracting(Attachment::getFileName).containsExactly("receipt3.png");
+        assertThat(attachmentRepository.findByExpenseSubSeqOrderByFileOrderAsc(before.get(1).getSeq())).isEmpty();
+        assertThat(storedFileRepository.findById("b".repeat(64))).isEmpty();
+        assertThat(storedFileRepository.findById("c".repeat(64))).isPresent();
+    }
+
+    @Test
+    @DisplayName("비용 청구 수정 실패 - 다른 청구의 항목 seq가 포함되면 ApiException이 발생해야 한다")
+    void testUpdateExpenseClaim_ForeignItemSeq() {
+        // given
+        ExpenseClaimRequest createRequest = new ExpenseClaimRequest();
+        createRequest.setRequestDate(LocalDate.of(2026, 1, 15));
+        createRequest.setMonth(1);
+        ExpenseItemRequest item = new ExpenseItemRequest();
+        item.setDate(LocalDate.of(2026, 1, 10));
+        item.setUsageDetail("택시비");
+        item.setAmount(10000L);
+        createRequest.setExpenseItems(new ArrayList<>(List.of(item)));
+        ExpenseClaim created = expenseClaimService.createExpenseClaim(testUser.getUserId(), createRequest);
+
+        // when & then
+        item.setSeq(Long.MAX_VALUE);
+        assertThatThrownBy(() -> expenseClaimService.updateExpenseClaim(created.getSeq(), testUser.getUserId(), createRequest))
+                .isInstanceOf(ApiException.class)
+                .satisfies(exception -> assertThat(((ApiException) exception).getApiErrorCode())
+                        .isEqualTo(ApiErrorCode.INVALID_REQUEST_FORMAT));
+    }
+
     @Test
     @DisplayName("비용 청구 삭제 성공 - 청구와 자식 항목이 모두 삭제되어야 한다")
     void testDeleteExpenseClaim_Success() {
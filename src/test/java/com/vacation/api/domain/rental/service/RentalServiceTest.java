@@ -0,0 +1,194 @@
+package com.vacation.api.domain.rental.service;
+
+import com.vacation.api.domain.alarm.service.AlarmService;
+import com.vacation.api.domain.rental.entity.RentalProposal;
+import com.vacation.api.domain.rental.entity.RentalSupport;
+import com.vacation.api.domain.rental.repository.RentalProposalRepository;
+import com.vacation.api.domain.rental.repository.RentalSupportRepository;
+import com.vacation.api.domain.user.entity.User;
+import com.vacation.api.domain.user.repository.UserRepository;
+import com.vacation.api.enums.ApplicationType;
+import com.vacation.api.enums.ApprovalStatus;
+import com.vacation.api.enums.UserStatus;
+import com.vacation.api.exception.ApiErrorCode;
+import com.vacation.api.exception.ApiException;
+import com.vacation.api.util.ApprovalStatusResolver;
+import com.vacation.api.util.GeneratedDocumentCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RentalService 테스트
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+class RentalServiceTest {
+
+    @Mock
+    private RentalProposalRepository rentalProposalRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RentalSupportRepository rentalSupportRepository;
+
+    @Mock
+    private AlarmService alarmService;
+
+    @Mock
+    private ApprovalStatusResolver approvalStatusResolver;
+
+    @Mock
+    private GeneratedDocumentCache generatedDocumentCache;
+
+    @InjectMocks
+    private RentalService rentalService;
+
+    @Test
+    @DisplayName("월세 지원 신청 일괄 생성 - 한 사용자의 품의서가 여러 건이면 최신 계약 품의서 1건만 생성되어야 한다")
+    void testCreateMonthlyRentalSupportApplications_DuplicateProposals() {
+        // given
+        LocalDate requestDate = LocalDate.of(2026, 3, 10);
+        User user = createUser();
+        RentalProposal oldProposal = createProposal(10L, user.getUserId(), LocalDate.of(2025, 1, 5), 500000L);
+        RentalProposal newProposal = createProposal(11L, user.getUserId(), LocalDate.of(2026, 1, 20), 700000L);
+
+        when(rentalProposalRepository.findBillableProposals(anyList(), eq(requestDate), any(LocalDate.class)))
+                .thenReturn(List.of(newProposal, oldProposal));
+        when(rentalSupportRepository.findUserIdsByBillingYyMonthAndUserIdIn(anyInt(), anyList()))
+                .thenReturn(List.of());
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(rentalSupportRepository.findLatestByUserIdIn(anyCollection())).thenReturn(List.of());
+        when(rentalSupportRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<RentalSupport> list = invocation.getArgument(0);
+            list.forEach(r -> r.setSeq(100L));
+            return list;
+        });
+
+        // when
+        int created = rentalService.createMonthlyRentalSupportApplications(requestDate);
+
+        // then
+        assertThat(created).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RentalSupport>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rentalSupportRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        RentalSupport saved = captor.getValue().get(0);
+        assertThat(saved.getUserId()).isEqualTo(user.getUserId());
+        assertThat(saved.getContractStartDate()).isEqualTo(newProposal.getContractStartDate());
+        assertThat(saved.getContractMonthlyRent()).isEqualTo(700000L);
+        assertThat(saved.getBillingYyMonth()).isEqualTo(202603);
+        assertThat(saved.getApprovalStatus()).isEqualTo(ApprovalStatus.DRAFT.getName());
+
+        // 결재자가 아닌 신청자에게만 알람
+        verify(alarmService, times(1)).createDraftCreatedAlarms(anyString(), eq(Map.of(1L, 100L)));
+        verify(alarmService, never()).createApplicationCreatedAlarms(anyString(), any());
+        verify(approvalStatusResolver, never()).resolveInitialApprovalStatus(anyString());
+    }
+
+    @Test
+    @DisplayName("월세 지원 신청 제출 - 임시 저장 신청은 권한에 따른 초기 상태로 변경되고 팀장 알람이 생성되어야 한다")
+    void testSubmitRentalSupportApplication_Draft() {
+        // given
+        User user = createUser();
+        RentalSupport rentalSupport = createRentalSupport(100L, user.getUserId(), ApprovalStatus.DRAFT.getName());
+
+        when(rentalSupportRepository.findBySeqAndUserId(100L, user.getUserId())).thenReturn(Optional.of(rentalSupport));
+        when(userRepository.findById(user.getUserId())).thenReturn(Optional.of(user));
+        when(approvalStatusResolver.resolveInitialApprovalStatus(user.getAuthVal()))
+                .thenReturn(ApprovalStatus.INITIAL.getName());
+        when(rentalSupportRepository.save(any(RentalSupport.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        RentalSupport submitted = rentalService.submitRentalSupportApplication(100L, user.getUserId());
+
+        // then
+        assertThat(submitted.getApprovalStatus()).isEqualTo(ApprovalStatus.INITIAL.getName());
+        verify(alarmService, times(1)).createApplicationCreatedAlarm(user.getUserId(), ApplicationType.RENTAL.getCode(), 100L);
+    }
+
+    @Test
+    @DisplayName("월세 지원 신청 제출 - 이미 제출된 신청은 다시 제출할 수 없어야 한다")
+    void testSubmitRentalSupportApplication_AlreadySubmitted() {
+        // given
+        RentalSupport rentalSupport = createRentalSupport(100L, 1L, ApprovalStatus.INITIAL.getName());
+        when(rentalSupportRepository.findBySeqAndUserId(100L, 1L)).thenReturn(Optional.of(rentalSupport));
+
+        // when & then
+        assertThatThrownBy(() -> rentalService.submitRentalSupportApplication(100L, 1L))
+                .isInstanceOf(ApiException.class)
+                .satisfies(exception -> {
+                    ApiException apiException = (ApiException) exception;
+                    assertThat(apiException.getApiErrorCode()).isEqualTo(ApiErrorCode.INVALID_REQUEST_FORMAT);
+                });
+
+        // verify
+        verify(rentalSupportRepository, never()).save(any());
+        verifyNoInteractions(alarmService);
+    }
+
+    private User createUser() {
+        return User.builder()
+                .userId(1L)
+                .email("test@rental.com")
+                .name("테스트 사용자")
+                .division("서비스사업본부")
+                .team("서비스1팀")
+                .status(UserStatus.APPROVED)
+                .authVal("tw")
+                .build();
+    }
+
+    private RentalSupport createRentalSupport(Long seq, Long userId, String approvalStatus) {
+        return RentalSupport.builder()
+                .seq(seq)
+                .userId(userId)
+                .requestDate(LocalDate.of(2026, 3, 1))
+                .billingYyMonth(202603)
+                .contractStartDate(LocalDate.of(2026, 1, 20))
+                .contractEndDate(LocalDate.of(2028, 1, 20))
+                .contractMonthlyRent(700000L)
+                .approvalStatus(approvalStatus)
+                .build();
+    }
+
+    private RentalProposal createProposal(Long seq, Long userId, LocalDate contractStartDate, Long monthlyRent) {
+        return RentalProposal.builder()
+                .seq(seq)
+                .userId(userId)
+                .rentalAddress("서울시 강남구")
+                .contractStartDate(contractStartDate)
+                .contractEndDate(contractStartDate.plusYears(2))
+                .contractMonthlyRent(monthlyRent)
+                .billingAmount(monthlyRent / 2)
+                .billingStartDate(contractStartDate)
+                .approvalStatus(ApprovalStatus.DONE.getName())
+                .build();
+    }
+}
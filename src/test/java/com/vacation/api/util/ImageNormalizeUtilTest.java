@@ -0,0 +1,82 @@
+package com.vacation.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ImageNormalizeUtil 테스트 (디코딩 크기 제한)
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ImageNormalizeUtilTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("최대 해상도 초과 - 서브샘플링 결과의 긴 변이 최대 해상도를 넘지 않아야 한다")
+    void testNormalize_SubsampledWithinMaxDimension() throws IOException {
+        // given
+        Path source = writePng(350, 200);
+
+        // when
+        ImageNormalizeUtil.NormalizedImage normalized = ImageNormalizeUtil.normalize(source, false, 100, 1_000_000L, 0.85f);
+
+        // then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(normalized.getBytes()));
+        assertThat(Math.max(result.getWidth(), result.getHeight())).isLessThanOrEqualTo(100);
+        assertThat(normalized.isPixelsChanged()).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 해상도 이하 - 크기와 픽셀이 그대로 유지되어야 한다")
+    void testNormalize_WithinMaxDimension() throws IOException {
+        // given
+        Path source = writePng(80, 60);
+
+        // when
+        ImageNormalizeUtil.NormalizedImage normalized = ImageNormalizeUtil.normalize(source, false, 100, 1_000_000L, 0.85f);
+
+        // then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(normalized.getBytes()));
+        assertThat(result.getWidth()).isEqualTo(80);
+        assertThat(result.getHeight()).isEqualTo(60);
+        assertThat(normalized.isPixelsChanged()).isFalse();
+    }
+
+    @Test
+    @DisplayName("픽셀 수 상한 초과 - 디코딩하지 않고 ImageTooLargeException이 발생해야 한다")
+    void testNormalize_TooManyPixels() throws IOException {
+        // given
+        Path source = writePng(350, 200);
+
+        // when & then
+        assertThatThrownBy(() -> ImageNormalizeUtil.normalize(source, false, 100, 350L * 200 - 1, 0.85f))
+                .isInstanceOf(ImageNormalizeUtil.ImageTooLargeException.class)
+                .hasMessageContaining("350x200");
+    }
+
+    private Path writePng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        Path path = tempDir.resolve(width + "x" + height + ".png");
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+}
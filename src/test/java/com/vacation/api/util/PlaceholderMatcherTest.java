@@ -0,0 +1,126 @@
+package com.vacation.api.util;
+
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PlaceholderMatcher 테스트
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PlaceholderMatcherTest {
+
+    @Test
+    @DisplayName("겹치는 패턴 - 같은 위치에서 끝나는 패턴 중 가장 긴 패턴으로 매칭되어야 한다")
+    void testFindAll_OverlappingPatterns() {
+        // given
+        PlaceholderMatcher matcher = new PlaceholderMatcher(List.of("he", "she", "hers"));
+
+        // when
+        List<PlaceholderMatcher.Match> matches = matcher.findAll("ushers");
+
+        // then
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).getPlaceholder()).isEqualTo("she");
+        assertThat(matches.get(0).getStart()).isEqualTo(1);
+        assertThat(matches.get(0).getEnd()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("겹치는 패턴 - 매칭은 왼쪽부터 겹치지 않게 수집되어야 한다")
+    void testFindAll_NonOverlappingFromLeft() {
+        // given
+        PlaceholderMatcher matcher = new PlaceholderMatcher(List.of("{{A}}", "A}}{{B"));
+
+        // when
+        List<PlaceholderMatcher.Match> matches = matcher.findAll("{{A}}{{B}}");
+
+        // then
+        assertThat(matches).extracting(PlaceholderMatcher.Match::getPlaceholder).containsExactly("{{A}}");
+    }
+
+    @Test
+    @DisplayName("중괄호 중복 - 여는 중괄호가 더 붙어 있어도 플레이스홀더가 매칭되어야 한다")
+    void testReplace_ExtraOpeningBrace() {
+        // given
+        Map<String, String> values = Map.of("{{APPLICANT}}", "홍길동");
+
+        // when
+        String result = PlaceholderMatcher.getDefault().replace("{{{APPLICANT}}", values);
+
+        // then
+        assertThat(result).isEqualTo("{홍길동");
+    }
+
+    @Test
+    @DisplayName("일괄 치환 - 여러 플레이스홀더가 한 번에 치환되고 값이 없는 플레이스홀더는 유지되어야 한다")
+    void testReplace_MultiplePlaceholders() {
+        // given
+        Map<String, String> values = new HashMap<>();
+        values.put("{{APPLICANT}}", "홍길동");
+        values.put("{{DEPARTMENT}}", null);
+        String text = "신청자: {{APPLICANT}} / 부서: {{DEPARTMENT}} / 사유: {{REASON}}";
+
+        // when
+        String result = PlaceholderMatcher.getDefault().replace(text, values);
+
+        // then
+        assertThat(result).isEqualTo("신청자: 홍길동 / 부서:  / 사유: {{REASON}}");
+    }
+
+    @Test
+    @DisplayName("치환 없음 - 매칭되는 플레이스홀더가 없으면 원본 인스턴스를 반환해야 한다")
+    void testReplace_NoMatchReturnsSameInstance() {
+        // given
+        String text = "플레이스홀더 없는 문장 {{UNKNOWN}}";
+
+        // when
+        String result = PlaceholderMatcher.getDefault().replace(text, Map.of("{{APPLICANT}}", "홍길동"));
+
+        // then
+        assertThat(result).isSameAs(text);
+        assertThat(PlaceholderMatcher.getDefault().containsAny(text)).isFalse();
+    }
+
+    @Test
+    @DisplayName("런 분할 - 여러 런에 나뉜 플레이스홀더는 인덱스되지 않고 부분 치환 없이 그대로 남아야 한다")
+    void testSplitAcrossRuns() throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
+            // given
+            XWPFParagraph split = document.createParagraph();
+            split.createRun().setText("신청자: {{APPL");
+            split.createRun().setText("ICANT}}");
+            XWPFParagraph whole = document.createParagraph();
+            whole.createRun().setText("부서: ");
+            whole.createRun().setText("{{DEPARTMENT}}");
+
+            // when
+            TemplatePlaceholderIndex index = TemplatePlaceholderIndex.ofDocument(document);
+            Map<String, String> values = Map.of("{{APPLICANT}}", "홍길동", "{{DEPARTMENT}}", "서비스1팀");
+            for (XWPFParagraph paragraph : document.getParagraphs()) {
+                for (XWPFRun run : paragraph.getRuns()) {
+                    run.setText(PlaceholderMatcher.getDefault().replace(run.getText(0), values), 0);
+                }
+            }
+
+            // then
+            assertThat(index.getParagraphLocations()).hasSize(1);
+            assertThat(index.getParagraphLocations().get(0).getParagraphIndex()).isEqualTo(1);
+            assertThat(index.getParagraphLocations().get(0).getPlaceholders()).containsExactly("{{DEPARTMENT}}");
+            assertThat(split.getText()).isEqualTo("신청자: {{APPLICANT}}");
+            assertThat(whole.getText()).isEqualTo("부서: 서비스1팀");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.vacation.api.util;
+
+import com.vacation.api.domain.attachment.service.FileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ZipFileUtil 테스트 (ZIP 바이트 결정성)
+ *
+ * @author vacation-api
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+class ZipFileUtilTest {
+
+    private static final byte[] DOCUMENT = "document".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private FileService fileService;
+
+    private ZipFileUtil zipFileUtil;
+
+    @BeforeEach
+    void setUp() {
+        zipFileUtil = new ZipFileUtil(fileService);
+    }
+
+    @Test
+    @DisplayName("같은 내용 - 생성 시각/서버 시간대가 달라도 ZIP 바이트가 같아야 한다")
+    void testWriteZip_Deterministic() throws IOException {
+        // given
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+
+        // when
+        byte[] first;
+        byte[] second;
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+            first = writeZip();
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            second = writeZip();
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+
+        // then
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("엔트리 시각 - 모든 엔트리가 고정 시각으로 기록되어야 한다")
+    void testWriteZip_FixedEntryTime() throws IOException {
+        // when
+        byte[] zip = writeZip();
+
+        // then
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            int entryCount = 0;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                assertThat(entry.getTimeLocal()).isEqualTo(ZipFileUtil.ENTRY_TIME);
+                entryCount++;
+            }
+            assertThat(entryCount).isEqualTo(2);
+        }
+    }
+
+    private byte[] writeZip() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        zipFileUtil.writeZip(outputStream, zos -> {
+            zipFileUtil.addDocumentWithAttachments(zos, "", os -> os.write(DOCUMENT), "신청서.xlsx", List.of());
+            zipFileUtil.addTextEntry(zos, "failures.txt", "none\n");
+        });
+        return outputStream.toByteArray();
+    }
+}